@@ -0,0 +1,53 @@
+package com.kraft;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * JMH 벤치마크용 애플리케이션 컨텍스트 기동 (H2 인메모리)
+ * - 테스트 프로필과 같은 H2 설정으로 웹 서버 없이 띄움
+ * - 백그라운드 작업(색인 구축, 정리, 내보내기 등)은 꺼서 측정에 끼어들지 않도록 함
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * @param database H2 인메모리 DB 이름 (벤치마크마다 다르게 지정)
+     * @param initializers 컨텍스트 갱신 전에 적용할 초기화 (DataSource 감싸기 등)
+     * @return 기동된 애플리케이션 컨텍스트 (벤치마크 종료 시 닫아야 함)
+     */
+    public static ConfigurableApplicationContext run(
+            String database,
+            ApplicationContextInitializer<?>... initializers
+    ) {
+        return new SpringApplicationBuilder(KraftApplication.class)
+                .web(WebApplicationType.NONE)
+                .initializers(initializers)
+                .run(args(database));
+    }
+
+    static String[] args(String database) {
+        return new String[]{
+                "--spring.profiles.active=test",
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.flyway.enabled=false",
+                "--logging.level.root=warn",
+                "--logging.level.org.hibernate.SQL=warn",
+                "--kraft.search.index.enabled=false",
+                "--kraft.suggest.enabled=false",
+                "--kraft.purge.enabled=false",
+                "--kraft.comment-count.reconcile.enabled=false",
+                "--kraft.export.enabled=false",
+                "--kraft.id.node-id=0"
+        };
+    }
+}
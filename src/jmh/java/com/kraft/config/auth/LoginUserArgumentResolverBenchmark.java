@@ -0,0 +1,102 @@
+package com.kraft.config.auth;
+
+import com.kraft.config.auth.dto.SessionUser;
+import com.kraft.domain.user.Role;
+import jakarta.servlet.http.HttpSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code @LoginUser} 파라미터 해석 벤치마크
+ * - 애플리케이션과 같이 현재 요청의 세션으로 위임하는 HttpSession 프록시를 주입해 supportsParameter + resolveArgument 측정
+ * - {@code ./gradlew jmh -PjmhArgs=LoginUserArgumentResolver}로 실행
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoginUserArgumentResolverBenchmark {
+
+    private LoginUserArgumentResolver resolver;
+    private MethodParameter loginUserParameter;
+    private MethodParameter otherParameter;
+    private ServletWebRequest webRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/posts");
+        request.getSession(true).setAttribute("user", new SessionUser(1L, "author", "author@example.com", Role.USER));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        webRequest = new ServletWebRequest(request, new MockHttpServletResponse());
+
+        resolver = new LoginUserArgumentResolver(currentSessionProxy());
+        loginUserParameter = new MethodParameter(
+                Handler.class.getDeclaredMethod("handle", SessionUser.class, String.class), 0);
+        otherParameter = new MethodParameter(
+                Handler.class.getDeclaredMethod("handle", SessionUser.class, String.class), 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public Object resolveLoginUser() throws Exception {
+        if (!resolver.supportsParameter(loginUserParameter)) {
+            throw new IllegalStateException("@LoginUser 파라미터를 지원해야 합니다");
+        }
+        return resolver.resolveArgument(loginUserParameter, null, webRequest, null);
+    }
+
+    @Benchmark
+    public boolean supportsOtherParameter() {
+        return resolver.supportsParameter(otherParameter);
+    }
+
+    /**
+     * 싱글톤 빈에 주입되는 HttpSession과 같은 방식의 프록시 (호출마다 현재 요청의 세션으로 위임)
+     */
+    private static HttpSession currentSessionProxy() {
+        return (HttpSession) Proxy.newProxyInstance(
+                HttpSession.class.getClassLoader(),
+                new Class<?>[]{HttpSession.class},
+                (proxy, method, args) -> {
+                    HttpSession session = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
+                            .getRequest().getSession();
+                    try {
+                        return method.invoke(session, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    static class Handler {
+
+        void handle(@LoginUser SessionUser user, String keyword) {
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.kraft.domain;
+
+import com.kraft.BenchmarkApplication;
+import com.kraft.domain.category.Category;
+import com.kraft.domain.comment.Comment;
+import com.kraft.domain.comment.CommentRepository;
+import com.kraft.domain.comment.CommentRow;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
+import com.kraft.domain.user.User;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주요 목록/검색/댓글 조회 쿼리 벤치마크 (H2 인메모리)
+ * - {@link BenchmarkApplication}으로 컨텍스트를 띄우고 게시글 N건, 게시글 하나에 댓글 트리를 적재
+ * - {@code ./gradlew jmh -PjmhArgs=RepositoryQuery}로 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryQueryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int CATEGORIES = 5;
+    private static final int PARENT_COMMENTS = 50;
+    private static final int REPLIES_PER_COMMENT = 3;
+    private static final int FLUSH_EVERY = 500;
+
+    @Param({"10000"})
+    public int posts;
+
+    private ConfigurableApplicationContext context;
+    private PostRepository postRepository;
+    private CommentRepository commentRepository;
+    private Long categoryId;
+    private Long commentedPostId;
+    private Long middleId;
+    private PageRequest deepPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run("jmh");
+        postRepository = context.getBean(PostRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status ->
+                seed(context.getBean(EntityManager.class)));
+
+        List<PostSummary> first = postRepository.findNextPageDesc(Long.MAX_VALUE, PageRequest.ofSize(posts / 2));
+        middleId = first.get(first.size() - 1).id();
+        deepPage = PageRequest.of(posts / PAGE_SIZE / 2, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<PostSummary> offsetPageFirst() {
+        return postRepository.findAllSummaries(PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    @Benchmark
+    public Page<PostSummary> offsetPageDeep() {
+        return postRepository.findAllSummaries(deepPage);
+    }
+
+    @Benchmark
+    public Slice<PostSummary> sliceDeep() {
+        return postRepository.findSummarySlice(deepPage);
+    }
+
+    @Benchmark
+    public List<PostSummary> cursorPageDeep() {
+        return postRepository.findNextPageDesc(middleId, PageRequest.ofSize(PAGE_SIZE + 1));
+    }
+
+    @Benchmark
+    public List<PostSummary> categoryCursorPage() {
+        return postRepository.findByCategoryIdNextPage(categoryId, Long.MAX_VALUE, PageRequest.ofSize(PAGE_SIZE + 1));
+    }
+
+    @Benchmark
+    public Slice<PostSummary> searchSlice() {
+        return postRepository.searchSummarySliceByTitleOrContent("keyword7",
+                PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    @Benchmark
+    public List<CommentRow> commentRows() {
+        return commentRepository.findRowsByPostId(commentedPostId);
+    }
+
+    private void seed(EntityManager entityManager) {
+        User author = User.of("jmhAuthor", "password123", "jmh@example.com");
+        entityManager.persist(author);
+        Category[] categories = new Category[CATEGORIES];
+        for (int i = 0; i < CATEGORIES; i++) {
+            categories[i] = Category.builder().name("category" + i).description("jmh").displayOrder(i).build();
+            entityManager.persist(categories[i]);
+        }
+        categoryId = categories[0].getId();
+
+        Post commented = null;
+        for (int i = 0; i < posts; i++) {
+            Post post = Post.builder()
+                    .title("게시글 keyword" + (i % 100) + " " + i)
+                    .content("본문 " + i + " " + "내용".repeat(100))
+                    .author(author)
+                    .category(categories[i % CATEGORIES])
+                    .build();
+            entityManager.persist(post);
+            if (i == posts / 2) {
+                commented = post;
+            }
+            if ((i + 1) % FLUSH_EVERY == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                author = entityManager.getReference(User.class, author.getId());
+                for (int c = 0; c < CATEGORIES; c++) {
+                    categories[c] = entityManager.getReference(Category.class, categories[c].getId());
+                }
+                if (commented != null) {
+                    commented = entityManager.getReference(Post.class, commented.getId());
+                }
+            }
+        }
+
+        for (int i = 0; i < PARENT_COMMENTS; i++) {
+            Comment parent = Comment.builder().content("댓글 " + i).post(commented).author(author).build();
+            entityManager.persist(parent);
+            for (int r = 0; r < REPLIES_PER_COMMENT; r++) {
+                entityManager.persist(Comment.builder()
+                        .content("답글 " + i + "-" + r).post(commented).author(author).parent(parent).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        commentedPostId = commented.getId();
+    }
+}
@@ -0,0 +1,205 @@
+package com.kraft.domain.post;
+
+import com.kraft.BenchmarkApplication;
+import com.kraft.domain.user.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 큰 본문을 가진 게시글 목록 페이지의 엔티티 조회와 컬럼 프로젝션 조회 비교 (H2 인메모리)
+ * - 실행 시간은 JMH가 측정하고, DB에서 읽은 바이트 수는 ResultSet이 돌려준 컬럼 값 크기를 합산해
+ *   보조 카운터 bytesPerOp(조회 1회 평균)로 결과에 함께 보고 (문자열은 UTF-8 바이트, 숫자/시각은 8바이트로 계산)
+ * - 할당량은 {@code -prof gc}로 함께 확인
+ * - {@code ./gradlew jmh -PjmhArgs=PostListProjection}로 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostListProjectionBenchmark {
+
+    private static final int POST_COUNT = 200;
+    private static final int CONTENT_SIZE = 64 * 1024;
+    private static final int PAGE_SIZE = 50;
+    private static final String ENTITY_PAGE = "SELECT p FROM Post p JOIN FETCH p.author ORDER BY p.id DESC";
+
+    private final LongAdder bytesRead = new LongAdder();
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private PostRepository postRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run("jmh-projection", applicationContext -> applicationContext.getBeanFactory()
+                .addBeanPostProcessor(new BeanPostProcessor() {
+                    @Override
+                    public Object postProcessAfterInitialization(Object bean, String beanName) {
+                        return bean instanceof DataSource dataSource
+                                ? new ResultBytesDataSource(dataSource, bytesRead) : bean;
+                    }
+                }));
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        postRepository = context.getBean(PostRepository.class);
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status ->
+                seed(context.getBean(EntityManager.class)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Post> entityPage(ReadBytes readBytes) {
+        readBytes.operations++;
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery(ENTITY_PAGE, Post.class)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public List<PostSummary> projectionPage(ReadBytes readBytes) {
+        readBytes.operations++;
+        return postRepository.findNextPageDesc(Long.MAX_VALUE, PageRequest.ofSize(PAGE_SIZE));
+    }
+
+    private void seed(EntityManager entityManager) {
+        User author = User.of("jmhAuthor", "password123", "jmh@example.com");
+        entityManager.persist(author);
+        String content = "가".repeat(CONTENT_SIZE);
+        for (int i = 0; i < POST_COUNT; i++) {
+            entityManager.persist(Post.builder().title("Title " + i).content(content).author(author).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * 반복(iteration)마다 조회 1회당 DB에서 읽은 바이트 수를 보고하는 보조 카운터
+     * - 반복 시작 시점의 누적값을 기준으로 삼으므로 적재/컨텍스트 기동 중 읽은 양과 이전 반복은 제외
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ReadBytes {
+
+        private LongAdder bytesRead;
+        private long bytesAtStart;
+        private long operations;
+
+        @Setup(Level.Iteration)
+        public void reset(PostListProjectionBenchmark benchmark) {
+            bytesRead = benchmark.bytesRead;
+            bytesAtStart = bytesRead.sum();
+            operations = 0;
+        }
+
+        public long bytesPerOp() {
+            return operations > 0 ? (bytesRead.sum() - bytesAtStart) / operations : 0;
+        }
+    }
+
+    /**
+     * ResultSet 값 조회(getXxx(열))가 돌려준 값의 크기를 합산하는 DataSource
+     */
+    static class ResultBytesDataSource extends DelegatingDataSource {
+
+        private final LongAdder bytesRead;
+
+        ResultBytesDataSource(DataSource target, LongAdder bytesRead) {
+            super(target);
+            this.bytesRead = bytesRead;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return (Connection) counting(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return (Connection) counting(Connection.class, super.getConnection(username, password));
+        }
+
+        /**
+         * Connection → Statement → ResultSet 순으로 프록시를 씌우고, ResultSet 값 조회 결과의 크기를 기록
+         */
+        private Object counting(Class<?> type, Object target) {
+            return Proxy.newProxyInstance(
+                    type.getClassLoader(),
+                    new Class<?>[]{type},
+                    (proxy, method, args) -> {
+                        Object result;
+                        try {
+                            result = method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                        Class<?> returnType = method.getReturnType();
+                        if (result instanceof ResultSet resultSet && returnType == ResultSet.class) {
+                            return counting(ResultSet.class, resultSet);
+                        }
+                        if (result instanceof Statement && Statement.class.isAssignableFrom(returnType)) {
+                            return counting(returnType, result);
+                        }
+                        if (target instanceof ResultSet && method.getName().startsWith("get")
+                                && args != null && args.length > 0) {
+                            bytesRead.add(sizeOf(result));
+                        }
+                        return result;
+                    });
+        }
+
+        private static long sizeOf(Object value) {
+            if (value instanceof String string) {
+                return string.getBytes(StandardCharsets.UTF_8).length;
+            }
+            if (value instanceof byte[] bytes) {
+                return bytes.length;
+            }
+            if (value instanceof Number || value instanceof Temporal || value instanceof Date) {
+                return Long.BYTES;
+            }
+            return 0;
+        }
+    }
+}
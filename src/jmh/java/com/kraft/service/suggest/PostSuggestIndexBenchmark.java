@@ -0,0 +1,82 @@
+package com.kraft.service.suggest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 자동완성 조회 JMH 벤치마크
+ * - 임의의 한글 제목 N건으로 색인을 만든 뒤 초성 1자, 음절 1자, 입력 중인 두 번째 음절까지의 접두사 조회 시간을 측정
+ * - {@code ./gradlew jmh -PjmhArgs=PostSuggestIndex}로 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostSuggestIndexBenchmark {
+
+    @Param({"100000"})
+    public int posts;
+
+    private PostSuggestIndex index;
+    private String[] prefixes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<Suggestion> suggestions = new ArrayList<>(posts);
+        for (int i = 0; i < posts; i++) {
+            suggestions.add(new Suggestion((long) i, randomTitle(random), random.nextInt(100_000)));
+        }
+
+        index = new PostSuggestIndex(true, Long.MAX_VALUE);
+        index.beginReload();
+        index.completeReload(suggestions);
+
+        // 초성 1자, 음절 1자, 음절 1자 + 입력 중인 자모 2자
+        int[] prefixLengths = {1, 3, 5};
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String jamo = HangulJamo.decompose(suggestions.get(random.nextInt(posts)).title());
+            prefixes[i] = jamo.substring(0, Math.min(jamo.length(), prefixLengths[i % prefixLengths.length]));
+        }
+    }
+
+    @Benchmark
+    public List<Suggestion> suggest() {
+        String prefix = prefixes[next++ & (prefixes.length - 1)];
+        return index.suggest(prefix, PostSuggestIndex.MAX_SUGGESTIONS);
+    }
+
+    private static String randomTitle(Random random) {
+        StringBuilder title = new StringBuilder();
+        int words = 2 + random.nextInt(4);
+        for (int w = 0; w < words; w++) {
+            if (w > 0) {
+                title.append(' ');
+            }
+            int length = 1 + random.nextInt(4);
+            for (int c = 0; c < length; c++) {
+                title.append((char) (0xAC00 + random.nextInt(11172)));
+            }
+        }
+        return title.toString();
+    }
+}
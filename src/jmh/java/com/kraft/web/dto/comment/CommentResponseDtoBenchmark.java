@@ -0,0 +1,57 @@
+package com.kraft.web.dto.comment;
+
+import com.kraft.domain.comment.Comment;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 DTO 변환 벤치마크 (답글 제외 / 답글 포함)
+ * - {@code ./gradlew jmh -PjmhArgs=CommentResponseDto}로 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommentResponseDtoBenchmark {
+
+    @Param({"0", "10", "100"})
+    public int replies;
+
+    private Comment comment;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User author = User.of("author", "password123", "author@example.com");
+        Post post = Post.builder().title("제목").content("본문").author(author).build();
+        comment = Comment.builder().content("댓글").post(post).author(author).build();
+        for (int i = 0; i < replies; i++) {
+            comment.addReply(Comment.builder().content("답글 " + i).post(post).author(author).parent(comment).build());
+        }
+    }
+
+    @Benchmark
+    public CommentResponseDto from() {
+        return CommentResponseDto.from(comment);
+    }
+
+    @Benchmark
+    public CommentResponseDto fromWithReplies() {
+        return CommentResponseDto.fromWithReplies(comment);
+    }
+}
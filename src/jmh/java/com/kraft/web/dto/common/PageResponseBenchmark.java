@@ -0,0 +1,64 @@
+package com.kraft.web.dto.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraft.web.dto.post.PostsListResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이지 응답 생성/직렬화 벤치마크
+ * - 게시글 50건 페이지를 애플리케이션과 같은 기본 설정의 ObjectMapper로 JSON 직렬화
+ * - {@code ./gradlew jmh -PjmhArgs=PageResponse}로 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResponseBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private ObjectMapper objectMapper;
+    private List<PostsListResponseDto> content;
+    private PageResponse<PostsListResponseDto> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime now = LocalDateTime.now();
+        content = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            content.add(new PostsListResponseDto((long) i, "게시글 제목 " + i, "author" + (i % 7),
+                    (long) i * 31, (long) i % 13, now.minusMinutes(i)));
+        }
+        page = PageResponse.of(content, 3, PAGE_SIZE, 10_000, 200);
+    }
+
+    @Benchmark
+    public PageResponse<PostsListResponseDto> of() {
+        return PageResponse.of(content, 3, PAGE_SIZE, 10_000, 200);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
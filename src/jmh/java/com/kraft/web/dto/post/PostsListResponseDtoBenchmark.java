@@ -0,0 +1,52 @@
+package com.kraft.web.dto.post;
+
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostSummary;
+import com.kraft.domain.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 DTO 변환 벤치마크 (엔티티 → DTO, 목록 프로젝션 → DTO)
+ * - {@code ./gradlew jmh -PjmhArgs=PostsListResponseDto}로 실행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostsListResponseDtoBenchmark {
+
+    private Post post;
+    private PostSummary summary;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User author = User.of("author", "password123", "author@example.com");
+        post = Post.builder().title("벤치마크 제목").content("본문".repeat(500)).author(author).build();
+        summary = new PostSummary(1L, "벤치마크 제목", "author", 1_234L, 56L, LocalDateTime.now());
+    }
+
+    @Benchmark
+    public PostsListResponseDto fromEntity() {
+        return PostsListResponseDto.from(post);
+    }
+
+    @Benchmark
+    public PostsListResponseDto fromSummary() {
+        return PostsListResponseDto.from(summary);
+    }
+}
@@ -0,0 +1,24 @@
+package com.kraft.common.concurrent;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 인자로 동시에 들어온 호출을 한 번의 실행으로 합침 (single-flight)
+ * - 먼저 들어온 호출만 실행하고, 실행 중에 들어온 같은 키의 호출은 그 결과(또는 예외)를 함께 받음
+ * - 키는 메서드 + 인자 목록이므로 인자는 equals/hashCode가 값 기반이어야 함
+ * - 부수 효과가 없는 조회 메서드에만 사용 (프록시를 거치는 호출에만 적용)
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+
+    /**
+     * 실행 중인 호출의 결과를 기다리는 최대 시간, 0 이하면 kraft.coalesce.timeout-ms
+     */
+    long timeoutMs() default 0;
+}
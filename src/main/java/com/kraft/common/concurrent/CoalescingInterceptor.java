@@ -0,0 +1,56 @@
+package com.kraft.common.concurrent;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link Coalesced}가 붙은 메서드 호출을 메서드 + 인자 기준으로 {@link SingleFlight}에 태움
+ * - bypass가 true인 호출(예: 이미 트랜잭션 안에서의 호출)은 합치지 않고 그대로 실행
+ */
+public class CoalescingInterceptor implements MethodInterceptor {
+
+    private final SingleFlight singleFlight;
+    private final Duration defaultTimeout;
+    private final BooleanSupplier bypass;
+
+    public CoalescingInterceptor(SingleFlight singleFlight, Duration defaultTimeout, BooleanSupplier bypass) {
+        this.singleFlight = singleFlight;
+        this.defaultTimeout = defaultTimeout;
+        this.bypass = bypass;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = mostSpecificMethod(invocation);
+        Coalesced annotation = AnnotatedElementUtils.findMergedAnnotation(method, Coalesced.class);
+        if (annotation == null || bypass.getAsBoolean()) {
+            return invocation.proceed();
+        }
+        Duration timeout = annotation.timeoutMs() > 0 ? Duration.ofMillis(annotation.timeoutMs()) : defaultTimeout;
+        CallKey key = new CallKey(method, Arrays.asList(invocation.getArguments()));
+        return singleFlight.execute(key, timeout, invocation::proceed);
+    }
+
+    private static Method mostSpecificMethod(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        return AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+    }
+
+    private record CallKey(Method method, List<Object> arguments) {
+
+        @Override
+        public String toString() {
+            return method.getDeclaringClass().getSimpleName() + "." + method.getName() + arguments;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.kraft.common.concurrent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 실행 중 작업 공유 (single-flight)
+ * - 키에 실행 중인 작업이 없으면 호출한 스레드에서 직접 실행하고, 있으면 그 결과를 기다림
+ * - 실행이 끝나면 키를 비우므로 결과를 보관하지 않음 (캐시가 아니라 동시 중복 실행만 제거)
+ * - 실행 중 예외는 기다리던 호출 모두에 같은 예외로 전달
+ * - 대기 시간이 지나면 {@link QueryTimeoutException} (실행 중인 작업은 계속 진행)
+ */
+public class SingleFlight implements MeterBinder {
+
+    @FunctionalInterface
+    public interface Loader<T> {
+
+        T load() throws Throwable;
+    }
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder joined = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Duration timeout, Loader<T> loader) throws Throwable {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing == null) {
+            executed.increment();
+            try {
+                T result = loader.load();
+                mine.complete(result);
+                return result;
+            } catch (Throwable e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+
+        joined.increment();
+        try {
+            return (T) existing.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            throw new QueryTimeoutException("동시 조회 결과 대기 시간 초과: " + key);
+        }
+    }
+
+    /**
+     * @return 현재 실행 중인 키 수
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return 실행 중인 작업의 결과를 공유받은 호출 수
+     */
+    public long joinedCalls() {
+        return joined.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        calls(registry, "executed", executed);
+        calls(registry, "joined", joined);
+        calls(registry, "timeout", timedOut);
+        Gauge.builder("kraft.coalesce.in-flight", this, SingleFlight::inFlight)
+                .description("실행 중인 single-flight 키 수")
+                .register(registry);
+    }
+
+    private static void calls(MeterRegistry registry, String result, LongAdder adder) {
+        FunctionCounter.builder("kraft.coalesce.calls", adder, LongAdder::sum)
+                .description("single-flight 호출 수 (executed: 직접 실행, joined: 실행 중인 결과 공유)")
+                .tag("result", result)
+                .register(registry);
+    }
+}
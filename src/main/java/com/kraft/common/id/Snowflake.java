@@ -0,0 +1,128 @@
+package com.kraft.common.id;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 64비트 ID 할당기 (Snowflake 방식)
+ * - 구성: 부호 1비트 | 타임스탬프 41비트(EPOCH 기준 ms) | 노드 10비트 | 시퀀스 12비트
+ * - 마지막 (타임스탬프, 시퀀스) 상태를 AtomicLong 하나에 담아 CAS로 갱신 → 락 없이 할당
+ * - 같은 노드에서는 항상 증가하고, 노드 간에는 생성 시각 순으로 대략 정렬됨
+ * - 발급 직후부터 2^53을 넘으므로 API 응답의 게시글/댓글 ID를 JSON 숫자로 받는 JavaScript 클라이언트는
+ *   Number로 읽으면 값이 바뀜 (문자열 또는 BigInt로 파싱해야 함)
+ * <p>
+ * 시계 역행 처리:
+ * - 논리 시각은 절대 뒤로 가지 않음 (마지막 시각을 계속 사용하며 시퀀스 증가) → 중복 없음
+ * - 역행 폭이 허용치(maxRollbackMs)를 넘으면 ID를 만들지 않고 예외 발생
+ */
+public class Snowflake {
+
+    public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << 41) - 1;
+
+    private static final Map<Long, Snowflake> SHARED = new ConcurrentHashMap<>();
+
+    private final long nodeBits;
+    private final long maxRollbackMs;
+    private final LongSupplier clock;
+
+    // (타임스탬프 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    public Snowflake(long nodeId, long maxRollbackMs) {
+        this(nodeId, maxRollbackMs, System::currentTimeMillis);
+    }
+
+    Snowflake(long nodeId, long maxRollbackMs, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        if (maxRollbackMs < 0) {
+            throw new IllegalArgumentException("허용 시계 역행 시간은 0 이상이어야 합니다: " + maxRollbackMs);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+        this.maxRollbackMs = maxRollbackMs;
+        this.clock = clock;
+    }
+
+    /**
+     * 노드 ID별로 프로세스 안에서 공유하는 할당기
+     * - 같은 노드 ID의 할당기가 둘 이상이면 같은 ms에 같은 시퀀스를 낼 수 있으므로
+     *   Hibernate 생성기와 JDBC 일괄 저장 등 여러 경로가 이 인스턴스를 함께 사용
+     * @throws IllegalArgumentException 같은 노드 ID의 할당기가 다른 허용 시계 역행 시간으로 이미 만들어진 경우
+     */
+    public static Snowflake shared(long nodeId, long maxRollbackMs) {
+        Snowflake snowflake = SHARED.computeIfAbsent(nodeId, id -> new Snowflake(id, maxRollbackMs));
+        if (snowflake.maxRollbackMs != maxRollbackMs) {
+            throw new IllegalArgumentException("노드 ID " + nodeId + "의 할당기가 이미 다른 허용 시계 역행 시간("
+                    + snowflake.maxRollbackMs + "ms)으로 생성되었습니다: " + maxRollbackMs + "ms");
+        }
+        return snowflake;
+    }
+
+    /**
+     * 다음 ID 할당
+     * @return 양수 64비트 ID
+     * @throws IllegalStateException 시계가 허용치 이상 역행했거나 타임스탬프 범위를 넘은 경우
+     */
+    public long nextId() {
+        while (true) {
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            long prev = state.get();
+            long lastTimestamp = prev >>> SEQUENCE_BITS;
+
+            long timestamp;
+            long sequence;
+            if (now > lastTimestamp) {
+                timestamp = now;
+                sequence = 0;
+            } else {
+                if (lastTimestamp - now > maxRollbackMs) {
+                    throw new IllegalStateException(
+                            "시계가 허용치 이상 역행했습니다: " + (lastTimestamp - now) + "ms");
+                }
+                timestamp = lastTimestamp;
+                sequence = (prev & SEQUENCE_MASK) + 1;
+                if (sequence > SEQUENCE_MASK) {
+                    if (lastTimestamp == now) {
+                        // 같은 ms의 시퀀스 소진 → 다음 ms까지 대기
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    // 시계가 뒤처진 상태 → 논리 시각을 1ms 앞당김 (역행 허용치 안에서만)
+                    timestamp = lastTimestamp + 1;
+                    sequence = 0;
+                }
+            }
+
+            if (timestamp > MAX_TIMESTAMP) {
+                throw new IllegalStateException("Snowflake 타임스탬프 범위를 넘었습니다");
+            }
+            if (state.compareAndSet(prev, (timestamp << SEQUENCE_BITS) | sequence)) {
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+            }
+        }
+    }
+
+    /**
+     * ID에 담긴 생성 시각 (epoch ms)
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    /**
+     * ID에 담긴 노드 ID
+     */
+    public static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
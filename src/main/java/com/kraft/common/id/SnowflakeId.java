@@ -0,0 +1,19 @@
+package com.kraft.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 식별자를 애플리케이션 안에서 Snowflake 방식으로 할당
+ * - @GeneratedValue 대신 @Id 필드에 선언
+ * - DB 왕복 없이 ID가 정해지므로 INSERT를 JDBC batch로 묶을 수 있음
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,53 @@
+package com.kraft.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.Map;
+
+/**
+ * {@link SnowflakeId} 식별자 생성기
+ * - 노드 ID와 허용 시계 역행 시간은 Hibernate 설정({@link #NODE_ID_SETTING}, {@link #MAX_ROLLBACK_SETTING})에서 읽음
+ *   (JpaConfig가 kraft.id.* 값을 Hibernate 설정으로 전달)
+ */
+public class SnowflakeIdGenerator implements BeforeExecutionGenerator {
+
+    public static final String NODE_ID_SETTING = "kraft.id.node-id";
+    public static final String MAX_ROLLBACK_SETTING = "kraft.id.max-clock-rollback-ms";
+
+    private static final long DEFAULT_MAX_ROLLBACK_MS = 5_000;
+
+    private final Snowflake snowflake;
+
+    public SnowflakeIdGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        Map<String, Object> settings = context.getServiceRegistry()
+                .getService(ConfigurationService.class)
+                .getSettings();
+        this.snowflake = Snowflake.shared(
+                longSetting(settings, NODE_ID_SETTING, 0),
+                longSetting(settings, MAX_ROLLBACK_SETTING, DEFAULT_MAX_ROLLBACK_MS)
+        );
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return snowflake.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    private static long longSetting(Map<String, Object> settings, String name, long defaultValue) {
+        Object value = settings.get(name);
+        return value != null ? Long.parseLong(value.toString().trim()) : defaultValue;
+    }
+}
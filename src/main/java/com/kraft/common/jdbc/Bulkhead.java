@@ -0,0 +1,26 @@
+package com.kraft.common.jdbc;
+
+/**
+ * 커넥션 bulkhead 구분
+ * - 종류마다 동시에 빌릴 수 있는 커넥션 수와 대기 시간을 따로 두어, 한 종류의 폭주가 다른 종류를 굶기지 않도록 함
+ */
+public enum Bulkhead {
+
+    /** 일반 조회 (읽기 전용 트랜잭션, 트랜잭션 밖 조회) */
+    READ,
+    /** 쓰기 트랜잭션 (로그인 후 글/댓글 작성 등) */
+    WRITE,
+    /** 오래 걸리는 검색 (LIKE 검색 등) */
+    SEARCH,
+    /** 배치/백그라운드 작업 (가져오기, 조회수 반영, 정리 작업) */
+    BATCH,
+    /** 파티션 병렬 읽기를 하는 내보내기 (한 번에 여러 커넥션을 쓰므로 BATCH 작업과 분리) */
+    EXPORT;
+
+    /**
+     * 설정/메트릭에서 쓰는 이름 (kraft.datasource.bulkhead.{name}.*)
+     */
+    public String key() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,56 @@
+package com.kraft.common.jdbc;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 현재 스레드에 지정된 bulkhead
+ */
+public final class BulkheadContext {
+
+    private static final ThreadLocal<Bulkhead> CURRENT = new ThreadLocal<>();
+
+    private BulkheadContext() {
+    }
+
+    /**
+     * @return 지정된 bulkhead (없으면 null)
+     */
+    public static Bulkhead current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T call(Bulkhead bulkhead, Callable<T> action) throws Exception {
+        Bulkhead previous = enter(bulkhead);
+        try {
+            return action.call();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void run(Bulkhead bulkhead, Runnable action) {
+        Bulkhead previous = enter(bulkhead);
+        try {
+            action.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * @return 이전에 지정되어 있던 bulkhead ({@link #restore}에 전달)
+     */
+    static Bulkhead enter(Bulkhead bulkhead) {
+        Bulkhead previous = CURRENT.get();
+        CURRENT.set(bulkhead);
+        return previous;
+    }
+
+    static void restore(Bulkhead previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.kraft.common.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하나의 커넥션 풀을 bulkhead별 동시 한도로 나누는 DataSource
+ * - bulkhead 선택: {@link BulkheadContext} 지정값 → 쓰기 트랜잭션이면 WRITE → 그 외 READ
+ * - 트랜잭션의 readOnly 여부는 시작 후에 정해지므로 LazyConnectionDataSourceProxy 뒤에서 사용해야 함
+ * - 한도 합계가 실제 풀 크기 이하이면 각 bulkhead는 다른 bulkhead의 사용량과 관계없이 자기 몫의 커넥션을 보장받음
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Map<Bulkhead, ConcurrencyLimitedDataSource> partitions = new EnumMap<>(Bulkhead.class);
+    private final Map<Bulkhead, Timer> acquireTimers = new EnumMap<>(Bulkhead.class);
+    private final Map<Bulkhead, Counter> rejections = new EnumMap<>(Bulkhead.class);
+
+    /**
+     * @param limits bulkhead별 설정 (모든 bulkhead 필요)
+     */
+    public BulkheadDataSource(DataSource target, Map<Bulkhead, Limit> limits) {
+        super(target);
+        for (Bulkhead bulkhead : Bulkhead.values()) {
+            Limit limit = limits.get(bulkhead);
+            if (limit == null) {
+                throw new IllegalArgumentException("bulkhead 설정이 없습니다: " + bulkhead.key());
+            }
+            partitions.put(bulkhead, new ConcurrencyLimitedDataSource(
+                    target, "bulkhead-" + bulkhead.key(), limit.maxConcurrent(), limit.acquireTimeoutMs()));
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Bulkhead bulkhead = select();
+        long start = System.nanoTime();
+        try {
+            return partitions.get(bulkhead).getConnection();
+        } catch (SQLTransientConnectionException e) {
+            Counter rejected = rejections.get(bulkhead);
+            if (rejected != null) {
+                rejected.increment();
+            }
+            throw e;
+        } finally {
+            Timer timer = acquireTimers.get(bulkhead);
+            if (timer != null) {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return partitions.get(select()).getConnection(username, password);
+    }
+
+    /**
+     * 현재 스레드가 커넥션을 빌릴 bulkhead
+     */
+    public static Bulkhead select() {
+        Bulkhead bulkhead = BulkheadContext.current();
+        if (bulkhead != null) {
+            return bulkhead;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Bulkhead.WRITE;
+        }
+        return Bulkhead.READ;
+    }
+
+    public int availablePermits(Bulkhead bulkhead) {
+        return partitions.get(bulkhead).availablePermits();
+    }
+
+    /**
+     * bulkhead별 허가 게이지, 커넥션 대기 시간, 대기 시간 초과 횟수 등록
+     */
+    public void bindTo(MeterRegistry registry) {
+        partitions.forEach((bulkhead, partition) -> {
+            partition.bindTo(registry);
+            acquireTimers.put(bulkhead, Timer.builder("kraft.datasource.bulkhead.acquire")
+                    .tag("bulkhead", bulkhead.key())
+                    .description("bulkhead 커넥션 획득 대기 시간")
+                    .publishPercentiles(0.5, 0.99)
+                    .register(registry));
+            rejections.put(bulkhead, Counter.builder("kraft.datasource.bulkhead.rejected")
+                    .tag("bulkhead", bulkhead.key())
+                    .description("bulkhead 커넥션 대기 시간 초과 횟수")
+                    .register(registry));
+        });
+    }
+
+    /**
+     * @param maxConcurrent 동시에 빌릴 수 있는 커넥션 수
+     * @param acquireTimeoutMs 허가 대기 시간 (초과 시 SQLTransientConnectionException)
+     */
+    public record Limit(int maxConcurrent, long acquireTimeoutMs) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.kraft.common.jdbc;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link UseBulkhead}가 붙은 메서드/클래스 호출 동안 {@link BulkheadContext}를 지정
+ */
+public class BulkheadInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        UseBulkhead annotation = findAnnotation(invocation);
+        if (annotation == null) {
+            return invocation.proceed();
+        }
+        Bulkhead previous = BulkheadContext.enter(annotation.value());
+        try {
+            return invocation.proceed();
+        } finally {
+            BulkheadContext.restore(previous);
+        }
+    }
+
+    private static UseBulkhead findAnnotation(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+        UseBulkhead annotation = AnnotatedElementUtils.findMergedAnnotation(method, UseBulkhead.class);
+        return annotation != null
+                ? annotation
+                : AnnotatedElementUtils.findMergedAnnotation(targetClass, UseBulkhead.class);
+    }
+}
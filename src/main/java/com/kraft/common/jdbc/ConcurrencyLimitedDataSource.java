@@ -0,0 +1,119 @@
+package com.kraft.common.jdbc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시에 빌려 갈 수 있는 커넥션 수를 공정(FIFO) 세마포어로 제한하는 DataSource
+ * - 가상 스레드에서는 요청 수만큼 스레드가 늘어나므로, 커넥션 풀 내부 대기열에서 수천 개가 경쟁하는 대신
+ *   풀 앞에서 순서대로 대기시키고 허용 시간 안에 허가를 얻지 못하면 즉시 실패
+ * - 허가는 커넥션을 닫을 때 반환 (close를 가로채는 프록시, 중복 close에도 한 번만 반환)
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final String name;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutMs;
+
+    public ConcurrencyLimitedDataSource(DataSource target, String name, int maxConcurrent, long acquireTimeoutMs) {
+        super(target);
+        if (maxConcurrent <= 0 || acquireTimeoutMs < 0) {
+            throw new IllegalArgumentException("동시 커넥션 한도 설정값이 올바르지 않습니다");
+        }
+        this.name = name;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return limited(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 대기 없이 사용할 수 있는 허가 수
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 허가 사용 현황 게이지 등록
+     */
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("kraft.datasource.permits.available", permits, Semaphore::availablePermits)
+                .tag("pool", name)
+                .description("대기 없이 빌릴 수 있는 커넥션 허가 수")
+                .register(registry);
+        Gauge.builder("kraft.datasource.permits.waiting", permits, Semaphore::getQueueLength)
+                .tag("pool", name)
+                .description("커넥션 허가를 기다리는 스레드 수 (추정치)")
+                .register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(String.format(
+                        "%s 커넥션 대기 시간 초과: %dms (동시 한도 %d)", name, acquireTimeoutMs, maxConcurrent));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(name + " 커넥션 대기 중 인터럽트", e);
+        }
+    }
+
+    private Connection limited(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        if (released.compareAndSet(false, true)) {
+                            try {
+                                connection.close();
+                            } finally {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
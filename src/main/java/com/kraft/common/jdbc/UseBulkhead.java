@@ -0,0 +1,20 @@
+package com.kraft.common.jdbc;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드(또는 클래스의 모든 public 메서드) 실행 중 DB 커넥션을 지정한 bulkhead에서 빌리도록 지정
+ * - 지정하지 않으면 트랜잭션 특성으로 결정 (쓰기 트랜잭션: WRITE, 그 외: READ)
+ * - 프록시를 거치는 호출에만 적용되므로 내부 호출/새 스레드에서는 {@link BulkheadContext}를 직접 사용
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UseBulkhead {
+
+    Bulkhead value();
+}
@@ -0,0 +1,37 @@
+package com.kraft.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행
+ * - 인메모리 색인처럼 롤백할 수 없는 부수 효과는 커밋된 변경만 반영해야 함
+ * - 트랜잭션 밖에서 호출되면 즉시 실행
+ * - 커밋 후 콜백 안에서 다시 호출되면 즉시 실행
+ *   (afterCommit 단계에서 새로 등록한 동기화는 호출되지 않으므로 등록하면 유실됨)
+ */
+public final class AfterCommit {
+
+    private static final ThreadLocal<Boolean> COMMITTED = new ThreadLocal<>();
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive() && COMMITTED.get() == null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    COMMITTED.set(Boolean.TRUE);
+                    try {
+                        action.run();
+                    } finally {
+                        COMMITTED.remove();
+                    }
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
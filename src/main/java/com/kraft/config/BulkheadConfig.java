@@ -0,0 +1,123 @@
+package com.kraft.config;
+
+import com.kraft.common.jdbc.Bulkhead;
+import com.kraft.common.jdbc.BulkheadDataSource;
+import com.kraft.common.jdbc.BulkheadInterceptor;
+import com.kraft.common.jdbc.UseBulkhead;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * DB 커넥션 bulkhead 설정 (kraft.datasource.bulkhead.{read|write|search|batch|export}.*)
+ * - 느린 검색이나 내보내기가 커넥션을 모두 차지해 로그인/글쓰기가 대기 시간 초과로 실패하지 않도록
+ *   종류별 동시 한도와 대기 시간을 따로 둠
+ * - 한도 합계는 커넥션 풀 크기(spring.datasource.hikari.maximum-pool-size) 이하로 설정
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "kraft.datasource.bulkhead.enabled", havingValue = "true")
+public class BulkheadConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private static final Map<Bulkhead, BulkheadDataSource.Limit> DEFAULT_LIMITS = Map.of(
+            Bulkhead.READ, new BulkheadDataSource.Limit(6, 1000),
+            Bulkhead.WRITE, new BulkheadDataSource.Limit(6, 3000),
+            Bulkhead.SEARCH, new BulkheadDataSource.Limit(4, 500),
+            Bulkhead.BATCH, new BulkheadDataSource.Limit(4, 30000),
+            Bulkhead.EXPORT, new BulkheadDataSource.Limit(4, 30000)
+    );
+
+    /**
+     * 기본 dataSource 빈을 bulkhead DataSource로 감쌈
+     * - bulkhead는 트랜잭션의 readOnly 여부로 고르므로 LazyConnectionDataSourceProxy 뒤에 둠
+     *   (읽기/쓰기 라우팅이 켜져 있으면 이미 있는 프록시의 대상만 바꿈)
+     */
+    @Bean
+    public static BeanPostProcessor bulkheadDataSourcePostProcessor(Environment environment) {
+        Map<Bulkhead, BulkheadDataSource.Limit> limits = new EnumMap<>(Bulkhead.class);
+        int total = 0;
+        for (Bulkhead bulkhead : Bulkhead.values()) {
+            String prefix = "kraft.datasource.bulkhead." + bulkhead.key() + ".";
+            BulkheadDataSource.Limit defaults = DEFAULT_LIMITS.get(bulkhead);
+            BulkheadDataSource.Limit limit = new BulkheadDataSource.Limit(
+                    environment.getProperty(prefix + "max-concurrent", Integer.class, defaults.maxConcurrent()),
+                    environment.getProperty(prefix + "acquire-timeout-ms", Long.class, defaults.acquireTimeoutMs()));
+            limits.put(bulkhead, limit);
+            total += limit.maxConcurrent();
+        }
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        if (total > poolSize) {
+            log.warn("bulkhead 한도 합계({})가 커넥션 풀 크기({})보다 커서 bulkhead 사이 격리가 보장되지 않습니다",
+                    total, poolSize);
+        }
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                if (bean instanceof LazyConnectionDataSourceProxy lazy && lazy.getTargetDataSource() != null) {
+                    lazy.setTargetDataSource(new BulkheadDataSource(lazy.getTargetDataSource(), limits));
+                    return lazy;
+                }
+                return new LazyConnectionDataSourceProxy(new BulkheadDataSource(dataSource, limits));
+            }
+        };
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public Advisor bulkheadAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(UseBulkhead.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(UseBulkhead.class));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new BulkheadInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    /**
+     * 트랜잭션이 끝나면 커넥션(과 bulkhead 허가)을 반환
+     * - 기본값이면 open-in-view 요청이 끝날 때까지 첫 트랜잭션의 커넥션과 bulkhead를 계속 점유
+     */
+    @Bean
+    public HibernatePropertiesCustomizer bulkheadConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public MeterBinder bulkheadDataSourceMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                if (dataSource.isWrapperFor(BulkheadDataSource.class)) {
+                    dataSource.unwrap(BulkheadDataSource.class).bindTo(registry);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("bulkhead 메트릭을 등록할 수 없습니다", e);
+            }
+        };
+    }
+}
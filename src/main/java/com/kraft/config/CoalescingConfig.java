@@ -0,0 +1,57 @@
+package com.kraft.config;
+
+import com.kraft.common.concurrent.Coalesced;
+import com.kraft.common.concurrent.CoalescingInterceptor;
+import com.kraft.common.concurrent.SingleFlight;
+import com.kraft.config.datasource.ReadYourWrites;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 동시 동일 조회 합치기 설정 (kraft.coalesce.*)
+ * - 인기 게시글/목록 페이지에 요청이 몰릴 때 같은 SQL을 요청 수만큼 실행하지 않도록 {@link Coalesced} 메서드를 single-flight로 실행
+ * - 트랜잭션 바깥에 두어 결과를 기다리는 호출은 커넥션을 잡지 않음
+ * - 이미 트랜잭션 안이거나 읽기-쓰기 일관성으로 primary에 고정된 요청은 합치지 않음
+ *   (다른 요청이 시작한 조회는 자기 쓰기를 보지 못할 수 있음)
+ */
+@Configuration
+@ConditionalOnProperty(name = "kraft.coalesce.enabled", havingValue = "true", matchIfMissing = true)
+public class CoalescingConfig {
+
+    /**
+     * MeterBinder로 등록되어 kraft.coalesce.* 메트릭을 노출
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public SingleFlight coalescingSingleFlight() {
+        return new SingleFlight();
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public Advisor coalescingAdvisor(
+            SingleFlight coalescingSingleFlight,
+            @Value("${kraft.coalesce.timeout-ms:5000}") long timeoutMillis
+    ) {
+        CoalescingInterceptor interceptor = new CoalescingInterceptor(
+                coalescingSingleFlight,
+                Duration.ofMillis(timeoutMillis),
+                () -> TransactionSynchronizationManager.isActualTransactionActive()
+                        || ReadYourWrites.isPinnedToPrimary());
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Coalesced.class), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,59 @@
+package com.kraft.config;
+
+import com.kraft.common.jdbc.ConcurrencyLimitedDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * DB 동시 접근 한도 설정
+ * - 가상 스레드 모드에서 요청 스레드 수와 무관하게 커넥션 풀 앞의 대기를 제한
+ * - max-concurrent는 커넥션 풀 크기(spring.datasource.hikari.maximum-pool-size) 이하로 설정
+ */
+@Configuration
+@ConditionalOnProperty(name = "kraft.datasource.concurrency-limit.enabled", havingValue = "true")
+public class DataSourceConcurrencyConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    /**
+     * 기본 dataSource 빈을 동시 접근 한도 DataSource로 감쌈
+     * (BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static + Environment로 설정을 읽음)
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        int maxConcurrent = environment.getProperty(
+                "kraft.datasource.concurrency-limit.max-concurrent", Integer.class, 10);
+        long acquireTimeoutMs = environment.getProperty(
+                "kraft.datasource.concurrency-limit.acquire-timeout-ms", Long.class, 2000L);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    return new ConcurrencyLimitedDataSource(dataSource, beanName, maxConcurrent, acquireTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitedDataSourceMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                if (dataSource.isWrapperFor(ConcurrencyLimitedDataSource.class)) {
+                    dataSource.unwrap(ConcurrencyLimitedDataSource.class).bindTo(registry);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("DB 동시 접근 한도 메트릭을 등록할 수 없습니다", e);
+            }
+        };
+    }
+}
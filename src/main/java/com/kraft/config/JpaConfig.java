@@ -1,7 +1,10 @@
 package com.kraft.config;
 
+import com.kraft.common.id.SnowflakeIdGenerator;
 import com.kraft.config.auth.dto.SessionUser;
 import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
@@ -15,11 +18,33 @@ import java.util.Optional;
  * JPA Auditing 설정
  * - 생성일시/수정일시 자동 관리
  * - 생성자/수정자 자동 추적 (세션 기반)
+ * - Snowflake ID 생성기 설정 전달
  */
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
 
+    /**
+     * kraft.id.* 설정을 Hibernate 설정으로 전달 (SnowflakeIdGenerator는 Hibernate가 생성하므로 빈 주입 불가)
+     * - node-id: 인스턴스마다 달라야 하는 노드 ID (0 ~ 1023)
+     *   기본값으로 두면 여러 인스턴스가 같은 ID를 발급할 수 있으므로, 설정하지 않으면(-1) 기동을 멈춤
+     *   (단일 인스턴스로 실행하는 dev/test 프로필은 0으로 설정)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer snowflakeIdPropertiesCustomizer(
+            @Value("${kraft.id.node-id:-1}") long nodeId,
+            @Value("${kraft.id.max-clock-rollback-ms:5000}") long maxClockRollbackMs
+    ) {
+        if (nodeId < 0) {
+            throw new IllegalStateException(
+                    "kraft.id.node-id(KRAFT_NODE_ID)가 설정되지 않았습니다: 인스턴스마다 다른 값(0 ~ 1023)을 지정하세요");
+        }
+        return properties -> {
+            properties.put(SnowflakeIdGenerator.NODE_ID_SETTING, nodeId);
+            properties.put(SnowflakeIdGenerator.MAX_ROLLBACK_SETTING, maxClockRollbackMs);
+        };
+    }
+
     /**
      * 현재 사용자 정보를 제공하는 AuditorAware 구현
      * 세션에서 사용자 정보를 추출하여 반환
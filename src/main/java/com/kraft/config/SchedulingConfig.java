@@ -0,0 +1,16 @@
+package com.kraft.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링/비동기 실행 설정
+ * - 조회수 flush 등 주기적인 백그라운드 작업 활성화
+ * - @Async는 Spring Boot의 applicationTaskExecutor 사용 (virtual-threads 프로필에서는 가상 스레드)
+ */
+@Configuration
+@EnableScheduling
+@EnableAsync
+public class SchedulingConfig {
+}
@@ -0,0 +1,124 @@
+package com.kraft.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 replica로 보내는 라우팅 DataSource
+ * - 읽기 전용 트랜잭션: 정상 replica를 round-robin으로 선택 (정상 replica가 없거나 읽기-쓰기 일관성 유지 중이면 primary)
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖): primary
+ * - 트랜잭션의 readOnly 여부는 시작 후에 정해지므로 LazyConnectionDataSourceProxy 뒤에서 사용해야 함
+ *   (첫 SQL 실행 시점에 실제 커넥션을 고름)
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWrites.recordWrite();
+            }
+            return PRIMARY;
+        }
+        if (ReadYourWrites.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica.name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * replica 상태 확인 (정상으로 확인되기 전까지는 읽기를 보내지 않음)
+     * @param timeoutSeconds Connection.isValid 대기 시간
+     */
+    public void checkReplicas(int timeoutSeconds) {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(timeoutSeconds);
+            } catch (SQLException | RuntimeException e) {
+                // 풀 초기화 실패는 RuntimeException(PoolInitializationException)으로 올라옴
+                healthy = false;
+            }
+            if (healthy != replica.healthy) {
+                log.warn("replica 상태 변경: replica={}, healthy={}", replica.name, healthy);
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    /**
+     * replica별 정상 여부 (메트릭용)
+     */
+    public Map<String, Boolean> replicaHealth() {
+        Map<String, Boolean> health = new HashMap<>();
+        replicas.forEach(replica -> health.put(replica.name, replica.healthy));
+        return health;
+    }
+
+    /**
+     * replica 커넥션 풀 종료 (primary는 별도 빈으로 관리)
+     */
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("replica 커넥션 풀 종료 실패: replica={}", replica.name, e);
+                }
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
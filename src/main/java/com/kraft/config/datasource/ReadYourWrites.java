@@ -0,0 +1,74 @@
+package com.kraft.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 읽기-쓰기 일관성 상태
+ * - 요청 시작 시 세션의 최근 쓰기 여부로 primary 고정 여부를 정하고, 요청 중 쓰기가 일어나면 이후 읽기도 primary로 보냄
+ * - 요청 밖(스케줄 작업 등)에서는 항상 비활성
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * @param pinnedToPrimary 세션의 최근 쓰기가 읽기-쓰기 일관성 유지 시간 안인지 여부
+     */
+    public static void begin(boolean pinnedToPrimary) {
+        CURRENT.set(new Scope(pinnedToPrimary));
+    }
+
+    /**
+     * @return 요청 중 쓰기 트랜잭션이 있었는지 여부
+     */
+    public static boolean end() {
+        Scope scope = CURRENT.get();
+        CURRENT.remove();
+        return scope != null && scope.wrote;
+    }
+
+    /**
+     * 작업 동안 읽기 전용 트랜잭션도 primary로 보냄 (복제 지연만큼 예전 값을 읽으면 안 되는 캐시 적재 등)
+     * - 요청 안에서 호출돼도 작업이 끝나면 요청의 상태를 복원 (작업 중 쓰기 여부는 요청에 반영)
+     */
+    public static <T> T callOnPrimary(Supplier<T> task) {
+        Scope previous = CURRENT.get();
+        Scope scope = new Scope(true);
+        CURRENT.set(scope);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                previous.wrote |= scope.wrote;
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static boolean isPinnedToPrimary() {
+        Scope scope = CURRENT.get();
+        return scope != null && (scope.pinned || scope.wrote);
+    }
+
+    static void recordWrite() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.wrote = true;
+        }
+    }
+
+    private static final class Scope {
+
+        private final boolean pinned;
+        private boolean wrote;
+
+        private Scope(boolean pinned) {
+            this.pinned = pinned;
+        }
+    }
+}
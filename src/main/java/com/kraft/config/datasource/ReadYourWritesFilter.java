@@ -0,0 +1,53 @@
+package com.kraft.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 세션별 읽기-쓰기 일관성 필터
+ * - 쓰기 트랜잭션이 있었던 요청 뒤 windowMs 동안 같은 세션의 읽기 전용 트랜잭션을 primary로 보냄 (복제 지연 회피)
+ * - 마지막 쓰기 시각은 세션 속성으로 보관하므로 Redis 세션이면 인스턴스 간에도 유지
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String LAST_WRITE_ATTRIBUTE = "kraft.lastWriteAt";
+
+    private final long windowMs;
+
+    public ReadYourWritesFilter(long windowMs) {
+        this.windowMs = windowMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HttpSession session = request.getSession(false);
+        Object lastWriteAt = session != null ? session.getAttribute(LAST_WRITE_ATTRIBUTE) : null;
+        boolean pinned = lastWriteAt instanceof Long at && System.currentTimeMillis() - at < windowMs;
+
+        ReadYourWrites.begin(pinned);
+        boolean wrote;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            wrote = ReadYourWrites.end();
+        }
+
+        if (wrote) {
+            HttpSession current = request.getSession(false);
+            if (current != null) {
+                try {
+                    current.setAttribute(LAST_WRITE_ATTRIBUTE, System.currentTimeMillis());
+                } catch (IllegalStateException invalidated) {
+                    // 로그아웃 등으로 세션이 무효화된 경우
+                }
+            }
+        }
+    }
+}
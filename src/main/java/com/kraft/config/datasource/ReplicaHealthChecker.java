@@ -0,0 +1,26 @@
+package com.kraft.config.datasource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * replica 상태 주기 확인 - 실패한 replica는 다음 확인에서 정상으로 돌아올 때까지 읽기 라우팅에서 제외
+ */
+@Component
+@ConditionalOnProperty(name = "kraft.datasource.routing.enabled", havingValue = "true")
+public class ReplicaHealthChecker {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final int timeoutSeconds;
+
+    public ReplicaHealthChecker(ReadWriteRoutingDataSource routingDataSource, RoutingDataSourceProperties properties) {
+        this.routingDataSource = routingDataSource;
+        this.timeoutSeconds = properties.healthCheckTimeoutSeconds();
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${kraft.datasource.routing.health-check-interval-ms:5000}")
+    public void check() {
+        routingDataSource.checkReplicas(timeoutSeconds);
+    }
+}
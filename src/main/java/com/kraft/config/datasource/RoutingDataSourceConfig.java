@@ -0,0 +1,98 @@
+package com.kraft.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션 replica 라우팅 설정
+ * - primary: spring.datasource.* (+ spring.datasource.hikari.*)
+ * - replica: kraft.datasource.routing.replicas[*]
+ * - 애플리케이션이 쓰는 dataSource 빈은 LazyConnectionDataSourceProxy → ReadWriteRoutingDataSource
+ */
+@Configuration
+@ConditionalOnProperty(name = "kraft.datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class RoutingDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource routingDataSource(
+            HikariDataSource primaryDataSource,
+            DataSourceProperties dataSourceProperties,
+            RoutingDataSourceProperties routingProperties
+    ) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (RoutingDataSourceProperties.Replica replica : routingProperties.replicas()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.url())
+                    .username(replica.username())
+                    .password(replica.password())
+                    .build();
+            dataSource.setPoolName("replica-" + replica.name());
+            dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+            dataSource.setConnectionTimeout(replica.connectionTimeoutMs());
+            dataSource.setReadOnly(true);
+            replicas.put(replica.name(), dataSource);
+        }
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 트랜잭션마다 커넥션을 반환하도록 설정
+     * - 기본값(트랜잭션 후에도 보유)이면 open-in-view 요청 안에서 첫 트랜잭션의 커넥션(replica일 수 있음)을 계속 재사용
+     */
+    @Bean
+    public HibernatePropertiesCustomizer routingConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(RoutingDataSourceProperties routingProperties) {
+        return new ReadYourWritesFilter(routingProperties.readYourWritesMs());
+    }
+
+    @Bean
+    public MeterBinder replicaHealthMetrics(ReadWriteRoutingDataSource routingDataSource) {
+        return registry -> routingDataSource.replicaHealth().keySet().forEach(name ->
+                Gauge.builder("kraft.datasource.replica.healthy", routingDataSource,
+                                routing -> Boolean.TRUE.equals(routing.replicaHealth().get(name)) ? 1 : 0)
+                        .tag("replica", name)
+                        .description("replica 상태 (1: 읽기 라우팅 대상)")
+                        .register(registry));
+    }
+}
@@ -0,0 +1,37 @@
+package com.kraft.config.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 읽기/쓰기 라우팅 설정 (kraft.datasource.routing.*)
+ * - replica 목록은 객체 리스트라 @Value 대신 프로퍼티 바인딩 사용
+ *
+ * @param readYourWritesMs 쓰기 후 같은 세션의 읽기를 primary로 보내는 시간
+ * @param healthCheckTimeoutSeconds replica 상태 확인(Connection.isValid) 대기 시간
+ * @param replicas replica 접속 정보
+ */
+@ConfigurationProperties(prefix = "kraft.datasource.routing")
+public record RoutingDataSourceProperties(
+        @DefaultValue("5000") long readYourWritesMs,
+        @DefaultValue("2") int healthCheckTimeoutSeconds,
+        @DefaultValue List<Replica> replicas
+) {
+
+    /**
+     * @param name 로그/메트릭에 쓰는 replica 이름
+     * @param maximumPoolSize replica 커넥션 풀 크기
+     * @param connectionTimeoutMs 커넥션 획득 대기 시간 (장애 replica 확인이 오래 걸리지 않도록 짧게)
+     */
+    public record Replica(
+            String name,
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize,
+            @DefaultValue("2000") long connectionTimeoutMs
+    ) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.kraft.domain.comment;
 
 import com.kraft.common.entity.BaseEntity;
+import com.kraft.common.id.SnowflakeId;
 import com.kraft.domain.post.Post;
 import com.kraft.domain.user.User;
 import jakarta.persistence.*;
@@ -8,7 +9,12 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -17,13 +23,16 @@ import java.util.List;
  * 댓글 엔티티
  * - Post와 User에 대한 ManyToOne 관계
  * - 대댓글 지원 (Self-Referencing)
+ * - 게시글/부모 댓글 삭제 시 DB 외래키 ON DELETE CASCADE로 함께 삭제 (V5, V6 마이그레이션과 동일)
+ * - 탈퇴 회원의 댓글은 deleted_at만 기록되어 모든 조회에서 제외되고 PurgeJob이 행을 삭제
  * - 불변성 강화: Builder로만 생성 가능
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@SQLRestriction("deleted_at IS NULL")
 @Table(name = "comments", indexes = {
-    @Index(name = "idx_comment_post_id", columnList = "post_id"),
+    @Index(name = "idx_comment_post_update_at", columnList = "post_id, update_at"),
     @Index(name = "idx_comment_author_id", columnList = "author_id"),
     @Index(name = "idx_comment_parent_id", columnList = "parent_id"),
     @Index(name = "idx_comment_created_at", columnList = "create_at")
@@ -31,7 +40,7 @@ import java.util.List;
 public class Comment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(columnDefinition = "TEXT", nullable = false)
@@ -39,6 +48,7 @@ public class Comment extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "post_id", nullable = false, foreignKey = @ForeignKey(name = "fk_comment_post"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Post post;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -48,12 +58,20 @@ public class Comment extends BaseEntity {
     // 부모 댓글 (대댓글인 경우)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_id", foreignKey = @ForeignKey(name = "fk_comment_parent"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Comment parent;
 
     // 자식 댓글들 (답글들)
     @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> replies = new ArrayList<>();
 
+    // 직속 답글 수 - 원자적 UPDATE로만 변경되므로 엔티티 flush 대상에서 제외
+    @Column(nullable = false, updatable = false)
+    private int replyCount;
+
+    // 탈퇴 회원 댓글 숨김 시각 (PurgeJob → CommentService.hideComments의 벌크 UPDATE로만 기록)
+    private LocalDateTime deletedAt;
+
     @Builder
     private Comment(String content, Post post, User author, Comment parent) {
         this.content = content;
@@ -89,10 +107,12 @@ public class Comment extends BaseEntity {
 
     /**
      * 답글 추가
+     * - 외래키는 reply.parent로 결정되므로 지연 로딩된 replies 컬렉션은 초기화하지 않음
+     *   (이미 로딩된 경우에만 메모리 상태를 맞춤 → 기존 답글 수와 무관한 O(1) 작성)
      * @param reply 답글
      */
     public void addReply(Comment reply) {
-        if (!this.replies.contains(reply)) {
+        if (Hibernate.isInitialized(this.replies) && !this.replies.contains(reply)) {
             this.replies.add(reply);
         }
     }
@@ -0,0 +1,14 @@
+package com.kraft.domain.comment;
+
+/**
+ * 댓글 위치 프로젝션 (숨김/삭제 후 댓글 수 보정 범위 산정용)
+ * @param id 댓글 ID
+ * @param postId 게시글 ID
+ * @param parentId 부모 댓글 ID (부모 댓글이면 null)
+ */
+public record CommentLink(
+        Long id,
+        Long postId,
+        Long parentId
+) {
+}
@@ -2,13 +2,24 @@ package com.kraft.domain.comment;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    /**
+     * 댓글 트리 프로젝션 공통 SELECT 절
+     */
+    String ROW_SELECT = "SELECT new com.kraft.domain.comment.CommentRow(" +
+            "c.id, c.content, a.id, a.name, c.parent.id, c.createAt, c.updateAt) " +
+            "FROM Comment c JOIN c.author a";
+
     /**
      * 특정 게시글의 댓글 목록 조회 (N+1 문제 해결)
      * @param postId 게시글 ID
@@ -35,6 +46,22 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.parent IS NULL")
     Page<Comment> findParentCommentsByPostId(Long postId, Pageable pageable);
 
+    /**
+     * 특정 게시글의 부모 댓글 Slice 조회 (COUNT 쿼리 없음)
+     * @param postId 게시글 ID
+     * @param pageable 페이징 정보
+     * @return 부모 댓글 Slice
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId AND c.parent IS NULL")
+    Slice<Comment> findParentCommentsSliceByPostId(Long postId, Pageable pageable);
+
+    /**
+     * 특정 게시글의 부모 댓글 수 조회
+     * @param postId 게시글 ID
+     * @return 부모 댓글 수
+     */
+    long countByPostIdAndParentIsNull(Long postId);
+
     /**
      * 특정 댓글의 답글 목록 조회
      * @param parentId 부모 댓글 ID
@@ -67,5 +94,78 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @return 댓글 수
      */
     long countByPostId(Long postId);
-}
 
+    /**
+     * 특정 게시글의 댓글 스레드 버전 조회 (답글 포함)
+     * @param postId 게시글 ID
+     * @return 댓글 수 + 가장 최근 수정 시각
+     */
+    @Query("SELECT new com.kraft.domain.comment.CommentThreadVersion(COUNT(c), MAX(c.updateAt)) " +
+           "FROM Comment c WHERE c.post.id = :postId")
+    CommentThreadVersion findThreadVersion(Long postId);
+
+    /**
+     * 특정 게시글의 전체 댓글 프로젝션 조회 (트리 조립용)
+     * @param postId 게시글 ID
+     * @return 댓글 프로젝션 목록 (오래된 순)
+     */
+    @Query(ROW_SELECT + " WHERE c.post.id = :postId ORDER BY c.id ASC")
+    List<CommentRow> findRowsByPostId(Long postId);
+
+    /**
+     * 특정 게시글의 부모 댓글 프로젝션 Slice 조회 (트리 조립용)
+     * @param postId 게시글 ID
+     * @param pageable 페이징 정보
+     * @return 부모 댓글 프로젝션 Slice
+     */
+    @Query(ROW_SELECT + " WHERE c.post.id = :postId AND c.parent IS NULL ORDER BY c.id ASC")
+    Slice<CommentRow> findParentRowsByPostId(Long postId, Pageable pageable);
+
+    /**
+     * 여러 부모 댓글의 답글 프로젝션 조회 (트리 조립용)
+     * @param parentIds 부모 댓글 ID 목록
+     * @return 답글 프로젝션 목록 (오래된 순)
+     */
+    @Query(ROW_SELECT + " WHERE c.parent.id IN :parentIds ORDER BY c.id ASC")
+    List<CommentRow> findReplyRowsByParentIds(Collection<Long> parentIds);
+
+    /**
+     * 여러 부모 댓글의 답글 ID 조회 (삭제 범위 산정용)
+     * @param parentIds 부모 댓글 ID 목록
+     * @return 답글 ID 목록
+     */
+    @Query("SELECT c.id FROM Comment c WHERE c.parent.id IN :parentIds")
+    List<Long> findIdsByParentIdIn(Collection<Long> parentIds);
+
+    /**
+     * 댓글 숨김 (soft delete) - 실제 행 삭제는 PurgeJob이 수행
+     * @param ids 댓글 ID 목록
+     * @param now 숨김 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.deletedAt = :now WHERE c.id IN :ids AND c.deletedAt IS NULL")
+    int hideAll(Collection<Long> ids, LocalDateTime now);
+
+    /**
+     * 답글 수를 숨겨지지 않은 직속 답글 수로 다시 계산
+     * @param ids 댓글 ID 목록
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE comments SET reply_count = " +
+                   "(SELECT COUNT(*) FROM comments r WHERE r.parent_id = comments.id AND r.deleted_at IS NULL) " +
+                   "WHERE id IN (:ids)",
+           nativeQuery = true)
+    int recountReplies(Collection<Long> ids);
+
+    /**
+     * 댓글 답글 수 원자적 증감
+     * @param commentId 댓글 ID
+     * @param delta 증감량
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + :delta WHERE c.id = :commentId")
+    int adjustReplyCount(Long commentId, int delta);
+}
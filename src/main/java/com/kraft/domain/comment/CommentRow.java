@@ -0,0 +1,18 @@
+package com.kraft.domain.comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 트리 조립용 프로젝션
+ * - 작성자 이름과 부모 ID를 한 번의 조회로 가져오며 replies 컬렉션을 로딩하지 않음
+ */
+public record CommentRow(
+        Long id,
+        String content,
+        Long authorId,
+        String authorName,
+        Long parentId,
+        LocalDateTime createAt,
+        LocalDateTime updateAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.kraft.domain.comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 댓글 스레드의 버전 프로젝션 (조건부 조회 검증자용)
+ * - 작성/수정은 lastModified를, 삭제는 count를 바꿈
+ * - (post_id, update_at) 인덱스로 게시글의 댓글만 찾아 계산하며 작성자는 읽지 않음 (숨김 여부 확인을 위해 댓글 행은 읽음)
+ * @param count 댓글 수 (답글 포함)
+ * @param lastModified 가장 최근 작성/수정 시각 (댓글이 없으면 null)
+ */
+public record CommentThreadVersion(
+        long count,
+        LocalDateTime lastModified
+) {
+}
@@ -1,6 +1,7 @@
 package com.kraft.domain.post;
 
 import com.kraft.common.entity.BaseEntity;
+import com.kraft.common.id.SnowflakeId;
 import com.kraft.domain.category.Category;
 import com.kraft.domain.user.User;
 import jakarta.persistence.*;
@@ -8,23 +9,29 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.LocalDateTime;
 
 /**
  * 게시글 엔티티
  * - 불변성 강화: Builder로만 생성 가능
  * - 양방향 관계: User.addPost()를 통해서만 관리
+ * - soft delete: deleted_at이 기록된 게시글은 모든 JPA 조회에서 제외되고 PurgeJob이 실제 삭제
  */
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@SQLRestriction("deleted_at IS NULL")
 @Table(name = "posts", indexes = {
     @Index(name = "idx_post_author_id", columnList = "author_id"),
-    @Index(name = "idx_post_created_at", columnList = "create_at")
+    @Index(name = "idx_post_created_at", columnList = "create_at"),
+    @Index(name = "idx_post_deleted_at", columnList = "deleted_at")
 })
 public class Post extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(length = 500, nullable = false)
@@ -41,9 +48,16 @@ public class Post extends BaseEntity {
     @JoinColumn(name = "category_id", foreignKey = @ForeignKey(name = "fk_post_category"))
     private Category category;
 
-    @Column(nullable = false)
+    // 조회수 - ViewCountFlusher의 원자적 UPDATE로만 변경되므로 엔티티 flush 대상에서 제외 (로드한 값으로 덮어쓰지 않도록)
+    @Column(nullable = false, updatable = false)
     private Long viewCount = 0L;
 
+    // 전체 댓글 수 (답글 포함) - 원자적 UPDATE로만 변경되므로 엔티티 flush 대상에서 제외
+    @Column(nullable = false, updatable = false)
+    private Long commentCount = 0L;
+
+    private LocalDateTime deletedAt;
+
     @Builder
     private Post(String title, String content, User author, Category category) {
         this.title = title;
@@ -51,6 +65,7 @@ public class Post extends BaseEntity {
         this.author = author;
         this.category = category;
         this.viewCount = 0L;
+        this.commentCount = 0L;
     }
 
     /**
@@ -72,10 +87,13 @@ public class Post extends BaseEntity {
     }
 
     /**
-     * 조회수 증가
+     * 삭제 표시 (soft delete) - 실제 행 삭제는 PurgeJob이 수행
+     * @param now 삭제 시각
      */
-    public void incrementViewCount() {
-        this.viewCount++;
+    public void softDelete(LocalDateTime now) {
+        if (this.deletedAt == null) {
+            this.deletedAt = now;
+        }
     }
 
     /**
@@ -0,0 +1,12 @@
+package com.kraft.domain.post;
+
+/**
+ * 게시글 소속 프로젝션 (숨김 후 캐시/색인 정리 범위 산정용)
+ * @param id 게시글 ID
+ * @param categoryId 카테고리 ID (없으면 null)
+ */
+public record PostLink(
+        Long id,
+        Long categoryId
+) {
+}
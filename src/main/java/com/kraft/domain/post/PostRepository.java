@@ -1,30 +1,35 @@
 package com.kraft.domain.post;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     /**
-     * 게시글 목록 조회 (N+1 문제 해결 - Fetch Join 사용)
-     * @return 작성자 정보가 포함된 게시글 목록 (최신순)
+     * 목록 프로젝션 공통 SELECT 절 (content 컬럼 제외)
      */
-    @Query("SELECT p FROM Post p JOIN FETCH p.author ORDER BY p.id DESC")
-    List<Post> findAllDesc();
+    String SUMMARY_SELECT = "SELECT new com.kraft.domain.post.PostSummary(p.id, p.title, a.name, p.viewCount, p.commentCount, p.updateAt) " +
+            "FROM Post p JOIN p.author a";
 
     /**
-     * 게시글 목록 페이징 조회 (N+1 문제 해결)
-     * @param pageable 페이징 정보
-     * @return 작성자 정보가 포함된 게시글 페이지
+     * 스트리밍 조회 시 한 번에 가져오는 행 수
      */
-    @Query(value = "SELECT p FROM Post p JOIN FETCH p.author",
-           countQuery = "SELECT COUNT(p) FROM Post p")
-    Page<Post> findAllWithAuthor(Pageable pageable);
+    int STREAM_FETCH_SIZE = 500;
 
     /**
      * ID로 게시글 단건 조회 (N+1 문제 해결)
@@ -35,48 +40,235 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     Optional<Post> findByIdWithAuthor(Long id);
 
     /**
-     * 특정 사용자의 게시글 목록 조회
-     * @param authorId 작성자 ID
-     * @return 게시글 목록
+     * 게시글 목록 커서 조회 (최신순, keyset)
+     * OFFSET 없이 PK 범위 탐색으로 lastId 이전 행만 읽음
+     * @param lastId 이전 페이지의 마지막 게시글 ID (첫 페이지는 Long.MAX_VALUE)
+     * @param pageable 조회 건수 (offset 0)
+     * @return 게시글 목록 프로젝션
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.id < :lastId ORDER BY p.id DESC")
+    List<PostSummary> findNextPageDesc(Long lastId, Pageable pageable);
+
+    /**
+     * 게시글 목록 커서 조회 (오래된순, keyset)
+     * @param lastId 이전 페이지의 마지막 게시글 ID (첫 페이지는 0)
+     * @param pageable 조회 건수 (offset 0)
+     * @return 게시글 목록 프로젝션
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<PostSummary> findNextPageAsc(Long lastId, Pageable pageable);
+
+    /**
+     * 카테고리별 게시글 커서 조회 (최신순, keyset)
+     * idx_post_category_id (category_id, PK) 인덱스 범위 탐색
+     * @param categoryId 카테고리 ID
+     * @param lastId 이전 페이지의 마지막 게시글 ID (첫 페이지는 Long.MAX_VALUE)
+     * @param pageable 조회 건수 (offset 0)
+     * @return 게시글 목록 프로젝션
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.category.id = :categoryId AND p.id < :lastId ORDER BY p.id DESC")
+    List<PostSummary> findByCategoryIdNextPage(Long categoryId, Long lastId, Pageable pageable);
+
+    /**
+     * 제목 또는 내용 검색 커서 조회 (최신순, keyset)
+     * @param keyword 검색 키워드
+     * @param lastId 이전 페이지의 마지막 게시글 ID (첫 페이지는 Long.MAX_VALUE)
+     * @param pageable 조회 건수 (offset 0)
+     * @return 검색 결과 프로젝션
      */
-    @Query("SELECT p FROM Post p WHERE p.author.id = :authorId ORDER BY p.id DESC")
-    List<Post> findByAuthorId(Long authorId);
+    @Query(SUMMARY_SELECT +
+           " WHERE (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) AND p.id < :lastId ORDER BY p.id DESC")
+    List<PostSummary> searchByTitleOrContentNextPage(String keyword, Long lastId, Pageable pageable);
 
     /**
-     * 제목으로 게시글 검색 (LIKE)
+     * 게시글 목록 Slice 조회 (COUNT 쿼리 없이 size + 1건으로 다음 페이지 여부 판단)
+     * @param pageable 페이징 정보
+     * @return 게시글 목록 프로젝션 Slice
+     */
+    @Query(SUMMARY_SELECT)
+    Slice<PostSummary> findSummarySlice(Pageable pageable);
+
+    /**
+     * 제목 또는 내용 검색 Slice 조회
      * @param keyword 검색 키워드
      * @param pageable 페이지 정보
-     * @return 검색 결과 페이지
+     * @return 검색 결과 프로젝션 Slice
      */
-    @Query("SELECT p FROM Post p JOIN FETCH p.author WHERE p.title LIKE %:keyword% ORDER BY p.id DESC")
-    Page<Post> searchByTitle(String keyword, Pageable pageable);
+    @Query(SUMMARY_SELECT + " WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%")
+    Slice<PostSummary> searchSummarySliceByTitleOrContent(String keyword, Pageable pageable);
 
     /**
-     * 제목 또는 내용으로 게시글 검색
+     * 인기 게시글 Slice 조회 (조회수 기준)
+     * @param pageable 페이지 정보
+     * @return 인기 게시글 프로젝션 Slice
+     */
+    @Query(SUMMARY_SELECT + " ORDER BY p.viewCount DESC, p.id DESC")
+    Slice<PostSummary> findPopularSummarySlice(Pageable pageable);
+
+    /**
+     * 카테고리별 게시글 Slice 조회
+     * @param categoryId 카테고리 ID
+     * @param pageable 페이징 정보
+     * @return 게시글 프로젝션 Slice
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.category.id = :categoryId")
+    Slice<PostSummary> findSummarySliceByCategoryId(Long categoryId, Pageable pageable);
+
+    /**
+     * 카테고리별 인기 게시글 Slice 조회 (조회수 기준)
+     * @param categoryId 카테고리 ID
+     * @param pageable 페이징 정보
+     * @return 인기 게시글 프로젝션 Slice
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.category.id = :categoryId ORDER BY p.viewCount DESC, p.id DESC")
+    Slice<PostSummary> findPopularSummarySliceByCategoryId(Long categoryId, Pageable pageable);
+
+    /**
+     * 카테고리별 게시글 수 조회
+     * @param categoryId 카테고리 ID
+     * @return 게시글 수
+     */
+    long countByCategoryId(Long categoryId);
+
+    /**
+     * 제목 또는 내용 검색 결과 수 조회
+     * @param keyword 검색 키워드
+     * @return 검색 결과 수
+     */
+    @Query("SELECT COUNT(p) FROM Post p WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%")
+    long countByTitleOrContent(String keyword);
+
+    /**
+     * 게시글 목록 프로젝션 조회 (최신순, content 제외)
+     * @return 게시글 목록 프로젝션
+     */
+    @Query(SUMMARY_SELECT + " ORDER BY p.id DESC")
+    List<PostSummary> findAllSummariesDesc();
+
+    /**
+     * 전체 게시글 목록 프로젝션 스트리밍 조회 (최신순)
+     * <p>
+     * 결과 집합을 fetch size 단위로 순방향 스크롤하므로 행 수와 무관하게 메모리 사용량이 일정하다.
+     * 반드시 트랜잭션 안에서 소비하고 사용 후 닫아야 한다.
+     * @return 게시글 목록 프로젝션 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(SUMMARY_SELECT + " ORDER BY p.id DESC")
+    Stream<PostSummary> streamAllSummariesDesc();
+
+    /**
+     * 검색 색인 구축용 게시글 스트리밍 조회 (ID 오름차순)
+     * @return 게시글 제목/내용 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.kraft.domain.post.PostSearchDocument(p.id, p.title, p.content) FROM Post p ORDER BY p.id")
+    Stream<PostSearchDocument> streamAllSearchDocuments();
+
+    /**
+     * ID 목록으로 게시글 목록 프로젝션 조회 (검색 색인 결과 조회용, 순서는 호출 측에서 정렬)
+     * @param ids 게시글 ID 목록
+     * @return 게시글 목록 프로젝션
+     */
+    @Query(SUMMARY_SELECT + " WHERE p.id IN :ids")
+    List<PostSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    /**
+     * 게시글 목록 프로젝션 페이징 조회
+     * @param pageable 페이징 정보
+     * @return 게시글 목록 프로젝션 페이지
+     */
+    @Query(value = SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * 특정 사용자의 게시글 목록 프로젝션 조회
+     * @param authorId 작성자 ID
+     * @return 게시글 목록 프로젝션
+     */
+    @Query(SUMMARY_SELECT + " WHERE a.id = :authorId ORDER BY p.id DESC")
+    List<PostSummary> findSummariesByAuthorId(Long authorId);
+
+    /**
+     * 제목 또는 내용 검색 프로젝션 페이징 조회
      * @param keyword 검색 키워드
      * @param pageable 페이지 정보
-     * @return 검색 결과 페이지
+     * @return 검색 결과 프로젝션 페이지
      */
-    @Query(value = "SELECT p FROM Post p JOIN FETCH p.author WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%",
+    @Query(value = SUMMARY_SELECT + " WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%",
            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%")
-    Page<Post> searchByTitleOrContent(String keyword, Pageable pageable);
+    Page<PostSummary> searchSummariesByTitleOrContent(String keyword, Pageable pageable);
 
     /**
-     * 인기 게시글 조회 (조회수 기준)
+     * 인기 게시글 프로젝션 페이징 조회 (조회수 기준)
      * @param pageable 페이지 정보
-     * @return 인기 게시글 페이지
+     * @return 인기 게시글 프로젝션 페이지
      */
-    @Query(value = "SELECT p FROM Post p JOIN FETCH p.author ORDER BY p.viewCount DESC, p.id DESC",
+    @Query(value = SUMMARY_SELECT + " ORDER BY p.viewCount DESC, p.id DESC",
            countQuery = "SELECT COUNT(p) FROM Post p")
-    Page<Post> findPopularPosts(Pageable pageable);
+    Page<PostSummary> findPopularSummaries(Pageable pageable);
 
     /**
-     * 카테고리별 게시글 조회
+     * 카테고리별 게시글 프로젝션 페이징 조회
      * @param categoryId 카테고리 ID
      * @param pageable 페이징 정보
-     * @return 게시글 페이지
+     * @return 게시글 프로젝션 페이지
      */
-    @Query(value = "SELECT p FROM Post p JOIN FETCH p.author WHERE p.category.id = :categoryId",
+    @Query(value = SUMMARY_SELECT + " WHERE p.category.id = :categoryId",
            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category.id = :categoryId")
-    Page<Post> findByCategoryId(Long categoryId, Pageable pageable);
+    Page<PostSummary> findSummariesByCategoryId(Long categoryId, Pageable pageable);
+
+    /**
+     * 게시글 숨김 (soft delete) - 실제 행 삭제는 PurgeJob이 수행
+     * @param ids 게시글 ID 목록
+     * @param now 삭제 시각
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.deletedAt = :now WHERE p.id IN :ids AND p.deletedAt IS NULL")
+    int hideAll(Collection<Long> ids, LocalDateTime now);
+
+    /**
+     * 댓글 수를 숨겨지지 않은 댓글 수(답글 포함)로 다시 계산
+     * @param ids 게시글 ID 목록
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE posts SET comment_count = " +
+                   "(SELECT COUNT(*) FROM comments c WHERE c.post_id = posts.id AND c.deleted_at IS NULL) " +
+                   "WHERE id IN (:ids)",
+           nativeQuery = true)
+    int recountComments(Collection<Long> ids);
+
+    /**
+     * 게시글 댓글 수 원자적 증감
+     * @param postId 게시글 ID
+     * @param delta 증감량
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int adjustCommentCount(Long postId, long delta);
+
+    /**
+     * 게시글 댓글 수 조회 (비정규화 컬럼)
+     * @param postId 게시글 ID
+     * @return 댓글 수
+     */
+    @Query("SELECT p.commentCount FROM Post p WHERE p.id = :postId")
+    Optional<Long> findCommentCountById(Long postId);
+
+    /**
+     * 게시글 수정 시각 조회 (조건부 조회 검증자용, 본문을 읽지 않음)
+     * @param postId 게시글 ID
+     * @return 수정 시각 (게시글이 없으면 empty)
+     */
+    @Query("SELECT p.updateAt FROM Post p WHERE p.id = :postId")
+    Optional<LocalDateTime> findUpdateAtById(Long postId);
 }
@@ -0,0 +1,11 @@
+package com.kraft.domain.post;
+
+/**
+ * 검색 색인 구축용 게시글 프로젝션 (작성자 등 연관 엔티티 제외)
+ */
+public record PostSearchDocument(
+        Long id,
+        String title,
+        String content
+) {
+}
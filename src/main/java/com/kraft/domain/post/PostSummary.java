@@ -0,0 +1,18 @@
+package com.kraft.domain.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 컬럼 프로젝션
+ * - JPQL 생성자 표현식으로 목록에 필요한 컬럼만 조회
+ * - content(TEXT) 컬럼을 읽지 않고 엔티티/영속성 컨텍스트도 거치지 않음
+ */
+public record PostSummary(
+        Long id,
+        String title,
+        String authorName,
+        Long viewCount,
+        Long commentCount,
+        LocalDateTime updateAt
+) {
+}
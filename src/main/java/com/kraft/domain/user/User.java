@@ -7,8 +7,10 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -17,6 +19,7 @@ import java.util.List;
  * 사용자 엔티티
  * - name: 로그인 ID (변경 불가)
  * - 양방향 관계: addPost()를 통해 Post와 관계 관리
+ * - soft delete: 탈퇴 시 deleted_at만 기록하고 게시글/댓글/계정 행은 PurgeJob이 청크 단위로 삭제
  */
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -25,13 +28,15 @@ import java.util.List;
     name = "users",
     indexes = {
         @Index(name = "idx_user_email", columnList = "email"),
-        @Index(name = "idx_user_name", columnList = "name", unique = true)
+        @Index(name = "idx_user_name", columnList = "name", unique = true),
+        @Index(name = "idx_user_deleted_at", columnList = "deleted_at")
     }
 )
 public class User extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -50,6 +55,8 @@ public class User extends BaseEntity {
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Post> posts = new ArrayList<>();
 
+    private LocalDateTime deletedAt;
+
     @Builder
     private User(String name, String password, String email, Role role) {
         this.name = name;
@@ -98,14 +105,33 @@ public class User extends BaseEntity {
         return encoder.matches(rawPassword, this.password);
     }
 
+    /**
+     * 탈퇴 표시 (soft delete)
+     * @param now 탈퇴 시각
+     */
+    public void softDelete(LocalDateTime now) {
+        if (this.deletedAt == null) {
+            this.deletedAt = now;
+        }
+    }
+
+    /**
+     * 탈퇴 여부 확인
+     */
+    public boolean isDeleted() {
+        return this.deletedAt != null;
+    }
+
     /**
      * 게시글 추가 - 양방향 관계 관리
      * 연관관계의 주인이 아니므로 여기서 관계를 관리
+     * - 외래키는 Post.author로 결정되므로 지연 로딩된 posts 컬렉션은 초기화하지 않음
+     *   (이미 로딩된 경우에만 메모리 상태를 맞춤 → 기존 게시글 수와 무관한 O(1) 작성)
      */
     public void addPost(Post post) {
-        if (!this.posts.contains(post)) {
+        post.assignAuthor(this);
+        if (Hibernate.isInitialized(this.posts) && !this.posts.contains(post)) {
             this.posts.add(post);
-            post.assignAuthor(this);
         }
     }
 
@@ -7,30 +7,49 @@ import com.kraft.web.dto.category.CategorySaveRequestDto;
 import com.kraft.web.dto.category.CategoryUpdateRequestDto;
 import com.kraft.common.exception.DuplicateResourceException;
 import com.kraft.common.exception.ResourceNotFoundException;
+import com.kraft.common.transaction.AfterCommit;
+import com.kraft.service.category.CategoryChangeNotifier;
+import com.kraft.service.category.CategoryRegistry;
+import com.kraft.service.version.CollectionVersions;
+import com.kraft.web.dto.common.ResourceVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 카테고리 서비스
+ * - 조회는 CategoryRegistry의 인메모리 스냅샷에서 처리 (DB 접근 없음)
+ * - 생성/수정/삭제는 커밋 후 스냅샷을 다시 만들고 다른 노드에 알림
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final CategoryChangeNotifier categoryChangeNotifier;
+    private final CollectionVersions collectionVersions;
 
     /**
      * 모든 카테고리 조회
      * @return 카테고리 목록 (정렬 순서대로)
      */
-    @Transactional(readOnly = true)
     public List<CategoryResponseDto> findAll() {
-        return categoryRepository.findAllOrderByDisplayOrder().stream()
-                .map(CategoryResponseDto::from)
-                .collect(Collectors.toList());
+        return categoryRegistry.findAll();
+    }
+
+    /**
+     * 카테고리 목록의 조건부 조회 검증자
+     * - 카테고리 목록 버전 카운터(CATEGORIES)로 만들므로 목록을 순회하지 않음
+     * - 카운터는 이 노드의 스냅샷을 다시 만든 뒤에 올림 (새 버전으로 이전 스냅샷을 캐시하지 않도록)
+     * @return 카테고리 목록 버전 기반 검증자
+     */
+    public ResourceVersion findAllVersion() {
+        return ResourceVersion.of(null, "c", collectionVersions.current(CollectionVersions.CATEGORIES)[0]);
     }
 
     /**
@@ -38,10 +57,9 @@ public class CategoryService {
      * @param id 카테고리 ID
      * @return 카테고리 응답 DTO
      */
-    @Transactional(readOnly = true)
     public CategoryResponseDto findById(Long id) {
-        Category category = findCategoryById(id);
-        return CategoryResponseDto.from(category);
+        return categoryRegistry.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("카테고리", id));
     }
 
     /**
@@ -49,11 +67,9 @@ public class CategoryService {
      * @param name 카테고리명
      * @return 카테고리 응답 DTO
      */
-    @Transactional(readOnly = true)
     public CategoryResponseDto findByName(String name) {
-        Category category = categoryRepository.findByName(name)
+        return categoryRegistry.findByName(name)
                 .orElseThrow(() -> new ResourceNotFoundException("카테고리", "name", name));
-        return CategoryResponseDto.from(category);
     }
 
     /**
@@ -76,6 +92,7 @@ public class CategoryService {
 
         Category savedCategory = categoryRepository.save(category);
         log.info("카테고리 생성 성공: categoryId={}, name={}", savedCategory.getId(), savedCategory.getName());
+        AfterCommit.run(this::categoriesChanged);
 
         return savedCategory.getId();
     }
@@ -99,6 +116,7 @@ public class CategoryService {
 
         category.update(requestDto.getName(), requestDto.getDescription(), requestDto.getDisplayOrder());
         log.info("카테고리 수정 성공: categoryId={}", id);
+        AfterCommit.run(this::categoriesChanged);
 
         return id;
     }
@@ -111,7 +129,16 @@ public class CategoryService {
     public void delete(Long id) {
         Category category = findCategoryById(id);
         categoryRepository.delete(category);
+        // 소속 게시글은 카테고리 없음으로 바뀌므로 (ON DELETE SET NULL) 카테고리별 목록도 변경
+        collectionVersions.bump(CollectionVersions.postsByCategory(id));
         log.info("카테고리 삭제 성공: categoryId={}", id);
+        AfterCommit.run(this::categoriesChanged);
+    }
+
+    private void categoriesChanged() {
+        categoryRegistry.refresh();
+        collectionVersions.increment(CollectionVersions.CATEGORIES);
+        categoryChangeNotifier.publishChanged();
     }
 
     private Category findCategoryById(Long id) {
@@ -1,16 +1,26 @@
 package com.kraft.service;
 
+import com.kraft.common.transaction.AfterCommit;
 import com.kraft.config.auth.dto.SessionUser;
 import com.kraft.domain.comment.Comment;
+import com.kraft.domain.comment.CommentLink;
 import com.kraft.domain.comment.CommentRepository;
+import com.kraft.domain.comment.CommentRow;
+import com.kraft.domain.comment.CommentThreadVersion;
 import com.kraft.domain.post.Post;
 import com.kraft.domain.post.PostRepository;
 import com.kraft.domain.user.User;
 import com.kraft.domain.user.UserRepository;
+import com.kraft.service.comment.CommentTreeAssembler;
+import com.kraft.service.pagination.PageCountCache;
+import com.kraft.service.version.CollectionVersions;
 import com.kraft.web.dto.comment.CommentResponseDto;
 import com.kraft.web.dto.comment.CommentSaveRequestDto;
 import com.kraft.web.dto.comment.CommentUpdateRequestDto;
 import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.PageResponse.TotalMode;
+import com.kraft.web.dto.common.ResourceVersion;
+import com.kraft.common.concurrent.Coalesced;
 import com.kraft.common.exception.ResourceNotFoundException;
 import com.kraft.common.exception.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
@@ -18,11 +28,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -33,6 +49,8 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PageCountCache pageCountCache;
+    private final CollectionVersions collectionVersions;
 
     /**
      * 댓글 작성
@@ -53,6 +71,9 @@ public class CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        postRepository.adjustCommentCount(postId, 1);
+        AfterCommit.run(() -> pageCountCache.adjust(PageCountCache.parentComments(postId), 1));
+        collectionVersions.bump(CollectionVersions.POST_STATS);
 
         log.info("댓글 작성 성공: commentId={}, postId={}, authorId={}",
                 savedComment.getId(), postId, author.getId());
@@ -70,7 +91,6 @@ public class CommentService {
      */
     @Transactional
     public Long saveReply(Long postId, Long parentId, CommentSaveRequestDto requestDto, SessionUser sessionUser) {
-        Post post = findPostById(postId);
         Comment parentComment = findCommentById(parentId);
         User author = findUserById(sessionUser.id());
 
@@ -78,6 +98,10 @@ public class CommentService {
         if (!parentComment.getPost().getId().equals(postId)) {
             throw new IllegalArgumentException("해당 게시글의 댓글이 아닙니다");
         }
+        // 삭제된 게시글의 댓글도 PurgeJob이 정리하기 전까지 남아 있으므로 게시글이 살아 있는지 따로 확인
+        ensurePostExists(postId);
+        // 외래키 설정용 참조만 사용 (게시글 조회 생략)
+        Post post = postRepository.getReferenceById(postId);
 
         Comment reply = Comment.builder()
                 .content(requestDto.getContent())
@@ -88,6 +112,9 @@ public class CommentService {
 
         parentComment.addReply(reply);
         Comment savedReply = commentRepository.save(reply);
+        postRepository.adjustCommentCount(postId, 1);
+        commentRepository.adjustReplyCount(parentId, 1);
+        collectionVersions.bump(CollectionVersions.POST_STATS);
 
         log.info("답글 작성 성공: replyId={}, parentId={}, postId={}",
                 savedReply.getId(), parentId, postId);
@@ -131,16 +158,63 @@ public class CommentService {
             throw new UnauthorizedException("댓글 작성자만 삭제할 수 있습니다");
         }
 
+        // 연쇄 삭제되는 하위 답글까지 포함한 삭제 건수
+        long removed = countSubtree(commentId);
+        Long postId = comment.getPost().getId();
+
         commentRepository.delete(comment);
+        postRepository.adjustCommentCount(postId, -removed);
+        if (comment.isReply()) {
+            commentRepository.adjustReplyCount(comment.getParent().getId(), -1);
+        } else {
+            AfterCommit.run(() -> pageCountCache.adjust(PageCountCache.parentComments(postId), -1));
+        }
+        collectionVersions.bump(CollectionVersions.POST_STATS);
 
         log.info("댓글 삭제 성공: commentId={}", commentId);
     }
 
+    /**
+     * 댓글 한 청크를 조회에서 제외 (행 삭제는 PurgeJob이 수행)
+     * - PurgeJob이 탈퇴 회원의 댓글, 숨긴 댓글의 하위 답글 순으로 청크 크기만큼 조회해 호출
+     * - 숨긴 댓글이 있던 게시글의 댓글 수와 부모 댓글의 답글 수를 다시 계산
+     * @param comments 숨길 댓글
+     * @param now 숨김 시각
+     * @return 숨긴 댓글 수
+     */
+    @Transactional
+    public int hideComments(List<CommentLink> comments, LocalDateTime now) {
+        if (comments.isEmpty()) {
+            return 0;
+        }
+        Set<Long> hiddenIds = new HashSet<>();
+        comments.forEach(comment -> hiddenIds.add(comment.id()));
+        Set<Long> postIds = new TreeSet<>();
+        Set<Long> parentIds = new TreeSet<>();
+        for (CommentLink comment : comments) {
+            postIds.add(comment.postId());
+            if (comment.parentId() != null && !hiddenIds.contains(comment.parentId())) {
+                parentIds.add(comment.parentId());
+            }
+        }
+        int hidden = commentRepository.hideAll(hiddenIds, now);
+        // 게시글/부모 ID 순으로 갱신해 동시 댓글 작성과의 잠금 순서를 일정하게 유지
+        postRepository.recountComments(postIds);
+        if (!parentIds.isEmpty()) {
+            commentRepository.recountReplies(parentIds);
+        }
+        AfterCommit.run(() ->
+                postIds.forEach(postId -> pageCountCache.invalidate(PageCountCache.parentComments(postId))));
+        collectionVersions.bump(CollectionVersions.POST_STATS);
+        return hidden;
+    }
+
     /**
      * 특정 게시글의 댓글 목록 조회
      * @param postId 게시글 ID
      * @return 댓글 목록
      */
+    @Coalesced
     @Transactional(readOnly = true)
     public List<CommentResponseDto> findByPostId(Long postId) {
         // 게시글 존재 확인
@@ -156,6 +230,7 @@ public class CommentService {
      * @param postId 게시글 ID
      * @return 부모 댓글 목록
      */
+    @Coalesced
     @Transactional(readOnly = true)
     public List<CommentResponseDto> findParentCommentsByPostId(Long postId) {
         findPostById(postId);
@@ -172,15 +247,51 @@ public class CommentService {
      * @param size 페이지 크기
      * @return 부모 댓글 페이지
      */
+    @Coalesced
     @Transactional(readOnly = true)
     public PageResponse<CommentResponseDto> findParentCommentsWithPagination(
             Long postId,
             int page,
             int size
+    ) {
+        return findParentCommentsWithPagination(postId, page, size, TotalMode.EXACT);
+    }
+
+    /**
+     * 특정 게시글의 부모 댓글 페이징 조회 (전체 건수 산출 방식 지정)
+     * @param postId 게시글 ID
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @param totalMode 전체 건수 산출 방식
+     * @return 부모 댓글 페이지
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public PageResponse<CommentResponseDto> findParentCommentsWithPagination(
+            Long postId,
+            int page,
+            int size,
+            TotalMode totalMode
     ) {
         findPostById(postId);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "id"));
+
+        if (totalMode != TotalMode.EXACT) {
+            Slice<Comment> commentSlice = commentRepository.findParentCommentsSliceByPostId(postId, pageable);
+            List<CommentResponseDto> content = commentSlice.getContent().stream()
+                    .map(CommentResponseDto::from)
+                    .collect(Collectors.toList());
+
+            if (totalMode == TotalMode.NONE) {
+                return PageResponse.ofSlice(content, page, size, commentSlice.hasNext());
+            }
+
+            long cachedTotal = pageCountCache.get(PageCountCache.parentComments(postId),
+                    () -> commentRepository.countByPostIdAndParentIsNull(postId));
+            return PageResponse.ofCached(content, page, size, commentSlice.hasNext(), cachedTotal);
+        }
+
         Page<Comment> commentPage = commentRepository.findParentCommentsByPostId(postId, pageable);
 
         List<CommentResponseDto> content = commentPage.getContent().stream()
@@ -199,11 +310,52 @@ public class CommentService {
         );
     }
 
+    /**
+     * 특정 게시글의 전체 댓글 트리 조회
+     * - 게시글 존재 확인 1회 + 댓글 프로젝션 조회 1회로 끝나며 replies 컬렉션을 로딩하지 않음
+     * - 답글 수는 조회 결과에서 집계하고 트리는 메모리에서 O(n)으로 조립
+     * @param postId 게시글 ID
+     * @return 부모 댓글 목록 (replies에 하위 답글이 중첩됨)
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public List<CommentResponseDto> findCommentTree(Long postId) {
+        ensurePostExists(postId);
+        return CommentTreeAssembler.assemble(commentRepository.findRowsByPostId(postId));
+    }
+
+    /**
+     * 특정 게시글의 부모 댓글 페이지와 그 하위 답글 트리 조회
+     * - 부모 댓글 Slice 조회 후 답글은 깊이 단위로 IN 조회 (답글 깊이 d에 대해 d + 1회)
+     * @param postId 게시글 ID
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 부모 댓글 페이지 (replies에 하위 답글이 중첩됨)
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public PageResponse<CommentResponseDto> findCommentTreePage(Long postId, int page, int size) {
+        ensurePostExists(postId);
+
+        Slice<CommentRow> parents = commentRepository.findParentRowsByPostId(postId, PageRequest.of(page, size));
+        List<CommentRow> rows = new ArrayList<>(parents.getContent());
+
+        List<Long> levelIds = parents.getContent().stream().map(CommentRow::id).toList();
+        while (!levelIds.isEmpty()) {
+            List<CommentRow> replies = commentRepository.findReplyRowsByParentIds(levelIds);
+            rows.addAll(replies);
+            levelIds = replies.stream().map(CommentRow::id).toList();
+        }
+
+        return PageResponse.ofSlice(CommentTreeAssembler.assemble(rows), page, size, parents.hasNext());
+    }
+
     /**
      * 특정 댓글의 답글 목록 조회
      * @param parentId 부모 댓글 ID
      * @return 답글 목록
      */
+    @Coalesced
     @Transactional(readOnly = true)
     public List<CommentResponseDto> findRepliesByParentId(Long parentId) {
         // 부모 댓글 존재 확인
@@ -219,6 +371,7 @@ public class CommentService {
      * @param authorId 작성자 ID
      * @return 댓글 목록
      */
+    @Coalesced
     @Transactional(readOnly = true)
     public List<CommentResponseDto> findByAuthorId(Long authorId) {
         return commentRepository.findByAuthorIdWithPost(authorId).stream()
@@ -227,13 +380,43 @@ public class CommentService {
     }
 
     /**
-     * 게시글의 댓글 수 조회
+     * 게시글의 댓글 수 조회 (비정규화 컬럼, 답글 포함)
      * @param postId 게시글 ID
      * @return 댓글 수
      */
+    @Coalesced
     @Transactional(readOnly = true)
     public long countByPostId(Long postId) {
-        return commentRepository.countByPostId(postId);
+        return postRepository.findCommentCountById(postId).orElse(0L);
+    }
+
+    /**
+     * 게시글 댓글 스레드(목록/트리/페이지)의 조건부 조회 검증자
+     * - 게시글 존재 확인 + 인덱스만 읽는 집계 1회로 끝나며 댓글과 작성자를 로딩하지 않음
+     * - 삭제는 수정 시각을 바꾸지 않으므로 댓글 수를 ETag에 포함
+     *   (If-None-Match가 있으면 ETag로만 판단하므로 Last-Modified만 보내는 클라이언트는 삭제를 놓칠 수 있음)
+     * @param postId 게시글 ID
+     * @return 댓글 수 + 최근 수정 시각 기반 검증자
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public ResourceVersion findThreadVersion(Long postId) {
+        ensurePostExists(postId);
+        CommentThreadVersion version = commentRepository.findThreadVersion(postId);
+        return ResourceVersion.of(version.lastModified(), "c" + postId, version.count(), version.lastModified());
+    }
+
+    /**
+     * 댓글과 모든 하위 답글 수 (깊이 단위 ID 조회, 엔티티 로딩 없음)
+     */
+    private long countSubtree(Long commentId) {
+        long count = 1;
+        List<Long> levelIds = List.of(commentId);
+        while (!levelIds.isEmpty()) {
+            levelIds = commentRepository.findIdsByParentIdIn(levelIds);
+            count += levelIds.size();
+        }
+        return count;
     }
 
     private Comment findCommentById(Long commentId) {
@@ -241,6 +424,12 @@ public class CommentService {
                 .orElseThrow(() -> new ResourceNotFoundException("댓글", commentId));
     }
 
+    private void ensurePostExists(Long postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new ResourceNotFoundException("게시글", postId);
+        }
+    }
+
     private Post findPostById(Long postId) {
         return postRepository.findById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("게시글", postId));
@@ -248,6 +437,7 @@ public class CommentService {
 
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
+                .filter(user -> !user.isDeleted())
                 .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
     }
 }
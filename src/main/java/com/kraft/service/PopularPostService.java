@@ -0,0 +1,168 @@
+package com.kraft.service;
+
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
+import com.kraft.service.pagination.PageCountCache;
+import com.kraft.service.ranking.PostRanking;
+import com.kraft.service.ranking.RankingType;
+import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.PageResponse.TotalMode;
+import com.kraft.web.dto.post.PostsListResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 인기/트렌딩 게시글 조회
+ * - PostRanking의 상위 K 순위표에서 게시글 ID를 꺼내고, 해당 K건만 posts에서 조회
+ * - 누적 조회수 순위표는 재적재 주기마다 DB 상위 K건으로 보정
+ * - 순위표 범위를 넘는 깊은 페이지는 기존 SQL 정렬 조회로 처리
+ * - 전체 건수: CACHED는 PageCountCache의 증감 유지 값, EXACT는 요청마다 COUNT 쿼리
+ *   (인기순 API의 기본값은 CACHED라 기본 요청은 COUNT를 실행하지 않음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PopularPostService {
+
+    private final PostRepository postRepository;
+    private final PostService postService;
+    private final PostRanking postRanking;
+    private final PageCountCache pageCountCache;
+
+    /**
+     * 인기 게시글 조회 (누적 조회수 기준)
+     * @param categoryId 카테고리 ID (전체면 null)
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @param totalMode 전체 건수 산출 방식
+     * @return 인기 게시글 페이지
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<PostsListResponseDto> findPopularPosts(Long categoryId, int page, int size, TotalMode totalMode) {
+        seedIfNeeded(categoryId);
+
+        long end = ((long) page + 1) * size;
+        if (end >= postRanking.size(RankingType.ALL_TIME, categoryId)) {
+            log.debug("인기 게시글 순위표 범위 초과, SQL 조회: categoryId={}, page={}", categoryId, page);
+            return findPopularFromDatabase(categoryId, page, size, totalMode);
+        }
+
+        List<Long> ranked = postRanking.top(RankingType.ALL_TIME, categoryId, (int) end);
+        List<PostsListResponseDto> content = hydrate(ranked.subList(page * size, ranked.size()));
+
+        // 순위표에 이 페이지 뒤의 게시글이 남아 있으므로 다음 페이지가 항상 존재
+        return switch (totalMode) {
+            case NONE -> PageResponse.ofSlice(content, page, size, true);
+            case CACHED -> PageResponse.ofCached(content, page, size, true,
+                    pageCountCache.get(countKey(categoryId), countQuery(categoryId)));
+            case EXACT -> exactPage(content, page, size, categoryId);
+        };
+    }
+
+    /**
+     * 트렌딩 게시글 조회 (반감기 기반 감쇠 조회수 기준)
+     * 순위표에 들어 있는 게시글만 대상이며 전체 건수도 순위표 크기
+     * @param categoryId 카테고리 ID (전체면 null)
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 트렌딩 게시글 페이지
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<PostsListResponseDto> findTrendingPosts(Long categoryId, int page, int size) {
+        int total = postRanking.size(RankingType.TRENDING, categoryId);
+        long from = (long) page * size;
+        List<PostsListResponseDto> content = List.of();
+        if (from < total) {
+            List<Long> ranked = postRanking.top(RankingType.TRENDING, categoryId, (int) Math.min(total, from + size));
+            content = hydrate(ranked.subList((int) Math.min(from, ranked.size()), ranked.size()));
+        }
+        return PageResponse.of(content, page, size, total, (total + size - 1) / size);
+    }
+
+    private void seedIfNeeded(Long categoryId) {
+        if (!postRanking.tryAcquireSeed(categoryId)) {
+            return;
+        }
+
+        Pageable top = PageRequest.of(0, postRanking.capacity());
+        Slice<PostSummary> rows = categoryId == null
+                ? postRepository.findPopularSummarySlice(top)
+                : postRepository.findPopularSummarySliceByCategoryId(categoryId, top);
+
+        Map<Long, Long> viewCounts = new LinkedHashMap<>();
+        rows.forEach(row -> viewCounts.put(row.id(), row.viewCount()));
+        postRanking.seedAllTime(categoryId, viewCounts);
+        log.info("인기 게시글 순위표 재적재: categoryId={}, posts={}", categoryId, viewCounts.size());
+    }
+
+    private PageResponse<PostsListResponseDto> findPopularFromDatabase(
+            Long categoryId, int page, int size, TotalMode totalMode
+    ) {
+        if (categoryId == null) {
+            return postService.findPopularPosts(page, size, totalMode);
+        }
+
+        Slice<PostSummary> slice =
+                postRepository.findPopularSummarySliceByCategoryId(categoryId, PageRequest.of(page, size));
+        List<PostsListResponseDto> content = slice.getContent().stream()
+                .map(PostsListResponseDto::from)
+                .collect(Collectors.toList());
+
+        return switch (totalMode) {
+            case NONE -> PageResponse.ofSlice(content, page, size, slice.hasNext());
+            case CACHED -> PageResponse.ofCached(content, page, size, slice.hasNext(),
+                    pageCountCache.get(countKey(categoryId), countQuery(categoryId)));
+            case EXACT -> exactPage(content, page, size, categoryId);
+        };
+    }
+
+    /**
+     * COUNT 쿼리로 센 전체 건수로 페이지 응답 생성
+     * - PageCountCache 값은 이 노드의 증감만 반영된 근사치이므로 EXACT로 표시하지 않음
+     */
+    private PageResponse<PostsListResponseDto> exactPage(
+            List<PostsListResponseDto> content, int page, int size, Long categoryId
+    ) {
+        long total = countQuery(categoryId).getAsLong();
+        return PageResponse.of(content, page, size, total, (int) ((total + size - 1) / size));
+    }
+
+    /**
+     * 순위순 게시글 ID를 목록 프로젝션으로 조회 (삭제된 게시글은 제외)
+     */
+    private List<PostsListResponseDto> hydrate(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .map(PostsListResponseDto::from)
+                .collect(Collectors.toList());
+    }
+
+    private static String countKey(Long categoryId) {
+        return categoryId == null ? PageCountCache.POSTS : PageCountCache.postsByCategory(categoryId);
+    }
+
+    private LongSupplier countQuery(Long categoryId) {
+        return categoryId == null
+                ? postRepository::count
+                : () -> postRepository.countByCategoryId(categoryId);
+    }
+}
@@ -1,13 +1,37 @@
 package com.kraft.service;
 
+import com.kraft.common.concurrent.Coalesced;
+import com.kraft.common.jdbc.Bulkhead;
+import com.kraft.common.jdbc.UseBulkhead;
+import com.kraft.common.transaction.AfterCommit;
 import com.kraft.config.auth.dto.SessionUser;
+import com.kraft.config.datasource.ReadYourWrites;
+import com.kraft.domain.category.Category;
+import com.kraft.domain.category.CategoryRepository;
 import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostLink;
 import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
 import com.kraft.domain.user.User;
 import com.kraft.domain.user.UserRepository;
+import com.kraft.service.pagination.PageCountCache;
+import com.kraft.service.postcache.CachedPost;
+import com.kraft.service.postcache.PostDetailCache;
+import com.kraft.service.ranking.PostRanking;
+import com.kraft.service.search.PostSearchIndex;
+import com.kraft.service.search.SearchOperator;
+import com.kraft.service.search.SearchResult;
+import com.kraft.service.suggest.PostSuggestIndex;
+import com.kraft.service.version.CollectionVersions;
+import com.kraft.service.viewcount.ViewCountBuffer;
+import com.kraft.web.dto.common.Cursor;
+import com.kraft.web.dto.common.CursorPageResponse;
 import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.PageResponse.TotalMode;
+import com.kraft.web.dto.common.ResourceVersion;
 import com.kraft.web.dto.post.PostResponseDto;
 import com.kraft.web.dto.post.PostSaveRequestDto;
+import com.kraft.web.dto.post.PostSuggestResponseDto;
 import com.kraft.web.dto.post.PostUpdateRequestDto;
 import com.kraft.web.dto.post.PostsListResponseDto;
 import com.kraft.common.exception.ResourceNotFoundException;
@@ -16,12 +40,23 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -30,6 +65,14 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PageCountCache pageCountCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostSuggestIndex postSuggestIndex;
+    private final PostRanking postRanking;
+    private final PostDetailCache postDetailCache;
+    private final CollectionVersions collectionVersions;
 
     @Transactional
     public Long save(PostSaveRequestDto requestDto, SessionUser sessionUser) {
@@ -38,53 +81,237 @@ public class PostService {
 
         author.addPost(post);
         Post savedPost = postRepository.save(post);
+        adjustPageCounts(categoryIdOf(savedPost), 1);
+        bumpListVersions(categoryIdOf(savedPost));
+        postSearchIndex.index(savedPost.getId(), savedPost.getTitle(), savedPost.getContent());
+        postSuggestIndex.put(savedPost.getId(), savedPost.getTitle(), savedPost.getViewCount());
 
         log.info("게시글 작성 성공: postId={}, authorId={}", savedPost.getId(), author.getId());
         return savedPost.getId();
     }
 
+    /**
+     * 게시글 수정
+     * - 카테고리를 바꾸면 이전/새 카테고리의 건수 캐시와 목록 버전을 함께 갱신 (전체 건수는 그대로)
+     */
     @Transactional
     public Long update(Long id, PostUpdateRequestDto requestDto) {
         Post post = findPostById(id);
         post.update(requestDto.getTitle(), requestDto.getContent());
+        Long previousCategoryId = categoryIdOf(post);
+        Long categoryId = requestDto.getCategoryId();
+        if (categoryId != null && !categoryId.equals(previousCategoryId)) {
+            moveCategory(post, previousCategoryId, findCategoryById(categoryId));
+        }
+        postSearchIndex.index(id, post.getTitle(), post.getContent());
+        postSuggestIndex.put(id, post.getTitle(), post.getViewCount());
+        postDetailCache.invalidate(id);
+        bumpListVersions(categoryIdOf(post));
 
         log.info("게시글 수정 성공: postId={}", id);
         return id;
     }
 
+    /**
+     * 게시글 삭제
+     * - 삭제 시각만 기록하고 즉시 반환 (이후 모든 조회에서 제외)
+     * - 댓글과 게시글 행은 PurgeJob이 청크 단위로 정리
+     */
     @Transactional
     public void delete(Long id) {
         Post post = findPostById(id);
-        postRepository.delete(post);
+        post.softDelete(LocalDateTime.now());
+        evictHiddenPost(id, categoryIdOf(post));
+        bumpListVersions(categoryIdOf(post));
 
         log.info("게시글 삭제 성공: postId={}", id);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 탈퇴 회원의 게시글 한 청크를 조회에서 제외 (행 삭제는 PurgeJob이 수행)
+     * - PurgeJob이 청크 트랜잭션 안에서 호출하므로 청크 크기만큼만 잠그고 정리
+     * @param posts 숨길 게시글 (PurgeJob이 청크 크기로 조회)
+     * @param now 삭제 시각
+     * @return 숨긴 게시글 수
+     */
+    @Transactional
+    public int hidePosts(List<PostLink> posts, LocalDateTime now) {
+        if (posts.isEmpty()) {
+            return 0;
+        }
+        int hidden = postRepository.hideAll(posts.stream().map(PostLink::id).toList(), now);
+
+        Set<String> changedLists = new HashSet<>();
+        changedLists.add(CollectionVersions.POSTS);
+        for (PostLink post : posts) {
+            evictHiddenPost(post.id(), post.categoryId());
+            if (post.categoryId() != null) {
+                changedLists.add(CollectionVersions.postsByCategory(post.categoryId()));
+            }
+        }
+        collectionVersions.bump(changedLists.toArray(String[]::new));
+        return hidden;
+    }
+
+    /**
+     * 게시글 카테고리 변경
+     * - 카테고리별 건수만 옮기고, 이전 카테고리 순위에서 제외 (새 카테고리 순위는 다음 조회부터 반영)
+     * - 새 카테고리 목록 버전은 호출한 쪽에서 증가
+     */
+    private void moveCategory(Post post, Long previousCategoryId, Category category) {
+        post.updateCategory(category);
+        Long postId = post.getId();
+        AfterCommit.run(() -> {
+            if (previousCategoryId != null) {
+                pageCountCache.adjust(PageCountCache.postsByCategory(previousCategoryId), -1);
+            }
+            pageCountCache.adjust(PageCountCache.postsByCategory(category.getId()), 1);
+        });
+        if (previousCategoryId != null) {
+            postRanking.remove(postId, previousCategoryId);
+            collectionVersions.bump(CollectionVersions.postsByCategory(previousCategoryId));
+        }
+    }
+
+    /**
+     * 조회에서 제외된 게시글을 캐시/메모리 인덱스에서 정리
+     * - 게시글 삭제와 탈퇴 회원 게시글 숨김에서 공통 사용 (목록 버전은 호출한 쪽에서 한 번에 증가)
+     * @param id 게시글 ID
+     * @param categoryId 카테고리 ID (없으면 null)
+     */
+    private void evictHiddenPost(Long id, Long categoryId) {
+        viewCountBuffer.discard(id);
+        adjustPageCounts(categoryId, -1);
+        AfterCommit.run(() -> pageCountCache.invalidate(PageCountCache.parentComments(id)));
+        postSearchIndex.remove(id);
+        postSuggestIndex.remove(id);
+        postRanking.remove(id, categoryId);
+        postDetailCache.invalidate(id);
+    }
+
+    /**
+     * 전체/카테고리 목록의 캐시된 전체 건수 증감
+     * - 커밋 후 반영: 롤백된 작성/삭제가 건수를 틀어지게 하지 않도록
+     */
+    private void adjustPageCounts(Long categoryId, long delta) {
+        AfterCommit.run(() -> {
+            pageCountCache.adjust(PageCountCache.POSTS, delta);
+            if (categoryId != null) {
+                pageCountCache.adjust(PageCountCache.postsByCategory(categoryId), delta);
+            }
+        });
+    }
+
+    /**
+     * 게시글 조회
+     * - PostDetailCache에서 읽고 미스일 때만 DB 조회 (적중 시 커넥션을 사용하지 않도록 트랜잭션 없이 실행)
+     */
+    @Coalesced
     public PostResponseDto findById(Long id) {
-        Post post = findPostById(id);
-        return PostResponseDto.from(post);
+        CachedPost post = postDetailCache.get(id, this::loadPostDetail);
+        return post.toResponse(viewCountBuffer.pending(id));
     }
 
     /**
      * 게시글 조회 (조회수 증가)
+     * - 증가분은 ViewCountBuffer에 기록되고 ViewCountFlusher가 일괄 반영하므로 DB에 쓰지 않음
+     * - 본문은 PostDetailCache에서 읽고 미스일 때만 DB 조회
+     * - 응답의 조회수는 DB 값에 대기 중인 증가분을 합산한 값
+     * - 합산한 조회수로 인기/트렌딩 순위표를 갱신
      * @param id 게시글 ID
      * @return 게시글 응답 DTO
      */
-    @Transactional
     public PostResponseDto findByIdAndIncrementView(Long id) {
-        Post post = findPostById(id);
-        post.incrementViewCount();
+        CachedPost post = postDetailCache.get(id, this::loadPostDetail);
+        return post.toResponse(recordView(id, post));
+    }
 
-        log.debug("게시글 조회수 증가: postId={}, viewCount={}", id, post.getViewCount());
-        return PostResponseDto.from(post);
+    /**
+     * 본문 없이 조회수만 증가 (조건부 조회에 304로 응답할 때도 조회로 집계)
+     * @param id 게시글 ID
+     */
+    public void incrementView(Long id) {
+        recordView(id, postDetailCache.get(id, this::loadPostDetail));
     }
 
-    @Transactional(readOnly = true)
-    public List<PostsListResponseDto> findAllDesc() {
-        return postRepository.findAllDesc().stream()
-                .map(PostsListResponseDto::from)
-                .collect(Collectors.toList());
+    /**
+     * 게시글 상세의 조건부 조회 검증자
+     * - 캐시 적중 시 PostDetailCache의 수정 시각으로 만들어 DB를 조회하지 않음
+     * - 캐시 미스 시 본문을 적재하지 않고 수정 시각만 조회 (304로 끝나면 본문이 필요 없음)
+     * - 응답의 조회수는 검증자에 포함하지 않음 (약한 ETag로 사용)
+     * @param id 게시글 ID
+     * @return 게시글 ID + 수정 시각 기반 검증자
+     */
+    public ResourceVersion findVersion(Long id) {
+        LocalDateTime updateAt = postDetailCache.getIfPresent(id)
+                .map(CachedPost::updateAt)
+                .orElseGet(() -> postRepository.findUpdateAtById(id)
+                        .orElseThrow(() -> new ResourceNotFoundException("게시글", id)));
+        return ResourceVersion.of(updateAt, "p" + id, updateAt);
+    }
+
+    /**
+     * 게시글 목록의 조건부 조회 검증자
+     * - 목록 버전 카운터(전체 또는 카테고리)와 댓글 수 카운터로 만들므로 DB를 조회하지 않음
+     * - 조회수 반영은 검증자를 바꾸지 않으므로 약한 ETag로 사용 (304 응답의 조회수는 다를 수 있음)
+     * @param categoryId 카테고리 ID (전체 목록이면 null)
+     * @param params 페이지 번호, 크기, 정렬 등 응답을 결정하는 요청 값 (페이지마다 따로 검증)
+     * @return 목록 버전 기반 검증자 (수정 시각 없음)
+     */
+    public ResourceVersion findListVersion(Long categoryId, Object... params) {
+        String collection = categoryId != null
+                ? CollectionVersions.postsByCategory(categoryId)
+                : CollectionVersions.POSTS;
+        long[] versions = collectionVersions.current(collection, CollectionVersions.POST_STATS);
+        Object[] parts = Stream.concat(Stream.<Object>of(collection, versions[0], versions[1]), Arrays.stream(params))
+                .toArray();
+        return ResourceVersion.of(null, parts);
+    }
+
+    /**
+     * 조회수 순서(인기순, 조회수 정렬) 목록의 조건부 조회 검증자
+     * - findListVersion에 순위 에포크(POST_RANKING)를 더함: 조회수 반영으로 순위가 바뀌면 ranking-epoch-ms 안에 검증자가 바뀜
+     * @param categoryId 카테고리 ID (전체 목록이면 null)
+     * @param params 페이지 번호, 크기, 정렬 등 응답을 결정하는 요청 값
+     * @return 목록 버전 + 순위 에포크 기반 검증자
+     */
+    public ResourceVersion findRankingListVersion(Long categoryId, Object... params) {
+        String collection = categoryId != null
+                ? CollectionVersions.postsByCategory(categoryId)
+                : CollectionVersions.POSTS;
+        long[] versions = collectionVersions.current(
+                collection, CollectionVersions.POST_STATS, CollectionVersions.POST_RANKING);
+        Object[] parts = Stream.concat(
+                        Stream.<Object>of(collection, versions[0], versions[1], "r", versions[2]), Arrays.stream(params))
+                .toArray();
+        return ResourceVersion.of(null, parts);
+    }
+
+    /**
+     * 전체 게시글 목록을 최신순으로 스트리밍
+     * <p>
+     * 목록을 메모리에 모으지 않고 한 건씩 consumer에 전달한다.
+     * 키셋(id &lt; 마지막 ID)으로 STREAM_FETCH_SIZE건씩 끊어 읽고, 페이지마다 짧은 읽기 트랜잭션으로 조회하므로
+     * 클라이언트가 느리게 받아도 트랜잭션과 커넥션을 응답 전송 내내 잡고 있지 않는다.
+     * (페이지 사이에 삭제된 글은 빠지고, 시작 이후 작성된 글은 포함하지 않음)
+     * @param consumer 게시글 목록 DTO를 받을 consumer
+     * @return 전달한 게시글 수
+     */
+    public long streamAllDesc(Consumer<PostsListResponseDto> consumer) {
+        Pageable chunk = PageRequest.ofSize(PostRepository.STREAM_FETCH_SIZE);
+        long lastId = Long.MAX_VALUE;
+        long count = 0;
+        while (true) {
+            List<PostSummary> summaries = postRepository.findNextPageDesc(lastId, chunk);
+            for (PostSummary summary : summaries) {
+                consumer.accept(PostsListResponseDto.from(summary));
+            }
+            count += summaries.size();
+            if (summaries.size() < chunk.getPageSize()) {
+                return count;
+            }
+            lastId = summaries.get(summaries.size() - 1).id();
+        }
     }
 
     /**
@@ -95,34 +322,52 @@ public class PostService {
      * @param direction 정렬 방향 (ASC, DESC)
      * @return 페이지네이션 응답
      */
+    @Coalesced
     @Transactional(readOnly = true)
     public PageResponse<PostsListResponseDto> findAllWithPagination(
             int page,
             int size,
             String sortBy,
             String direction
+    ) {
+        return findAllWithPagination(page, size, sortBy, direction, TotalMode.EXACT);
+    }
+
+    /**
+     * 페이지네이션으로 게시글 목록 조회 (전체 건수 산출 방식 지정)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @param sortBy 정렬 기준 (id, createAt, updateAt)
+     * @param direction 정렬 방향 (ASC, DESC)
+     * @param totalMode 전체 건수 산출 방식
+     * @return 페이지네이션 응답
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public PageResponse<PostsListResponseDto> findAllWithPagination(
+            int page,
+            int size,
+            String sortBy,
+            String direction,
+            TotalMode totalMode
     ) {
         Sort.Direction sortDirection = direction.equalsIgnoreCase("ASC")
                 ? Sort.Direction.ASC
                 : Sort.Direction.DESC;
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
-        Page<Post> postPage = postRepository.findAllWithAuthor(pageable);
 
-        List<PostsListResponseDto> content = postPage.getContent().stream()
-                .map(PostsListResponseDto::from)
-                .collect(Collectors.toList());
+        if (totalMode != TotalMode.EXACT) {
+            Slice<PostSummary> postSlice = postRepository.findSummarySlice(pageable);
+            return toPageResponse(postSlice, totalMode, PageCountCache.POSTS, postRepository::count);
+        }
+
+        Page<PostSummary> postPage = postRepository.findAllSummaries(pageable);
 
         log.debug("게시글 페이지 조회: page={}, size={}, totalElements={}",
                 page, size, postPage.getTotalElements());
 
-        return PageResponse.of(
-                content,
-                postPage.getNumber(),
-                postPage.getSize(),
-                postPage.getTotalElements(),
-                postPage.getTotalPages()
-        );
+        return toPageResponse(postPage);
     }
 
     /**
@@ -130,9 +375,10 @@ public class PostService {
      * @param authorId 작성자 ID
      * @return 게시글 목록
      */
+    @Coalesced
     @Transactional(readOnly = true)
     public List<PostsListResponseDto> findByAuthorId(Long authorId) {
-        return postRepository.findByAuthorId(authorId).stream()
+        return postRepository.findSummariesByAuthorId(authorId).stream()
                 .map(PostsListResponseDto::from)
                 .collect(Collectors.toList());
     }
@@ -144,25 +390,78 @@ public class PostService {
      * @param size 페이지 크기
      * @return 검색 결과 페이지
      */
+    @Coalesced
+    @UseBulkhead(Bulkhead.SEARCH)
     @Transactional(readOnly = true)
     public PageResponse<PostsListResponseDto> searchPosts(String keyword, int page, int size) {
+        return searchPosts(keyword, page, size, TotalMode.EXACT);
+    }
+
+    /**
+     * 제목 또는 내용으로 게시글 검색 (전체 건수 산출 방식 지정)
+     * @param keyword 검색 키워드
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @param totalMode 전체 건수 산출 방식
+     * @return 검색 결과 페이지
+     */
+    @Coalesced
+    @UseBulkhead(Bulkhead.SEARCH)
+    @Transactional(readOnly = true)
+    public PageResponse<PostsListResponseDto> searchPosts(String keyword, int page, int size, TotalMode totalMode) {
+        return searchPosts(keyword, page, size, totalMode, SearchOperator.AND);
+    }
+
+    /**
+     * 제목 또는 내용으로 게시글 검색
+     * - 검색 색인이 준비되어 있으면 역색인으로 점수순 상위 결과를 조회
+     *   (전체 건수도 색인에서 산출하고, 응답의 totalMode는 요청한 방식 그대로 표시)
+     * - 색인 구축 중이거나 바이그램이 없는 검색어면 SQL(LIKE)로 최신순 조회
+     * @param keyword 검색 키워드
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @param totalMode 전체 건수 산출 방식
+     * @param operator 검색어 바이그램 결합 방식 (색인 검색에만 적용)
+     * @return 검색 결과 페이지
+     */
+    @Coalesced
+    @UseBulkhead(Bulkhead.SEARCH)
+    @Transactional(readOnly = true)
+    public PageResponse<PostsListResponseDto> searchPosts(
+            String keyword, int page, int size, TotalMode totalMode, SearchOperator operator
+    ) {
+        if (postSearchIndex.canServe(keyword)) {
+            return searchWithIndex(keyword, page, size, totalMode, operator);
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
-        Page<Post> postPage = postRepository.searchByTitleOrContent(keyword, pageable);
 
-        List<PostsListResponseDto> content = postPage.getContent().stream()
-                .map(PostsListResponseDto::from)
-                .collect(Collectors.toList());
+        if (totalMode != TotalMode.EXACT) {
+            Slice<PostSummary> postSlice = postRepository.searchSummarySliceByTitleOrContent(keyword, pageable);
+            return toPageResponse(postSlice, totalMode, PageCountCache.postsSearch(keyword),
+                    () -> postRepository.countByTitleOrContent(keyword));
+        }
+
+        Page<PostSummary> postPage = postRepository.searchSummariesByTitleOrContent(keyword, pageable);
 
         log.debug("게시글 검색: keyword={}, page={}, totalElements={}",
                 keyword, page, postPage.getTotalElements());
 
-        return PageResponse.of(
-                content,
-                postPage.getNumber(),
-                postPage.getSize(),
-                postPage.getTotalElements(),
-                postPage.getTotalPages()
-        );
+        return toPageResponse(postPage);
+    }
+
+    /**
+     * 게시글 제목 자동완성
+     * - 인메모리 자동완성 색인에서 조회하며 DB에 접근하지 않음
+     * @param prefix 입력 중인 검색어
+     * @param size 최대 결과 수
+     * @return 조회수 순 자동완성 후보
+     */
+    public List<PostSuggestResponseDto> suggestTitles(String prefix, int size) {
+        int limit = Math.max(1, Math.min(size, PostSuggestIndex.MAX_SUGGESTIONS));
+        return postSuggestIndex.suggest(prefix, limit).stream()
+                .map(PostSuggestResponseDto::from)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -171,25 +470,35 @@ public class PostService {
      * @param size 페이지 크기
      * @return 인기 게시글 페이지
      */
+    @Coalesced
     @Transactional(readOnly = true)
     public PageResponse<PostsListResponseDto> findPopularPosts(int page, int size) {
+        return findPopularPosts(page, size, TotalMode.EXACT);
+    }
+
+    /**
+     * 인기 게시글 조회 (전체 건수 산출 방식 지정)
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @param totalMode 전체 건수 산출 방식
+     * @return 인기 게시글 페이지
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public PageResponse<PostsListResponseDto> findPopularPosts(int page, int size, TotalMode totalMode) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> postPage = postRepository.findPopularPosts(pageable);
 
-        List<PostsListResponseDto> content = postPage.getContent().stream()
-                .map(PostsListResponseDto::from)
-                .collect(Collectors.toList());
+        if (totalMode != TotalMode.EXACT) {
+            Slice<PostSummary> postSlice = postRepository.findPopularSummarySlice(pageable);
+            return toPageResponse(postSlice, totalMode, PageCountCache.POSTS, postRepository::count);
+        }
+
+        Page<PostSummary> postPage = postRepository.findPopularSummaries(pageable);
 
         log.debug("인기 게시글 조회: page={}, size={}, totalElements={}",
                 page, size, postPage.getTotalElements());
 
-        return PageResponse.of(
-                content,
-                postPage.getNumber(),
-                postPage.getSize(),
-                postPage.getTotalElements(),
-                postPage.getTotalPages()
-        );
+        return toPageResponse(postPage);
     }
 
     /**
@@ -199,18 +508,176 @@ public class PostService {
      * @param size 페이지 크기
      * @return 게시글 페이지
      */
+    @Coalesced
     @Transactional(readOnly = true)
     public PageResponse<PostsListResponseDto> findByCategoryId(Long categoryId, int page, int size) {
+        return findByCategoryId(categoryId, page, size, TotalMode.EXACT);
+    }
+
+    /**
+     * 카테고리별 게시글 조회 (전체 건수 산출 방식 지정)
+     * @param categoryId 카테고리 ID
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @param totalMode 전체 건수 산출 방식
+     * @return 게시글 페이지
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public PageResponse<PostsListResponseDto> findByCategoryId(
+            Long categoryId,
+            int page,
+            int size,
+            TotalMode totalMode
+    ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
-        Page<Post> postPage = postRepository.findByCategoryId(categoryId, pageable);
 
-        List<PostsListResponseDto> content = postPage.getContent().stream()
-                .map(PostsListResponseDto::from)
-                .collect(Collectors.toList());
+        if (totalMode != TotalMode.EXACT) {
+            Slice<PostSummary> postSlice = postRepository.findSummarySliceByCategoryId(categoryId, pageable);
+            return toPageResponse(postSlice, totalMode, PageCountCache.postsByCategory(categoryId),
+                    () -> postRepository.countByCategoryId(categoryId));
+        }
+
+        Page<PostSummary> postPage = postRepository.findSummariesByCategoryId(categoryId, pageable);
 
         log.debug("카테고리별 게시글 조회: categoryId={}, page={}, totalElements={}",
                 categoryId, page, postPage.getTotalElements());
 
+        return toPageResponse(postPage);
+    }
+
+    /**
+     * 커서 기반 게시글 목록 조회 (ID 정렬)
+     * 페이지 깊이와 무관하게 PK 범위 탐색 비용만 발생
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @param direction 정렬 방향 (ASC, DESC)
+     * @return 커서 페이지 응답
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostsListResponseDto> findAllWithCursor(String cursor, int size, String direction) {
+        boolean ascending = direction.equalsIgnoreCase("ASC");
+        Long lastId = lastIdOf(cursor, ascending);
+        Pageable limit = PageRequest.ofSize(size + 1);
+
+        List<PostSummary> posts = ascending
+                ? postRepository.findNextPageAsc(lastId, limit)
+                : postRepository.findNextPageDesc(lastId, limit);
+
+        log.debug("게시글 커서 조회: lastId={}, size={}, direction={}", lastId, size, direction);
+        return toCursorPage(posts, size);
+    }
+
+    /**
+     * 커서 기반 카테고리별 게시글 조회 (최신순)
+     * @param categoryId 카테고리 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 커서 페이지 응답
+     */
+    @Coalesced
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostsListResponseDto> findByCategoryIdWithCursor(Long categoryId, String cursor, int size) {
+        Long lastId = lastIdOf(cursor, false);
+        List<PostSummary> posts = postRepository.findByCategoryIdNextPage(categoryId, lastId, PageRequest.ofSize(size + 1));
+
+        log.debug("카테고리별 게시글 커서 조회: categoryId={}, lastId={}", categoryId, lastId);
+        return toCursorPage(posts, size);
+    }
+
+    /**
+     * 커서 기반 게시글 검색 (최신순)
+     * @param keyword 검색 키워드
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 커서 페이지 응답
+     */
+    @Coalesced
+    @UseBulkhead(Bulkhead.SEARCH)
+    @Transactional(readOnly = true)
+    public CursorPageResponse<PostsListResponseDto> searchPostsWithCursor(String keyword, String cursor, int size) {
+        Long lastId = lastIdOf(cursor, false);
+        List<PostSummary> posts = postRepository.searchByTitleOrContentNextPage(keyword, lastId, PageRequest.ofSize(size + 1));
+
+        log.debug("게시글 커서 검색: keyword={}, lastId={}", keyword, lastId);
+        return toCursorPage(posts, size);
+    }
+
+    private PageResponse<PostsListResponseDto> searchWithIndex(
+            String keyword, int page, int size, TotalMode totalMode, SearchOperator operator
+    ) {
+        int limit = (int) Math.min(Integer.MAX_VALUE, ((long) page + 1) * size);
+        SearchResult result = postSearchIndex.search(keyword, operator, limit);
+        List<Long> ids = result.pageIds(page, size);
+
+        Map<Long, PostSummary> summaries = ids.isEmpty() ? Map.of() :
+                postRepository.findSummariesByIdIn(ids).stream()
+                        .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        List<PostsListResponseDto> content = ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .map(PostsListResponseDto::from)
+                .collect(Collectors.toList());
+
+        log.debug("게시글 색인 검색: keyword={}, operator={}, page={}, totalHits={}",
+                keyword, operator, page, result.totalHits());
+
+        if (totalMode == TotalMode.NONE) {
+            return PageResponse.ofSlice(content, page, size, result.totalHits() > (long) (page + 1) * size);
+        }
+        if (totalMode == TotalMode.CACHED) {
+            return PageResponse.ofCached(content, page, size,
+                    result.totalHits() > (long) (page + 1) * size, result.totalHits());
+        }
+        int totalPages = (int) ((result.totalHits() + size - 1) / size);
+        return PageResponse.of(content, page, size, result.totalHits(), totalPages);
+    }
+
+    private void bumpListVersions(Long categoryId) {
+        if (categoryId != null) {
+            collectionVersions.bump(CollectionVersions.POSTS, CollectionVersions.postsByCategory(categoryId));
+        } else {
+            collectionVersions.bump(CollectionVersions.POSTS);
+        }
+    }
+
+    private Long categoryIdOf(Post post) {
+        return post.getCategory() != null ? post.getCategory().getId() : null;
+    }
+
+    private Long lastIdOf(String cursor, boolean ascending) {
+        Cursor decoded = Cursor.decode(cursor);
+        if (decoded == null) {
+            return ascending ? 0L : Long.MAX_VALUE;
+        }
+        return decoded.id();
+    }
+
+    /**
+     * size + 1건을 조회한 결과로 다음 페이지 존재 여부와 nextCursor 계산
+     */
+    private CursorPageResponse<PostsListResponseDto> toCursorPage(List<PostSummary> posts, int size) {
+        boolean hasNext = posts.size() > size;
+        List<PostSummary> page = hasNext ? posts.subList(0, size) : posts;
+
+        List<PostsListResponseDto> content = page.stream()
+                .map(PostsListResponseDto::from)
+                .collect(Collectors.toList());
+
+        Cursor nextCursor = null;
+        if (hasNext) {
+            Long lastId = page.get(page.size() - 1).id();
+            nextCursor = Cursor.of(lastId, lastId);
+        }
+        return CursorPageResponse.of(content, size, nextCursor);
+    }
+
+    private PageResponse<PostsListResponseDto> toPageResponse(Page<PostSummary> postPage) {
+        List<PostsListResponseDto> content = postPage.getContent().stream()
+                .map(PostsListResponseDto::from)
+                .collect(Collectors.toList());
+
         return PageResponse.of(
                 content,
                 postPage.getNumber(),
@@ -220,13 +687,66 @@ public class PostService {
         );
     }
 
+    /**
+     * Slice 결과를 응답으로 변환
+     * CACHED 모드는 PageCountCache의 건수를, NONE 모드는 전체 건수 없이 반환
+     */
+    private PageResponse<PostsListResponseDto> toPageResponse(
+            Slice<PostSummary> postSlice,
+            TotalMode totalMode,
+            String countKey,
+            LongSupplier countQuery
+    ) {
+        List<PostsListResponseDto> content = postSlice.getContent().stream()
+                .map(PostsListResponseDto::from)
+                .collect(Collectors.toList());
+
+        if (totalMode == TotalMode.NONE) {
+            return PageResponse.ofSlice(content, postSlice.getNumber(), postSlice.getSize(), postSlice.hasNext());
+        }
+
+        long cachedTotal = pageCountCache.get(countKey, countQuery);
+        return PageResponse.ofCached(
+                content,
+                postSlice.getNumber(),
+                postSlice.getSize(),
+                postSlice.hasNext(),
+                cachedTotal
+        );
+    }
+
     private Post findPostById(Long id) {
         return postRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("게시글", id));
     }
 
+    private long recordView(Long id, CachedPost post) {
+        long pendingViews = viewCountBuffer.increment(id);
+        postRanking.recordView(id, post.categoryId(), post.viewCount() + pendingViews);
+
+        log.debug("게시글 조회수 증가: postId={}, pendingViews={}", id, pendingViews);
+        return pendingViews;
+    }
+
+    /**
+     * PostDetailCache 미스 시 적재
+     * - 적재 결과는 L2에도 저장되므로 복제 지연된 replica가 아닌 primary에서 읽음
+     *   (수정 직후 무효화된 상세를 예전 본문으로 다시 캐시하지 않도록)
+     */
+    private CachedPost loadPostDetail(Long id) {
+        return ReadYourWrites.callOnPrimary(() -> postRepository.findByIdWithAuthor(id)
+                .map(CachedPost::from)
+                .orElseThrow(() -> new ResourceNotFoundException("게시글", id)));
+    }
+
+    private Category findCategoryById(Long categoryId) {
+        return categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ResourceNotFoundException("카테고리", categoryId));
+    }
+
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
+                .filter(user -> !user.isDeleted())
                 .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
     }
 }
@@ -13,6 +13,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -50,6 +52,7 @@ public class UserService {
     @Transactional(readOnly = true)
     public User findByName(String name) {
         return userRepository.findByName(name)
+                .filter(user -> !user.isDeleted())
                 .orElseThrow(() -> new ResourceNotFoundException("사용자", name));
     }
 
@@ -85,15 +88,21 @@ public class UserService {
         log.info("비밀번호 변경 성공: userId={}", userId);
     }
 
+    /**
+     * 회원 탈퇴
+     * - 탈퇴 시각만 기록하고 즉시 반환 (작성한 게시글/댓글 수와 무관)
+     * - 게시글/댓글 숨김과 행 삭제는 PurgeJob이 청크 단위로 정리
+     */
     @Transactional
     public void delete(Long userId) {
         User user = findById(userId);
-        userRepository.delete(user);
-        log.info("회원 탈퇴 성공: userId={}", userId);
+        user.softDelete(LocalDateTime.now());
+        log.info("회원 탈퇴 접수: userId={}", userId);
     }
 
     private User findById(Long userId) {
         return userRepository.findById(userId)
+                .filter(user -> !user.isDeleted())
                 .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
     }
 
@@ -0,0 +1,14 @@
+package com.kraft.service.category;
+
+/**
+ * 카테고리 변경을 다른 노드에 알림
+ * - kraft.category.sync=local(기본): 단일 노드, 알림 없음
+ * - kraft.category.sync=redis: Redis pub/sub으로 다른 노드의 {@link CategoryRegistry} 갱신
+ */
+public interface CategoryChangeNotifier {
+
+    /**
+     * 이 노드에서 커밋된 카테고리 변경 알림
+     */
+    void publishChanged();
+}
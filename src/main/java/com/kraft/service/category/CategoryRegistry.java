@@ -0,0 +1,95 @@
+package com.kraft.service.category;
+
+import com.kraft.config.datasource.ReadYourWrites;
+import com.kraft.domain.category.CategoryRepository;
+import com.kraft.web.dto.category.CategoryResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리 인메모리 레지스트리
+ * - 행이 몇 개뿐이고 거의 바뀌지 않으므로 전체를 불변 스냅샷으로 들고 있고 조회는 메모리에서만 처리
+ * - 이 노드의 변경: CategoryService가 커밋 후 {@link #refresh()} 호출
+ * - 다른 노드의 변경: {@link CategoryChangeNotifier}(Redis pub/sub)로 알림을 받아 {@link #refresh()}
+ * - 알림 유실에 대비해 주기적으로도 다시 읽음
+ */
+@Slf4j
+@Component
+public class CategoryRegistry {
+
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicReference<CategorySnapshot> snapshot = new AtomicReference<>();
+    // DB 읽기를 감싸므로 synchronized 대신 사용 (가상 스레드 캐리어 고정 방지)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    public CategoryRegistry(CategoryRepository categoryRepository, PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        // 읽기 전용 트랜잭션으로 읽어 READ bulkhead를 사용 (replica 라우팅은 refresh에서 primary로 고정)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * @return 정렬 순서(displayOrder, id)대로의 카테고리 목록 (불변)
+     */
+    public List<CategoryResponseDto> findAll() {
+        return current().ordered();
+    }
+
+    public Optional<CategoryResponseDto> findById(Long id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    public Optional<CategoryResponseDto> findByName(String name) {
+        return Optional.ofNullable(current().byName().get(name));
+    }
+
+    /**
+     * DB에서 다시 읽어 스냅샷 교체
+     * - 직렬화해서 실행하므로 커밋 전에 시작된 읽기가 커밋 후의 읽기 결과를 덮어쓰지 않음
+     * - replica는 복제 지연만큼 예전 값을 돌려줄 수 있으므로 primary에서 읽음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${kraft.category.refresh-interval-ms:300000}",
+            fixedDelayString = "${kraft.category.refresh-interval-ms:300000}"
+    )
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            CategorySnapshot loaded = ReadYourWrites.callOnPrimary(() -> transactionTemplate.execute(status ->
+                    CategorySnapshot.of(categoryRepository.findAllOrderByDisplayOrder())));
+            snapshot.set(loaded);
+            log.debug("카테고리 스냅샷 갱신: categories={}", loaded != null ? loaded.ordered().size() : 0);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private CategorySnapshot current() {
+        CategorySnapshot loaded = snapshot.get();
+        if (loaded != null) {
+            return loaded;
+        }
+        refreshLock.lock();
+        try {
+            if (snapshot.get() == null) {
+                refresh();
+            }
+            return snapshot.get();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.kraft.service.category;
+
+import com.kraft.domain.category.Category;
+import com.kraft.web.dto.category.CategoryResponseDto;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 전체의 불변 스냅샷
+ * - 조회는 잠금 없이 읽고, 변경 시에는 새 스냅샷을 만들어 통째로 교체
+ * @param ordered 정렬 순서(displayOrder, id)대로의 목록
+ */
+record CategorySnapshot(
+        List<CategoryResponseDto> ordered,
+        Map<Long, CategoryResponseDto> byId,
+        Map<String, CategoryResponseDto> byName
+) {
+
+    /**
+     * @param categories 정렬 순서대로 조회한 카테고리
+     */
+    static CategorySnapshot of(List<Category> categories) {
+        List<CategoryResponseDto> ordered = categories.stream().map(CategoryResponseDto::from).toList();
+        Map<Long, CategoryResponseDto> byId = new HashMap<>();
+        Map<String, CategoryResponseDto> byName = new HashMap<>();
+        for (CategoryResponseDto category : ordered) {
+            byId.put(category.id(), category);
+            byName.put(category.name(), category);
+        }
+        return new CategorySnapshot(ordered, Map.copyOf(byId), Map.copyOf(byName));
+    }
+}
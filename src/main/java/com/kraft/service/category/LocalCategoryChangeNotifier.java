@@ -0,0 +1,16 @@
+package com.kraft.service.category;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 - 알릴 다른 노드가 없음
+ */
+@Component
+@ConditionalOnProperty(name = "kraft.category.sync", havingValue = "local", matchIfMissing = true)
+public class LocalCategoryChangeNotifier implements CategoryChangeNotifier {
+
+    @Override
+    public void publishChanged() {
+    }
+}
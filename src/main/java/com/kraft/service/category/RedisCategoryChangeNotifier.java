@@ -0,0 +1,70 @@
+package com.kraft.service.category;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 기반 카테고리 변경 알림 (다중 노드용)
+ * - 메시지 본문은 보낸 노드의 식별자이며, 자기 메시지는 이미 갱신했으므로 무시
+ * - 알림은 "다시 읽으라"는 신호일 뿐이라 유실되어도 CategoryRegistry의 주기적 갱신으로 맞춰짐
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kraft.category.sync", havingValue = "redis")
+public class RedisCategoryChangeNotifier implements CategoryChangeNotifier, MessageListener {
+
+    static final String CHANNEL = "kraft:categories:changed";
+
+    private final StringRedisTemplate redisTemplate;
+    private final CategoryRegistry categoryRegistry;
+    private final RedisMessageListenerContainer container;
+    private final String nodeToken = UUID.randomUUID().toString();
+
+    public RedisCategoryChangeNotifier(
+            StringRedisTemplate redisTemplate,
+            RedisConnectionFactory connectionFactory,
+            CategoryRegistry categoryRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.categoryRegistry = categoryRegistry;
+        this.container = new RedisMessageListenerContainer();
+        this.container.setConnectionFactory(connectionFactory);
+        this.container.addMessageListener(this, new ChannelTopic(CHANNEL));
+        this.container.afterPropertiesSet();
+        this.container.start();
+    }
+
+    @Override
+    public void publishChanged() {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeToken);
+        } catch (RuntimeException e) {
+            // 다른 노드는 주기적 갱신으로 따라옴
+            log.warn("카테고리 변경 알림 실패", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (nodeToken.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+            return;
+        }
+        categoryRegistry.refresh();
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        container.destroy();
+    }
+}
@@ -0,0 +1,173 @@
+package com.kraft.service.comment;
+
+import com.kraft.common.jdbc.Bulkhead;
+import com.kraft.common.jdbc.UseBulkhead;
+import com.kraft.service.version.CollectionVersions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 비정규화 댓글 수 보정 작업
+ * - posts.comment_count, comments.reply_count 를 숨겨지지 않은 댓글의 실제 COUNT(*)와 비교해 어긋난 행만 갱신
+ * - 실제 존재하는 ID를 chunk-size개씩 키셋으로 끊어 청크마다 별도 트랜잭션으로 실행 (행 잠금 시간 제한)
+ *   (Snowflake ID는 값 사이가 매우 넓으므로 0부터 MAX(id)까지 숫자 범위로 나누지 않음)
+ * - 한 주기에 max-chunks-per-run개 청크만 처리하고 키셋 커서를 기억해 다음 주기에 이어서 진행
+ *   (게시글 → 댓글 순으로 끝까지 보정하면 처음부터 다시 시작, 스케줄러 스레드 점유 시간 제한)
+ * - 보정된 행 수를 메트릭으로 노출해 드리프트 발생 여부를 관측
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kraft.comment-count.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+@UseBulkhead(Bulkhead.BATCH)
+public class CommentCountReconciler {
+
+    // lastId 다음부터 chunk-size개 행의 마지막 ID (남은 행이 없으면 NULL)
+    private static final String POST_CHUNK_END_SQL =
+            "SELECT MAX(id) FROM (SELECT id FROM posts WHERE id > ? ORDER BY id LIMIT ?) chunk";
+    private static final String COMMENT_CHUNK_END_SQL =
+            "SELECT MAX(id) FROM (SELECT id FROM comments WHERE id > ? ORDER BY id LIMIT ?) chunk";
+
+    private static final String RECONCILE_POSTS_SQL = """
+            UPDATE posts
+            SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = posts.id AND c.deleted_at IS NULL)
+            WHERE id > ? AND id <= ?
+              AND comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.post_id = posts.id AND c.deleted_at IS NULL)
+            """;
+
+    private static final String RECONCILE_COMMENTS_SQL = """
+            UPDATE comments
+            SET reply_count = (SELECT COUNT(*) FROM comments r WHERE r.parent_id = comments.id AND r.deleted_at IS NULL)
+            WHERE id > ? AND id <= ?
+              AND reply_count <> (SELECT COUNT(*) FROM comments r WHERE r.parent_id = comments.id AND r.deleted_at IS NULL)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CollectionVersions collectionVersions;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Counter repairedPosts;
+    private final Counter repairedComments;
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+
+    // 다음 주기에 이어서 보정할 위치 (reconcileLock 안에서만 접근)
+    private boolean reconcilingComments;
+    private long cursor;
+
+    public CommentCountReconciler(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            CollectionVersions collectionVersions,
+            MeterRegistry meterRegistry,
+            @Value("${kraft.comment-count.reconcile.chunk-size:1000}") int chunkSize,
+            @Value("${kraft.comment-count.reconcile.max-chunks-per-run:100}") int maxChunksPerRun
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk-size는 1 이상이어야 합니다: " + chunkSize);
+        }
+        if (maxChunksPerRun <= 0) {
+            throw new IllegalArgumentException("max-chunks-per-run은 1 이상이어야 합니다: " + maxChunksPerRun);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.collectionVersions = collectionVersions;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.repairedPosts = Counter.builder("kraft.comment-count.repaired")
+                .tag("column", "posts.comment_count")
+                .description("보정된 게시글 댓글 수 행 수")
+                .register(meterRegistry);
+        this.repairedComments = Counter.builder("kraft.comment-count.repaired")
+                .tag("column", "comments.reply_count")
+                .description("보정된 댓글 답글 수 행 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${kraft.comment-count.reconcile.interval-ms:3600000}",
+            fixedDelayString = "${kraft.comment-count.reconcile.interval-ms:3600000}"
+    )
+    public void reconcile() {
+        if (!reconcileLock.tryLock()) {
+            return;
+        }
+        try {
+            Budget budget = new Budget(maxChunksPerRun);
+            long posts = 0;
+            long comments = 0;
+            if (!reconcilingComments) {
+                posts = reconcileInChunks(POST_CHUNK_END_SQL, RECONCILE_POSTS_SQL, budget);
+                reconcilingComments = cursor == 0;
+            }
+            if (reconcilingComments && budget.hasRemaining()) {
+                comments = reconcileInChunks(COMMENT_CHUNK_END_SQL, RECONCILE_COMMENTS_SQL, budget);
+                reconcilingComments = cursor != 0;
+            }
+            repairedPosts.increment(posts);
+            repairedComments.increment(comments);
+            if (posts > 0) {
+                collectionVersions.increment(CollectionVersions.POST_STATS);
+            }
+
+            if (posts > 0 || comments > 0) {
+                log.warn("댓글 수 드리프트 보정: posts={}, comments={}", posts, comments);
+            } else {
+                log.debug("댓글 수 보정 완료: 드리프트 없음");
+            }
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    /**
+     * 커서 다음 청크부터 예산이 남는 동안 보정
+     * - 테이블 끝에 도달하면 커서를 0으로 되돌리고, 예산이 먼저 떨어지면 다음 주기를 위해 커서를 남김
+     */
+    private long reconcileInChunks(String chunkEndSql, String reconcileSql, Budget budget) {
+        long repaired = 0;
+        while (budget.hasRemaining()) {
+            Long chunkEnd = jdbcTemplate.queryForObject(chunkEndSql, Long.class, cursor, chunkSize);
+            if (chunkEnd == null) {
+                cursor = 0;
+                break;
+            }
+            long lower = cursor;
+            long upper = chunkEnd;
+            Integer updated = transactionTemplate.execute(status ->
+                    jdbcTemplate.update(reconcileSql, lower, upper));
+            repaired += updated != null ? updated : 0;
+            cursor = upper;
+            budget.consume();
+        }
+        return repaired;
+    }
+
+    /**
+     * 한 주기에 실행할 수 있는 남은 청크 수
+     */
+    private static final class Budget {
+
+        private int remaining;
+
+        private Budget(int remaining) {
+            this.remaining = remaining;
+        }
+
+        private boolean hasRemaining() {
+            return remaining > 0;
+        }
+
+        private void consume() {
+            remaining--;
+        }
+    }
+}
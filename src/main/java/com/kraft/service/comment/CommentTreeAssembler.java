@@ -0,0 +1,53 @@
+package com.kraft.service.comment;
+
+import com.kraft.domain.comment.CommentRow;
+import com.kraft.web.dto.comment.CommentResponseDto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 평탄한 댓글 프로젝션 목록을 중첩된 CommentResponseDto 트리로 조립
+ * - 1회차: 부모 ID별 답글 수 집계
+ * - 2회차: 댓글마다 DTO 생성 (답글 목록은 빈 리스트로 시작)
+ * - 3회차: 입력 순서대로 부모의 답글 목록 또는 루트 목록에 연결
+ * - 재귀 없이 O(n), 입력이 ID 오름차순이면 각 단계의 순서도 오래된 순
+ */
+public final class CommentTreeAssembler {
+
+    private CommentTreeAssembler() {
+    }
+
+    /**
+     * @param rows 댓글 프로젝션 목록
+     * @return 부모가 목록에 없는 댓글(루트)들의 트리
+     */
+    public static List<CommentResponseDto> assemble(List<CommentRow> rows) {
+        Map<Long, Integer> replyCounts = new HashMap<>();
+        for (CommentRow row : rows) {
+            if (row.parentId() != null) {
+                replyCounts.merge(row.parentId(), 1, Integer::sum);
+            }
+        }
+
+        Map<Long, CommentResponseDto> nodes = new HashMap<>(rows.size() * 2);
+        for (CommentRow row : rows) {
+            int replyCount = replyCounts.getOrDefault(row.id(), 0);
+            nodes.put(row.id(), CommentResponseDto.of(row, replyCount, new ArrayList<>(replyCount)));
+        }
+
+        List<CommentResponseDto> roots = new ArrayList<>();
+        for (CommentRow row : rows) {
+            CommentResponseDto node = nodes.get(row.id());
+            CommentResponseDto parent = row.parentId() != null ? nodes.get(row.parentId()) : null;
+            if (parent != null) {
+                parent.replies().add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+        return roots;
+    }
+}
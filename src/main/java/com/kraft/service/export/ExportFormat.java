@@ -0,0 +1,48 @@
+package com.kraft.service.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 내보내기 파일 형식
+ * - NDJSON: 행마다 컬럼명을 키로 한 JSON 객체 한 줄
+ * - CSV: RFC 4180 (첫 줄 헤더)
+ */
+public enum ExportFormat {
+    NDJSON("ndjson") {
+        @Override
+        RowWriter open(OutputStream out, List<String> columns, JsonFactory jsonFactory) throws IOException {
+            return new NdjsonRowWriter(out, columns, jsonFactory);
+        }
+    },
+    CSV("csv") {
+        @Override
+        RowWriter open(OutputStream out, List<String> columns, JsonFactory jsonFactory) {
+            return new CsvRowWriter(out, columns);
+        }
+    };
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public static ExportFormat from(String value) {
+        try {
+            return ExportFormat.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    abstract RowWriter open(OutputStream out, List<String> columns, JsonFactory jsonFactory) throws IOException;
+}
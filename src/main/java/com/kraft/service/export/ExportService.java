@@ -0,0 +1,381 @@
+package com.kraft.service.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraft.common.exception.ResourceNotFoundException;
+import com.kraft.common.jdbc.Bulkhead;
+import com.kraft.common.jdbc.BulkheadContext;
+import com.kraft.common.jdbc.UseBulkhead;
+import com.kraft.web.dto.export.ExportFileDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글/댓글 테이블 파일 내보내기
+ * - 행 수 기준 분위 ID로 파티션을 나누고 파티션마다 별도 스레드/커넥션에서 keyset 청크로 읽음
+ *   (Snowflake ID는 값 분포가 고르지 않으므로 ID 값 범위를 등분하지 않음)
+ * - 각 파티션은 GZIP 스트림을 거쳐 FileChannel에 바로 기록하고, 끝나면 파트 파일을 transferTo로 이어 붙임
+ *   (gzip 멤버를 이어 붙인 파일은 그대로 하나의 gzip 파일로 해제됨)
+ * - 청크 크기만큼의 행만 메모리에 머무르므로 데이터 크기와 무관하게 메모리 사용량이 일정
+ * - 파티션 수만큼 커넥션을 동시에 쓰므로 EXPORT bulkhead를 사용해 조회수 반영/정리 작업(BATCH)을 굶기지 않음
+ */
+@Slf4j
+@Service
+@UseBulkhead(Bulkhead.EXPORT)
+public class ExportService {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final Pattern FILE_NAME = Pattern.compile("(posts|comments)-\\d{8}-\\d{6}\\.(ndjson|csv)\\.gz");
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonFactory jsonFactory;
+    private final Path exportDir;
+    private final int parallelism;
+    private final int chunkSize;
+    private final int retain;
+    private final ReentrantLock exportLock = new ReentrantLock();
+    // 백그라운드 내보내기 실행 여부 (확인과 시작을 한 번의 CAS로 처리해 동시 요청 중 하나만 시작)
+    private final AtomicBoolean asyncRunning = new AtomicBoolean();
+
+    public ExportService(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            @Value("${kraft.export.dir:${java.io.tmpdir}/kraft-export}") Path exportDir,
+            @Value("${kraft.export.parallelism:4}") int parallelism,
+            @Value("${kraft.export.chunk-size:1000}") int chunkSize,
+            @Value("${kraft.export.retain:7}") int retain
+    ) {
+        if (parallelism <= 0 || chunkSize <= 0 || retain <= 0) {
+            throw new IllegalArgumentException("export 설정값이 올바르지 않습니다");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonFactory = objectMapper.getFactory();
+        this.exportDir = exportDir;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.retain = retain;
+    }
+
+    /**
+     * 백그라운드 스레드에서 테이블들을 차례로 내보냄
+     * @return 이미 백그라운드 내보내기가 진행 중이면 false
+     */
+    public boolean exportAsync(List<ExportTable> tables, ExportFormat format) {
+        if (!asyncRunning.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            Thread.ofPlatform()
+                    .name("export-runner")
+                    .daemon(true)
+                    .start(() -> {
+                        try {
+                            BulkheadContext.run(Bulkhead.EXPORT, () -> tables.forEach(table -> {
+                                try {
+                                    export(table, format);
+                                } catch (RuntimeException e) {
+                                    log.error("내보내기 실패: table={}, format={}", table, format, e);
+                                }
+                            }));
+                        } finally {
+                            asyncRunning.set(false);
+                        }
+                    });
+        } catch (RuntimeException | Error e) {
+            asyncRunning.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * 테이블 하나를 gzip 파일로 내보냄 (동시에 하나만 실행)
+     */
+    public ExportFileDto export(ExportTable table, ExportFormat format) {
+        exportLock.lock();
+        try {
+            Files.createDirectories(exportDir);
+            long startedAt = System.currentTimeMillis();
+            String name = table.tableName() + "-" + LocalDateTime.now().format(FILE_TIME)
+                    + "." + format.extension() + ".gz";
+            Path target = exportDir.resolve(name);
+
+            List<IdRange> partitions = partition(table);
+            List<Path> parts = new ArrayList<>(partitions.size());
+            for (int i = 0; i < partitions.size(); i++) {
+                parts.add(exportDir.resolve(name + ".part" + i));
+            }
+            try {
+                long rows = writeParts(table, format, partitions, parts);
+                concat(parts, target);
+                log.info("내보내기 완료: file={}, rows={}, partitions={}, size={}, elapsedMs={}",
+                        name, rows, partitions.size(), Files.size(target), System.currentTimeMillis() - startedAt);
+            } finally {
+                for (Path part : parts) {
+                    Files.deleteIfExists(part);
+                }
+            }
+            prune(table, format);
+            return toDto(target);
+        } catch (IOException e) {
+            throw new UncheckedIOException("내보내기 파일을 쓸 수 없습니다: " + table, e);
+        } finally {
+            exportLock.unlock();
+        }
+    }
+
+    /**
+     * 완료된 내보내기 파일 목록 (최신순)
+     */
+    public List<ExportFileDto> findAll() {
+        if (!Files.isDirectory(exportDir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(exportDir)) {
+            return files.filter(path -> FILE_NAME.matcher(path.getFileName().toString()).matches())
+                    .map(this::toDto)
+                    .sorted(Comparator.comparing(ExportFileDto::createdAt).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 내보내기 파일 경로 (이름 형식이 맞는 완료 파일만 허용)
+     */
+    public Path resolve(String name) {
+        if (name == null || !FILE_NAME.matcher(name).matches()) {
+            throw new ResourceNotFoundException("내보내기 파일", name);
+        }
+        Path file = exportDir.resolve(name);
+        if (!Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("내보내기 파일", name);
+        }
+        return file;
+    }
+
+    /**
+     * 행 수 기준으로 균등한 ID 범위 파티션 계산
+     */
+    private List<IdRange> partition(ExportTable table) {
+        Long count = jdbcTemplate.queryForObject(table.countSql(), Long.class);
+        int partitions = (int) Math.max(1, Math.min(parallelism, count != null ? count / chunkSize : 0));
+        long perPartition = count != null ? (count + partitions - 1) / partitions : 0;
+
+        List<IdRange> ranges = new ArrayList<>(partitions);
+        long lower = Long.MIN_VALUE;
+        for (int i = 1; i < partitions; i++) {
+            Long boundary = jdbcTemplate.queryForObject(table.idAtOffsetSql(), Long.class, i * perPartition - 1);
+            ranges.add(new IdRange(lower, boundary));
+            lower = boundary;
+        }
+        // 마지막 파티션은 상한 없음 → 내보내는 중 추가된 행도 포함
+        ranges.add(new IdRange(lower, Long.MAX_VALUE));
+        return ranges;
+    }
+
+    private long writeParts(ExportTable table, ExportFormat format, List<IdRange> partitions, List<Path> parts)
+            throws IOException {
+        if (partitions.size() == 1) {
+            return writePart(table, format, partitions.get(0), parts.get(0), true);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(partitions.size(),
+                Thread.ofPlatform().name("export-" + table.tableName() + "-", 0).daemon(true).factory());
+        try {
+            List<Future<Long>> futures = new ArrayList<>(partitions.size());
+            for (int i = 0; i < partitions.size(); i++) {
+                IdRange range = partitions.get(i);
+                Path part = parts.get(i);
+                boolean header = i == 0;
+                futures.add(executor.submit(() ->
+                        BulkheadContext.call(Bulkhead.EXPORT, () -> writePart(table, format, range, part, header))));
+            }
+            long rows = 0;
+            for (Future<Long> future : futures) {
+                rows += future.get();
+            }
+            return rows;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("내보내기가 중단되었습니다: " + table, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException("내보내기 파티션 실패: " + table, e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 파티션 하나를 keyset 청크로 읽어 gzip 파트 파일에 기록
+     */
+    private long writePart(ExportTable table, ExportFormat format, IdRange range, Path part, boolean header)
+            throws IOException {
+        int columnCount = table.columns().size();
+        long rows = 0;
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             OutputStream gzip = new GZIPOutputStream(Channels.newOutputStream(channel), GZIP_BUFFER_SIZE);
+             RowWriter writer = format.open(gzip, table.columns(), jsonFactory)) {
+            if (header) {
+                writer.writeHeader();
+            }
+
+            ChunkCursor cursor = new ChunkCursor(range.lowerExclusive());
+            do {
+                cursor.startChunk();
+                jdbcTemplate.query(table.chunkSql(), rs -> {
+                    Object[] values = new Object[columnCount];
+                    for (int i = 0; i < columnCount; i++) {
+                        values[i] = readValue(rs, i + 1);
+                    }
+                    try {
+                        writer.writeRow(values);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    cursor.advance((Long) values[0]);
+                }, cursor.lastId(), range.upperInclusive(), chunkSize);
+                rows += cursor.chunkRows();
+            } while (cursor.chunkRows() == chunkSize);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return rows;
+    }
+
+    /**
+     * 파트 파일을 순서대로 이어 붙인 뒤 완성 파일 이름으로 원자적 이동 (디스크 간 복사는 커널이 처리)
+     */
+    private void concat(List<Path> parts, Path target) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (Path part : parts) {
+                try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+                    long position = 0;
+                    long size = in.size();
+                    while (position < size) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+            }
+            out.force(false);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 같은 테이블/형식의 파일은 최신 retain개만 보관
+     */
+    private void prune(ExportTable table, ExportFormat format) throws IOException {
+        String prefix = table.tableName() + "-";
+        String suffix = "." + format.extension() + ".gz";
+        List<ExportFileDto> stale = findAll().stream()
+                .filter(file -> file.name().startsWith(prefix) && file.name().endsWith(suffix))
+                .skip(retain)
+                .toList();
+        for (ExportFileDto file : stale) {
+            Files.deleteIfExists(exportDir.resolve(file.name()));
+        }
+    }
+
+    private ExportFileDto toDto(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return new ExportFileDto(
+                    file.getFileName().toString(),
+                    attributes.size(),
+                    LocalDateTime.ofInstant(attributes.lastModifiedTime().toInstant(), ZoneId.systemDefault())
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Object readValue(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof LocalDateTime) {
+            return value;
+        }
+        return rs.getString(column);
+    }
+
+    private record IdRange(long lowerExclusive, long upperInclusive) {
+    }
+
+    /**
+     * keyset 청크 진행 상태 (마지막으로 읽은 ID, 이번 청크 행 수)
+     */
+    private static final class ChunkCursor {
+
+        private long lastId;
+        private int chunkRows;
+
+        private ChunkCursor(long lastId) {
+            this.lastId = lastId;
+        }
+
+        private void startChunk() {
+            chunkRows = 0;
+        }
+
+        private void advance(long id) {
+            lastId = id;
+            chunkRows++;
+        }
+
+        private long lastId() {
+            return lastId;
+        }
+
+        private int chunkRows() {
+            return chunkRows;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.kraft.service.export;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 내보내기 대상 테이블
+ * - 컬럼 순서가 곧 CSV 헤더/NDJSON 필드 순서
+ * - 삭제(soft delete)된 게시글/댓글은 제외
+ */
+public enum ExportTable {
+    POSTS("posts", "deleted_at IS NULL",
+            List.of("id", "title", "content", "author_id", "category_id", "view_count", "comment_count",
+                    "create_at", "update_at")),
+    COMMENTS("comments", "deleted_at IS NULL",
+            List.of("id", "post_id", "parent_id", "author_id", "content", "reply_count", "create_at", "update_at"));
+
+    private final String tableName;
+    private final String filter;
+    private final List<String> columns;
+
+    ExportTable(String tableName, String filter, List<String> columns) {
+        this.tableName = tableName;
+        this.filter = filter;
+        this.columns = columns;
+    }
+
+    public static ExportTable from(String value) {
+        try {
+            return ExportTable.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 대상입니다: " + value);
+        }
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    String countSql() {
+        return "SELECT COUNT(*) FROM " + tableName + where("");
+    }
+
+    /**
+     * n번째(0부터) 행의 ID - 파티션 경계 계산용 (PK 인덱스만 읽음)
+     */
+    String idAtOffsetSql() {
+        return "SELECT id FROM " + tableName + where("") + " ORDER BY id LIMIT 1 OFFSET ?";
+    }
+
+    /**
+     * (after, upper] 범위에서 ID 순으로 최대 limit 행 (keyset 청크)
+     */
+    String chunkSql() {
+        return "SELECT " + String.join(", ", columns) + " FROM " + tableName
+                + where("id > ? AND id <= ?") + " ORDER BY id LIMIT ?";
+    }
+
+    private String where(String condition) {
+        if (filter == null) {
+            return condition.isEmpty() ? "" : " WHERE " + condition;
+        }
+        return condition.isEmpty() ? " WHERE " + filter : " WHERE " + condition + " AND " + filter;
+    }
+}
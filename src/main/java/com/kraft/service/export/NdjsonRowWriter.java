@@ -0,0 +1,51 @@
+package com.kraft.service.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * NDJSON 행 기록기 (Jackson 스트리밍 생성기 사용)
+ */
+class NdjsonRowWriter implements RowWriter {
+
+    private final JsonGenerator generator;
+    private final List<String> columns;
+
+    NdjsonRowWriter(OutputStream out, List<String> columns, JsonFactory jsonFactory) throws IOException {
+        this.generator = jsonFactory.createGenerator(out);
+        this.generator.setRootValueSeparator(null);
+        this.columns = columns;
+    }
+
+    @Override
+    public void writeHeader() {
+        // NDJSON은 헤더 없음
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < values.length; i++) {
+            generator.writeFieldName(columns.get(i));
+            Object value = values[i];
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof Long number) {
+                generator.writeNumber(number);
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,37 @@
+package com.kraft.service.export;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 분석용 게시글/댓글 야간 내보내기
+ * - 내보내기는 별도 스레드에서 실행해 단일 스케줄러 스레드(조회수 flush 등)를 막지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kraft.export.enabled", havingValue = "true")
+public class NightlyExportJob {
+
+    private final ExportService exportService;
+    private final ExportFormat format;
+
+    public NightlyExportJob(
+            ExportService exportService,
+            @Value("${kraft.export.format:ndjson}") String format
+    ) {
+        this.exportService = exportService;
+        this.format = ExportFormat.from(format);
+    }
+
+    @Scheduled(cron = "${kraft.export.cron:0 0 3 * * *}")
+    public void export() {
+        if (!exportService.exportAsync(List.of(ExportTable.POSTS, ExportTable.COMMENTS), format)) {
+            log.warn("이전 내보내기가 진행 중이어서 야간 내보내기를 건너뜁니다");
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.kraft.service.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 내보내기 행 기록기 - 한 행씩 바로 스트림에 쓰므로 메모리 사용량이 행 수와 무관
+ */
+interface RowWriter extends Closeable {
+
+    void writeHeader() throws IOException;
+
+    /**
+     * @param values 컬럼 순서의 값 (Long, String, LocalDateTime 또는 null)
+     */
+    void writeRow(Object[] values) throws IOException;
+}
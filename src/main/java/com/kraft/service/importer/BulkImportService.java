@@ -0,0 +1,594 @@
+package com.kraft.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraft.common.id.Snowflake;
+import com.kraft.common.jdbc.Bulkhead;
+import com.kraft.common.jdbc.UseBulkhead;
+import com.kraft.common.transaction.AfterCommit;
+import com.kraft.service.category.CategoryRegistry;
+import com.kraft.service.pagination.PageCountCache;
+import com.kraft.service.search.PostSearchIndex;
+import com.kraft.service.suggest.PostSuggestIndex;
+import com.kraft.service.version.CollectionVersions;
+import com.kraft.web.dto.category.CategoryResponseDto;
+import com.kraft.web.dto.importer.ImportLineDto;
+import com.kraft.web.dto.importer.ImportProgressDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글/댓글 NDJSON 일괄 가져오기
+ * - 요청 본문을 한 줄씩 읽어 처리 (전체를 메모리에 올리지 않음)
+ * - 각 줄은 게시글/댓글 작성 DTO와 같은 제약으로 검증하고, 작성자는 시작 시 읽은 이름 맵, 카테고리는 CategoryRegistry로 해석
+ * - ID는 Snowflake로 미리 할당 → 저장 전 DB 왕복 없이 같은 가져오기 안의 ref 참조를 해석
+ *   ID는 가져오는 시점에 파일 순서대로 발급하므로 ID 순 목록(기본 정렬, 커서 페이지)에서 가져온 글은 최신 글 위치에 옴
+ *   원본 시각은 create_at에 보존되어 시간순은 sort=createAt으로 조회
+ *   (원본 시각으로 ID를 만들지 않는 이유: Snowflake 기준 시각 2025-01-01 이전은 표현할 수 없고,
+ *   과거 시각의 ID는 이 노드가 그 시각에 이미 발급한 ID와 겹칠 수 있음)
+ *   ref 맵은 최근에 쓰인 max-refs개만 보관 (더 오래된 ref를 가리키는 줄은 오류로 기록, 중복 ref 검사도 이 범위 안)
+ * - chunk-size 줄마다 JDBC batch INSERT 후 별도 트랜잭션으로 커밋하고 진행 상황을 알림
+ *   (검색/자동완성 색인, 건수 캐시, 목록 버전은 청크 커밋 후 한 번에 반영)
+ * - 잘못된 줄과 저장에 실패한 청크의 줄은 중단하지 않고 줄 번호/사유와 함께 오류 파일에 기록
+ */
+@Slf4j
+@Service
+@UseBulkhead(Bulkhead.BATCH)
+public class BulkImportService {
+
+    private static final String AUDITOR = "import";
+
+    private static final String AUTHORS_SQL = "SELECT id, name FROM users WHERE deleted_at IS NULL";
+    private static final String LIVE_POSTS_SQL = "SELECT id FROM posts WHERE id IN (:ids) AND deleted_at IS NULL";
+    private static final String PARENT_POSTS_SQL =
+            "SELECT id, post_id FROM comments WHERE id IN (:ids) AND deleted_at IS NULL";
+
+    private static final String INSERT_POST_SQL = """
+            INSERT INTO posts (id, title, content, author_id, category_id, view_count, comment_count,
+                               create_at, update_at, created_by, updated_by)
+            VALUES (?, ?, ?, ?, ?, 0, 0, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_COMMENT_SQL = """
+            INSERT INTO comments (id, content, post_id, author_id, parent_id, reply_count,
+                                  create_at, update_at, created_by, updated_by)
+            VALUES (?, ?, ?, ?, ?, 0, ?, ?, ?, ?)
+            """;
+    private static final String ADD_COMMENT_COUNT_SQL =
+            "UPDATE posts SET comment_count = comment_count + ? WHERE id = ?";
+    private static final String ADD_REPLY_COUNT_SQL =
+            "UPDATE comments SET reply_count = reply_count + ? WHERE id = ?";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final PageCountCache pageCountCache;
+    private final CollectionVersions collectionVersions;
+    private final PostSearchIndex postSearchIndex;
+    private final PostSuggestIndex postSuggestIndex;
+    private final CategoryRegistry categoryRegistry;
+    private final Snowflake snowflake;
+    private final int chunkSize;
+    private final int maxRefs;
+    private final Path errorDir;
+    private final Counter importedPosts;
+    private final Counter importedComments;
+    private final Counter failedLines;
+
+    public BulkImportService(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper objectMapper,
+            Validator validator,
+            PageCountCache pageCountCache,
+            CollectionVersions collectionVersions,
+            PostSearchIndex postSearchIndex,
+            PostSuggestIndex postSuggestIndex,
+            CategoryRegistry categoryRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${kraft.id.node-id:-1}") long nodeId,
+            @Value("${kraft.id.max-clock-rollback-ms:5000}") long maxClockRollbackMs,
+            @Value("${kraft.import.chunk-size:1000}") int chunkSize,
+            @Value("${kraft.import.max-refs:100000}") int maxRefs,
+            @Value("${kraft.import.error-dir:${java.io.tmpdir}/kraft-import}") Path errorDir
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk-size는 1 이상이어야 합니다: " + chunkSize);
+        }
+        if (maxRefs <= 0) {
+            throw new IllegalArgumentException("max-refs는 1 이상이어야 합니다: " + maxRefs);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.pageCountCache = pageCountCache;
+        this.collectionVersions = collectionVersions;
+        this.postSearchIndex = postSearchIndex;
+        this.postSuggestIndex = postSuggestIndex;
+        this.categoryRegistry = categoryRegistry;
+        this.snowflake = Snowflake.shared(nodeId, maxClockRollbackMs);
+        this.chunkSize = chunkSize;
+        this.maxRefs = maxRefs;
+        this.errorDir = errorDir;
+        this.importedPosts = importCounter(meterRegistry, "post");
+        this.importedComments = importCounter(meterRegistry, "comment");
+        this.failedLines = importCounter(meterRegistry, "failed");
+    }
+
+    private static Counter importCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("kraft.import.rows")
+                .tag("result", result)
+                .description("일괄 가져오기로 저장했거나 거부한 줄 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * NDJSON 일괄 가져오기
+     * @param body 요청 본문 (UTF-8 NDJSON)
+     * @param progressListener 청크 커밋마다, 그리고 종료 시(done=true) 호출
+     * @return 최종 진행 상황
+     * @throws IOException 본문 읽기 또는 오류 파일 쓰기 실패 (이미 커밋된 청크는 유지)
+     */
+    public ImportProgressDto importNdjson(InputStream body, Consumer<ImportProgressDto> progressListener)
+            throws IOException {
+        ImportRun run = new ImportRun(progressListener);
+        try (run; BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                run.accept(line);
+            }
+            run.flush();
+        }
+
+        ImportProgressDto result = run.progress(true);
+        progressListener.accept(result);
+        log.info("일괄 가져오기 완료: lines={}, posts={}, comments={}, failed={}, elapsedMs={}, errorFile={}",
+                result.lines(), result.posts(), result.comments(), result.failed(), result.elapsedMs(),
+                result.errorFile());
+        return result;
+    }
+
+    /**
+     * 가져오기 한 번의 상태 (ref 맵, 대기 중인 청크, 오류 파일)
+     */
+    private final class ImportRun implements AutoCloseable {
+
+        private final Consumer<ImportProgressDto> progressListener;
+        private final Map<String, Long> authors;
+        private final Map<String, Long> postRefs = refWindow(maxRefs);
+        private final Map<String, CommentRef> commentRefs = refWindow(maxRefs);
+        private final List<PostInsert> posts = new ArrayList<>();
+        private final List<CommentInsert> comments = new ArrayList<>();
+        private final long startNanos = System.nanoTime();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+
+        private Path errorFile;
+        private BufferedWriter errorWriter;
+        private long lines;
+        private long postCount;
+        private long commentCount;
+        private long failed;
+
+        private ImportRun(Consumer<ImportProgressDto> progressListener) {
+            this.progressListener = progressListener;
+            this.authors = loadNames(AUTHORS_SQL);
+        }
+
+        private void accept(String raw) throws IOException {
+            long lineNo = ++lines;
+            if (raw.isBlank()) {
+                return;
+            }
+
+            ImportLineDto line;
+            try {
+                line = objectMapper.readValue(raw, ImportLineDto.class);
+            } catch (JsonProcessingException e) {
+                reject(lineNo, raw, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+                return;
+            }
+
+            String error;
+            if (ImportLineDto.POST.equals(line.type())) {
+                error = acceptPost(lineNo, raw, line);
+            } else if (ImportLineDto.COMMENT.equals(line.type())) {
+                error = acceptComment(lineNo, raw, line);
+            } else {
+                error = "type은 post 또는 comment여야 합니다: " + line.type();
+            }
+
+            if (error != null) {
+                reject(lineNo, raw, error);
+            } else if (posts.size() + comments.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private String acceptPost(long lineNo, String raw, ImportLineDto line) {
+            String violation = violations(line.toPostSaveRequest());
+            if (violation != null) {
+                return violation;
+            }
+            Long authorId = authors.get(line.author());
+            if (authorId == null) {
+                return "존재하지 않는 회원입니다: " + line.author();
+            }
+            Long categoryId = null;
+            if (line.category() != null) {
+                categoryId = categoryRegistry.findByName(line.category()).map(CategoryResponseDto::id).orElse(null);
+                if (categoryId == null) {
+                    return "존재하지 않는 카테고리입니다: " + line.category();
+                }
+            }
+            if (line.ref() != null && postRefs.containsKey(line.ref())) {
+                return "중복된 게시글 ref입니다: " + line.ref();
+            }
+
+            long id = snowflake.nextId();
+            posts.add(new PostInsert(lineNo, raw, id, line.title(), line.content(), authorId, categoryId,
+                    line.ref(), createdAt(line)));
+            if (line.ref() != null) {
+                postRefs.put(line.ref(), id);
+            }
+            return null;
+        }
+
+        private String acceptComment(long lineNo, String raw, ImportLineDto line) {
+            String violation = violations(line.toCommentSaveRequest());
+            if (violation != null) {
+                return violation;
+            }
+            Long authorId = authors.get(line.author());
+            if (authorId == null) {
+                return "존재하지 않는 회원입니다: " + line.author();
+            }
+            if (line.ref() != null && commentRefs.containsKey(line.ref())) {
+                return "중복된 댓글 ref입니다: " + line.ref();
+            }
+
+            // ref로 가리킨 대상은 이미 저장됐거나 같은 청크에 있음, ID로 가리킨 대상은 저장 직전에 확인
+            Long postId;
+            boolean postVerified = line.postRef() != null;
+            if (line.postRef() != null) {
+                postId = postRefs.get(line.postRef());
+                if (postId == null) {
+                    return "존재하지 않는 postRef입니다 (최근 " + maxRefs + "개 ref만 참조 가능): "
+                            + line.postRef();
+                }
+            } else if (line.postId() != null) {
+                postId = line.postId();
+            } else {
+                return "postRef 또는 postId는 필수입니다";
+            }
+
+            Long parentId = null;
+            boolean parentVerified = line.parentId() == null;
+            if (line.parentRef() != null) {
+                CommentRef parent = commentRefs.get(line.parentRef());
+                if (parent == null) {
+                    return "존재하지 않는 parentRef입니다 (최근 " + maxRefs + "개 ref만 참조 가능): "
+                            + line.parentRef();
+                }
+                if (!parent.postId().equals(postId)) {
+                    return "부모 댓글과 게시글이 다릅니다: " + line.parentRef();
+                }
+                parentId = parent.id();
+                parentVerified = true;
+            } else if (line.parentId() != null) {
+                parentId = line.parentId();
+            }
+
+            long id = snowflake.nextId();
+            comments.add(new CommentInsert(lineNo, raw, id, line.content(), postId, authorId, parentId,
+                    line.ref(), createdAt(line), postVerified, parentVerified));
+            if (line.ref() != null) {
+                commentRefs.put(line.ref(), new CommentRef(id, postId));
+            }
+            return null;
+        }
+
+        /**
+         * 대기 중인 청크를 한 트랜잭션으로 저장
+         * - 실패하면 청크 전체가 롤백되고 해당 줄을 모두 오류로 기록한 뒤 다음 청크를 계속 처리
+         */
+        private void flush() throws IOException {
+            if (posts.isEmpty() && comments.isEmpty()) {
+                return;
+            }
+            List<PostInsert> chunkPosts = List.copyOf(posts);
+            List<CommentInsert> chunkComments = verifyReferences();
+            posts.clear();
+            comments.clear();
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> write(chunkPosts, chunkComments));
+                postCount += chunkPosts.size();
+                commentCount += chunkComments.size();
+                importedPosts.increment(chunkPosts.size());
+                importedComments.increment(chunkComments.size());
+            } catch (DataAccessException e) {
+                String reason = "청크 저장 실패: " + e.getMostSpecificCause().getMessage();
+                log.warn("일괄 가져오기 청크 저장 실패: posts={}, comments={}, reason={}",
+                        chunkPosts.size(), chunkComments.size(), reason);
+                for (PostInsert post : chunkPosts) {
+                    postRefs.remove(post.ref(), post.id());
+                    reject(post.lineNo(), post.raw(), reason);
+                }
+                for (CommentInsert comment : chunkComments) {
+                    forget(comment);
+                    reject(comment.lineNo(), comment.raw(), reason);
+                }
+            }
+
+            ImportProgressDto progress = progress(false);
+            log.debug("일괄 가져오기 진행: lines={}, posts={}, comments={}, failed={}",
+                    progress.lines(), progress.posts(), progress.comments(), progress.failed());
+            progressListener.accept(progress);
+        }
+
+        /**
+         * ID로 지정한 게시글/부모 댓글 존재 여부를 청크 단위 IN 조회로 확인하고 통과한 댓글만 반환
+         */
+        private List<CommentInsert> verifyReferences() throws IOException {
+            Set<Long> postIds = comments.stream()
+                    .filter(comment -> !comment.postVerified())
+                    .map(CommentInsert::postId)
+                    .collect(Collectors.toSet());
+            Set<Long> livePosts = postIds.isEmpty() ? Set.of() : new HashSet<>(jdbcTemplate.queryForList(
+                    LIVE_POSTS_SQL, new MapSqlParameterSource("ids", postIds), Long.class));
+
+            Set<Long> parentIds = comments.stream()
+                    .filter(comment -> !comment.parentVerified())
+                    .map(CommentInsert::parentId)
+                    .collect(Collectors.toSet());
+            Map<Long, Long> parentPosts = new HashMap<>();
+            if (!parentIds.isEmpty()) {
+                jdbcTemplate.query(PARENT_POSTS_SQL, new MapSqlParameterSource("ids", parentIds),
+                        rs -> {
+                            parentPosts.put(rs.getLong("id"), rs.getLong("post_id"));
+                        });
+            }
+
+            List<CommentInsert> accepted = new ArrayList<>(comments.size());
+            Set<Long> rejected = new HashSet<>();
+            for (CommentInsert comment : comments) {
+                String error = null;
+                if (!comment.postVerified() && !livePosts.contains(comment.postId())) {
+                    error = "존재하지 않는 게시글입니다: " + comment.postId();
+                } else if (comment.parentId() != null && rejected.contains(comment.parentId())) {
+                    error = "부모 댓글이 저장되지 않았습니다";
+                } else if (!comment.parentVerified()) {
+                    Long parentPostId = parentPosts.get(comment.parentId());
+                    if (parentPostId == null) {
+                        error = "존재하지 않는 부모 댓글입니다: " + comment.parentId();
+                    } else if (!parentPostId.equals(comment.postId())) {
+                        error = "부모 댓글과 게시글이 다릅니다: " + comment.parentId();
+                    }
+                }
+
+                if (error == null) {
+                    accepted.add(comment);
+                } else {
+                    rejected.add(comment.id());
+                    forget(comment);
+                    reject(comment.lineNo(), comment.raw(), error);
+                }
+            }
+            return accepted;
+        }
+
+        private void write(List<PostInsert> chunkPosts, List<CommentInsert> chunkComments) {
+            JdbcTemplate jdbc = jdbcTemplate.getJdbcTemplate();
+            Set<Long> commentedPosts = Set.of();
+            if (!chunkPosts.isEmpty()) {
+                jdbc.batchUpdate(INSERT_POST_SQL, chunkPosts, chunkPosts.size(), BulkImportService::bindPost);
+            }
+            if (!chunkComments.isEmpty()) {
+                // 부모가 먼저 오도록 입력 순서 그대로 저장
+                jdbc.batchUpdate(INSERT_COMMENT_SQL, chunkComments, chunkComments.size(),
+                        BulkImportService::bindComment);
+
+                // 게시글/부모 ID 순으로 갱신해 동시 댓글 작성과의 잠금 순서를 일정하게 유지
+                Map<Long, Integer> perPost = new TreeMap<>();
+                Map<Long, Integer> perParent = new TreeMap<>();
+                for (CommentInsert comment : chunkComments) {
+                    perPost.merge(comment.postId(), 1, Integer::sum);
+                    if (comment.parentId() != null) {
+                        perParent.merge(comment.parentId(), 1, Integer::sum);
+                    }
+                }
+                jdbc.batchUpdate(ADD_COMMENT_COUNT_SQL, deltaArgs(perPost));
+                if (!perParent.isEmpty()) {
+                    jdbc.batchUpdate(ADD_REPLY_COUNT_SQL, deltaArgs(perParent));
+                }
+                commentedPosts = perPost.keySet();
+            }
+
+            Set<Long> postsWithComments = commentedPosts;
+            AfterCommit.run(() -> publish(chunkPosts, postsWithComments));
+        }
+
+        /**
+         * 커밋된 청크를 색인/건수 캐시/목록 버전에 반영 (청크당 한 번, 롤백된 청크는 반영하지 않음)
+         */
+        private void publish(List<PostInsert> chunkPosts, Set<Long> commentedPosts) {
+            Set<String> changedLists = new HashSet<>();
+            for (PostInsert post : chunkPosts) {
+                postSearchIndex.index(post.id(), post.title(), post.content());
+                postSuggestIndex.put(post.id(), post.title(), 0L);
+                if (post.categoryId() != null) {
+                    pageCountCache.adjust(PageCountCache.postsByCategory(post.categoryId()), 1);
+                    changedLists.add(CollectionVersions.postsByCategory(post.categoryId()));
+                }
+            }
+            if (!chunkPosts.isEmpty()) {
+                pageCountCache.adjust(PageCountCache.POSTS, chunkPosts.size());
+                changedLists.add(CollectionVersions.POSTS);
+            }
+            if (!commentedPosts.isEmpty()) {
+                commentedPosts.forEach(postId -> pageCountCache.invalidate(PageCountCache.parentComments(postId)));
+                changedLists.add(CollectionVersions.POST_STATS);
+            }
+            collectionVersions.bump(changedLists.toArray(String[]::new));
+        }
+
+        private void forget(CommentInsert comment) {
+            if (comment.ref() != null) {
+                commentRefs.remove(comment.ref(), new CommentRef(comment.id(), comment.postId()));
+            }
+        }
+
+        private void reject(long lineNo, String raw, String error) throws IOException {
+            failed++;
+            failedLines.increment();
+            if (errorWriter == null) {
+                Files.createDirectories(errorDir);
+                errorFile = Files.createTempFile(errorDir, "import-", "-errors.ndjson");
+                errorWriter = Files.newBufferedWriter(errorFile, StandardCharsets.UTF_8);
+            }
+            errorWriter.write(objectMapper.writeValueAsString(objectMapper.createObjectNode()
+                    .put("line", lineNo)
+                    .put("error", error)
+                    .put("source", raw)));
+            errorWriter.newLine();
+        }
+
+        private String violations(Object request) {
+            Set<ConstraintViolation<Object>> violations = validator.validate(request);
+            if (violations.isEmpty()) {
+                return null;
+            }
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+
+        private LocalDateTime createdAt(ImportLineDto line) {
+            return line.createdAt() != null ? line.createdAt() : startedAt;
+        }
+
+        private ImportProgressDto progress(boolean done) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long rowsPerSecond = elapsedNanos > 0 ? (postCount + commentCount) * 1_000_000_000L / elapsedNanos : 0;
+            return new ImportProgressDto(lines, postCount, commentCount, failed, elapsedNanos / 1_000_000,
+                    rowsPerSecond, errorFile != null ? errorFile.toString() : null, done);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (errorWriter != null) {
+                errorWriter.close();
+            }
+        }
+    }
+
+    /**
+     * 최근에 등록/참조된 ref만 maxRefs개까지 보관하는 맵 (가져오기 크기와 무관하게 메모리 상한 유지)
+     */
+    private static <V> Map<String, V> refWindow(int maxRefs) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxRefs;
+            }
+        };
+    }
+
+    private Map<String, Long> loadNames(String sql) {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.getJdbcTemplate().query(sql, rs -> {
+            ids.put(rs.getString("name"), rs.getLong("id"));
+        });
+        return ids;
+    }
+
+    private static void bindPost(PreparedStatement ps, PostInsert post) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(post.createdAt());
+        ps.setLong(1, post.id());
+        ps.setString(2, post.title());
+        ps.setString(3, post.content());
+        ps.setLong(4, post.authorId());
+        if (post.categoryId() != null) {
+            ps.setLong(5, post.categoryId());
+        } else {
+            ps.setNull(5, Types.BIGINT);
+        }
+        ps.setTimestamp(6, createdAt);
+        ps.setTimestamp(7, createdAt);
+        ps.setString(8, AUDITOR);
+        ps.setString(9, AUDITOR);
+    }
+
+    private static void bindComment(PreparedStatement ps, CommentInsert comment) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(comment.createdAt());
+        ps.setLong(1, comment.id());
+        ps.setString(2, comment.content());
+        ps.setLong(3, comment.postId());
+        ps.setLong(4, comment.authorId());
+        if (comment.parentId() != null) {
+            ps.setLong(5, comment.parentId());
+        } else {
+            ps.setNull(5, Types.BIGINT);
+        }
+        ps.setTimestamp(6, createdAt);
+        ps.setTimestamp(7, createdAt);
+        ps.setString(8, AUDITOR);
+        ps.setString(9, AUDITOR);
+    }
+
+    private static List<Object[]> deltaArgs(Map<Long, Integer> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
+            args.add(new Object[]{entry.getValue(), entry.getKey()});
+        }
+        return args;
+    }
+
+    private record PostInsert(long lineNo, String raw, long id, String title, String content, Long authorId,
+                              Long categoryId, String ref, LocalDateTime createdAt) {
+    }
+
+    private record CommentInsert(long lineNo, String raw, long id, String content, Long postId, Long authorId,
+                                 Long parentId, String ref, LocalDateTime createdAt,
+                                 boolean postVerified, boolean parentVerified) {
+    }
+
+    private record CommentRef(Long id, Long postId) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.kraft.service.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 페이지네이션 전체 건수 캐시
+ * - (쿼리, 필터) 키별로 COUNT 결과를 TTL 동안 보관
+ * - 게시글/댓글 등록·삭제 시 adjust()로 증감을 반영해 TTL 안에서도 근사치를 유지
+ * - 검색처럼 증감을 추적할 수 없는 키는 TTL 만료로만 갱신
+ */
+@Component
+public class PageCountCache {
+
+    public static final String POSTS = "posts";
+    private static final String POSTS_BY_CATEGORY = "posts:category:";
+    private static final String POSTS_SEARCH = "posts:search:";
+    private static final String PARENT_COMMENTS = "comments:parents:";
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    public PageCountCache(
+            @Value("${kraft.page-count-cache.ttl-ms:60000}") long ttlMillis,
+            @Value("${kraft.page-count-cache.max-entries:1000}") int maxEntries
+    ) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    public static String postsByCategory(Long categoryId) {
+        return POSTS_BY_CATEGORY + categoryId;
+    }
+
+    public static String postsSearch(String keyword) {
+        return POSTS_SEARCH + keyword;
+    }
+
+    public static String parentComments(Long postId) {
+        return PARENT_COMMENTS + postId;
+    }
+
+    /**
+     * 캐시된 건수 조회, 없거나 만료되었으면 countQuery로 계산 후 보관
+     * @param key 캐시 키
+     * @param countQuery COUNT 쿼리
+     * @return 전체 건수
+     */
+    public long get(String key, LongSupplier countQuery) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.count.get();
+        }
+
+        long count = countQuery.getAsLong();
+        if (entries.size() >= maxEntries) {
+            evictExpired(now);
+        }
+        if (entries.size() < maxEntries) {
+            entries.put(key, new Entry(count, now + ttlMillis));
+        }
+        return count;
+    }
+
+    /**
+     * 캐시된 건수 증감 (캐시에 없는 키는 무시)
+     * @param key 캐시 키
+     * @param delta 증감량
+     */
+    public void adjust(String key, long delta) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.count.updateAndGet(count -> Math.max(0, count + delta));
+        }
+    }
+
+    /**
+     * 캐시 키 무효화
+     * @param key 캐시 키
+     */
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    private void evictExpired(long now) {
+        entries.entrySet().removeIf(e -> e.getValue().expiresAt <= now);
+    }
+
+    private static final class Entry {
+        private final AtomicLong count;
+        private final long expiresAt;
+
+        private Entry(long count, long expiresAt) {
+            this.count = new AtomicLong(count);
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.kraft.service.postcache;
+
+import com.kraft.domain.post.Post;
+import com.kraft.web.dto.post.PostResponseDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시에 보관하는 게시글 상세
+ * - 응답 DTO에 없는 categoryId도 보관 (조회 시 순위표 갱신에 필요)
+ * @param viewCount 캐시에 적재한 시점의 DB 조회수 (이후 반영분은 {@link #withAddedViews}로 합산)
+ * @param updateAt 게시글 수정 시각 (조건부 조회의 검증자, 조회수 반영으로는 바뀌지 않음)
+ */
+public record CachedPost(
+        Long id,
+        String title,
+        String content,
+        String author,
+        Long categoryId,
+        long viewCount,
+        LocalDateTime updateAt
+) {
+
+    public static CachedPost from(Post post) {
+        return new CachedPost(
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getAuthor().getName(),
+                post.getCategory() != null ? post.getCategory().getId() : null,
+                post.getViewCount(),
+                post.getUpdateAt()
+        );
+    }
+
+    public CachedPost withAddedViews(long delta) {
+        return new CachedPost(id, title, content, author, categoryId, viewCount + delta, updateAt);
+    }
+
+    /**
+     * @param pendingViews DB에 아직 반영되지 않은 조회수 증가분
+     */
+    public PostResponseDto toResponse(long pendingViews) {
+        return new PostResponseDto(id, title, content, author, viewCount + pendingViews);
+    }
+
+    /**
+     * L1 용량 계산용 대략적인 크기 (문자열은 UTF-16 기준)
+     */
+    int weight() {
+        return 64 + 2 * (length(title) + length(content) + length(author));
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+}
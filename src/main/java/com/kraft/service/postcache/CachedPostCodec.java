@@ -0,0 +1,96 @@
+package com.kraft.service.postcache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * L2용 게시글 상세 바이너리 직렬화
+ * - JSON/JDK 직렬화 대신 필드 순서 고정 + 길이 접두 UTF-8 문자열로 크기와 변환 비용을 줄임
+ * - 조회수는 HINCRBY로 따로 증가시키므로 본문과 분리해 별도 해시 필드에 저장
+ * - 형식: version(1) | id(8) | hasCategory(1) [categoryId(8)] | hasUpdateAt(1) [epochSecond(8) nano(4)]
+ *         | title | content | author (문자열: 길이(4, null은 -1) + 바이트)
+ */
+final class CachedPostCodec {
+
+    private static final byte VERSION = 2;
+
+    private CachedPostCodec() {
+    }
+
+    static byte[] encode(CachedPost post) {
+        byte[] title = utf8(post.title());
+        byte[] content = utf8(post.content());
+        byte[] author = utf8(post.author());
+        int size = 1 + 8 + 1 + (post.categoryId() != null ? 8 : 0) + 1 + (post.updateAt() != null ? 12 : 0)
+                + sizeOf(title) + sizeOf(content) + sizeOf(author);
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(VERSION);
+        buffer.putLong(post.id());
+        if (post.categoryId() != null) {
+            buffer.put((byte) 1);
+            buffer.putLong(post.categoryId());
+        } else {
+            buffer.put((byte) 0);
+        }
+        if (post.updateAt() != null) {
+            buffer.put((byte) 1);
+            buffer.putLong(post.updateAt().toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(post.updateAt().getNano());
+        } else {
+            buffer.put((byte) 0);
+        }
+        putString(buffer, title);
+        putString(buffer, content);
+        putString(buffer, author);
+        return buffer.array();
+    }
+
+    /**
+     * @return 알 수 없는 형식이면 null (배포 중 형식이 바뀐 경우 캐시 미스로 처리)
+     */
+    static CachedPost decode(byte[] bytes, long viewCount) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.get() != VERSION) {
+            return null;
+        }
+        long id = buffer.getLong();
+        Long categoryId = buffer.get() == 1 ? buffer.getLong() : null;
+        LocalDateTime updateAt = buffer.get() == 1
+                ? LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC)
+                : null;
+        String title = getString(buffer);
+        String content = getString(buffer);
+        String author = getString(buffer);
+        return new CachedPost(id, title, content, author, categoryId, viewCount, updateAt);
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int sizeOf(byte[] value) {
+        return 4 + (value != null ? value.length : 0);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(value.length);
+        buffer.put(value);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,47 @@
+package com.kraft.service.postcache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용 - L2 없이 L1만 사용
+ */
+@Component
+@ConditionalOnProperty(name = "kraft.post-cache.store", havingValue = "local", matchIfMissing = true)
+public class LocalPostDetailL2 implements PostDetailL2 {
+
+    @Override
+    public Optional<CachedPost> get(Long postId) {
+        return Optional.empty();
+    }
+
+    @Override
+    public long generation(Long postId) {
+        return 0;
+    }
+
+    @Override
+    public void put(CachedPost post, long generation) {
+    }
+
+    @Override
+    public void invalidate(Long postId) {
+    }
+
+    @Override
+    public void addViews(Map<Long, Long> deltas) {
+    }
+
+    @Override
+    public void onRemoteInvalidation(Consumer<Long> listener) {
+    }
+
+    @Override
+    public boolean enabled() {
+        return false;
+    }
+}
@@ -0,0 +1,168 @@
+package com.kraft.service.postcache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kraft.common.transaction.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 read-through 캐시 (L1 인프로세스 → L2 공유 → DB)
+ * - L1: Caffeine, 대략적인 바이트 크기(weight) 기준으로 용량 제한, 쓰기 후 max-staleness-ms 지나면 만료
+ * - L2: {@link PostDetailL2} (store=redis일 때만 존재)
+ * - 수정/삭제는 커밋 후 L1/L2에서 제거하고 다른 노드에 전파
+ *   L2 저장은 DB 적재 전의 무효화 세대가 그대로일 때만 성공 (적재 중 무효화된 오래된 값은 저장하지 않음)
+ *   전파가 유실돼도 다른 노드의 L1은 max-staleness-ms 안에 만료되므로 이 값이 노드 간 최대 지연
+ * - 조회수는 적재 시점의 DB 값을 보관하고, 대기 중인 증가분은 응답 시 합산 (flush 후 {@link #addFlushedViews}로 기준값 보정)
+ */
+@Slf4j
+@Component
+public class PostDetailCache {
+
+    private static final String TIER_L1 = "l1";
+    private static final String TIER_L2 = "l2";
+    private static final String TIER_DB = "db";
+
+    private final PostDetailL2 l2;
+    private final boolean enabled;
+    private final Cache<Long, CachedPost> l1;
+    private final Timer l2LoadTimer;
+    private final Timer dbLoadTimer;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public PostDetailCache(
+            PostDetailL2 l2,
+            MeterRegistry meterRegistry,
+            @Value("${kraft.post-cache.enabled:true}") boolean enabled,
+            @Value("${kraft.post-cache.l1-max-weight-bytes:33554432}") long l1MaxWeightBytes,
+            @Value("${kraft.post-cache.max-staleness-ms:30000}") long maxStalenessMillis
+    ) {
+        this.l2 = l2;
+        this.enabled = enabled;
+        this.l1 = Caffeine.newBuilder()
+                .maximumWeight(l1MaxWeightBytes)
+                .weigher((Long id, CachedPost post) -> post.weight())
+                .expireAfterWrite(Duration.ofMillis(maxStalenessMillis))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, "postDetail", "tier", TIER_L1);
+        Gauge.builder("kraft.post-cache.hit-ratio", l1, cache -> cache.stats().hitRate())
+                .description("게시글 상세 캐시 계층별 적중률")
+                .tag("tier", TIER_L1)
+                .register(meterRegistry);
+
+        this.l2LoadTimer = loadTimer(meterRegistry, TIER_L2);
+        this.dbLoadTimer = loadTimer(meterRegistry, TIER_DB);
+        this.l2Hits = Counter.builder("kraft.post-cache.l2.requests")
+                .description("게시글 상세 L2 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.l2Misses = Counter.builder("kraft.post-cache.l2.requests")
+                .description("게시글 상세 L2 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        if (l2.enabled()) {
+            Gauge.builder("kraft.post-cache.hit-ratio", this, PostDetailCache::l2HitRatio)
+                    .description("게시글 상세 캐시 계층별 적중률")
+                    .tag("tier", TIER_L2)
+                    .register(meterRegistry);
+        }
+
+        l2.onRemoteInvalidation(this::evictLocal);
+    }
+
+    /**
+     * 게시글 상세 조회 (L1 → L2 → DB)
+     * - 같은 게시글의 L1 미스는 한 스레드만 적재하고 나머지는 결과를 기다림
+     * @param postId 게시글 ID
+     * @param dbLoader 캐시 미스 시 DB에서 읽는 함수 (없으면 예외를 던져야 함, 예외는 캐시되지 않음)
+     */
+    public CachedPost get(Long postId, Function<Long, CachedPost> dbLoader) {
+        if (!enabled) {
+            return dbLoader.apply(postId);
+        }
+        return l1.get(postId, id -> load(id, dbLoader));
+    }
+
+    /**
+     * 이 노드의 L1에 있는 게시글만 조회 (미스여도 적재하지 않음)
+     */
+    public Optional<CachedPost> getIfPresent(Long postId) {
+        return enabled ? Optional.ofNullable(l1.getIfPresent(postId)) : Optional.empty();
+    }
+
+    /**
+     * 커밋 후 L1/L2에서 제거하고 다른 노드에 무효화 전파
+     */
+    public void invalidate(Long postId) {
+        AfterCommit.run(() -> {
+            evictLocal(postId);
+            l2.invalidate(postId);
+        });
+    }
+
+    /**
+     * 이 노드의 L1에서만 제거 (다른 노드의 무효화 수신 시)
+     */
+    public void evictLocal(Long postId) {
+        l1.invalidate(postId);
+    }
+
+    /**
+     * DB에 반영된 조회수 증가분을 캐시된 기준값에 합산
+     * - 반영 후에는 버퍼의 대기 증가분에서 빠지므로, 보정하지 않으면 응답 조회수가 만료 전까지 줄어 보임
+     */
+    public void addFlushedViews(Map<Long, Long> deltas) {
+        if (!enabled || deltas.isEmpty()) {
+            return;
+        }
+        deltas.forEach((postId, delta) ->
+                l1.asMap().computeIfPresent(postId, (id, post) -> post.withAddedViews(delta)));
+        l2.addViews(deltas);
+    }
+
+    private CachedPost load(Long postId, Function<Long, CachedPost> dbLoader) {
+        long generation = 0;
+        if (l2.enabled()) {
+            Optional<CachedPost> shared = l2LoadTimer.record(() -> l2.get(postId));
+            if (shared.isPresent()) {
+                l2Hits.increment();
+                return shared.get();
+            }
+            l2Misses.increment();
+            // DB 읽기 전에 세대를 기록: 읽는 동안 다른 노드가 커밋 후 무효화하면 오래된 값을 L2에 남기지 않음
+            generation = l2.generation(postId);
+        }
+
+        CachedPost loaded = dbLoadTimer.record(() -> dbLoader.apply(postId));
+        l2.put(loaded, generation);
+        log.debug("게시글 상세 캐시 적재: postId={}", postId);
+        return loaded;
+    }
+
+    private double l2HitRatio() {
+        double hits = l2Hits.count();
+        double total = hits + l2Misses.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static Timer loadTimer(MeterRegistry meterRegistry, String tier) {
+        return Timer.builder("kraft.post-cache.load")
+                .description("게시글 상세 캐시 미스 시 계층별 적재 소요 시간")
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
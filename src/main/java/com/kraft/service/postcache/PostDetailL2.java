@@ -0,0 +1,47 @@
+package com.kraft.service.postcache;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 게시글 상세 캐시의 노드 공유 계층
+ * - kraft.post-cache.store=local(기본): 단일 노드, L2/노드 간 무효화 없음
+ * - kraft.post-cache.store=redis: Redis 해시 + pub/sub 무효화
+ */
+public interface PostDetailL2 {
+
+    Optional<CachedPost> get(Long postId);
+
+    /**
+     * 게시글의 현재 무효화 세대 (DB 적재 전에 읽어 {@link #put}에 넘김)
+     */
+    long generation(Long postId);
+
+    /**
+     * 무효화 세대가 그대로일 때만 저장
+     * - 적재 중 다른 노드가 커밋 후 무효화했다면 읽은 값이 오래됐을 수 있으므로 저장하지 않음
+     * @param generation DB 적재 전에 {@link #generation}으로 읽은 값
+     */
+    void put(CachedPost post, long generation);
+
+    /**
+     * L2에서 삭제하고 무효화 세대를 올린 뒤 다른 노드에 L1 무효화를 알림
+     */
+    void invalidate(Long postId);
+
+    /**
+     * DB에 반영된 조회수 증가분을 L2에 있는 게시글에 합산
+     */
+    void addViews(Map<Long, Long> deltas);
+
+    /**
+     * 다른 노드가 보낸 무효화 수신 시 호출할 콜백 등록
+     */
+    void onRemoteInvalidation(Consumer<Long> listener);
+
+    /**
+     * L2가 실제로 있는지 여부 (없으면 L2 메트릭을 등록하지 않음)
+     */
+    boolean enabled();
+}
@@ -0,0 +1,193 @@
+package com.kraft.service.postcache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis 기반 게시글 상세 L2 + 노드 간 L1 무효화
+ * - 게시글마다 해시 하나: d = {@link CachedPostCodec} 바이트, v = 적재 후 DB에 반영된 조회수, g = 무효화 세대
+ * - 저장: g가 적재 전에 읽은 세대와 같을 때만 d/v 기록 (Lua 비교 후 저장)
+ * - 무효화: d/v 삭제 + g 증가 후 "노드식별자:게시글ID"를 채널에 발행, 다른 노드는 L1에서 제거 (자기 메시지는 무시)
+ * - Redis 장애 시 L2는 미스로 처리하고 DB에서 읽음 (L1 만료 시간이 오래된 값의 최대 유지 시간)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kraft.post-cache.store", havingValue = "redis")
+public class RedisPostDetailL2 implements PostDetailL2, MessageListener {
+
+    static final String CHANNEL = "kraft:posts:invalidated";
+    private static final String KEY_PREFIX = "kraft:post:";
+    private static final byte[] DATA_FIELD = "d".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] VIEWS_FIELD = "v".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] GENERATION_FIELD = "g".getBytes(StandardCharsets.UTF_8);
+
+    // 적재 전에 읽은 세대가 그대로일 때만 저장 (그 사이 무효화됐으면 버림)
+    private static final byte[] PUT_SCRIPT = """
+            local current = redis.call('HGET', KEYS[1], 'g') or '0'
+            if current ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'd', ARGV[2], 'v', ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    // 값은 지우고 세대만 남겨 진행 중인 적재의 저장을 막음 (세대 키도 L2 만료 시간 뒤 사라짐)
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HDEL', KEYS[1], 'd', 'v')
+            local generation = redis.call('HINCRBY', KEYS[1], 'g', 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return generation
+            """, Long.class);
+
+    // 캐시에 있는 게시글만 조회수를 증가 (없는 키에 v만 있는 해시를 만들지 않음)
+    private static final RedisScript<Long> ADD_VIEWS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HEXISTS', KEYS[1], 'd') == 1 then
+                return redis.call('HINCRBY', KEYS[1], 'v', ARGV[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlMillis;
+    private final RedisMessageListenerContainer container;
+    private final List<Consumer<Long>> listeners = new CopyOnWriteArrayList<>();
+    private final String nodeToken = UUID.randomUUID().toString();
+
+    public RedisPostDetailL2(
+            StringRedisTemplate redisTemplate,
+            RedisConnectionFactory connectionFactory,
+            @Value("${kraft.post-cache.l2-ttl-ms:600000}") long ttlMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttlMillis;
+        this.container = new RedisMessageListenerContainer();
+        this.container.setConnectionFactory(connectionFactory);
+        this.container.addMessageListener(this, new ChannelTopic(CHANNEL));
+        this.container.afterPropertiesSet();
+        this.container.start();
+    }
+
+    @Override
+    public Optional<CachedPost> get(Long postId) {
+        try {
+            List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.hashCommands().hMGet(key(postId), DATA_FIELD, VIEWS_FIELD));
+            if (values == null || values.size() < 2 || values.get(0) == null || values.get(1) == null) {
+                return Optional.empty();
+            }
+            long viewCount = Long.parseLong(new String(values.get(1), StandardCharsets.UTF_8));
+            return Optional.ofNullable(CachedPostCodec.decode(values.get(0), viewCount));
+        } catch (RuntimeException e) {
+            log.warn("게시글 L2 조회 실패: postId={}", postId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public long generation(Long postId) {
+        try {
+            byte[] value = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.hashCommands().hGet(key(postId), GENERATION_FIELD));
+            return value != null ? Long.parseLong(new String(value, StandardCharsets.UTF_8)) : 0;
+        } catch (RuntimeException e) {
+            // 어떤 세대와도 일치하지 않으므로 이번 적재 결과는 L2에 저장되지 않음
+            log.warn("게시글 L2 세대 조회 실패: postId={}", postId, e);
+            return -1;
+        }
+    }
+
+    @Override
+    public void put(CachedPost post, long generation) {
+        byte[] key = key(post.id());
+        byte[] data = CachedPostCodec.encode(post);
+        byte[] views = Long.toString(post.viewCount()).getBytes(StandardCharsets.UTF_8);
+        byte[] expected = Long.toString(generation).getBytes(StandardCharsets.UTF_8);
+        byte[] ttl = Long.toString(ttlMillis).getBytes(StandardCharsets.UTF_8);
+        try {
+            Long stored = redisTemplate.execute((RedisCallback<Long>) connection -> connection.scriptingCommands()
+                    .eval(PUT_SCRIPT, ReturnType.INTEGER, 1, key, expected, data, views, ttl));
+            if (stored == null || stored == 0) {
+                log.debug("적재 중 무효화된 게시글은 L2에 저장하지 않음: postId={}", post.id());
+            }
+        } catch (RuntimeException e) {
+            log.warn("게시글 L2 저장 실패: postId={}", post.id(), e);
+        }
+    }
+
+    @Override
+    public void invalidate(Long postId) {
+        try {
+            redisTemplate.execute(INVALIDATE_SCRIPT, List.of(KEY_PREFIX + postId), Long.toString(ttlMillis));
+            redisTemplate.convertAndSend(CHANNEL, nodeToken + ":" + postId);
+        } catch (RuntimeException e) {
+            // 다른 노드의 L1은 만료 시간(max-staleness-ms) 안에 갱신됨
+            log.warn("게시글 캐시 무효화 전파 실패: postId={}", postId, e);
+        }
+    }
+
+    @Override
+    public void addViews(Map<Long, Long> deltas) {
+        try {
+            deltas.forEach((postId, delta) -> redisTemplate.execute(ADD_VIEWS_SCRIPT,
+                    List.of(KEY_PREFIX + postId), Long.toString(delta)));
+        } catch (RuntimeException e) {
+            log.warn("게시글 L2 조회수 반영 실패: posts={}", deltas.size(), e);
+        }
+    }
+
+    @Override
+    public void onRemoteInvalidation(Consumer<Long> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public boolean enabled() {
+        return true;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeToken)) {
+            return;
+        }
+        try {
+            Long postId = Long.valueOf(body.substring(separator + 1));
+            listeners.forEach(listener -> listener.accept(postId));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 게시글 무효화 메시지: {}", body);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        container.destroy();
+    }
+
+    private static byte[] key(Long postId) {
+        return (KEY_PREFIX + postId).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,324 @@
+package com.kraft.service.purge;
+
+import com.kraft.common.jdbc.Bulkhead;
+import com.kraft.common.jdbc.UseBulkhead;
+import com.kraft.domain.comment.CommentLink;
+import com.kraft.domain.post.PostLink;
+import com.kraft.service.CommentService;
+import com.kraft.service.PostService;
+import com.kraft.service.pagination.PageCountCache;
+import com.kraft.service.version.CollectionVersions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+/**
+ * soft delete된 회원/게시글/댓글의 숨김과 실제 행 삭제 작업
+ * - 회원 탈퇴 요청은 탈퇴 시각만 기록하므로, 탈퇴 회원의 게시글/댓글은 이 작업이 숨김
+ * - 1단계: 탈퇴 회원의 게시글과 댓글을 청크 단위로 숨김
+ * - 2단계: 숨긴 댓글의 하위 답글을 청크 단위로 숨김 (부모 행 삭제 시 연쇄 삭제되는 답글)
+ * - 3단계: 삭제된 게시글의 댓글을 청크 단위로 삭제한 뒤 게시글 행 삭제
+ * - 4단계: 탈퇴 회원이 다른 게시글에 남긴 댓글을 청크 단위로 삭제하고 계정 행 삭제
+ * - 청크마다 별도 트랜잭션으로 실행하고 청크 사이에 대기해 잠금 점유와 DB 부하를 제한
+ * - 한 주기에 처리하는 청크 수를 제한해 다른 스케줄 작업을 오래 막지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kraft.purge.enabled", havingValue = "true", matchIfMissing = true)
+@UseBulkhead(Bulkhead.BATCH)
+public class PurgeJob {
+
+    // 한 주기에 살펴보는 탈퇴 회원 수
+    private static final int USER_SCAN_LIMIT = 100;
+
+    private static final String DELETED_USERS_SQL =
+            "SELECT id FROM users WHERE deleted_at IS NOT NULL ORDER BY id LIMIT :limit";
+
+    private static final String LIVE_POSTS_OF_USER_SQL =
+            "SELECT id, category_id FROM posts " +
+            "WHERE author_id = :authorId AND deleted_at IS NULL ORDER BY id LIMIT :limit";
+    private static final String LIVE_COMMENTS_OF_USER_SQL =
+            "SELECT id, post_id, parent_id FROM comments " +
+            "WHERE author_id = :authorId AND deleted_at IS NULL ORDER BY id LIMIT :limit";
+    // 한 번에 한 단계씩 내려가며, 숨긴 답글의 하위 답글은 다음 청크에서 조회됨
+    private static final String LIVE_REPLIES_OF_HIDDEN_SQL =
+            "SELECT c.id, c.post_id, c.parent_id FROM comments c JOIN comments p ON p.id = c.parent_id " +
+            "WHERE p.deleted_at IS NOT NULL AND c.deleted_at IS NULL ORDER BY c.id LIMIT :limit";
+
+    private static final RowMapper<PostLink> POST_LINK = (rs, rowNum) ->
+            new PostLink(rs.getLong("id"), toLong(rs.getObject("category_id")));
+    private static final RowMapper<CommentLink> COMMENT_LINK = (rs, rowNum) ->
+            new CommentLink(rs.getLong("id"), rs.getLong("post_id"), toLong(rs.getObject("parent_id")));
+
+    private static final String DELETED_POSTS_SQL =
+            "SELECT id FROM posts WHERE deleted_at IS NOT NULL ORDER BY id LIMIT :limit";
+    // 답글이 부모보다 먼저 지워지도록 최신 ID부터 삭제
+    private static final String COMMENTS_OF_POSTS_SQL =
+            "SELECT id FROM comments WHERE post_id IN (:postIds) ORDER BY id DESC LIMIT :limit";
+    private static final String DELETE_COMMENTS_SQL = "DELETE FROM comments WHERE id IN (:ids)";
+    private static final String DELETE_POSTS_SQL = "DELETE FROM posts WHERE id IN (:ids) AND deleted_at IS NOT NULL";
+
+    private static final String POST_COUNT_OF_USER_SQL = "SELECT COUNT(*) FROM posts WHERE author_id = :authorId";
+    private static final String COMMENTS_OF_USER_SQL =
+            "SELECT id, post_id, parent_id FROM comments WHERE author_id = :authorId ORDER BY id DESC LIMIT :limit";
+    private static final String RECOUNT_POSTS_SQL =
+            "UPDATE posts SET comment_count = " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.post_id = posts.id AND c.deleted_at IS NULL) WHERE id IN (:ids)";
+    private static final String RECOUNT_REPLIES_SQL =
+            "UPDATE comments SET reply_count = " +
+            "(SELECT COUNT(*) FROM comments r WHERE r.parent_id = comments.id AND r.deleted_at IS NULL) WHERE id IN (:ids)";
+    private static final String DELETE_USER_SQL = "DELETE FROM users WHERE id = :id AND deleted_at IS NOT NULL";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostService postService;
+    private final CommentService commentService;
+    private final PageCountCache pageCountCache;
+    private final CollectionVersions collectionVersions;
+    private final int chunkSize;
+    private final int postChunkSize;
+    private final int maxBatchesPerRun;
+    private final long throttleMs;
+    private final Counter hiddenPosts;
+    private final Counter hiddenComments;
+    private final Counter purgedPosts;
+    private final Counter purgedComments;
+    private final Counter purgedUsers;
+    private final ReentrantLock purgeLock = new ReentrantLock();
+
+    public PurgeJob(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PostService postService,
+            CommentService commentService,
+            PageCountCache pageCountCache,
+            CollectionVersions collectionVersions,
+            MeterRegistry meterRegistry,
+            @Value("${kraft.purge.chunk-size:500}") int chunkSize,
+            @Value("${kraft.purge.post-chunk-size:100}") int postChunkSize,
+            @Value("${kraft.purge.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${kraft.purge.throttle-ms:50}") long throttleMs
+    ) {
+        if (chunkSize <= 0 || postChunkSize <= 0 || maxBatchesPerRun <= 0 || throttleMs < 0) {
+            throw new IllegalArgumentException("purge 설정값이 올바르지 않습니다");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postService = postService;
+        this.commentService = commentService;
+        this.pageCountCache = pageCountCache;
+        this.collectionVersions = collectionVersions;
+        this.chunkSize = chunkSize;
+        this.postChunkSize = postChunkSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.throttleMs = throttleMs;
+        this.hiddenPosts = hideCounter(meterRegistry, "posts");
+        this.hiddenComments = hideCounter(meterRegistry, "comments");
+        this.purgedPosts = purgeCounter(meterRegistry, "posts");
+        this.purgedComments = purgeCounter(meterRegistry, "comments");
+        this.purgedUsers = purgeCounter(meterRegistry, "users");
+    }
+
+    private static Counter purgeCounter(MeterRegistry meterRegistry, String table) {
+        return Counter.builder("kraft.purge.rows")
+                .tag("table", table)
+                .description("PurgeJob이 실제 삭제한 행 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter hideCounter(MeterRegistry meterRegistry, String table) {
+        return Counter.builder("kraft.purge.hidden")
+                .tag("table", table)
+                .description("PurgeJob이 탈퇴 회원 정리로 숨긴 행 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${kraft.purge.interval-ms:10000}",
+            fixedDelayString = "${kraft.purge.interval-ms:10000}"
+    )
+    public void purge() {
+        if (!purgeLock.tryLock()) {
+            return;
+        }
+        try {
+            Budget budget = new Budget(maxBatchesPerRun);
+            hideContentOfDeletedUsers(budget);
+            hideRepliesOfHiddenComments(budget);
+            purgeDeletedPosts(budget);
+            purgeDeletedUsers(budget);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("purge 중단: 인터럽트");
+        } finally {
+            purgeLock.unlock();
+        }
+    }
+
+    /**
+     * 탈퇴 회원의 게시글, 댓글 순으로 청크 단위 숨김 (숨김 시각은 탈퇴 시각과 무관하게 처리 시각)
+     */
+    private void hideContentOfDeletedUsers(Budget budget) throws InterruptedException {
+        for (Long userId : deletedUserIds()) {
+            while (budget.hasRemaining()) {
+                List<PostLink> posts = jdbcTemplate.query(LIVE_POSTS_OF_USER_SQL,
+                        new MapSqlParameterSource("authorId", userId).addValue("limit", postChunkSize),
+                        POST_LINK);
+                if (posts.isEmpty()) {
+                    break;
+                }
+                int hidden = runBatch(budget, () -> postService.hidePosts(posts, LocalDateTime.now()));
+                hiddenPosts.increment(hidden);
+            }
+
+            while (budget.hasRemaining()) {
+                List<CommentLink> comments = jdbcTemplate.query(LIVE_COMMENTS_OF_USER_SQL,
+                        new MapSqlParameterSource("authorId", userId).addValue("limit", chunkSize),
+                        COMMENT_LINK);
+                if (comments.isEmpty()) {
+                    break;
+                }
+                int hidden = runBatch(budget, () -> commentService.hideComments(comments, LocalDateTime.now()));
+                hiddenComments.increment(hidden);
+            }
+        }
+    }
+
+    private void hideRepliesOfHiddenComments(Budget budget) throws InterruptedException {
+        while (budget.hasRemaining()) {
+            List<CommentLink> replies = jdbcTemplate.query(LIVE_REPLIES_OF_HIDDEN_SQL,
+                    new MapSqlParameterSource("limit", chunkSize),
+                    COMMENT_LINK);
+            if (replies.isEmpty()) {
+                return;
+            }
+            int hidden = runBatch(budget, () -> commentService.hideComments(replies, LocalDateTime.now()));
+            hiddenComments.increment(hidden);
+        }
+    }
+
+    private void purgeDeletedPosts(Budget budget) throws InterruptedException {
+        while (budget.hasRemaining()) {
+            List<Long> postIds = jdbcTemplate.queryForList(DELETED_POSTS_SQL,
+                    new MapSqlParameterSource("limit", postChunkSize), Long.class);
+            if (postIds.isEmpty()) {
+                return;
+            }
+
+            List<Long> commentIds = jdbcTemplate.queryForList(COMMENTS_OF_POSTS_SQL,
+                    new MapSqlParameterSource("postIds", postIds).addValue("limit", chunkSize), Long.class);
+            if (!commentIds.isEmpty()) {
+                int deleted = runBatch(budget, () ->
+                        jdbcTemplate.update(DELETE_COMMENTS_SQL, new MapSqlParameterSource("ids", commentIds)));
+                purgedComments.increment(deleted);
+                continue;
+            }
+
+            int deleted = runBatch(budget, () ->
+                    jdbcTemplate.update(DELETE_POSTS_SQL, new MapSqlParameterSource("ids", postIds)));
+            purgedPosts.increment(deleted);
+            log.debug("삭제된 게시글 정리: posts={}", deleted);
+        }
+    }
+
+    private void purgeDeletedUsers(Budget budget) throws InterruptedException {
+        for (Long userId : deletedUserIds()) {
+            MapSqlParameterSource byAuthor = new MapSqlParameterSource("authorId", userId);
+            Long remainingPosts = jdbcTemplate.queryForObject(POST_COUNT_OF_USER_SQL, byAuthor, Long.class);
+            if (remainingPosts == null || remainingPosts > 0) {
+                continue; // 게시글 정리가 끝난 뒤 다음 주기에 처리
+            }
+
+            while (budget.hasRemaining()) {
+                List<Map<String, Object>> comments = jdbcTemplate.queryForList(COMMENTS_OF_USER_SQL,
+                        new MapSqlParameterSource("authorId", userId).addValue("limit", chunkSize));
+                if (comments.isEmpty()) {
+                    int deleted = runBatch(budget, () ->
+                            jdbcTemplate.update(DELETE_USER_SQL, new MapSqlParameterSource("id", userId)));
+                    purgedUsers.increment(deleted);
+                    log.info("탈퇴 회원 정리 완료: userId={}", userId);
+                    break;
+                }
+                purgedComments.increment(runBatch(budget, () -> deleteForeignComments(comments)));
+            }
+        }
+    }
+
+    /**
+     * 다른 게시글에 남긴 댓글 삭제 후 영향을 받은 댓글 수/답글 수를 다시 계산
+     */
+    private int deleteForeignComments(List<Map<String, Object>> comments) {
+        List<Long> ids = comments.stream().map(row -> toLong(row.get("id"))).toList();
+        Set<Long> postIds = new TreeSet<>();
+        Set<Long> parentIds = new TreeSet<>();
+        for (Map<String, Object> row : comments) {
+            postIds.add(toLong(row.get("post_id")));
+            Long parentId = toLong(row.get("parent_id"));
+            if (parentId != null) {
+                parentIds.add(parentId);
+            }
+        }
+
+        int deleted = jdbcTemplate.update(DELETE_COMMENTS_SQL, new MapSqlParameterSource("ids", ids));
+        jdbcTemplate.update(RECOUNT_POSTS_SQL, new MapSqlParameterSource("ids", postIds));
+        if (!parentIds.isEmpty()) {
+            jdbcTemplate.update(RECOUNT_REPLIES_SQL, new MapSqlParameterSource("ids", parentIds));
+        }
+        postIds.forEach(postId -> pageCountCache.invalidate(PageCountCache.parentComments(postId)));
+        collectionVersions.bump(CollectionVersions.POST_STATS);
+        return deleted;
+    }
+
+    private List<Long> deletedUserIds() {
+        return jdbcTemplate.queryForList(DELETED_USERS_SQL, new MapSqlParameterSource("limit", USER_SCAN_LIMIT), Long.class);
+    }
+
+    private int runBatch(Budget budget, IntSupplier batch) throws InterruptedException {
+        Integer affected = transactionTemplate.execute(status -> batch.getAsInt());
+        budget.consume();
+        if (throttleMs > 0 && budget.hasRemaining()) {
+            Thread.sleep(throttleMs);
+        }
+        return affected != null ? affected : 0;
+    }
+
+    private static Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    /**
+     * 한 주기에 실행할 수 있는 남은 청크 수
+     */
+    private static final class Budget {
+
+        private int remaining;
+
+        private Budget(int remaining) {
+            this.remaining = remaining;
+        }
+
+        private boolean hasRemaining() {
+            return remaining > 0;
+        }
+
+        private void consume() {
+            remaining--;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.kraft.service.ranking;
+
+/**
+ * 지수 감쇠 점수 계산 (로그 공간)
+ * <p>
+ * 시각 t의 조회 1건이 현재 시각 now에 갖는 가중치는 2^-((now - t) / halfLife)이다.
+ * 모든 게시글에 같은 감쇠 배수 2^-(now / halfLife)가 곱해지므로 순위만 필요하면
+ * 각 조회를 2^((t - EPOCH) / halfLife)로 더해도 된다. 이 값은 시간이 지날수록 커져 double 범위를
+ * 넘기 때문에 자연로그 공간에서 누적한다: score = ln(Σ 2^((t - EPOCH) / halfLife))
+ * <p>
+ * 점수가 시간에 따라 스스로 줄어들지 않으므로 갱신 없이도 순위가 유지되고,
+ * 여러 노드가 같은 EPOCH를 쓰면 Redis에서도 그대로 합산할 수 있다.
+ */
+public final class DecayedScore {
+
+    /**
+     * 2025-01-01T00:00:00Z
+     */
+    static final long EPOCH_MILLIS = 1_735_689_600_000L;
+
+    private static final double LN_2 = Math.log(2);
+
+    private DecayedScore() {
+    }
+
+    /**
+     * 시각 nowMillis의 조회 1건에 해당하는 로그 가중치
+     */
+    public static double logWeight(long nowMillis, double halfLifeMillis) {
+        return (nowMillis - EPOCH_MILLIS) / halfLifeMillis * LN_2;
+    }
+
+    /**
+     * ln(e^a + e^b)를 오버플로 없이 계산
+     */
+    public static double logAdd(double a, double b) {
+        double max = Math.max(a, b);
+        double min = Math.min(a, b);
+        return max + Math.log1p(Math.exp(min - max));
+    }
+}
@@ -0,0 +1,108 @@
+package com.kraft.service.ranking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인메모리 게시글 순위 (단일 노드용, 기본값)
+ * - 순위표별 Leaderboard를 두고 조회 이벤트로 갱신
+ * - 재적재 시각은 순위표 범위(전체/카테고리)별로 기록
+ */
+@Component
+@ConditionalOnProperty(name = "kraft.ranking.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPostRanking implements PostRanking {
+
+    private static final long GLOBAL_SCOPE = -1L;
+
+    private final int capacity;
+    private final double halfLifeMillis;
+    private final long reseedIntervalMillis;
+
+    private final Map<Long, Leaderboard> allTime = new ConcurrentHashMap<>();
+    private final Map<Long, Leaderboard> trending = new ConcurrentHashMap<>();
+    private final Map<Long, Long> seededAt = new ConcurrentHashMap<>();
+
+    public InMemoryPostRanking(
+            @Value("${kraft.ranking.capacity:1000}") int capacity,
+            @Value("${kraft.ranking.trending-half-life-ms:86400000}") long halfLifeMillis,
+            @Value("${kraft.ranking.reseed-interval-ms:600000}") long reseedIntervalMillis
+    ) {
+        this.capacity = capacity;
+        this.halfLifeMillis = halfLifeMillis;
+        this.reseedIntervalMillis = reseedIntervalMillis;
+    }
+
+    @Override
+    public void recordView(Long postId, Long categoryId, long totalViews) {
+        double weight = DecayedScore.logWeight(System.currentTimeMillis(), halfLifeMillis);
+        for (long scope : scopes(categoryId)) {
+            board(allTime, scope).update(postId, totalViews, Math::max);
+            board(trending, scope).update(postId, weight, DecayedScore::logAdd);
+        }
+    }
+
+    @Override
+    public void remove(Long postId, Long categoryId) {
+        for (long scope : scopes(categoryId)) {
+            board(allTime, scope).remove(postId);
+            board(trending, scope).remove(postId);
+        }
+    }
+
+    @Override
+    public List<Long> top(RankingType type, Long categoryId, int limit) {
+        long[] ids = board(boards(type), scope(categoryId)).top(limit);
+        return Arrays.stream(ids).boxed().toList();
+    }
+
+    @Override
+    public int size(RankingType type, Long categoryId) {
+        return board(boards(type), scope(categoryId)).size();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean tryAcquireSeed(Long categoryId) {
+        long now = System.currentTimeMillis();
+        long scope = scope(categoryId);
+        Long previous = seededAt.get(scope);
+        if (previous != null && now - previous < reseedIntervalMillis) {
+            return false;
+        }
+        return previous == null
+                ? seededAt.putIfAbsent(scope, now) == null
+                : seededAt.replace(scope, previous, now);
+    }
+
+    @Override
+    public void seedAllTime(Long categoryId, Map<Long, Long> viewCounts) {
+        Leaderboard board = board(allTime, scope(categoryId));
+        viewCounts.forEach((postId, views) -> board.update(postId, views, Math::max));
+    }
+
+    private Map<Long, Leaderboard> boards(RankingType type) {
+        return type == RankingType.ALL_TIME ? allTime : trending;
+    }
+
+    private Leaderboard board(Map<Long, Leaderboard> boards, long scope) {
+        return boards.computeIfAbsent(scope, key -> new Leaderboard(capacity));
+    }
+
+    private static long[] scopes(Long categoryId) {
+        return categoryId == null ? new long[]{GLOBAL_SCOPE} : new long[]{GLOBAL_SCOPE, categoryId};
+    }
+
+    private static long scope(Long categoryId) {
+        return categoryId == null ? GLOBAL_SCOPE : categoryId;
+    }
+}
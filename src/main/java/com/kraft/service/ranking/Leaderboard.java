@@ -0,0 +1,84 @@
+package com.kraft.service.ranking;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.DoubleBinaryOperator;
+
+/**
+ * 크기가 제한된 상위 K 순위표
+ * - 점수 내림차순(동점이면 최신 게시글 우선) 정렬 집합 + 게시글별 점수 맵
+ * - 갱신 O(log K), 상위 n건 조회 O(n)
+ * - 용량을 넘으면 최하위 게시글을 제거 (제거된 게시글은 다시 갱신될 때 새 점수로 들어옴)
+ */
+final class Leaderboard {
+
+    private final int capacity;
+    private final TreeSet<Entry> ranking = new TreeSet<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    Leaderboard(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * 점수 갱신
+     * @param postId 게시글 ID
+     * @param score 새로 반영할 점수
+     * @param combine (기존 점수, 새 점수) -> 저장할 점수
+     */
+    synchronized void update(long postId, double score, DoubleBinaryOperator combine) {
+        Entry current = entries.get(postId);
+        double next = score;
+        if (current != null) {
+            next = combine.applyAsDouble(current.score(), score);
+            if (next == current.score()) {
+                return;
+            }
+            ranking.remove(current);
+        } else if (ranking.size() >= capacity && !ranking.isEmpty()
+                && new Entry(postId, score).compareTo(ranking.first()) <= 0) {
+            return;
+        }
+
+        Entry entry = new Entry(postId, next);
+        ranking.add(entry);
+        entries.put(postId, entry);
+        if (ranking.size() > capacity) {
+            entries.remove(ranking.pollFirst().postId());
+        }
+    }
+
+    synchronized void remove(long postId) {
+        Entry entry = entries.remove(postId);
+        if (entry != null) {
+            ranking.remove(entry);
+        }
+    }
+
+    /**
+     * 상위 limit건의 게시글 ID (점수 내림차순)
+     */
+    synchronized long[] top(int limit) {
+        long[] ids = new long[Math.min(limit, ranking.size())];
+        Iterator<Entry> iterator = ranking.descendingIterator();
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = iterator.next().postId();
+        }
+        return ids;
+    }
+
+    synchronized int size() {
+        return ranking.size();
+    }
+
+    private record Entry(long postId, double score) implements Comparable<Entry> {
+
+        @Override
+        public int compareTo(Entry other) {
+            int compared = Double.compare(score, other.score);
+            return compared != 0 ? compared : Long.compare(postId, other.postId);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.kraft.service.ranking;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 인기/트렌딩 순위
+ * - 전체 및 카테고리별로 누적 조회수(ALL_TIME)와 감쇠 조회수(TRENDING) 상위 K개를 유지
+ * - 조회 이벤트마다 증분 갱신하므로 순위 조회 시 posts 테이블을 정렬하지 않음
+ * - categoryId가 null이면 전체 순위
+ */
+public interface PostRanking {
+
+    /**
+     * 조회 1건 반영
+     * @param postId 게시글 ID
+     * @param categoryId 카테고리 ID (없으면 null)
+     * @param totalViews 이번 조회를 포함한 누적 조회수
+     */
+    void recordView(Long postId, Long categoryId, long totalViews);
+
+    /**
+     * 게시글 제거 (삭제 시)
+     */
+    void remove(Long postId, Long categoryId);
+
+    /**
+     * 상위 게시글 ID 조회
+     * @param type 순위 종류
+     * @param categoryId 카테고리 ID (전체 순위면 null)
+     * @param limit 최대 건수
+     * @return 순위순 게시글 ID
+     */
+    List<Long> top(RankingType type, Long categoryId, int limit);
+
+    /**
+     * 순위표에 들어 있는 게시글 수
+     */
+    int size(RankingType type, Long categoryId);
+
+    /**
+     * 순위표별 최대 게시글 수
+     */
+    int capacity();
+
+    /**
+     * 누적 조회수 순위표를 DB 값으로 채워야 하는지 확인하고, 필요하면 이 호출자가 채우도록 예약
+     * 재적재 주기마다 한 번(다중 노드면 전체 노드 중 한 곳)만 true를 반환한다
+     */
+    boolean tryAcquireSeed(Long categoryId);
+
+    /**
+     * 누적 조회수 순위표를 DB 값으로 채움 (기존 점수보다 큰 값만 반영)
+     * @param viewCounts 게시글 ID -> 누적 조회수
+     */
+    void seedAllTime(Long categoryId, Map<Long, Long> viewCounts);
+}
@@ -0,0 +1,11 @@
+package com.kraft.service.ranking;
+
+/**
+ * 게시글 순위 종류
+ * - ALL_TIME: 누적 조회수
+ * - TRENDING: 반감기 기반 지수 감쇠 조회수 (최근 조회일수록 높은 가중치)
+ */
+public enum RankingType {
+    ALL_TIME,
+    TRENDING
+}
@@ -0,0 +1,139 @@
+package com.kraft.service.ranking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis Sorted Set 기반 게시글 순위 (다중 노드용)
+ * - 순위표마다 ZSET 하나를 두고 Lua 스크립트로 원자적으로 갱신 후 용량 초과분을 잘라냄
+ * - ALL_TIME: 기존 점수보다 클 때만 누적 조회수로 교체
+ * - TRENDING: 로그 공간 가중치를 ln(e^a + e^b)로 합산 (DecayedScore 참고)
+ * - 재적재 예약은 SET NX PX로 노드 간 한 번만 수행
+ */
+@Component
+@ConditionalOnProperty(name = "kraft.ranking.store", havingValue = "redis")
+public class RedisPostRanking implements PostRanking {
+
+    private static final String KEY_PREFIX = "kraft:ranking:";
+    private static final String GLOBAL_SCOPE = "all";
+
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('ZSCORE', KEYS[1], ARGV[2])
+            local score = tonumber(ARGV[1])
+            if current then
+                current = tonumber(current)
+                if ARGV[3] == 'max' then
+                    if current >= score then
+                        return 0
+                    end
+                else
+                    local high = math.max(current, score)
+                    score = high + math.log(1 + math.exp(math.min(current, score) - high))
+                end
+            end
+            redis.call('ZADD', KEYS[1], score, ARGV[2])
+            local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[4])
+            if overflow > 0 then
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, overflow - 1)
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int capacity;
+    private final double halfLifeMillis;
+    private final Duration reseedInterval;
+
+    public RedisPostRanking(
+            StringRedisTemplate redisTemplate,
+            @Value("${kraft.ranking.capacity:1000}") int capacity,
+            @Value("${kraft.ranking.trending-half-life-ms:86400000}") long halfLifeMillis,
+            @Value("${kraft.ranking.reseed-interval-ms:600000}") long reseedIntervalMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.capacity = capacity;
+        this.halfLifeMillis = halfLifeMillis;
+        this.reseedInterval = Duration.ofMillis(reseedIntervalMillis);
+    }
+
+    @Override
+    public void recordView(Long postId, Long categoryId, long totalViews) {
+        String weight = Double.toString(DecayedScore.logWeight(System.currentTimeMillis(), halfLifeMillis));
+        for (String scope : scopes(categoryId)) {
+            update(key(RankingType.ALL_TIME, scope), postId, Long.toString(totalViews), "max");
+            update(key(RankingType.TRENDING, scope), postId, weight, "logadd");
+        }
+    }
+
+    @Override
+    public void remove(Long postId, Long categoryId) {
+        for (String scope : scopes(categoryId)) {
+            redisTemplate.opsForZSet().remove(key(RankingType.ALL_TIME, scope), postId.toString());
+            redisTemplate.opsForZSet().remove(key(RankingType.TRENDING, scope), postId.toString());
+        }
+    }
+
+    @Override
+    public List<Long> top(RankingType type, Long categoryId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(key(type, scope(categoryId)), 0, limit - 1);
+        List<Long> ids = new ArrayList<>();
+        if (members != null) {
+            members.forEach(member -> ids.add(Long.valueOf(member)));
+        }
+        return ids;
+    }
+
+    @Override
+    public int size(RankingType type, Long categoryId) {
+        Long size = redisTemplate.opsForZSet().zCard(key(type, scope(categoryId)));
+        return size != null ? size.intValue() : 0;
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public boolean tryAcquireSeed(Long categoryId) {
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(KEY_PREFIX + "seeded:" + scope(categoryId), "1", reseedInterval);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    @Override
+    public void seedAllTime(Long categoryId, Map<Long, Long> viewCounts) {
+        String key = key(RankingType.ALL_TIME, scope(categoryId));
+        viewCounts.forEach((postId, views) -> update(key, postId, Long.toString(views), "max"));
+    }
+
+    private void update(String key, Long postId, String score, String mode) {
+        redisTemplate.execute(UPDATE_SCRIPT, List.of(key), score, postId.toString(), mode, Integer.toString(capacity));
+    }
+
+    private static String key(RankingType type, String scope) {
+        return KEY_PREFIX + type.name().toLowerCase(Locale.ROOT) + ":" + scope;
+    }
+
+    private static List<String> scopes(Long categoryId) {
+        return categoryId == null ? List.of(GLOBAL_SCOPE) : List.of(GLOBAL_SCOPE, scope(categoryId));
+    }
+
+    private static String scope(Long categoryId) {
+        return categoryId == null ? GLOBAL_SCOPE : "category:" + categoryId;
+    }
+}
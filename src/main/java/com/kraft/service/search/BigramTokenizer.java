@@ -0,0 +1,67 @@
+package com.kraft.service.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 문자 바이그램 토크나이저
+ * - 형태소 분석 없이 한글 검색을 지원하기 위해 연속된 글자/숫자 구간을 2글자 단위로 분할
+ * - "게시판입니다" -> [게시, 시판, 판입, 입니, 니다]
+ * - NFKC 정규화 후 소문자로 변환하며, 1글자 구간은 색인하지 않음
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 텍스트를 바이그램으로 분할하고 등장 횟수를 센다
+     * @param text 원문
+     * @return 바이그램별 등장 횟수 (등장 순서 유지)
+     */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        if (text == null || text.isEmpty()) {
+            return frequencies;
+        }
+
+        String normalized = normalize(text);
+        int runStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && runStart < 0) {
+                runStart = i;
+            } else if (!wordChar && runStart >= 0) {
+                for (int j = runStart; j + 1 < i; j++) {
+                    frequencies.merge(normalized.substring(j, j + 2), 1, Integer::sum);
+                }
+                runStart = -1;
+            }
+        }
+        return frequencies;
+    }
+
+    /**
+     * 바이그램 분할 전 정규화 (NFKC 후 소문자)
+     * @param text 원문
+     * @return 정규화된 텍스트 (null이면 빈 문자열)
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 텍스트의 중복 없는 바이그램 목록
+     * @param text 원문
+     * @return 바이그램 목록
+     */
+    public static List<String> terms(String text) {
+        return List.copyOf(termFrequencies(text).keySet());
+    }
+}
@@ -0,0 +1,364 @@
+package com.kraft.service.search;
+
+import com.kraft.common.transaction.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/내용 역색인
+ * - 바이그램 -> 포스팅(게시글 ID, 가중 빈도) 목록
+ * - 제목 바이그램은 TITLE_WEIGHT배 가중치로 기록
+ * - 점수: Σ(빈도 × idf), idf = ln(1 + N / df), 동점이면 최신 게시글 우선
+ * - AND 검색은 바이그램 교집합 후보를 정규화된 제목/내용의 부분 문자열 일치로 다시 걸러 LIKE 검색과 같은 결과를 반환
+ *   (바이그램만으로는 "스프링"이 "스프 프링"에도 일치하므로 게시글별 정규화 원문을 함께 보관)
+ * - PostService의 등록/수정/삭제가 커밋된 뒤 증분 반영
+ * - 최초 구축(PostSearchIndexInitializer)이 끝나기 전에는 isReady()가 false이며 호출 측은 SQL 검색을 사용
+ * - kraft.search.index.enabled=false면 구축하지 않으므로 증분 반영도 하지 않음 (사용하지 않는 포스팅이 쌓이지 않도록)
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    static final int TITLE_WEIGHT = 3;
+
+    private static final Comparator<ScoredDoc> LOWEST_FIRST =
+            Comparator.comparingDouble(ScoredDoc::score).thenComparingLong(ScoredDoc::id);
+
+    private final boolean enabled;
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, IndexedDoc> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 구축 중 증분 반영된 게시글 ID (구축 스캔 결과보다 최신이므로 스캔 값으로 덮어쓰지 않음)
+     */
+    private final Set<Long> touchedDuringBuild = new HashSet<>();
+    private boolean building;
+    private volatile boolean ready;
+
+    public PostSearchIndex(@Value("${kraft.search.index.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 역색인으로 처리할 수 있는 검색어인지 확인
+     * 색인이 준비되지 않았거나 바이그램이 없는 검색어(1글자 등)는 SQL 검색을 사용해야 한다
+     */
+    public boolean canServe(String keyword) {
+        return ready && !BigramTokenizer.terms(keyword).isEmpty();
+    }
+
+    /**
+     * 게시글 색인 (트랜잭션 안이면 커밋 후 반영, 색인이 꺼져 있으면 무시)
+     */
+    public void index(Long postId, String title, String content) {
+        if (enabled) {
+            AfterCommit.run(() -> put(postId, title, content));
+        }
+    }
+
+    /**
+     * 게시글 색인 제거 (트랜잭션 안이면 커밋 후 반영, 색인이 꺼져 있으면 무시)
+     */
+    public void remove(Long postId) {
+        if (enabled) {
+            AfterCommit.run(() -> delete(postId));
+        }
+    }
+
+    /**
+     * 검색
+     * @param keyword 검색어
+     * @param operator 바이그램 결합 방식
+     * @param limit 반환할 상위 결과 수
+     * @return 상위 limit건의 게시글 ID와 전체 일치 건수
+     */
+    public SearchResult search(String keyword, SearchOperator operator, int limit) {
+        List<String> terms = BigramTokenizer.terms(keyword);
+        String phrase = BigramTokenizer.normalize(keyword);
+        // 검색어가 바이그램 하나 그대로면 포스팅 자체가 부분 문자열 일치이므로 원문 대조 생략
+        String verify = terms.size() == 1 && terms.get(0).equals(phrase) ? null : phrase;
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null || list.isEmpty()) {
+                    if (operator == SearchOperator.AND) {
+                        return new SearchResult(new long[0], 0);
+                    }
+                    continue;
+                }
+                lists.add(list);
+            }
+            if (lists.isEmpty()) {
+                return new SearchResult(new long[0], 0);
+            }
+
+            double[] idf = new double[lists.size()];
+            int docCount = documents.size();
+            for (int i = 0; i < lists.size(); i++) {
+                idf[i] = Math.log(1.0 + (double) docCount / lists.get(i).size());
+            }
+
+            TopK topK = new TopK(Math.max(limit, 0));
+            if (operator == SearchOperator.AND) {
+                intersect(lists, idf, verify, topK);
+            } else {
+                union(lists, idf, topK);
+            }
+            return topK.toResult();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 최초 구축 시작 (이 시점 이후의 증분 반영은 구축 스캔 결과보다 우선)
+     */
+    public void beginBuild() {
+        lock.writeLock().lock();
+        try {
+            building = true;
+            touchedDuringBuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 구축 스캔으로 읽은 게시글 색인
+     */
+    public void addFromBuild(Long postId, String title, String content) {
+        Map<String, Integer> frequencies = weightedFrequencies(title, content);
+        IndexedDoc doc = IndexedDoc.of(frequencies, title, content);
+        lock.writeLock().lock();
+        try {
+            if (!touchedDuringBuild.contains(postId)) {
+                putLocked(postId, frequencies, doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 최초 구축 완료 후 검색에 사용 가능 상태로 전환
+     */
+    public void completeBuild() {
+        lock.writeLock().lock();
+        try {
+            building = false;
+            touchedDuringBuild.clear();
+            ready = true;
+            log.info("게시글 검색 색인 구축 완료: documents={}, terms={}", documents.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void put(Long postId, String title, String content) {
+        Map<String, Integer> frequencies = weightedFrequencies(title, content);
+        IndexedDoc doc = IndexedDoc.of(frequencies, title, content);
+        lock.writeLock().lock();
+        try {
+            markTouched(postId);
+            putLocked(postId, frequencies, doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void delete(Long postId) {
+        lock.writeLock().lock();
+        try {
+            markTouched(postId);
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putLocked(Long postId, Map<String, Integer> frequencies, IndexedDoc doc) {
+        removeLocked(postId);
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), key -> new Postings()).put(postId, entry.getValue());
+        }
+        documents.put(postId, doc);
+    }
+
+    private void removeLocked(Long postId) {
+        IndexedDoc doc = documents.remove(postId);
+        if (doc == null) {
+            return;
+        }
+        for (String term : doc.terms()) {
+            Postings list = postings.get(term);
+            if (list != null) {
+                list.remove(postId);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private void markTouched(Long postId) {
+        if (building) {
+            touchedDuringBuild.add(postId);
+        }
+    }
+
+    private static Map<String, Integer> weightedFrequencies(String title, String content) {
+        Map<String, Integer> frequencies = BigramTokenizer.termFrequencies(content);
+        BigramTokenizer.termFrequencies(title)
+                .forEach((term, count) -> frequencies.merge(term, count * TITLE_WEIGHT, Integer::sum));
+        return frequencies;
+    }
+
+    /**
+     * 가장 짧은 포스팅을 기준으로 나머지 포스팅을 전진 탐색하며 교집합 계산
+     * @param phrase 후보가 제목/내용에 그대로 포함해야 하는 정규화 검색어 (null이면 대조하지 않음)
+     */
+    private void intersect(List<Postings> lists, double[] idf, String phrase, TopK topK) {
+        int driver = 0;
+        for (int i = 1; i < lists.size(); i++) {
+            if (lists.get(i).size() < lists.get(driver).size()) {
+                driver = i;
+            }
+        }
+
+        Postings shortest = lists.get(driver);
+        int[] positions = new int[lists.size()];
+        outer:
+        for (int d = 0; d < shortest.size(); d++) {
+            long docId = shortest.docId(d);
+            double score = shortest.frequency(d) * idf[driver];
+            for (int i = 0; i < lists.size(); i++) {
+                if (i == driver) {
+                    continue;
+                }
+                Postings list = lists.get(i);
+                positions[i] = list.advance(positions[i], docId);
+                if (positions[i] >= list.size()) {
+                    return;
+                }
+                if (list.docId(positions[i]) != docId) {
+                    continue outer;
+                }
+                score += list.frequency(positions[i]) * idf[i];
+            }
+            if (phrase == null || documents.get(docId).contains(phrase)) {
+                topK.offer(docId, score);
+            }
+        }
+    }
+
+    /**
+     * 포스팅 목록들을 ID 순으로 병합하며 합집합 계산
+     */
+    private static void union(List<Postings> lists, double[] idf, TopK topK) {
+        int[] positions = new int[lists.size()];
+        while (true) {
+            long docId = Long.MAX_VALUE;
+            for (int i = 0; i < lists.size(); i++) {
+                if (positions[i] < lists.get(i).size()) {
+                    docId = Math.min(docId, lists.get(i).docId(positions[i]));
+                }
+            }
+            if (docId == Long.MAX_VALUE) {
+                return;
+            }
+
+            double score = 0;
+            for (int i = 0; i < lists.size(); i++) {
+                Postings list = lists.get(i);
+                if (positions[i] < list.size() && list.docId(positions[i]) == docId) {
+                    score += list.frequency(positions[i]) * idf[i];
+                    positions[i]++;
+                }
+            }
+            topK.offer(docId, score);
+        }
+    }
+
+    private record ScoredDoc(long id, double score) {
+    }
+
+    /**
+     * 색인된 게시글의 바이그램 목록과 정규화된 제목/내용 (AND 검색 후보 대조용)
+     */
+    private record IndexedDoc(String[] terms, String title, String content) {
+
+        static IndexedDoc of(Map<String, Integer> frequencies, String title, String content) {
+            return new IndexedDoc(frequencies.keySet().toArray(String[]::new),
+                    BigramTokenizer.normalize(title), BigramTokenizer.normalize(content));
+        }
+
+        boolean contains(String phrase) {
+            return title.contains(phrase) || content.contains(phrase);
+        }
+    }
+
+    /**
+     * 크기 k의 최소 힙으로 상위 k건 유지
+     */
+    private static final class TopK {
+
+        private final int k;
+        private final PriorityQueue<ScoredDoc> heap;
+        private long hits;
+
+        TopK(int k) {
+            this.k = k;
+            this.heap = new PriorityQueue<>(Math.max(k, 1), LOWEST_FIRST);
+        }
+
+        void offer(long docId, double score) {
+            hits++;
+            if (k == 0) {
+                return;
+            }
+            ScoredDoc doc = new ScoredDoc(docId, score);
+            if (heap.size() < k) {
+                heap.offer(doc);
+            } else if (LOWEST_FIRST.compare(doc, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(doc);
+            }
+        }
+
+        SearchResult toResult() {
+            long[] ids = new long[heap.size()];
+            for (int i = ids.length - 1; i >= 0; i--) {
+                ids[i] = heap.poll().id();
+            }
+            return new SearchResult(ids, hits);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.kraft.service.search;
+
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSearchDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * 애플리케이션 기동 후 백그라운드에서 게시글 검색 색인 구축
+ * - 게시글을 스트리밍으로 읽어 색인하므로 전체 게시글을 메모리에 올리지 않음
+ * - 구축이 끝나기 전까지 검색은 SQL(LIKE)로 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kraft.search.index.enabled", havingValue = "true", matchIfMissing = true)
+public class PostSearchIndexInitializer {
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostSearchIndexInitializer(
+            PostSearchIndex postSearchIndex,
+            PostRepository postRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.postSearchIndex = postSearchIndex;
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildAsync() {
+        Thread.ofPlatform()
+                .name("post-search-index-builder")
+                .daemon(true)
+                .start(this::build);
+    }
+
+    void build() {
+        long startedAt = System.currentTimeMillis();
+        postSearchIndex.beginBuild();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<PostSearchDocument> documents = postRepository.streamAllSearchDocuments()) {
+                    documents.forEach(doc -> postSearchIndex.addFromBuild(doc.id(), doc.title(), doc.content()));
+                }
+            });
+            postSearchIndex.completeBuild();
+            log.info("게시글 검색 색인 구축 소요 시간: {}ms", System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("게시글 검색 색인 구축 실패, SQL 검색을 계속 사용합니다", e);
+        }
+    }
+}
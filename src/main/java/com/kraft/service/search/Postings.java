@@ -0,0 +1,77 @@
+package com.kraft.service.search;
+
+import java.util.Arrays;
+
+/**
+ * 한 바이그램의 포스팅 목록
+ * - 게시글 ID 오름차순으로 정렬된 long[]과 가중 빈도 int[]를 나란히 보관
+ * - 게시글은 대부분 ID 순서대로 추가되므로 삽입은 보통 배열 끝에 붙는다
+ * - 동기화는 PostSearchIndex의 락으로 처리
+ */
+final class Postings {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] docIds = new long[INITIAL_CAPACITY];
+    private int[] frequencies = new int[INITIAL_CAPACITY];
+    private int size;
+
+    void put(long docId, int frequency) {
+        int index = indexOf(docId);
+        if (index >= 0) {
+            frequencies[index] = frequency;
+            return;
+        }
+
+        int insertAt = -(index + 1);
+        if (size == docIds.length) {
+            int capacity = docIds.length * 2;
+            docIds = Arrays.copyOf(docIds, capacity);
+            frequencies = Arrays.copyOf(frequencies, capacity);
+        }
+        System.arraycopy(docIds, insertAt, docIds, insertAt + 1, size - insertAt);
+        System.arraycopy(frequencies, insertAt, frequencies, insertAt + 1, size - insertAt);
+        docIds[insertAt] = docId;
+        frequencies[insertAt] = frequency;
+        size++;
+    }
+
+    void remove(long docId) {
+        int index = indexOf(docId);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(docIds, index + 1, docIds, index, size - index - 1);
+        System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * from 위치부터 docId 이상인 첫 위치를 찾는다 (AND 교집합 계산용)
+     * @return 위치, 없으면 size
+     */
+    int advance(int from, long docId) {
+        int index = Arrays.binarySearch(docIds, from, size, docId);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    int indexOf(long docId) {
+        return Arrays.binarySearch(docIds, 0, size, docId);
+    }
+
+    long docId(int index) {
+        return docIds[index];
+    }
+
+    int frequency(int index) {
+        return frequencies[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.kraft.service.search;
+
+import java.util.Locale;
+
+/**
+ * 검색어 바이그램 결합 방식
+ * - AND: 모든 바이그램을 포함하고 검색어를 그대로 포함한 게시글 (LIKE 검색과 같은 결과)
+ * - OR: 하나 이상의 바이그램을 포함한 게시글을 점수순으로
+ */
+public enum SearchOperator {
+    AND,
+    OR;
+
+    public static SearchOperator from(String value) {
+        try {
+            return SearchOperator.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("지원하지 않는 검색 연산자입니다: " + value);
+        }
+    }
+}
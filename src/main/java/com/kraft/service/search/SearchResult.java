@@ -0,0 +1,27 @@
+package com.kraft.service.search;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 역색인 검색 결과
+ * @param rankedIds 점수 내림차순 상위 게시글 ID (요청한 limit까지)
+ * @param totalHits 조건에 맞는 전체 게시글 수
+ */
+public record SearchResult(long[] rankedIds, long totalHits) {
+
+    /**
+     * 페이지에 해당하는 게시글 ID
+     * @param page 페이지 번호
+     * @param size 페이지 크기
+     * @return 게시글 ID 목록
+     */
+    public List<Long> pageIds(int page, int size) {
+        long from = (long) page * size;
+        if (from >= rankedIds.length) {
+            return List.of();
+        }
+        int to = (int) Math.min(rankedIds.length, from + size);
+        return Arrays.stream(rankedIds, (int) from, to).boxed().toList();
+    }
+}
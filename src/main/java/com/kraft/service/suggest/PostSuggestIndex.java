@@ -0,0 +1,227 @@
+package com.kraft.service.suggest;
+
+import com.kraft.common.transaction.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 제목 자동완성 색인
+ * - 조회는 volatile 스냅샷(불변 SuggestTrie)과 불변 오버레이만 읽으므로 락이 없음
+ * - 등록/수정은 커밋 후 작은 오버레이에 copy-on-write로 추가되어 즉시 조회되고,
+ *   오버레이가 OVERLAY_LIMIT을 넘거나 rebuild-interval-ms가 지나면 새 트라이로 합쳐 교체
+ * - 삭제·수정 전 후보는 조회 시 후보 맵과 대조해 걸러냄
+ * - kraft.suggest.enabled=false면 적재하지 않으므로 등록/삭제도 반영하지 않음 (사용하지 않는 후보가 쌓이지 않도록)
+ */
+@Slf4j
+@Component
+public class PostSuggestIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+    static final int MAX_KEY_LENGTH = 48;
+    static final int OVERLAY_LIMIT = 256;
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong(Suggestion::viewCount).reversed()
+            .thenComparing(Suggestion::id, Comparator.reverseOrder());
+
+    private final boolean enabled;
+    private final long rebuildIntervalMillis;
+    private final Map<Long, Suggestion> entries = new ConcurrentHashMap<>();
+    private volatile SuggestTrie snapshot = SuggestTrie.EMPTY;
+    private volatile Map<Long, OverlayEntry> overlay = Map.of();
+    private volatile boolean dirty;
+    private volatile long lastRebuildAt = System.currentTimeMillis();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * 전체 재적재 중 반영된 게시글 ID (재적재 결과보다 최신이므로 덮어쓰지 않음)
+     */
+    private final Set<Long> touchedDuringReload = new HashSet<>();
+    private boolean reloading;
+
+    public PostSuggestIndex(
+            @Value("${kraft.suggest.enabled:true}") boolean enabled,
+            @Value("${kraft.suggest.rebuild-interval-ms:30000}") long rebuildIntervalMillis
+    ) {
+        this.enabled = enabled;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+    }
+
+    /**
+     * 접두사로 시작하는 단어를 제목에 포함한 게시글을 조회수 순으로 조회
+     * @param prefix 입력 중인 검색어 (완성되지 않은 음절 포함 가능)
+     * @param limit 최대 결과 수 (MAX_SUGGESTIONS 이하)
+     * @return 자동완성 후보
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = HangulJamo.decompose(prefix == null ? "" : prefix.strip());
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            key = key.substring(0, MAX_KEY_LENGTH);
+        }
+
+        Map<Long, OverlayEntry> currentOverlay = overlay;
+        List<Suggestion> matches = new ArrayList<>();
+        for (Suggestion candidate : snapshot.lookup(key)) {
+            Suggestion current = entries.get(candidate.id());
+            if (current != null && current.title().equals(candidate.title())
+                    && !currentOverlay.containsKey(candidate.id())) {
+                matches.add(current);
+            }
+        }
+        for (OverlayEntry entry : currentOverlay.values()) {
+            if (entry.matches(key) && entries.get(entry.suggestion().id()) == entry.suggestion()) {
+                matches.add(entry.suggestion());
+            }
+        }
+
+        matches.sort(RANKING);
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    /**
+     * 게시글 후보 등록/수정 (트랜잭션 안이면 커밋 후 반영, 자동완성이 꺼져 있으면 무시)
+     */
+    public void put(Long postId, String title, long viewCount) {
+        if (enabled) {
+            AfterCommit.run(() -> apply(postId, new Suggestion(postId, title, viewCount)));
+        }
+    }
+
+    /**
+     * 게시글 후보 제거 (트랜잭션 안이면 커밋 후 반영, 자동완성이 꺼져 있으면 무시)
+     */
+    public void remove(Long postId) {
+        if (enabled) {
+            AfterCommit.run(() -> apply(postId, null));
+        }
+    }
+
+    /**
+     * 오버레이가 커졌거나 변경 후 rebuild-interval-ms가 지났으면 새 스냅샷으로 교체
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void rebuildIfDirty() {
+        boolean overlayFull = overlay.size() >= OVERLAY_LIMIT;
+        boolean stale = dirty && System.currentTimeMillis() - lastRebuildAt >= rebuildIntervalMillis;
+        if (overlayFull || stale) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 재적재 시작 (이후의 put/remove는 재적재 결과보다 우선)
+     */
+    public synchronized void beginReload() {
+        reloading = true;
+        touchedDuringReload.clear();
+    }
+
+    /**
+     * 전체 재적재 완료 후 스냅샷 교체
+     * @param loaded DB에서 읽은 전체 후보
+     */
+    public void completeReload(List<Suggestion> loaded) {
+        synchronized (this) {
+            Set<Long> loadedIds = new HashSet<>();
+            for (Suggestion suggestion : loaded) {
+                loadedIds.add(suggestion.id());
+                if (!touchedDuringReload.contains(suggestion.id())) {
+                    entries.put(suggestion.id(), suggestion);
+                }
+            }
+            entries.keySet().removeIf(id -> !loadedIds.contains(id) && !touchedDuringReload.contains(id));
+            reloading = false;
+            touchedDuringReload.clear();
+        }
+        rebuild();
+    }
+
+    /**
+     * 전체 재적재 실패 시 재적재 상태 해제
+     */
+    public synchronized void abortReload() {
+        reloading = false;
+        touchedDuringReload.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private synchronized void apply(Long postId, Suggestion suggestion) {
+        if (reloading) {
+            touchedDuringReload.add(postId);
+        }
+
+        Map<Long, OverlayEntry> next = new HashMap<>(overlay);
+        if (suggestion == null) {
+            entries.remove(postId);
+            next.remove(postId);
+        } else {
+            entries.put(postId, suggestion);
+            next.put(postId, OverlayEntry.of(suggestion));
+        }
+        overlay = Map.copyOf(next);
+        dirty = true;
+    }
+
+    /**
+     * 빌드는 rebuildLock으로 한 번에 하나만 실행
+     * (주기 교체와 재적재 완료가 겹쳐 먼저 시작한 오래된 트라이가 나중에 교체되는 것을 막음)
+     */
+    private void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            Map<Long, OverlayEntry> merged = overlay;
+            SuggestTrie trie = SuggestTrie.build(List.copyOf(entries.values()), MAX_SUGGESTIONS, MAX_KEY_LENGTH);
+
+            synchronized (this) {
+                snapshot = trie;
+                // 빌드 중 새로 들어온 변경은 오버레이에 남겨 다음 교체 때 합친다
+                Map<Long, OverlayEntry> remaining = new HashMap<>(overlay);
+                remaining.entrySet().removeIf(entry -> merged.get(entry.getKey()) == entry.getValue());
+                overlay = Map.copyOf(remaining);
+                dirty = !remaining.isEmpty();
+                lastRebuildAt = System.currentTimeMillis();
+            }
+            log.debug("자동완성 스냅샷 교체: posts={}, elapsed={}ms", trie.size(), System.currentTimeMillis() - startedAt);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷에 아직 합쳐지지 않은 후보와 단어 시작 위치별 자모 키
+     */
+    private record OverlayEntry(Suggestion suggestion, List<String> keys) {
+
+        static OverlayEntry of(Suggestion suggestion) {
+            return new OverlayEntry(suggestion, SuggestTrie.keysOf(suggestion.title(), MAX_KEY_LENGTH));
+        }
+
+        boolean matches(String prefix) {
+            for (String key : keys) {
+                if (key.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.kraft.service.suggest;
+
+import com.kraft.common.jdbc.Bulkhead;
+import com.kraft.common.jdbc.BulkheadContext;
+import com.kraft.common.jdbc.UseBulkhead;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 자동완성 색인 전체 적재
+ * - 기동 후 백그라운드에서 최초 적재
+ * - 조회수 가중치는 ViewCountFlusher가 DB에 반영한 값을 주기적으로 재적재해 갱신
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kraft.suggest.enabled", havingValue = "true", matchIfMissing = true)
+@UseBulkhead(Bulkhead.BATCH)
+public class PostSuggestIndexLoader {
+
+    private final PostSuggestIndex postSuggestIndex;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostSuggestIndexLoader(
+            PostSuggestIndex postSuggestIndex,
+            PostRepository postRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.postSuggestIndex = postSuggestIndex;
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAsync() {
+        Thread.ofPlatform()
+                .name("post-suggest-index-loader")
+                .daemon(true)
+                .start(() -> BulkheadContext.run(Bulkhead.BATCH, this::reload));
+    }
+
+    @Scheduled(
+            initialDelayString = "${kraft.suggest.reload-interval-ms:300000}",
+            fixedDelayString = "${kraft.suggest.reload-interval-ms:300000}"
+    )
+    public void reload() {
+        long startedAt = System.currentTimeMillis();
+        postSuggestIndex.beginReload();
+        try {
+            List<Suggestion> loaded = new ArrayList<>();
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<PostSummary> summaries = postRepository.streamAllSummariesDesc()) {
+                    summaries.forEach(summary ->
+                            loaded.add(new Suggestion(summary.id(), summary.title(), summary.viewCount())));
+                }
+            });
+            postSuggestIndex.completeReload(loaded);
+            log.info("자동완성 색인 적재 완료: posts={}, elapsed={}ms",
+                    loaded.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            postSuggestIndex.abortReload();
+            log.error("자동완성 색인 적재 실패", e);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.kraft.service.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 불변 압축 트라이 (radix trie)
+ * - 키: 제목의 각 단어 시작 위치부터의 자모 분해 문자열 (최대 maxKeyLength자)
+ * - 단일 자식 경로는 하나의 label로 압축
+ * - 각 노드에 하위 키 전체의 조회수 상위 K개 후보를 미리 계산해 두므로
+ *   조회는 접두사 길이만큼 내려가는 O(|prefix|)로 끝난다
+ * - 생성 후 변경하지 않으므로 락 없이 여러 스레드가 동시에 조회 가능
+ */
+final class SuggestTrie {
+
+    static final SuggestTrie EMPTY = new SuggestTrie(new Node(new char[0], new char[0], new Node[0], new int[0]), new Suggestion[0]);
+
+    private static final int[] NO_MATCH = new int[0];
+
+    private final Node root;
+    private final Suggestion[] suggestions;
+
+    private SuggestTrie(Node root, Suggestion[] suggestions) {
+        this.root = root;
+        this.suggestions = suggestions;
+    }
+
+    /**
+     * 후보 목록으로 트라이 생성
+     * @param candidates 자동완성 후보
+     * @param topK 노드별로 보관할 상위 후보 수
+     * @param maxKeyLength 키 최대 길이 (자모 기준)
+     */
+    static SuggestTrie build(List<Suggestion> candidates, int topK, int maxKeyLength) {
+        Suggestion[] suggestions = candidates.toArray(Suggestion[]::new);
+        List<Key> keys = new ArrayList<>();
+        for (int i = 0; i < suggestions.length; i++) {
+            for (String key : keysOf(suggestions[i].title(), maxKeyLength)) {
+                keys.add(new Key(key, i));
+            }
+        }
+        if (keys.isEmpty()) {
+            return EMPTY;
+        }
+
+        keys.sort(Comparator.comparing(Key::text));
+        Builder builder = new Builder(keys, topK, suggestions);
+        return new SuggestTrie(builder.build(0, keys.size(), 0), suggestions);
+    }
+
+    /**
+     * 접두사로 시작하는 키의 상위 후보 조회
+     * @param prefix 자모 분해된 접두사
+     * @return 조회수 내림차순 후보
+     */
+    List<Suggestion> lookup(String prefix) {
+        int[] top = find(prefix);
+        List<Suggestion> result = new ArrayList<>(top.length);
+        for (int index : top) {
+            result.add(suggestions[index]);
+        }
+        return result;
+    }
+
+    int size() {
+        return suggestions.length;
+    }
+
+    private int[] find(String prefix) {
+        if (prefix.isEmpty()) {
+            return NO_MATCH;
+        }
+
+        Node node = root;
+        int pos = 0;
+        while (true) {
+            char[] label = node.label;
+            for (int i = 0; i < label.length; i++, pos++) {
+                if (pos == prefix.length()) {
+                    return node.top;
+                }
+                if (label[i] != prefix.charAt(pos)) {
+                    return NO_MATCH;
+                }
+            }
+            if (pos == prefix.length()) {
+                return node.top;
+            }
+
+            int child = Arrays.binarySearch(node.firstChars, prefix.charAt(pos));
+            if (child < 0) {
+                return NO_MATCH;
+            }
+            node = node.children[child];
+        }
+    }
+
+    /**
+     * 제목의 색인 키 목록
+     * 단어 시작 위치(문자열 시작 및 공백/구두점 다음 글자)부터의 자모 분해 문자열을 maxKeyLength자로 자른 값
+     */
+    static List<String> keysOf(String title, int maxKeyLength) {
+        List<String> keys = new ArrayList<>();
+        if (title == null) {
+            return keys;
+        }
+
+        String jamo = HangulJamo.decompose(title);
+        boolean previousWordChar = false;
+        for (int i = 0; i < jamo.length(); i++) {
+            boolean wordChar = Character.isLetterOrDigit(jamo.charAt(i));
+            if (wordChar && !previousWordChar) {
+                keys.add(jamo.substring(i, Math.min(jamo.length(), i + maxKeyLength)));
+            }
+            previousWordChar = wordChar;
+        }
+        return keys;
+    }
+
+    private record Key(String text, int suggestion) {
+    }
+
+    private record Node(char[] label, char[] firstChars, Node[] children, int[] top) {
+    }
+
+    private static final class Builder {
+
+        private final List<Key> keys;
+        private final int topK;
+        private final Suggestion[] suggestions;
+
+        Builder(List<Key> keys, int topK, Suggestion[] suggestions) {
+            this.keys = keys;
+            this.topK = topK;
+            this.suggestions = suggestions;
+        }
+
+        /**
+         * keys[from, to)는 앞 depth글자가 같으며 정렬되어 있으므로
+         * 첫 키와 마지막 키의 공통 접두사가 구간 전체의 공통 접두사
+         */
+        Node build(int from, int to, int depth) {
+            String first = keys.get(from).text();
+            String last = keys.get(to - 1).text();
+            int end = depth;
+            int limit = Math.min(first.length(), last.length());
+            while (end < limit && first.charAt(end) == last.charAt(end)) {
+                end++;
+            }
+
+            TopBuffer top = new TopBuffer(topK);
+            int i = from;
+            while (i < to && keys.get(i).text().length() == end) {
+                top.offer(keys.get(i).suggestion());
+                i++;
+            }
+
+            List<Node> children = new ArrayList<>();
+            StringBuilder firstChars = new StringBuilder();
+            while (i < to) {
+                char c = keys.get(i).text().charAt(end);
+                int groupEnd = i + 1;
+                while (groupEnd < to && keys.get(groupEnd).text().charAt(end) == c) {
+                    groupEnd++;
+                }
+                Node child = build(i, groupEnd, end);
+                firstChars.append(c);
+                children.add(child);
+                for (int index : child.top()) {
+                    top.offer(index);
+                }
+                i = groupEnd;
+            }
+
+            return new Node(
+                    first.substring(depth, end).toCharArray(),
+                    firstChars.toString().toCharArray(),
+                    children.toArray(Node[]::new),
+                    top.toArray()
+            );
+        }
+
+        /**
+         * 조회수 내림차순(동점이면 최신 게시글 우선)으로 정렬된 상위 K개 후보 버퍼
+         */
+        private final class TopBuffer {
+
+            private final int[] items;
+            private int size;
+
+            TopBuffer(int capacity) {
+                this.items = new int[capacity];
+            }
+
+            void offer(int index) {
+                for (int i = 0; i < size; i++) {
+                    if (items[i] == index) {
+                        return;
+                    }
+                }
+                if (size == items.length) {
+                    if (size == 0 || !ranksBefore(index, items[size - 1])) {
+                        return;
+                    }
+                    size--;
+                }
+
+                int pos = size++;
+                while (pos > 0 && ranksBefore(index, items[pos - 1])) {
+                    items[pos] = items[pos - 1];
+                    pos--;
+                }
+                items[pos] = index;
+            }
+
+            int[] toArray() {
+                return Arrays.copyOf(items, size);
+            }
+
+            private boolean ranksBefore(int a, int b) {
+                long weightA = suggestions[a].viewCount();
+                long weightB = suggestions[b].viewCount();
+                if (weightA != weightB) {
+                    return weightA > weightB;
+                }
+                return suggestions[a].id() > suggestions[b].id();
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.kraft.service.suggest;
+
+/**
+ * 자동완성 후보
+ * @param id 게시글 ID
+ * @param title 게시글 제목
+ * @param viewCount 순위 가중치 (조회수)
+ */
+public record Suggestion(
+        Long id,
+        String title,
+        long viewCount
+) {
+}
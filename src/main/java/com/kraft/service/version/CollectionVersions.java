@@ -0,0 +1,62 @@
+package com.kraft.service.version;
+
+import com.kraft.common.transaction.AfterCommit;
+
+/**
+ * 목록(컬렉션)별 버전 카운터
+ * - 컬렉션이 바뀌는 쓰기마다 증가하고, 목록 응답의 ETag를 만드는 데 사용
+ *   (바뀌지 않은 목록은 카운터 조회 한 번 + 304로 응답)
+ * - 카운터는 현재 시각(ms)에서 시작: 재시작/저장소 초기화 후에도 이전에 발급한 버전을 다시 쓰지 않음
+ * - kraft.collection-version.store=local(기본): 노드 내 카운터 (단일 노드 전용)
+ * - kraft.collection-version.store=redis: Redis INCR로 노드 간 공유
+ */
+public interface CollectionVersions {
+
+    /**
+     * 전체 게시글 목록 (작성/수정/삭제)
+     */
+    String POSTS = "posts";
+
+    /**
+     * 게시글 목록에 표시되는 댓글 수
+     * - 조회수 반영(ViewCountFlusher)은 올리지 않음: 매 주기 모든 목록의 304가 깨지므로 약한 ETag 차이로 허용
+     */
+    String POST_STATS = "posts:stats";
+
+    /**
+     * 조회수 순서(인기순, 조회수 정렬) 목록의 순위 에포크
+     * - ViewCountFlusher가 반영 후 ranking-epoch-ms마다 한 번 올림: 순위 목록의 304는 최대 그 시간만큼만 유지
+     */
+    String POST_RANKING = "posts:ranking";
+
+    /**
+     * 카테고리 목록 (생성/수정/삭제)
+     */
+    String CATEGORIES = "categories";
+
+    static String postsByCategory(Long categoryId) {
+        return "posts:category:" + categoryId;
+    }
+
+    /**
+     * 현재 버전 조회 (저장소 왕복 한 번)
+     * @param collections 컬렉션 키
+     * @return 인자 순서대로의 버전
+     */
+    long[] current(String... collections);
+
+    /**
+     * 버전 증가 (즉시)
+     */
+    void increment(String... collections);
+
+    /**
+     * 버전 증가 (트랜잭션 안이면 커밋 후, 밖이면 즉시)
+     * - 커밋 전에 증가하면 새 버전으로 커밋 전 목록을 캐시한 클라이언트가 변경을 놓침
+     */
+    default void bump(String... collections) {
+        if (collections.length > 0) {
+            AfterCommit.run(() -> increment(collections));
+        }
+    }
+}
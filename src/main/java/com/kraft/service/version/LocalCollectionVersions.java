@@ -0,0 +1,37 @@
+package com.kraft.service.version;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드 내 컬렉션 버전 카운터 (단일 노드 전용)
+ */
+@Component
+@ConditionalOnProperty(name = "kraft.collection-version.store", havingValue = "local", matchIfMissing = true)
+public class LocalCollectionVersions implements CollectionVersions {
+
+    private final ConcurrentHashMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    @Override
+    public long[] current(String... collections) {
+        long[] result = new long[collections.length];
+        for (int i = 0; i < collections.length; i++) {
+            result[i] = counter(collections[i]).get();
+        }
+        return result;
+    }
+
+    @Override
+    public void increment(String... collections) {
+        for (String collection : collections) {
+            counter(collection).incrementAndGet();
+        }
+    }
+
+    private AtomicLong counter(String collection) {
+        return versions.computeIfAbsent(collection, key -> new AtomicLong(System.currentTimeMillis()));
+    }
+}
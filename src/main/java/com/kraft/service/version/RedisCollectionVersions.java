@@ -0,0 +1,93 @@
+package com.kraft.service.version;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis 기반 컬렉션 버전 카운터 (노드 간 공유)
+ * - 조회: MGET 한 번, 없는 키만 현재 시각으로 초기화
+ * - 증가: 없는 키는 현재 시각으로 초기화한 뒤 INCR
+ * - 조회 실패 시 매번 다른 음수 버전을 돌려줘 ETag가 일치하지 않게 함 (304 대신 전체 응답)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kraft.collection-version.store", havingValue = "redis")
+public class RedisCollectionVersions implements CollectionVersions {
+
+    private static final String KEY_PREFIX = "kraft:version:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SEED_SCRIPT = new DefaultRedisScript<>("""
+            local result = {}
+            for i, key in ipairs(KEYS) do
+                redis.call('SET', key, ARGV[1], 'NX')
+                result[i] = tonumber(redis.call('GET', key))
+            end
+            return result
+            """, List.class);
+
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            for _, key in ipairs(KEYS) do
+                redis.call('SET', key, ARGV[1], 'NX')
+                redis.call('INCR', key)
+            end
+            return #KEYS
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisCollectionVersions(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long[] current(String... collections) {
+        List<String> keys = keys(collections);
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null || values.contains(null)) {
+                values = seed(keys);
+            }
+            long[] result = new long[collections.length];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = Long.parseLong(values.get(i));
+            }
+            return result;
+        } catch (RuntimeException e) {
+            log.warn("컬렉션 버전 조회 실패, 조건부 요청 검증 생략: collections={}", keys, e);
+            long[] result = new long[collections.length];
+            Arrays.setAll(result, i -> -1 - ThreadLocalRandom.current().nextLong(Long.MAX_VALUE));
+            return result;
+        }
+    }
+
+    @Override
+    public void increment(String... collections) {
+        List<String> keys = keys(collections);
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, keys, String.valueOf(System.currentTimeMillis()));
+        } catch (RuntimeException e) {
+            log.warn("컬렉션 버전 증가 실패: collections={}", keys, e);
+        }
+    }
+
+    private List<String> seed(List<String> keys) {
+        List<?> seeded = redisTemplate.execute(SEED_SCRIPT, keys, String.valueOf(System.currentTimeMillis()));
+        if (seeded == null || seeded.size() != keys.size()) {
+            throw new IllegalStateException("컬렉션 버전 초기화 결과가 올바르지 않습니다: " + keys);
+        }
+        return seeded.stream().map(String::valueOf).toList();
+    }
+
+    private static List<String> keys(String... collections) {
+        return Arrays.stream(collections).map(collection -> KEY_PREFIX + collection).toList();
+    }
+}
@@ -0,0 +1,113 @@
+package com.kraft.service.viewcount;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인메모리 조회수 버퍼 (기본값)
+ * - 스레드별 stripe에 증가분을 나눠 기록해 인기 게시글 한 건에 경합이 몰리지 않도록 함
+ * - stripe 내부는 merge/remove로 원자적으로 갱신되므로 drain 중에도 증가분이 유실되지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "kraft.view-count.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryViewCountBuffer implements ViewCountBuffer {
+
+    private static final int STRIPE_COUNT = 16; // 2의 거듭제곱
+    private static final int STRIPE_MASK = STRIPE_COUNT - 1;
+
+    private final ConcurrentHashMap<Long, Long>[] stripes;
+    private volatile Map<Long, Long> inFlight = Map.of();
+
+    @SuppressWarnings("unchecked")
+    public InMemoryViewCountBuffer(MeterRegistry meterRegistry) {
+        this.stripes = new ConcurrentHashMap[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+
+        Gauge.builder("kraft.view-count.buffer.depth", this, InMemoryViewCountBuffer::pendingPosts)
+                .description("조회수 증가분이 대기 중인 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("kraft.view-count.buffer.pending", this, InMemoryViewCountBuffer::pendingViews)
+                .description("DB에 반영되지 않은 조회수 증가분 합계")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long increment(Long postId) {
+        stripeForCurrentThread().merge(postId, 1L, Long::sum);
+        return pending(postId);
+    }
+
+    @Override
+    public long pending(Long postId) {
+        long sum = inFlight.getOrDefault(postId, 0L);
+        for (ConcurrentHashMap<Long, Long> stripe : stripes) {
+            sum += stripe.getOrDefault(postId, 0L);
+        }
+        return sum;
+    }
+
+    @Override
+    public synchronized Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (ConcurrentHashMap<Long, Long> stripe : stripes) {
+            for (Long postId : stripe.keySet()) {
+                Long delta = stripe.remove(postId);
+                if (delta != null) {
+                    drained.merge(postId, delta, Long::sum);
+                }
+            }
+        }
+        inFlight = drained;
+        return Map.copyOf(drained);
+    }
+
+    @Override
+    public synchronized void acknowledge() {
+        inFlight = Map.of();
+    }
+
+    @Override
+    public synchronized void restore() {
+        ConcurrentHashMap<Long, Long> stripe = stripeForCurrentThread();
+        inFlight.forEach((postId, delta) -> stripe.merge(postId, delta, Long::sum));
+        inFlight = Map.of();
+    }
+
+    @Override
+    public void discard(Long postId) {
+        for (ConcurrentHashMap<Long, Long> stripe : stripes) {
+            stripe.remove(postId);
+        }
+    }
+
+    @Override
+    public long pendingPosts() {
+        long count = 0;
+        for (ConcurrentHashMap<Long, Long> stripe : stripes) {
+            count += stripe.size();
+        }
+        return count;
+    }
+
+    private long pendingViews() {
+        long sum = 0;
+        for (ConcurrentHashMap<Long, Long> stripe : stripes) {
+            for (Long delta : stripe.values()) {
+                sum += delta;
+            }
+        }
+        return sum;
+    }
+
+    private ConcurrentHashMap<Long, Long> stripeForCurrentThread() {
+        return stripes[(int) Thread.currentThread().threadId() & STRIPE_MASK];
+    }
+}
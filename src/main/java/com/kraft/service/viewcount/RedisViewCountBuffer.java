@@ -0,0 +1,208 @@
+package com.kraft.service.viewcount;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis 기반 조회수 버퍼 (다중 노드용)
+ * - 모든 노드가 하나의 Redis Hash에 HINCRBY로 증가분을 기록
+ * - drain 시 RENAME으로 노드 전용 처리 키(processing:노드식별자:drain시각)로 옮기므로 노드 간 중복 반영이 없음
+ * - 처리 중인 키는 모든 노드가 in-flight Set에 등록하므로 pending()은 다른 노드가 반영 중인 증가분까지 합산
+ * - 버퍼 깊이 게이지(pendingPosts)는 대기 Hash만 셈 (반영 중인 증가분은 flush 소요 시간 동안만 존재하므로 제외)
+ * - 노드가 flush 도중 종료되면 처리 키가 남으므로, 주기적으로(시작 직후 포함) orphan-threshold-ms보다 오래된
+ *   다른 노드의 처리 키를 대기 Hash에 다시 합침 (임계값은 flush 한 번의 최대 소요 시간보다 충분히 길어야 함)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kraft.view-count.store", havingValue = "redis")
+public class RedisViewCountBuffer implements ViewCountBuffer {
+
+    private static final String PENDING_KEY = "kraft:view-count:pending";
+    private static final String PROCESSING_KEY_PREFIX = "kraft:view-count:processing:";
+    private static final String IN_FLIGHT_KEY = "kraft:view-count:in-flight";
+
+    // 대기 Hash와 in-flight Set에 등록된 모든 처리 키의 증가분 합계 (ARGV[2] == '1'이면 먼저 1 증가)
+    private static final RedisScript<Long> PENDING_SCRIPT = new DefaultRedisScript<>("""
+            local total
+            if ARGV[2] == '1' then
+                total = redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            else
+                total = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0')
+            end
+            for _, key in ipairs(redis.call('SMEMBERS', KEYS[2])) do
+                total = total + tonumber(redis.call('HGET', key, ARGV[1]) or '0')
+            end
+            return total
+            """, Long.class);
+
+    // 대기 Hash를 처리 키로 옮기고 in-flight Set에 등록 (대기 Hash가 없으면 0)
+    private static final RedisScript<Long> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('RENAME', KEYS[1], KEYS[2])
+            redis.call('SADD', KEYS[3], KEYS[2])
+            return 1
+            """, Long.class);
+
+    // 반영을 마친 처리 키 삭제
+    private static final RedisScript<Long> ACKNOWLEDGE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SREM', KEYS[2], KEYS[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    // 처리 키의 증가분을 대기 Hash에 합치고 삭제 (원자적: 여러 노드가 동시에 회수해도 한 번만 합쳐짐)
+    private static final RedisScript<Long> MERGE_BACK_SCRIPT = new DefaultRedisScript<>("""
+            local entries = redis.call('HGETALL', KEYS[1])
+            for i = 1, #entries, 2 do
+                redis.call('HINCRBY', KEYS[2], entries[i], entries[i + 1])
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[3], KEYS[1])
+            return #entries / 2
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long orphanThresholdMillis;
+    private final String nodeKeyPrefix = PROCESSING_KEY_PREFIX + UUID.randomUUID() + ":";
+    private volatile String processingKey;
+
+    public RedisViewCountBuffer(
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${kraft.view-count.orphan-threshold-ms:300000}") long orphanThresholdMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.orphanThresholdMillis = orphanThresholdMillis;
+
+        Gauge.builder("kraft.view-count.buffer.depth", this, RedisViewCountBuffer::pendingPosts)
+                .description("조회수 증가분이 대기 중인 게시글 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long increment(Long postId) {
+        return pending(postId, true);
+    }
+
+    @Override
+    public long pending(Long postId) {
+        return pending(postId, false);
+    }
+
+    @Override
+    public Map<Long, Long> drain() {
+        String key = nodeKeyPrefix + System.currentTimeMillis();
+        Long moved = redisTemplate.execute(DRAIN_SCRIPT, List.of(PENDING_KEY, key, IN_FLIGHT_KEY));
+        if (moved == null || moved == 0L) {
+            return Map.of();
+        }
+        processingKey = key;
+
+        Map<Long, Long> drained = new HashMap<>();
+        hash().entries(key)
+                .forEach((field, delta) -> drained.put(Long.valueOf(field), Long.valueOf(delta)));
+        return drained;
+    }
+
+    @Override
+    public void acknowledge() {
+        String key = processingKey;
+        if (key != null) {
+            redisTemplate.execute(ACKNOWLEDGE_SCRIPT, List.of(key, IN_FLIGHT_KEY));
+            processingKey = null;
+        }
+    }
+
+    @Override
+    public void restore() {
+        String key = processingKey;
+        if (key != null) {
+            mergeBack(key);
+            processingKey = null;
+        }
+    }
+
+    @Override
+    public void discard(Long postId) {
+        hash().delete(PENDING_KEY, postId.toString());
+    }
+
+    @Override
+    public long pendingPosts() {
+        Long size = hash().size(PENDING_KEY);
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 종료된 노드가 남긴 처리 키 회수
+     * - drain 시각이 orphan-threshold-ms보다 오래된 다른 노드의 처리 키를 대기 Hash에 합침
+     * - drain 시각이 없는 이전 형식(processing:노드식별자) 키는 회수 대상
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${kraft.view-count.reclaim-interval-ms:60000}")
+    public void reclaimOrphans() {
+        long cutoff = System.currentTimeMillis() - orphanThresholdMillis;
+        List<String> orphans = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(PROCESSING_KEY_PREFIX + "*").count(100).build();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            keys.forEachRemaining(key -> {
+                if (!key.startsWith(nodeKeyPrefix) && drainedAt(key) < cutoff) {
+                    orphans.add(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("조회수 처리 키 조회 실패, 다음 주기에 재시도", e);
+            return;
+        }
+
+        for (String key : orphans) {
+            Long posts = mergeBack(key);
+            if (posts != null && posts > 0) {
+                log.warn("종료된 노드의 조회수 처리 키 회수: key={}, posts={}", key, posts);
+            }
+        }
+    }
+
+    private Long mergeBack(String key) {
+        return redisTemplate.execute(MERGE_BACK_SCRIPT, List.of(key, PENDING_KEY, IN_FLIGHT_KEY));
+    }
+
+    private long pending(Long postId, boolean increment) {
+        Long total = redisTemplate.execute(PENDING_SCRIPT, List.of(PENDING_KEY, IN_FLIGHT_KEY),
+                postId.toString(), increment ? "1" : "0");
+        return total != null ? total : 0L;
+    }
+
+    /**
+     * 처리 키 이름의 drain 시각 (없거나 읽을 수 없으면 0 → 회수 대상)
+     */
+    private static long drainedAt(String key) {
+        String suffix = key.substring(key.lastIndexOf(':') + 1);
+        try {
+            return Long.parseLong(suffix);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private HashOperations<String, String, String> hash() {
+        return redisTemplate.opsForHash();
+    }
+}
@@ -0,0 +1,52 @@
+package com.kraft.service.viewcount;
+
+import java.util.Map;
+
+/**
+ * 게시글 조회수 증가분 버퍼
+ * - 조회 요청은 버퍼에만 기록하고, DB 반영은 ViewCountFlusher가 일괄 처리
+ * - drain()으로 가져간 증가분은 acknowledge() 전까지 in-flight 상태로 pending()에 포함됨
+ */
+public interface ViewCountBuffer {
+
+    /**
+     * 조회수 1 증가
+     * @param postId 게시글 ID
+     * @return 아직 DB에 반영되지 않은 증가분 (이번 증가 포함)
+     */
+    long increment(Long postId);
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분 조회
+     * @param postId 게시글 ID
+     * @return 대기 중인 증가분
+     */
+    long pending(Long postId);
+
+    /**
+     * 대기 중인 증가분을 모두 꺼내 in-flight 상태로 전환
+     * @return 게시글 ID별 증가분
+     */
+    Map<Long, Long> drain();
+
+    /**
+     * in-flight 증가분이 DB에 반영되었음을 알림
+     */
+    void acknowledge();
+
+    /**
+     * DB 반영에 실패한 in-flight 증가분을 다시 대기 상태로 되돌림
+     */
+    void restore();
+
+    /**
+     * 삭제된 게시글의 대기 중인 증가분 폐기
+     * @param postId 게시글 ID
+     */
+    void discard(Long postId);
+
+    /**
+     * 증가분이 대기 중인 게시글 수 (버퍼 깊이)
+     */
+    long pendingPosts();
+}
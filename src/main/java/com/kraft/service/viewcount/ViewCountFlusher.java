@@ -0,0 +1,131 @@
+package com.kraft.service.viewcount;
+
+import com.kraft.common.jdbc.Bulkhead;
+import com.kraft.common.jdbc.UseBulkhead;
+import com.kraft.service.postcache.PostDetailCache;
+import com.kraft.service.version.CollectionVersions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 버퍼 flush 작업
+ * - 주기적으로 버퍼를 비워 UPDATE posts SET view_count = view_count + ? 를 JDBC batch로 실행
+ * - 애플리케이션 종료 시 남은 증가분을 마지막으로 반영
+ * - 실패한 증가분은 버퍼로 되돌려 다음 주기에 재시도
+ * - 반영한 증가분은 게시글 상세 캐시의 조회수 기준값에 합산
+ * - 일반 목록 버전은 올리지 않음: 목록 ETag는 약한 검증자라 조회수 차이로 무효화하지 않음
+ * - 조회수 순서 목록의 순위 에포크(POST_RANKING)는 ranking-epoch-ms마다 한 번 올려 순위가 바뀐 목록을 다시 받게 함
+ */
+@Slf4j
+@Component
+@UseBulkhead(Bulkhead.BATCH)
+public class ViewCountFlusher {
+
+    private static final String INCREMENT_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final ViewCountBuffer viewCountBuffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostDetailCache postDetailCache;
+    private final CollectionVersions collectionVersions;
+    private final long rankingEpochMillis;
+    private final Timer flushTimer;
+    private final Counter flushFailures;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private long lastRankingBumpMillis;
+
+    public ViewCountFlusher(
+            ViewCountBuffer viewCountBuffer,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PostDetailCache postDetailCache,
+            CollectionVersions collectionVersions,
+            MeterRegistry meterRegistry,
+            @Value("${kraft.view-count.ranking-epoch-ms:60000}") long rankingEpochMillis
+    ) {
+        if (rankingEpochMillis < 0) {
+            throw new IllegalArgumentException("kraft.view-count.ranking-epoch-ms는 0 이상이어야 합니다");
+        }
+        this.viewCountBuffer = viewCountBuffer;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postDetailCache = postDetailCache;
+        this.collectionVersions = collectionVersions;
+        this.rankingEpochMillis = rankingEpochMillis;
+        this.flushTimer = Timer.builder("kraft.view-count.flush")
+                .description("조회수 증가분 DB 반영 소요 시간")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("kraft.view-count.flush.failures")
+                .description("조회수 증가분 DB 반영 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${kraft.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> deltas = viewCountBuffer.drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            // 게시글 ID 순으로 정렬해 노드 간 행 잠금 순서를 고정 (교착 방지)
+            List<Object[]> batchArgs = deltas.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                    .toList();
+
+            Timer.Sample sample = Timer.start();
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(INCREMENT_SQL, batchArgs));
+                viewCountBuffer.acknowledge();
+                postDetailCache.addFlushedViews(deltas);
+                advanceRankingEpoch();
+                log.debug("조회수 반영 완료: posts={}", batchArgs.size());
+            } catch (RuntimeException e) {
+                viewCountBuffer.restore();
+                flushFailures.increment();
+                log.warn("조회수 반영 실패, 다음 주기에 재시도: posts={}", batchArgs.size(), e);
+            } finally {
+                sample.stop(flushTimer);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 마지막으로 올린 뒤 ranking-epoch-ms가 지났으면 순위 에포크 증가 (flushLock 안에서 호출)
+     */
+    private void advanceRankingEpoch() {
+        long now = System.currentTimeMillis();
+        if (now - lastRankingBumpMillis < rankingEpochMillis) {
+            return;
+        }
+        try {
+            collectionVersions.increment(CollectionVersions.POST_RANKING);
+            lastRankingBumpMillis = now;
+        } catch (RuntimeException e) {
+            log.warn("순위 에포크 증가 실패, 다음 반영 때 재시도", e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 조회수 버퍼 반영: pendingPosts={}", viewCountBuffer.pendingPosts());
+        flush();
+    }
+}
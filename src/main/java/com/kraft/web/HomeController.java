@@ -14,11 +14,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 @Controller
 public class HomeController {
 
+    private static final int HOME_PAGE_SIZE = 20;
+
     private final PostService postsService;
 
     @GetMapping("/")
     public String index(Model model, @LoginUser SessionUser user) {
-        model.addAttribute("posts", postsService.findAllDesc());
+        // 전체 목록 대신 최신 게시글 첫 페이지만 렌더링 (전체 목록은 /api/v1/posts/list?stream=true)
+        model.addAttribute("posts", postsService.findAllWithCursor(null, HOME_PAGE_SIZE, "DESC").content());
         if (user != null) {
             model.addAttribute("userName", user.name());
         }
@@ -0,0 +1,155 @@
+package com.kraft.web.api;
+
+import com.kraft.service.export.ExportFormat;
+import com.kraft.service.export.ExportService;
+import com.kraft.service.export.ExportTable;
+import com.kraft.web.dto.export.ExportFileDto;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 관리자 내보내기 API 컨트롤러
+ */
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/admin/exports")
+public class AdminExportApiController {
+
+    private static final String GZIP_CONTENT_TYPE = "application/gzip";
+    private static final Pattern SINGLE_RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+
+    // Tomcat sendfile: 응답 본문을 커널이 파일에서 소켓으로 직접 전송
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ExportService exportService;
+
+    /**
+     * 내보내기 시작 (관리자 전용)
+     * POST /api/v1/admin/exports?table=posts&format=ndjson
+     * - table 생략 시 posts, comments 모두
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping
+    public ResponseEntity<Void> startExport(
+            @RequestParam(required = false) String table,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        List<ExportTable> tables = table != null ? List.of(ExportTable.from(table)) : List.of(ExportTable.values());
+        boolean started = exportService.exportAsync(tables, ExportFormat.from(format));
+        log.info("내보내기 API 호출: tables={}, format={}, started={}", tables, format, started);
+        return ResponseEntity.status(started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT).build();
+    }
+
+    /**
+     * 완료된 내보내기 파일 목록 (관리자 전용)
+     * GET /api/v1/admin/exports
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    public ResponseEntity<List<ExportFileDto>> getExports() {
+        return ResponseEntity.ok(exportService.findAll());
+    }
+
+    /**
+     * 내보내기 파일 다운로드 (관리자 전용, Range 요청 지원)
+     * GET /api/v1/admin/exports/{name}
+     * - 단일 바이트 범위만 206으로 응답하고, 여러 범위/잘못된 형식은 무시하고 전체 전송
+     * - long 범위를 넘는 위치는 Long.MAX_VALUE로 취급 (시작이면 416, 끝이면 파일 끝까지, 마지막 N바이트면 전체)
+     * - sendfile을 지원하는 커넥터면 커널 zero-copy 전송, 아니면 FileChannel.transferTo로 전송
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{name}")
+    public void download(
+            @PathVariable String name,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Path file = exportService.resolve(name);
+        long length = Files.size(file);
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(name).build().toString());
+        response.setContentType(GZIP_CONTENT_TYPE);
+
+        long start = 0;
+        long end = length - 1;
+        Matcher matcher = range != null ? SINGLE_RANGE.matcher(range.trim()) : null;
+        if (matcher != null && matcher.matches() && !(matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            if (matcher.group(1).isEmpty()) {
+                // bytes=-N: 마지막 N바이트
+                start = Math.max(0, length - parsePosition(matcher.group(2)));
+            } else {
+                start = parsePosition(matcher.group(1));
+                if (!matcher.group(2).isEmpty()) {
+                    end = Math.min(end, parsePosition(matcher.group(2)));
+                }
+            }
+            if (start >= length || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if (count <= 0) {
+            return;
+        }
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * Range 헤더의 바이트 위치 (숫자만 허용하는 패턴이므로 실패는 long 범위 초과뿐)
+     */
+    private static long parsePosition(String digits) {
+        try {
+            return Long.parseLong(digits);
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
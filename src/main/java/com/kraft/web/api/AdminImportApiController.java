@@ -0,0 +1,59 @@
+package com.kraft.web.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraft.service.importer.BulkImportService;
+import com.kraft.web.dto.importer.ImportProgressDto;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 관리자 일괄 가져오기 API 컨트롤러
+ */
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/admin/import")
+public class AdminImportApiController {
+
+    private final BulkImportService bulkImportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 게시글/댓글 NDJSON 일괄 가져오기 (관리자 전용)
+     * POST /api/v1/admin/import
+     * - 요청 본문을 스트리밍으로 읽으며 청크마다 커밋
+     * - 응답은 청크 커밋마다 진행 상황 한 줄, 마지막에 done=true 요약 한 줄 (NDJSON)
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importContent(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+
+        log.info("일괄 가져오기 API 호출: contentLength={}", request.getContentLengthLong());
+        bulkImportService.importNdjson(request.getInputStream(), progress -> writeLine(out, progress));
+    }
+
+    private void writeLine(OutputStream out, ImportProgressDto progress) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(progress));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -5,15 +5,21 @@ import com.kraft.service.PostService;
 import com.kraft.web.dto.category.CategoryResponseDto;
 import com.kraft.web.dto.category.CategorySaveRequestDto;
 import com.kraft.web.dto.category.CategoryUpdateRequestDto;
+import com.kraft.web.dto.common.CursorPageResponse;
 import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.PageResponse.TotalMode;
+import com.kraft.web.dto.common.ResourceVersion;
 import com.kraft.web.dto.post.PostsListResponseDto;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -32,9 +38,14 @@ public class CategoryApiController {
     /**
      * 모든 카테고리 조회
      * GET /api/v1/categories
+     * - 스냅샷 내용 기반 ETag를 보내고, 바뀌지 않았으면 본문 없이 304로 응답
      */
     @GetMapping
-    public ResponseEntity<List<CategoryResponseDto>> getAllCategories() {
+    public ResponseEntity<List<CategoryResponseDto>> getAllCategories(WebRequest webRequest) {
+        ResourceVersion version = categoryService.findAllVersion();
+        if (webRequest.checkNotModified(version.strongEtag())) {
+            return null;
+        }
         List<CategoryResponseDto> categories = categoryService.findAll();
         return ResponseEntity.ok(categories);
     }
@@ -90,17 +101,42 @@ public class CategoryApiController {
 
     /**
      * 특정 카테고리의 게시글 목록 조회
-     * GET /api/v1/categories/{id}/posts?page=0&size=10
+     * GET /api/v1/categories/{id}/posts?page=0&size=10&count=exact
+     * - 카테고리 목록 버전 기반 약한 ETag를 보내고, 바뀌지 않았으면 본문 없이 304로 응답
      */
     @GetMapping("/{id}/posts")
     public ResponseEntity<PageResponse<PostsListResponseDto>> getPostsByCategory(
             @PathVariable Long id,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String count,
+            WebRequest webRequest
     ) {
-        PageResponse<PostsListResponseDto> response = postService.findByCategoryId(id, page, size);
+        TotalMode totalMode = TotalMode.from(count);
+        ResourceVersion version = postService.findListVersion(id, page, size, totalMode);
+        if (webRequest.checkNotModified(version.weakEtag())) {
+            return null;
+        }
+        PageResponse<PostsListResponseDto> response =
+                postService.findByCategoryId(id, page, size, totalMode);
         log.info("카테고리별 게시글 조회 API 호출: categoryId={}, results={}", id, response.totalElements());
         return ResponseEntity.ok(response);
     }
-}
 
+    /**
+     * 특정 카테고리의 게시글 커서 조회
+     * GET /api/v1/categories/{id}/posts/cursor?cursor=&size=10
+     * size: 1 ~ CursorPageResponse.MAX_SIZE (범위 밖이면 400)
+     */
+    @GetMapping("/{id}/posts/cursor")
+    public ResponseEntity<CursorPageResponse<PostsListResponseDto>> getPostsByCategoryWithCursor(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(CursorPageResponse.MAX_SIZE) int size
+    ) {
+        CursorPageResponse<PostsListResponseDto> response =
+                postService.findByCategoryIdWithCursor(id, cursor, size);
+        log.info("카테고리별 게시글 커서 조회 API 호출: categoryId={}, results={}", id, response.content().size());
+        return ResponseEntity.ok(response);
+    }
+}
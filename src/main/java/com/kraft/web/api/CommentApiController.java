@@ -6,19 +6,27 @@ import com.kraft.service.CommentService;
 import com.kraft.web.dto.comment.CommentResponseDto;
 import com.kraft.web.dto.comment.CommentSaveRequestDto;
 import com.kraft.web.dto.comment.CommentUpdateRequestDto;
+import com.kraft.web.dto.common.CursorPageResponse;
 import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.PageResponse.TotalMode;
+import com.kraft.web.dto.common.ResourceVersion;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 /**
  * 댓글 API 컨트롤러
  * /api/v1/posts/{postId}/comments
+ * - 댓글 스레드 조회는 ETag/Last-Modified를 보내고, 바뀌지 않았으면 댓글을 읽기 전에 304로 응답
+ * - 게시글/댓글 ID는 Snowflake 값이라 2^53을 넘으므로 JavaScript 클라이언트는 문자열/BigInt로 파싱해야 함
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -97,7 +105,11 @@ public class CommentApiController {
      * GET /api/v1/posts/{postId}/comments
      */
     @GetMapping
-    public ResponseEntity<List<CommentResponseDto>> getComments(@PathVariable Long postId) {
+    public ResponseEntity<List<CommentResponseDto>> getComments(@PathVariable Long postId, WebRequest webRequest) {
+        ResourceVersion version = commentService.findThreadVersion(postId);
+        if (webRequest.checkNotModified(version.strongEtag(), version.lastModifiedMillis())) {
+            return null;
+        }
         List<CommentResponseDto> comments = commentService.findByPostId(postId);
         return ResponseEntity.ok(comments);
     }
@@ -107,28 +119,73 @@ public class CommentApiController {
      * GET /api/v1/posts/{postId}/comments/parents
      */
     @GetMapping("/parents")
-    public ResponseEntity<List<CommentResponseDto>> getParentComments(@PathVariable Long postId) {
+    public ResponseEntity<List<CommentResponseDto>> getParentComments(
+            @PathVariable Long postId,
+            WebRequest webRequest
+    ) {
+        ResourceVersion version = commentService.findThreadVersion(postId);
+        if (webRequest.checkNotModified(version.strongEtag(), version.lastModifiedMillis())) {
+            return null;
+        }
         List<CommentResponseDto> comments = commentService.findParentCommentsByPostId(postId);
         return ResponseEntity.ok(comments);
     }
 
     /**
      * 특정 게시글의 부모 댓글 페이징 조회
-     * GET /api/v1/posts/{postId}/comments/page?page=0&size=10
+     * GET /api/v1/posts/{postId}/comments/page?page=0&size=10&count=exact
      */
     @GetMapping("/page")
     public ResponseEntity<PageResponse<CommentResponseDto>> getParentCommentsWithPagination(
             @PathVariable Long postId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String count,
+            WebRequest webRequest
     ) {
+        ResourceVersion version = commentService.findThreadVersion(postId);
+        if (webRequest.checkNotModified(version.strongEtag(), version.lastModifiedMillis())) {
+            return null;
+        }
         PageResponse<CommentResponseDto> response =
-                commentService.findParentCommentsWithPagination(postId, page, size);
+                commentService.findParentCommentsWithPagination(postId, page, size, TotalMode.from(count));
         log.info("댓글 페이징 조회 API 호출: postId={}, page={}, results={}",
                 postId, page, response.totalElements());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 특정 게시글의 댓글 트리 조회 (답글이 replies에 중첩됨)
+     * GET /api/v1/posts/{postId}/comments/tree
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<List<CommentResponseDto>> getCommentTree(@PathVariable Long postId, WebRequest webRequest) {
+        ResourceVersion version = commentService.findThreadVersion(postId);
+        if (webRequest.checkNotModified(version.strongEtag(), version.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok(commentService.findCommentTree(postId));
+    }
+
+    /**
+     * 특정 게시글의 부모 댓글 페이지와 하위 답글 트리 조회
+     * GET /api/v1/posts/{postId}/comments/tree/page?page=0&size=10
+     * size: 1 ~ CursorPageResponse.MAX_SIZE (범위 밖이면 400)
+     */
+    @GetMapping("/tree/page")
+    public ResponseEntity<PageResponse<CommentResponseDto>> getCommentTreePage(
+            @PathVariable Long postId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(CursorPageResponse.MAX_SIZE) int size,
+            WebRequest webRequest
+    ) {
+        ResourceVersion version = commentService.findThreadVersion(postId);
+        if (webRequest.checkNotModified(version.strongEtag(), version.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok(commentService.findCommentTreePage(postId, page, size));
+    }
+
     /**
      * 특정 댓글의 답글 목록 조회
      * GET /api/v1/posts/{postId}/comments/{parentId}/replies
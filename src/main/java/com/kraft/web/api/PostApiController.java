@@ -1,22 +1,42 @@
 package com.kraft.web.api;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kraft.config.auth.LoginUser;
 import com.kraft.config.auth.dto.SessionUser;
+import com.kraft.service.PopularPostService;
 import com.kraft.service.PostService;
+import com.kraft.service.search.SearchOperator;
+import com.kraft.web.dto.common.CursorPageResponse;
 import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.PageResponse.TotalMode;
+import com.kraft.web.dto.common.ResourceVersion;
 import com.kraft.web.dto.post.PostResponseDto;
 import com.kraft.web.dto.post.PostSaveRequestDto;
+import com.kraft.web.dto.post.PostSuggestResponseDto;
 import com.kraft.web.dto.post.PostUpdateRequestDto;
 import com.kraft.web.dto.post.PostsListResponseDto;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
+/**
+ * 게시글 API 컨트롤러
+ * /api/v1/posts
+ * - 게시글 ID는 Snowflake 값이라 2^53을 넘으므로 JavaScript 클라이언트는 문자열/BigInt로 파싱해야 함
+ */
 @Slf4j
 @RequiredArgsConstructor
 @RestController
@@ -24,6 +44,8 @@ import java.util.List;
 public class PostApiController {
 
     private final PostService postService;
+    private final PopularPostService popularPostService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<Long> createPost(
@@ -52,31 +74,84 @@ public class PostApiController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 게시글 단건 조회 (조회수 증가)
+     * GET /api/v1/posts/{id}
+     * - 수정 시각 기반 약한 ETag와 Last-Modified를 보내고, 바뀌지 않았으면 본문 없이 304로 응답
+     *   (조회수는 본문에 있지만 검증자에 포함하지 않음, 304도 조회로 집계)
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<PostResponseDto> getPost(@PathVariable Long id) {
+    public ResponseEntity<PostResponseDto> getPost(@PathVariable Long id, WebRequest webRequest) {
+        ResourceVersion version = postService.findVersion(id);
+        if (webRequest.checkNotModified(version.weakEtag(), version.lastModifiedMillis())) {
+            postService.incrementView(id);
+            return null;
+        }
         PostResponseDto post = postService.findByIdAndIncrementView(id);
         return ResponseEntity.ok(post);
     }
 
+    /**
+     * 전체 게시글 목록 스트리밍 조회
+     * GET /api/v1/posts/list (이전 호환용 stream=true 파라미터는 무시)
+     * 응답을 버퍼링하지 않고 JSON 배열 원소를 순차적으로 기록한다.
+     */
     @GetMapping("/list")
-    public ResponseEntity<List<PostsListResponseDto>> getPostList() {
-        List<PostsListResponseDto> posts = postService.findAllDesc();
-        return ResponseEntity.ok(posts);
+    public ResponseEntity<StreamingResponseBody> streamPostList() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                long written = postService.streamAllDesc(dto -> writeElement(generator, dto));
+                generator.writeEndArray();
+                log.debug("게시글 목록 스트리밍 완료: count={}", written);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     /**
      * 페이지네이션 게시글 목록 조회
-     * GET /api/v1/posts?page=0&size=10&sort=id&direction=DESC
+     * GET /api/v1/posts?page=0&size=10&sort=id&direction=DESC&count=exact
+     * count: exact(COUNT 쿼리) | cached(캐시된 근사치) | none(전체 건수 생략)
+     * - 목록 버전 기반 약한 ETag를 보내고, 바뀌지 않았으면 본문 없이 304로 응답
+     *   (sort=viewCount는 순위 에포크도 포함해 조회수 반영으로 바뀐 순서를 다시 받음)
      */
     @GetMapping
     public ResponseEntity<PageResponse<PostsListResponseDto>> getPostsWithPagination(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sort,
-            @RequestParam(defaultValue = "DESC") String direction
+            @RequestParam(defaultValue = "DESC") String direction,
+            @RequestParam(defaultValue = "exact") String count,
+            WebRequest webRequest
     ) {
+        TotalMode totalMode = TotalMode.from(count);
+        ResourceVersion version = "viewCount".equals(sort)
+                ? postService.findRankingListVersion(null, page, size, sort, direction, totalMode)
+                : postService.findListVersion(null, page, size, sort, direction, totalMode);
+        if (webRequest.checkNotModified(version.weakEtag())) {
+            return null;
+        }
         PageResponse<PostsListResponseDto> response =
-                postService.findAllWithPagination(page, size, sort, direction);
+                postService.findAllWithPagination(page, size, sort, direction, totalMode);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 커서 기반 게시글 목록 조회
+     * GET /api/v1/posts/cursor?cursor=&size=10&direction=DESC
+     * size: 1 ~ CursorPageResponse.MAX_SIZE (범위 밖이면 400)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<PostsListResponseDto>> getPostsWithCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(CursorPageResponse.MAX_SIZE) int size,
+            @RequestParam(defaultValue = "DESC") String direction
+    ) {
+        CursorPageResponse<PostsListResponseDto> response =
+                postService.findAllWithCursor(cursor, size, direction);
         return ResponseEntity.ok(response);
     }
 
@@ -94,31 +169,99 @@ public class PostApiController {
 
     /**
      * 게시글 검색
-     * GET /api/v1/posts/search?keyword=검색어&page=0&size=10
+     * GET /api/v1/posts/search?keyword=검색어&page=0&size=10&count=exact&operator=and
+     * operator: and(모든 바이그램 포함) | or(하나 이상 포함, 점수순) - 검색 색인 사용 시에만 적용
      */
     @GetMapping("/search")
     public ResponseEntity<PageResponse<PostsListResponseDto>> searchPosts(
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "exact") String count,
+            @RequestParam(defaultValue = "and") String operator
     ) {
         PageResponse<PostsListResponseDto> response =
-                postService.searchPosts(keyword, page, size);
+                postService.searchPosts(keyword, page, size, TotalMode.from(count), SearchOperator.from(operator));
         log.info("게시글 검색 API 호출: keyword={}, results={}", keyword, response.totalElements());
         return ResponseEntity.ok(response);
     }
 
     /**
-     * 인기 게시글 조회 (조회수 기준)
-     * GET /api/v1/posts/popular?page=0&size=10
+     * 게시글 제목 자동완성
+     * GET /api/v1/posts/suggest?q=스프&size=10
+     * 입력 중인 음절도 일치 (예: "스ㅍ", "스프" -> "스프링")
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<PostSuggestResponseDto>> suggestTitles(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(postService.suggestTitles(q, size));
+    }
+
+    /**
+     * 커서 기반 게시글 검색
+     * GET /api/v1/posts/search/cursor?keyword=검색어&cursor=&size=10
+     * size: 1 ~ CursorPageResponse.MAX_SIZE (범위 밖이면 400)
+     */
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CursorPageResponse<PostsListResponseDto>> searchPostsWithCursor(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(CursorPageResponse.MAX_SIZE) int size
+    ) {
+        CursorPageResponse<PostsListResponseDto> response =
+                postService.searchPostsWithCursor(keyword, cursor, size);
+        log.info("게시글 커서 검색 API 호출: keyword={}, results={}", keyword, response.content().size());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 인기 게시글 조회 (누적 조회수 기준)
+     * GET /api/v1/posts/popular?page=0&size=10&count=cached&categoryId=1
+     * - count 기본값은 cached (건수 캐시 사용, exact면 요청마다 COUNT 쿼리)
+     * - 목록 버전 기반 약한 ETag를 보내고, 바뀌지 않았으면 본문 없이 304로 응답
+     *   (순위 에포크 포함: 조회수 반영으로 바뀐 순위는 kraft.view-count.ranking-epoch-ms 안에 다시 받음)
      */
     @GetMapping("/popular")
     public ResponseEntity<PageResponse<PostsListResponseDto>> getPopularPosts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "cached") String count,
+            @RequestParam(required = false) Long categoryId,
+            WebRequest webRequest
     ) {
-        PageResponse<PostsListResponseDto> response = postService.findPopularPosts(page, size);
+        TotalMode totalMode = TotalMode.from(count);
+        ResourceVersion version = postService.findRankingListVersion(categoryId, "popular", page, size, totalMode);
+        if (webRequest.checkNotModified(version.weakEtag())) {
+            return null;
+        }
+        PageResponse<PostsListResponseDto> response =
+                popularPostService.findPopularPosts(categoryId, page, size, totalMode);
         log.info("인기 게시글 API 호출: page={}, results={}", page, response.totalElements());
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 트렌딩 게시글 조회 (최근 조회에 가중치를 둔 감쇠 조회수 기준)
+     * GET /api/v1/posts/trending?page=0&size=10&categoryId=1
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<PageResponse<PostsListResponseDto>> getTrendingPosts(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Long categoryId
+    ) {
+        PageResponse<PostsListResponseDto> response = popularPostService.findTrendingPosts(categoryId, page, size);
+        log.info("트렌딩 게시글 API 호출: page={}, results={}", page, response.totalElements());
+        return ResponseEntity.ok(response);
+    }
+
+    private void writeElement(JsonGenerator generator, PostsListResponseDto dto) {
+        try {
+            generator.writePOJO(dto);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
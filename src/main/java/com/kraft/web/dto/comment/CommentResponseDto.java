@@ -1,6 +1,7 @@
 package com.kraft.web.dto.comment;
 
 import com.kraft.domain.comment.Comment;
+import com.kraft.domain.comment.CommentRow;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -31,7 +32,7 @@ public record CommentResponseDto(
                 comment.getAuthor().getName(),
                 comment.getAuthor().getId(),
                 comment.getParent() != null ? comment.getParent().getId() : null,
-                comment.getReplies().size(),
+                comment.getReplyCount(),
                 null, // 답글은 별도 조회
                 comment.getCreateAt(),
                 comment.getUpdateAt()
@@ -52,11 +53,29 @@ public record CommentResponseDto(
                 comment.getAuthor().getName(),
                 comment.getAuthor().getId(),
                 comment.getParent() != null ? comment.getParent().getId() : null,
-                comment.getReplies().size(),
+                comment.getReplyCount(),
                 replyDtos,
                 comment.getCreateAt(),
                 comment.getUpdateAt()
         );
     }
-}
 
+    /**
+     * 정적 팩토리 메서드 - 댓글 프로젝션에서 생성 (트리 조립용)
+     * @param replyCount 답글 수 (집계 값)
+     * @param replies 답글 목록 (조립 중 채워지는 목록)
+     */
+    public static CommentResponseDto of(CommentRow row, int replyCount, List<CommentResponseDto> replies) {
+        return new CommentResponseDto(
+                row.id(),
+                row.content(),
+                row.authorName(),
+                row.authorId(),
+                row.parentId(),
+                replyCount,
+                replies,
+                row.createAt(),
+                row.updateAt()
+        );
+    }
+}
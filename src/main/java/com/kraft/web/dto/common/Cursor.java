@@ -0,0 +1,45 @@
+package com.kraft.web.dto.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이지네이션 위치
+ * - 마지막으로 반환한 행의 (정렬 키, ID)를 불투명한 문자열 토큰으로 인코딩
+ * - 정렬 키가 ID인 경우 sortKey와 id는 같은 값
+ */
+public record Cursor(long sortKey, long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public static Cursor of(long sortKey, long id) {
+        return new Cursor(sortKey, id);
+    }
+
+    /**
+     * 토큰 디코딩
+     * @param token 클라이언트가 전달한 nextCursor 값 (null 또는 빈 값이면 첫 페이지)
+     * @return 커서 (첫 페이지면 null)
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다");
+            }
+            return new Cursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다", e);
+        }
+    }
+
+    public String encode() {
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
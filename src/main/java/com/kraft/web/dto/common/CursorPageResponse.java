@@ -0,0 +1,29 @@
+package com.kraft.web.dto.common;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 페이지네이션 응답 DTO
+ * - OFFSET 없이 nextCursor 이후 행만 조회하므로 페이지 깊이와 무관하게 비용이 일정
+ * - 전체 건수는 계산하지 않음
+ */
+public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    /**
+     * 한 번에 조회할 수 있는 최대 페이지 크기 (커서 API의 size 상한)
+     */
+    public static final int MAX_SIZE = 100;
+
+    public static <T> CursorPageResponse<T> of(List<T> content, int size, Cursor nextCursor) {
+        return new CursorPageResponse<>(
+                content,
+                size,
+                nextCursor != null ? nextCursor.encode() : null,
+                nextCursor != null
+        );
+    }
+}
@@ -1,10 +1,12 @@
 package com.kraft.web.dto.common;
 
 import java.util.List;
+import java.util.Locale;
 
 /**
  * 페이지네이션 응답 DTO
  * Record 클래스로 불변성과 간결성 보장
+ * - totalMode로 전체 건수의 산출 방식을 알려 클라이언트가 "약 N건" 등으로 표시할 수 있도록 함
  */
 public record PageResponse<T>(
         List<T> content,
@@ -15,8 +17,30 @@ public record PageResponse<T>(
         boolean first,
         boolean last,
         boolean hasNext,
-        boolean hasPrevious
+        boolean hasPrevious,
+        TotalMode totalMode
 ) {
+    /**
+     * 전체 건수 산출 방식
+     * - EXACT: 요청마다 COUNT 쿼리로 계산한 정확한 값
+     * - CACHED: TTL 캐시에 보관된 근사치 (쓰기 시 증감 반영)
+     * - NONE: 전체 건수를 계산하지 않음 (totalElements, totalPages = -1)
+     */
+    public enum TotalMode {
+        EXACT, CACHED, NONE;
+
+        /**
+         * 요청 파라미터 값으로 변환 (대소문자 무시)
+         */
+        public static TotalMode from(String value) {
+            try {
+                return TotalMode.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 count 방식입니다: " + value);
+            }
+        }
+    }
+
     public static <T> PageResponse<T> of(
             List<T> content,
             int pageNumber,
@@ -33,8 +57,57 @@ public record PageResponse<T>(
                 pageNumber == 0,
                 pageNumber == totalPages - 1,
                 pageNumber < totalPages - 1,
-                pageNumber > 0
+                pageNumber > 0,
+                TotalMode.EXACT
         );
     }
-}
 
+    /**
+     * 캐시된 전체 건수로 생성
+     * 다음 페이지 여부는 근사치인 전체 건수가 아닌 실제 조회 결과(size + 1)로 판단
+     */
+    public static <T> PageResponse<T> ofCached(
+            List<T> content,
+            int pageNumber,
+            int pageSize,
+            boolean hasNext,
+            long cachedTotalElements
+    ) {
+        int totalPages = pageSize > 0 ? (int) Math.ceil((double) cachedTotalElements / pageSize) : 0;
+        return new PageResponse<>(
+                content,
+                pageNumber,
+                pageSize,
+                cachedTotalElements,
+                totalPages,
+                pageNumber == 0,
+                !hasNext,
+                hasNext,
+                pageNumber > 0,
+                TotalMode.CACHED
+        );
+    }
+
+    /**
+     * 전체 건수 없이 생성 (Slice)
+     */
+    public static <T> PageResponse<T> ofSlice(
+            List<T> content,
+            int pageNumber,
+            int pageSize,
+            boolean hasNext
+    ) {
+        return new PageResponse<>(
+                content,
+                pageNumber,
+                pageSize,
+                -1,
+                -1,
+                pageNumber == 0,
+                !hasNext,
+                hasNext,
+                pageNumber > 0,
+                TotalMode.NONE
+        );
+    }
+}
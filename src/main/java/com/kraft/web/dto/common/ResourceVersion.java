@@ -0,0 +1,60 @@
+package com.kraft.web.dto.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since) 검증자
+ * - 본문을 만들지 않고 얻을 수 있는 값(수정 시각, 건수 등)으로 만들어 304 여부를 먼저 판단
+ * @param tag ETag 값 (따옴표 제외), 응답 표현이 바뀌면 반드시 달라져야 함
+ * @param lastModified 마지막 수정 시각 (없으면 null)
+ */
+public record ResourceVersion(String tag, LocalDateTime lastModified) {
+
+    // RFC 9110 etagc: 공백, 큰따옴표, 제어 문자 제외한 ASCII
+    private static final Pattern ETAG_UNSAFE = Pattern.compile("[^!#-~]");
+
+    /**
+     * @param parts ETag를 이루는 값 (수정 시각은 마이크로초 단위까지 반영, null은 0,
+     *              ETag에 쓸 수 없는 문자는 '_'로 치환)
+     */
+    public static ResourceVersion of(LocalDateTime lastModified, Object... parts) {
+        String tag = Arrays.stream(parts)
+                .map(ResourceVersion::encode)
+                .collect(Collectors.joining("-"));
+        return new ResourceVersion(tag, lastModified);
+    }
+
+    /**
+     * 본문이 바이트 단위로 같을 때만 같은 값
+     */
+    public String strongEtag() {
+        return "\"" + tag + "\"";
+    }
+
+    /**
+     * 의미상 같은 본문이면 같은 값 (조회수처럼 검증자에 포함하지 않는 값이 본문에 있을 때)
+     */
+    public String weakEtag() {
+        return "W/" + strongEtag();
+    }
+
+    /**
+     * @return Last-Modified 값 (epoch millis), 수정 시각이 없으면 -1
+     */
+    public long lastModifiedMillis() {
+        return lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+
+    private static String encode(Object part) {
+        if (part instanceof LocalDateTime time) {
+            long micros = time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+            return Long.toString(micros, 36);
+        }
+        return part != null ? ETAG_UNSAFE.matcher(part.toString()).replaceAll("_") : "0";
+    }
+}
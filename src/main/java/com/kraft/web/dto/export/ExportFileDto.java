@@ -0,0 +1,13 @@
+package com.kraft.web.dto.export;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기 파일 정보 DTO
+ */
+public record ExportFileDto(
+        String name,
+        long size,
+        LocalDateTime createdAt
+) {
+}
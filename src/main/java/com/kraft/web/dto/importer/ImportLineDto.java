@@ -0,0 +1,50 @@
+package com.kraft.web.dto.importer;
+
+import com.kraft.web.dto.comment.CommentSaveRequestDto;
+import com.kraft.web.dto.post.PostSaveRequestDto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 가져오기 NDJSON 한 줄
+ * - type: post | comment
+ * - ref: 같은 가져오기 안에서 다른 줄이 참조할 원본 식별자 (선택)
+ * - 게시글: title, content, author(회원 이름), category(카테고리 이름, 선택)
+ * - 댓글: content, author, postRef 또는 postId, 답글이면 parentRef 또는 parentId
+ * - createdAt: 원본 작성 시각 (선택, 없으면 가져온 시각), create_at에만 기록되고 ID 순서에는 영향 없음
+ */
+public record ImportLineDto(
+        String type,
+        String ref,
+        String title,
+        String content,
+        String author,
+        String category,
+        String postRef,
+        Long postId,
+        String parentRef,
+        Long parentId,
+        LocalDateTime createdAt
+) {
+    public static final String POST = "post";
+    public static final String COMMENT = "comment";
+
+    /**
+     * 게시글 작성 요청과 같은 제약으로 검증하기 위한 변환
+     */
+    public PostSaveRequestDto toPostSaveRequest() {
+        return PostSaveRequestDto.builder()
+                .title(title)
+                .content(content)
+                .build();
+    }
+
+    /**
+     * 댓글 작성 요청과 같은 제약으로 검증하기 위한 변환
+     */
+    public CommentSaveRequestDto toCommentSaveRequest() {
+        return CommentSaveRequestDto.builder()
+                .content(content)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.kraft.web.dto.importer;
+
+/**
+ * 일괄 가져오기 진행 상황 (청크 커밋마다 한 줄, 마지막에 done=true 한 줄)
+ * @param lines 지금까지 읽은 줄 수
+ * @param posts 저장된 게시글 수
+ * @param comments 저장된 댓글 수
+ * @param failed 실패한 줄 수 (errorFile에 줄 번호와 사유 기록)
+ * @param elapsedMs 경과 시간
+ * @param rowsPerSecond 저장 처리량
+ * @param errorFile 줄 단위 오류 파일 경로 (실패가 없으면 null)
+ * @param done 가져오기 종료 여부
+ */
+public record ImportProgressDto(
+        long lines,
+        long posts,
+        long comments,
+        long failed,
+        long elapsedMs,
+        long rowsPerSecond,
+        String errorFile,
+        boolean done
+) {
+}
@@ -17,12 +17,19 @@ public record PostResponseDto(
      * 정적 팩토리 메서드 - Post 엔티티에서 생성
      */
     public static PostResponseDto from(Post post) {
+        return from(post, 0L);
+    }
+
+    /**
+     * 정적 팩토리 메서드 - DB에 아직 반영되지 않은 조회수 증가분을 합산해 생성
+     */
+    public static PostResponseDto from(Post post, long pendingViews) {
         return new PostResponseDto(
                 post.getId(),
                 post.getTitle(),
                 post.getContent(),
                 post.getAuthor().getName(),
-                post.getViewCount()
+                post.getViewCount() + pendingViews
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.kraft.web.dto.post;
+
+import com.kraft.service.suggest.Suggestion;
+
+/**
+ * 게시글 제목 자동완성 응답 DTO
+ */
+public record PostSuggestResponseDto(
+        Long id,
+        String title,
+        Long viewCount
+) {
+    /**
+     * 정적 팩토리 메서드 - 자동완성 후보에서 생성
+     */
+    public static PostSuggestResponseDto from(Suggestion suggestion) {
+        return new PostSuggestResponseDto(
+                suggestion.id(),
+                suggestion.title(),
+                suggestion.viewCount()
+        );
+    }
+}
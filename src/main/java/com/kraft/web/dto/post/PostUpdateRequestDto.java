@@ -20,4 +20,7 @@ public class PostUpdateRequestDto {
 
     @NotBlank(message = "내용은 필수입니다")
     private String content;
+
+    // 변경할 카테고리 ID (없으면 기존 카테고리 유지)
+    private Long categoryId;
 }
\ No newline at end of file
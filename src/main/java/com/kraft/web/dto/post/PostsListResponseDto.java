@@ -1,6 +1,7 @@
 package com.kraft.web.dto.post;
 
 import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostSummary;
 
 import java.time.LocalDateTime;
 
@@ -13,6 +14,7 @@ public record PostsListResponseDto(
         String title,
         String author,
         Long viewCount,
+        Long commentCount,
         LocalDateTime updateAt
 ) {
     /**
@@ -24,7 +26,22 @@ public record PostsListResponseDto(
                 post.getTitle(),
                 post.getAuthor().getName(),
                 post.getViewCount(),
+                post.getCommentCount(),
                 post.getUpdateAt()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 정적 팩토리 메서드 - 목록 프로젝션에서 생성
+     */
+    public static PostsListResponseDto from(PostSummary summary) {
+        return new PostsListResponseDto(
+                summary.id(),
+                summary.title(),
+                summary.authorName(),
+                summary.viewCount(),
+                summary.commentCount(),
+                summary.updateAt()
+        );
+    }
+}
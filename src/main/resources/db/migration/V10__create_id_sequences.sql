@@ -0,0 +1,17 @@
+-- V10: 배치 INSERT를 위한 시퀀스 기반 ID 생성
+-- IDENTITY(AUTO_INCREMENT)는 INSERT마다 즉시 실행되어 JDBC batch를 쓸 수 없으므로 시퀀스로 전환
+-- INCREMENT BY는 엔티티의 allocationSize(50)와 같아야 함 (ddl-auto=validate에서 검증)
+-- 시작 값은 기존 최대 ID + 50: Hibernate pooled 옵티마이저가 처음 받는 블록 [v-49, v]도 기존 ID와 겹치지 않음
+-- 기존 AUTO_INCREMENT 속성은 남겨 두며 애플리케이션은 항상 ID를 직접 지정해 INSERT
+
+SET @users_start = (SELECT COALESCE(MAX(id), 0) + 50 FROM users);
+EXECUTE IMMEDIATE CONCAT('CREATE SEQUENCE users_seq START WITH ', @users_start, ' INCREMENT BY 50 NOCACHE');
+
+SET @posts_start = (SELECT COALESCE(MAX(id), 0) + 50 FROM posts);
+EXECUTE IMMEDIATE CONCAT('CREATE SEQUENCE posts_seq START WITH ', @posts_start, ' INCREMENT BY 50 NOCACHE');
+
+SET @comments_start = (SELECT COALESCE(MAX(id), 0) + 50 FROM comments);
+EXECUTE IMMEDIATE CONCAT('CREATE SEQUENCE comments_seq START WITH ', @comments_start, ' INCREMENT BY 50 NOCACHE');
+
+SET @categories_start = (SELECT COALESCE(MAX(id), 0) + 50 FROM categories);
+EXECUTE IMMEDIATE CONCAT('CREATE SEQUENCE categories_seq START WITH ', @categories_start, ' INCREMENT BY 50 NOCACHE');
@@ -0,0 +1,6 @@
+-- V11: 댓글 스레드 버전 조회용 인덱스
+-- 조건부 조회(ETag)의 COUNT/MAX(update_at)를 댓글 행을 읽지 않고 인덱스만으로 계산
+-- post_id 단일 인덱스는 새 인덱스의 선두 컬럼과 겹치므로 제거 (fk_comment_post는 새 인덱스를 사용)
+
+CREATE INDEX idx_comment_post_update_at ON comments(post_id, update_at);
+DROP INDEX idx_comment_post_id ON comments;
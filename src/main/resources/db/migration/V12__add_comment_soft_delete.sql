@@ -0,0 +1,10 @@
+-- V12: 댓글 soft delete 컬럼 추가
+-- 회원 탈퇴 시 그 회원의 댓글(과 하위 답글)을 같은 트랜잭션에서 조회에서 제외하고 실제 행 삭제는 PurgeJob이 수행
+
+ALTER TABLE comments ADD COLUMN deleted_at DATETIME(6) NULL;
+
+-- 이미 탈퇴한 회원의 남은 게시글/댓글도 즉시 숨김 (이후 숨김은 회원 탈퇴 트랜잭션에서 수행)
+UPDATE posts SET deleted_at = NOW(6)
+WHERE deleted_at IS NULL AND author_id IN (SELECT id FROM users WHERE deleted_at IS NOT NULL);
+UPDATE comments SET deleted_at = NOW(6)
+WHERE author_id IN (SELECT id FROM users WHERE deleted_at IS NOT NULL);
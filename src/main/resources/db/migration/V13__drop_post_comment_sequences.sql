@@ -0,0 +1,6 @@
+-- V13: Snowflake ID로 전환한 게시글/댓글의 시퀀스 삭제
+-- Post/Comment는 애플리케이션이 Snowflake ID를 할당하므로 V10에서 만든 posts_seq/comments_seq를 더 이상 사용하지 않음
+-- users_seq/categories_seq는 User/Category가 계속 사용하므로 유지
+
+DROP SEQUENCE IF EXISTS posts_seq;
+DROP SEQUENCE IF EXISTS comments_seq;
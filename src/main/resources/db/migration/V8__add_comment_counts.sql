@@ -0,0 +1,14 @@
+-- V8: 댓글 수 비정규화 컬럼 추가
+
+-- 게시글별 전체 댓글 수 (답글 포함)
+ALTER TABLE posts ADD COLUMN comment_count BIGINT NOT NULL DEFAULT 0;
+
+-- 댓글별 직속 답글 수
+ALTER TABLE comments ADD COLUMN reply_count INT NOT NULL DEFAULT 0;
+
+-- 기존 데이터 채우기
+UPDATE posts p
+SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id);
+
+UPDATE comments c
+SET reply_count = (SELECT COUNT(*) FROM comments r WHERE r.parent_id = c.id);
@@ -0,0 +1,9 @@
+-- V9: 사용자/게시글 soft delete 컬럼 추가
+-- 삭제 요청은 deleted_at만 기록하고 실제 행 삭제는 PurgeJob이 청크 단위로 수행
+
+ALTER TABLE users ADD COLUMN deleted_at DATETIME(6) NULL;
+ALTER TABLE posts ADD COLUMN deleted_at DATETIME(6) NULL;
+
+-- 삭제 대기 행 탐색용 인덱스
+CREATE INDEX idx_user_deleted_at ON users(deleted_at);
+CREATE INDEX idx_post_deleted_at ON posts(deleted_at);
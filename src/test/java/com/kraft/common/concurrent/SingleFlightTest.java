@@ -0,0 +1,168 @@
+package com.kraft.common.concurrent;
+
+import com.kraft.common.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @Test
+    @DisplayName("500개 스레드가 동시에 같은 키를 조회해도 키당 DB 조회는 한 번만 실행된다")
+    void burstRunsOneQueryPerKey() throws Exception {
+        // given
+        int threads = 500;
+        List<String> keys = List.of("posts:page:0", "posts:popular:0");
+        Map<String, AtomicInteger> queries = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        // when: 실행 중인 조회는 나머지 호출이 모두 합류할 때까지 끝나지 않음
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threads; i++) {
+                String key = keys.get(i % keys.size());
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return execute(key, TIMEOUT, () -> {
+                        queries.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+                        awaitJoined(threads - keys.size());
+                        return "result of " + key;
+                    });
+                }));
+            }
+            start.countDown();
+
+            // then
+            for (int i = 0; i < threads; i++) {
+                assertThat(results.get(i).get(10, TimeUnit.SECONDS))
+                        .isEqualTo("result of " + keys.get(i % keys.size()));
+            }
+        }
+        assertThat(queries).hasSize(2);
+        assertThat(queries.values()).allSatisfy(count -> assertThat(count).hasValue(1));
+        assertThat(singleFlight.joinedCalls()).isEqualTo(threads - keys.size());
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("실행 중 예외는 기다리던 호출에도 같은 예외로 전달되고, 다음 호출은 다시 실행된다")
+    void propagatesFailure() throws Throwable {
+        // given
+        ResourceNotFoundException notFound = new ResourceNotFoundException("게시글", 1L);
+        AtomicInteger executions = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Object> leader = executor.submit(() -> execute("post:1", TIMEOUT, () -> {
+                executions.incrementAndGet();
+                awaitJoined(1);
+                throw notFound;
+            }));
+            awaitInFlight();
+
+            // when & then
+            assertThatThrownBy(() -> singleFlight.execute("post:1", TIMEOUT, () -> "never"))
+                    .isSameAs(notFound);
+            assertThatThrownBy(() -> leader.get(10, TimeUnit.SECONDS)).hasCause(notFound);
+        }
+        assertThat(singleFlight.execute("post:1", TIMEOUT, () -> "loaded")).isEqualTo("loaded");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 기다리던 호출만 실패하고 실행 중인 조회는 계속된다")
+    void waiterTimesOut() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> execute("slow", TIMEOUT, () -> {
+                release.await();
+                return "done";
+            }));
+            awaitInFlight();
+
+            // when & then
+            assertThatThrownBy(() -> singleFlight.execute("slow", Duration.ofMillis(50), () -> "never"))
+                    .isInstanceOf(QueryTimeoutException.class);
+
+            release.countDown();
+            assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo("done");
+        }
+    }
+
+    @Test
+    @DisplayName("@Coalesced 메서드는 인자가 다르면 합치지 않고, bypass 중에는 항상 직접 실행한다")
+    void interceptorKeysByArguments() {
+        // given
+        AtomicInteger bypassed = new AtomicInteger();
+        Reader target = new Reader();
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addAdvice(new CoalescingInterceptor(singleFlight, TIMEOUT, () -> bypassed.get() > 0));
+        Reader proxy = (Reader) factory.getProxy();
+
+        // when
+        assertThat(proxy.find(1L)).isEqualTo("post 1");
+        assertThat(proxy.find(2L)).isEqualTo("post 2");
+        bypassed.set(1);
+        proxy.find(1L);
+
+        // then
+        assertThat(target.calls).hasValue(3);
+        assertThat(singleFlight.joinedCalls()).isZero();
+    }
+
+    private <T> T execute(String key, Duration timeout, SingleFlight.Loader<T> loader) throws Exception {
+        try {
+            return singleFlight.execute(key, timeout, loader);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitJoined(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (singleFlight.joinedCalls() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (singleFlight.inFlight() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    static class Reader {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Coalesced
+        public String find(Long id) {
+            calls.incrementAndGet();
+            return "post " + id;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.kraft.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeTest {
+
+    private static final long NOW = Snowflake.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 할당해도 ID가 중복되지 않고 스레드별로 증가한다")
+    void concurrentAllocation_unique() throws Exception {
+        Snowflake snowflake = new Snowflake(7, 5_000);
+        int threads = 8;
+        int perThread = 200_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                long[] ids = new long[perThread];
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    ids[i] = snowflake.nextId();
+                }
+                return ids;
+            }));
+        }
+        start.countDown();
+
+        long[] all = new long[threads * perThread];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] ids = future.get();
+            for (int i = 1; i < ids.length; i++) {
+                assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+            }
+            System.arraycopy(ids, 0, all, offset, ids.length);
+            offset += ids.length;
+        }
+        executor.shutdown();
+
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertThat(all[i]).isNotEqualTo(all[i - 1]);
+        }
+        assertThat(all[0]).isPositive();
+        assertThat(Snowflake.nodeIdOf(all[0])).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("ID에는 생성 시각과 노드 ID가 담긴다")
+    void idEncodesTimestampAndNode() {
+        Snowflake snowflake = new Snowflake(1023, 0, () -> NOW);
+
+        long id = snowflake.nextId();
+
+        assertThat(Snowflake.timestampOf(id)).isEqualTo(NOW);
+        assertThat(Snowflake.nodeIdOf(id)).isEqualTo(1023);
+    }
+
+    @Test
+    @DisplayName("허용치 안의 시계 역행에서는 논리 시각을 유지해 계속 증가하는 ID를 발급한다")
+    void smallClockRollback_staysMonotonic() {
+        AtomicLong clock = new AtomicLong(NOW);
+        Snowflake snowflake = new Snowflake(0, 1_000, clock::get);
+
+        long before = snowflake.nextId();
+        clock.set(NOW - 500);
+        long during = snowflake.nextId();
+        clock.set(NOW + 1);
+        long after = snowflake.nextId();
+
+        assertThat(during).isGreaterThan(before);
+        assertThat(after).isGreaterThan(during);
+        assertThat(Snowflake.timestampOf(during)).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("역행 중 시퀀스를 모두 쓰면 논리 시각을 앞당겨 중복 없이 발급한다")
+    void rollbackWithSequenceExhausted_borrowsNextMillisecond() {
+        AtomicLong clock = new AtomicLong(NOW);
+        Snowflake snowflake = new Snowflake(0, 1_000, clock::get);
+        snowflake.nextId();
+        clock.set(NOW - 10);
+
+        long last = 0;
+        for (int i = 0; i <= Snowflake.SEQUENCE_MASK + 1; i++) {
+            long id = snowflake.nextId();
+            assertThat(id).isGreaterThan(last);
+            last = id;
+        }
+        assertThat(Snowflake.timestampOf(last)).isEqualTo(NOW + 1);
+    }
+
+    @Test
+    @DisplayName("허용치를 넘는 시계 역행에서는 ID 발급을 거부한다")
+    void largeClockRollback_rejected() {
+        AtomicLong clock = new AtomicLong(NOW);
+        Snowflake snowflake = new Snowflake(0, 1_000, clock::get);
+        snowflake.nextId();
+
+        clock.set(NOW - 1_001);
+
+        assertThatThrownBy(snowflake::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("역행");
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 예외가 발생한다")
+    void invalidNodeId() {
+        assertThatThrownBy(() -> new Snowflake(1024, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 노드 ID의 공유 할당기를 다른 허용 시계 역행 시간으로 요청하면 예외가 발생한다")
+    void sharedRejectsMismatchedRollback() {
+        Snowflake shared = Snowflake.shared(1023, 5_000);
+
+        assertThat(Snowflake.shared(1023, 5_000)).isSameAs(shared);
+        assertThatThrownBy(() -> Snowflake.shared(1023, 1_000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.kraft.common.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class BulkheadDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private BulkheadDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        Map<Bulkhead, BulkheadDataSource.Limit> limits = new EnumMap<>(Bulkhead.class);
+        for (Bulkhead bulkhead : Bulkhead.values()) {
+            limits.put(bulkhead, new BulkheadDataSource.Limit(2, 50));
+        }
+        dataSource = new BulkheadDataSource(target, limits);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("지정이 없으면 쓰기 트랜잭션은 WRITE, 읽기 전용 트랜잭션과 트랜잭션 밖 조회는 READ를 사용한다")
+    void selectsByTransactionCharacteristics() {
+        assertThat(BulkheadDataSource.select()).isEqualTo(Bulkhead.READ);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        assertThat(BulkheadDataSource.select()).isEqualTo(Bulkhead.WRITE);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(BulkheadDataSource.select()).isEqualTo(Bulkhead.READ);
+
+        BulkheadContext.run(Bulkhead.BATCH, () -> assertThat(BulkheadDataSource.select()).isEqualTo(Bulkhead.BATCH));
+        assertThat(BulkheadContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("한 bulkhead의 한도가 모두 사용 중이어도 다른 bulkhead는 커넥션을 빌릴 수 있다")
+    void saturatedBulkheadDoesNotBlockOthers() throws Exception {
+        // given
+        given(target.getConnection()).willReturn(connection);
+        BulkheadContext.call(Bulkhead.SEARCH, () -> {
+            dataSource.getConnection();
+            return dataSource.getConnection();
+        });
+
+        // when & then
+        assertThatThrownBy(() -> BulkheadContext.call(Bulkhead.SEARCH, dataSource::getConnection))
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(dataSource.availablePermits(Bulkhead.SEARCH)).isZero();
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        assertThat(dataSource.getConnection()).isNotNull();
+        assertThat(dataSource.availablePermits(Bulkhead.WRITE)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커넥션을 닫으면 빌린 bulkhead의 허가가 반환된다")
+    void closeReleasesOwnBulkhead() throws SQLException {
+        // given
+        given(target.getConnection()).willReturn(connection);
+        Connection borrowed = dataSource.getConnection();
+        assertThat(dataSource.availablePermits(Bulkhead.READ)).isEqualTo(1);
+
+        // when
+        borrowed.close();
+
+        // then
+        assertThat(dataSource.availablePermits(Bulkhead.READ)).isEqualTo(2);
+    }
+}
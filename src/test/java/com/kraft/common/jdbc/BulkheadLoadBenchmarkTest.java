@@ -0,0 +1,148 @@
+package com.kraft.common.jdbc;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 검색이 커넥션 풀을 포화시킬 때 쓰기 지연 비교
+ * - 검색: 커넥션을 빌려 SEARCH_HOLD_MS 동안 점유 (느린 LIKE 검색 모사), 풀 크기보다 많은 스레드가 반복
+ * - before: 하나의 풀을 모두가 공유 → 쓰기도 풀 대기열에서 검색 뒤에 줄을 섬
+ * - after: bulkhead로 검색 동시 한도를 나눔 → 쓰기는 자기 몫의 커넥션을 바로 빌림
+ * <p>
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmarkTest}로 실행한다.
+ */
+@Tag("benchmark")
+class BulkheadLoadBenchmarkTest {
+
+    private static final int POOL_SIZE = 10;
+    private static final int SEARCH_CLIENTS = 40;
+    private static final long SEARCH_HOLD_MS = 20;
+    private static final int WRITES = 300;
+
+    @Test
+    @DisplayName("검색 부하로 풀이 포화되어도 bulkhead를 쓰면 쓰기 지연이 유지된다")
+    void writesKeepLatencyUnderSearchLoad() throws Exception {
+        try (HikariDataSource pool = pool("bulkhead-benchmark")) {
+            createTable(pool);
+
+            Latency shared = measureWrites(pool);
+
+            Map<Bulkhead, BulkheadDataSource.Limit> limits = new EnumMap<>(Bulkhead.class);
+            limits.put(Bulkhead.READ, new BulkheadDataSource.Limit(2, 1000));
+            limits.put(Bulkhead.WRITE, new BulkheadDataSource.Limit(3, 3000));
+            limits.put(Bulkhead.SEARCH, new BulkheadDataSource.Limit(4, 500));
+            limits.put(Bulkhead.BATCH, new BulkheadDataSource.Limit(1, 30000));
+            limits.put(Bulkhead.EXPORT, new BulkheadDataSource.Limit(1, 30000));
+            Latency isolated = measureWrites(new BulkheadDataSource(pool, limits));
+
+            System.out.printf("[benchmark] writes under %d slow search clients (pool %d): " +
+                            "shared p50=%.2fms p99=%.2fms, bulkhead p50=%.2fms p99=%.2fms%n",
+                    SEARCH_CLIENTS, POOL_SIZE, shared.p50Ms(), shared.p99Ms(), isolated.p50Ms(), isolated.p99Ms());
+
+            assertThat(isolated.p99Ms()).isLessThan(shared.p99Ms() / 2);
+        }
+    }
+
+    private Latency measureWrites(DataSource dataSource) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(SEARCH_CLIENTS);
+        ExecutorService searches = Executors.newFixedThreadPool(SEARCH_CLIENTS);
+        for (int i = 0; i < SEARCH_CLIENTS; i++) {
+            searches.submit(() -> {
+                started.countDown();
+                while (running.get()) {
+                    try {
+                        BulkheadContext.call(Bulkhead.SEARCH, () -> {
+                            try (Connection ignored = dataSource.getConnection()) {
+                                Thread.sleep(SEARCH_HOLD_MS);
+                            }
+                            return null;
+                        });
+                    } catch (InterruptedException e) {
+                        return;
+                    } catch (Exception e) {
+                        // 검색 bulkhead 대기 시간 초과는 부하 조건의 일부
+                    }
+                }
+            });
+        }
+        started.await();
+        Thread.sleep(200);
+
+        long[] latencies = new long[WRITES];
+        try {
+            for (int i = 0; i < WRITES; i++) {
+                int value = i;
+                long start = System.nanoTime();
+                BulkheadContext.call(Bulkhead.WRITE, () -> {
+                    try (Connection connection = dataSource.getConnection();
+                         Statement statement = connection.createStatement()) {
+                        return statement.executeUpdate("INSERT INTO bench_write (v) VALUES (" + value + ")");
+                    }
+                });
+                latencies[i] = System.nanoTime() - start;
+            }
+        } finally {
+            running.set(false);
+            searches.shutdownNow();
+            searches.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        return new Latency(latencies);
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(POOL_SIZE);
+        config.setConnectionTimeout(30_000);
+        return new HikariDataSource(config);
+    }
+
+    private static void createTable(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE bench_write (v INT)");
+        }
+    }
+
+    private record Latency(long[] nanos) {
+
+        Latency {
+            nanos = nanos.clone();
+            Arrays.sort(nanos);
+        }
+
+        double p50Ms() {
+            return percentile(0.50);
+        }
+
+        double p99Ms() {
+            return percentile(0.99);
+        }
+
+        private double percentile(double p) {
+            return nanos[(int) Math.min(nanos.length - 1, Math.ceil(p * nanos.length) - 1)] / 1_000_000d;
+        }
+    }
+}
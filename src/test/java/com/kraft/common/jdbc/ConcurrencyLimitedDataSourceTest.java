@@ -0,0 +1,80 @@
+package com.kraft.common.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(target, "test", 2, 50);
+    }
+
+    @Test
+    @DisplayName("동시 한도를 넘는 커넥션 요청은 대기 시간 후 실패하고, 커넥션을 닫으면 허가가 반환된다")
+    void limitsConcurrentConnections() throws SQLException {
+        // given
+        given(target.getConnection()).willReturn(connection);
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("같은 커넥션을 여러 번 닫아도 허가는 한 번만 반환된다")
+    void closeReleasesOnce() throws SQLException {
+        // given
+        given(target.getConnection()).willReturn(connection);
+        Connection borrowed = dataSource.getConnection();
+
+        // when
+        borrowed.close();
+        borrowed.close();
+
+        // then
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    @DisplayName("커넥션 획득에 실패하면 허가를 돌려준다")
+    void failedAcquireReleasesPermit() throws SQLException {
+        // given
+        given(target.getConnection()).willThrow(new SQLException("down"));
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,52 @@
+package com.kraft.common.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AfterCommitTest {
+
+    private final List<String> events = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 즉시 실행한다")
+    void runsImmediatelyWithoutTransaction() {
+        AfterCommit.run(() -> events.add("run"));
+
+        assertThat(events).containsExactly("run");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후 실행하고, 커밋 후 콜백 안의 호출은 바로 실행한다")
+    void nestedCallInsideAfterCommitRunsImmediately() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        AfterCommit.run(() -> {
+            events.add("outer");
+            AfterCommit.run(() -> events.add("nested"));
+        });
+        assertThat(events).isEmpty();
+
+        // when: 커밋 시점의 동기화 목록만 호출됨
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        // then
+        assertThat(events).containsExactly("outer", "nested");
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+    }
+}
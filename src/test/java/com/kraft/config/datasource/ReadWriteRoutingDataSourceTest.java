@@ -0,0 +1,126 @@
+package com.kraft.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 H2 인메모리 DB(primary / replica)로 라우팅 확인
+ * - 각 DB에 자신의 이름을 담은 표시 테이블을 만들어 어느 DB로 갔는지 판별
+ * - 두 번째 replica는 접속할 수 없는 주소라 상태 확인 후 라우팅 대상에서 빠져야 함
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "kraft.datasource.routing.enabled=true",
+        "spring.datasource.url=" + ReadWriteRoutingDataSourceTest.PRIMARY_URL,
+        "kraft.datasource.routing.replicas[0].name=r1",
+        "kraft.datasource.routing.replicas[0].url=" + ReadWriteRoutingDataSourceTest.REPLICA_URL,
+        "kraft.datasource.routing.replicas[0].username=sa",
+        "kraft.datasource.routing.replicas[1].name=down",
+        "kraft.datasource.routing.replicas[1].url=jdbc:h2:tcp://localhost:1/mem:routing-down",
+        "kraft.datasource.routing.replicas[1].username=sa",
+        "kraft.datasource.routing.replicas[1].connection-timeout-ms=250"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private static final String CREATE_MARKER_SQL = "CREATE TABLE IF NOT EXISTS routing_marker (name VARCHAR(20))";
+    private static final String MARKER_SQL = "SELECT name FROM routing_marker";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReadWriteRoutingDataSource routingDataSource;
+
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        mark(new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", "")), "primary");
+        mark(new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", "")), "replica");
+        routingDataSource.checkReplicas(1);
+
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 정상 replica로, 쓰기 트랜잭션은 primary로 간다")
+    void routesByTransactionReadOnly() {
+        assertThat(routingDataSource.replicaHealth())
+                .containsEntry("r1", true)
+                .containsEntry("down", false);
+
+        // 장애 replica를 건너뛰므로 round-robin 순서와 관계없이 항상 r1
+        for (int i = 0; i < 4; i++) {
+            assertThat(readOnly.execute(status -> marker())).isEqualTo("replica");
+        }
+        assertThat(readWrite.execute(status -> marker())).isEqualTo("primary");
+        assertThat(marker()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("요청 중 쓰기가 일어나면 이후 읽기 전용 트랜잭션도 primary로 간다")
+    void readYourWrites_pinsReadsAfterWrite() {
+        ReadYourWrites.begin(false);
+        assertThat(readOnly.execute(status -> marker())).isEqualTo("replica");
+
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE routing_marker SET name = name"));
+
+        assertThat(readOnly.execute(status -> marker())).isEqualTo("primary");
+        assertThat(ReadYourWrites.end()).isTrue();
+    }
+
+    @Test
+    @DisplayName("세션의 최근 쓰기가 일관성 유지 시간 안이면 처음부터 primary로 간다")
+    void readYourWrites_pinnedSession() {
+        ReadYourWrites.begin(true);
+
+        assertThat(readOnly.execute(status -> marker())).isEqualTo("primary");
+        assertThat(ReadYourWrites.end()).isFalse();
+    }
+
+    @Test
+    @DisplayName("callOnPrimary 안의 읽기 전용 트랜잭션은 primary로 가고, 끝나면 요청 상태가 복원된다")
+    void callOnPrimary_pinsOnlyDuringTask() {
+        ReadYourWrites.begin(false);
+
+        assertThat(ReadYourWrites.callOnPrimary(() -> readOnly.execute(status -> marker()))).isEqualTo("primary");
+
+        assertThat(readOnly.execute(status -> marker())).isEqualTo("replica");
+        assertThat(ReadYourWrites.end()).isFalse();
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject(MARKER_SQL, String.class);
+    }
+
+    private static void mark(JdbcTemplate target, String name) {
+        target.execute(CREATE_MARKER_SQL);
+        target.update("DELETE FROM routing_marker");
+        target.update("INSERT INTO routing_marker (name) VALUES (?)", name);
+    }
+}
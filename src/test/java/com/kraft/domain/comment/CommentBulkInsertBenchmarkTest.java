@@ -0,0 +1,116 @@
+package com.kraft.domain.comment;
+
+import com.kraft.domain.post.Post;
+import com.kraft.domain.user.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 대량 INSERT 시 행 단위 실행(IDENTITY 방식)과 JDBC batch 실행의 처리량 비교
+ * - before: batch 크기 1 + 저장마다 flush → IDENTITY처럼 INSERT가 저장 즉시 한 건씩 실행
+ * - after: INSERT 전에 정해지는 ID + hibernate.jdbc.batch_size → 여러 INSERT를 한 번에 전송
+ * <p>
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmarkTest}로 실행한다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CommentBulkInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentBulkInsertBenchmarkTest.class);
+
+    private static final int COMMENT_COUNT = 5_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        author = User.of("bulkAuthor", "password123", "bulk@example.com");
+        entityManager.persist(author);
+        post = Post.builder().title("Bulk").content("Bulk").author(author).build();
+        entityManager.persist(post);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("JDBC batch INSERT는 행 단위 INSERT보다 실행 문장 수가 적고 처리량이 높다")
+    void batchedInsertsIssueFewerStatements() {
+        // 워밍업
+        insert(COMMENT_COUNT / 10, 1, true);
+        insert(COMMENT_COUNT / 10, BATCH_SIZE, false);
+
+        Result rowByRow = insert(COMMENT_COUNT, 1, true);
+        Result batched = insert(COMMENT_COUNT, BATCH_SIZE, false);
+
+        log.info("[benchmark] {} comment inserts: row-by-row={} statements ({} rows/s), " +
+                        "batched={} statements ({} rows/s)",
+                COMMENT_COUNT, rowByRow.statements(), Math.round(rowByRow.rowsPerSecond(COMMENT_COUNT)),
+                batched.statements(), Math.round(batched.rowsPerSecond(COMMENT_COUNT)));
+
+        assertThat(batched.statements()).isLessThan(rowByRow.statements() / 10);
+    }
+
+    private Result insert(int count, int batchSize, boolean flushEachRow) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(batchSize);
+        Post postRef = entityManager.getReference(Post.class, post.getId());
+        User authorRef = entityManager.getReference(User.class, author.getId());
+        statistics.clear();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            entityManager.persist(Comment.builder()
+                    .content("comment " + i)
+                    .post(postRef)
+                    .author(authorRef)
+                    .build());
+            if (flushEachRow || (i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                postRef = entityManager.getReference(Post.class, post.getId());
+                authorRef = entityManager.getReference(User.class, author.getId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        long elapsedNanos = System.nanoTime() - start;
+
+        session.setJdbcBatchSize(null);
+        return new Result(statistics.getPrepareStatementCount(), elapsedNanos);
+    }
+
+    private record Result(long statements, long elapsedNanos) {
+
+        double rowsPerSecond(int rows) {
+            return rows * 1_000_000_000d / elapsedNanos;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -77,13 +78,13 @@ class PostRepositoryTest {
         postRepository.save(post3);
 
         // when
-        List<Post> posts = postRepository.findAllDesc();
+        List<PostSummary> posts = postRepository.findAllSummariesDesc();
 
         // then
         assertThat(posts).hasSize(3);
-        assertThat(posts.get(0).getTitle()).isEqualTo("Third");
-        assertThat(posts.get(1).getTitle()).isEqualTo("Second");
-        assertThat(posts.get(2).getTitle()).isEqualTo("First");
+        assertThat(posts.get(0).title()).isEqualTo("Third");
+        assertThat(posts.get(1).title()).isEqualTo("Second");
+        assertThat(posts.get(2).title()).isEqualTo("First");
     }
 
     @Test
@@ -124,5 +125,36 @@ class PostRepositoryTest {
         // then
         assertThat(postRepository.findById(saved.getId())).isEmpty();
     }
-}
 
+    @Test
+    @DisplayName("마지막 ID 이전의 게시글을 커서 방식으로 조회할 수 있다")
+    void findNextPageDesc() {
+        // given
+        Post post1 = postRepository.save(Post.builder().title("First").content("Content 1").author(author).build());
+        Post post2 = postRepository.save(Post.builder().title("Second").content("Content 2").author(author).build());
+        Post post3 = postRepository.save(Post.builder().title("Third").content("Content 3").author(author).build());
+
+        // when
+        List<PostSummary> firstPage = postRepository.findNextPageDesc(Long.MAX_VALUE, PageRequest.ofSize(2));
+        List<PostSummary> secondPage = postRepository.findNextPageDesc(firstPage.get(1).id(), PageRequest.ofSize(2));
+
+        // then
+        assertThat(firstPage).extracting(PostSummary::id).containsExactly(post3.getId(), post2.getId());
+        assertThat(secondPage).extracting(PostSummary::id).containsExactly(post1.getId());
+    }
+
+    @Test
+    @DisplayName("목록 프로젝션은 작성자 이름을 포함하고 본문 없이 조회된다")
+    void findAllSummariesDesc() {
+        // given
+        postRepository.save(Post.builder().title("First").content("Content 1").author(author).build());
+        postRepository.save(Post.builder().title("Second").content("Content 2").author(author).build());
+
+        // when
+        List<PostSummary> summaries = postRepository.findAllSummariesDesc();
+
+        // then
+        assertThat(summaries).extracting(PostSummary::title).containsExactly("Second", "First");
+        assertThat(summaries).extracting(PostSummary::authorName).containsOnly("author");
+    }
+}
@@ -7,6 +7,10 @@ import com.kraft.web.dto.category.CategorySaveRequestDto;
 import com.kraft.web.dto.category.CategoryUpdateRequestDto;
 import com.kraft.common.exception.DuplicateResourceException;
 import com.kraft.common.exception.ResourceNotFoundException;
+import com.kraft.service.category.CategoryChangeNotifier;
+import com.kraft.service.category.CategoryRegistry;
+import com.kraft.service.version.CollectionVersions;
+import com.kraft.web.dto.common.ResourceVersion;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,7 +18,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +26,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class CategoryServiceTest {
@@ -30,24 +34,25 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryRegistry categoryRegistry;
+
+    @Mock
+    private CategoryChangeNotifier categoryChangeNotifier;
+
+    @Mock
+    private CollectionVersions collectionVersions;
+
     @InjectMocks
     private CategoryService categoryService;
 
     @Test
-    @DisplayName("모든 카테고리를 조회할 수 있다")
+    @DisplayName("모든 카테고리를 레지스트리에서 조회할 수 있다")
     void findAll() {
         // given
-        Category category1 = Category.builder()
-                .name("공지사항")
-                .displayOrder(0)
-                .build();
-        Category category2 = Category.builder()
-                .name("일반")
-                .displayOrder(1)
-                .build();
-
-        given(categoryRepository.findAllOrderByDisplayOrder())
-                .willReturn(Arrays.asList(category1, category2));
+        given(categoryRegistry.findAll()).willReturn(List.of(
+                new CategoryResponseDto(1L, "공지사항", null, 0),
+                new CategoryResponseDto(2L, "일반", null, 1)));
 
         // when
         List<CategoryResponseDto> result = categoryService.findAll();
@@ -56,19 +61,15 @@ class CategoryServiceTest {
         assertThat(result).hasSize(2);
         assertThat(result.get(0).name()).isEqualTo("공지사항");
         assertThat(result.get(1).name()).isEqualTo("일반");
+        verifyNoInteractions(categoryRepository);
     }
 
     @Test
     @DisplayName("ID로 카테고리를 조회할 수 있다")
     void findById() {
         // given
-        Category category = Category.builder()
-                .name("질문")
-                .description("질문 카테고리")
-                .displayOrder(2)
-                .build();
-
-        given(categoryRepository.findById(1L)).willReturn(Optional.of(category));
+        given(categoryRegistry.findById(1L))
+                .willReturn(Optional.of(new CategoryResponseDto(1L, "질문", "질문 카테고리", 2)));
 
         // when
         CategoryResponseDto result = categoryService.findById(1L);
@@ -76,18 +77,15 @@ class CategoryServiceTest {
         // then
         assertThat(result.name()).isEqualTo("질문");
         assertThat(result.description()).isEqualTo("질문 카테고리");
+        verifyNoInteractions(categoryRepository);
     }
 
     @Test
     @DisplayName("이름으로 카테고리를 조회할 수 있다")
     void findByName() {
         // given
-        Category category = Category.builder()
-                .name("자유")
-                .displayOrder(3)
-                .build();
-
-        given(categoryRepository.findByName("자유")).willReturn(Optional.of(category));
+        given(categoryRegistry.findByName("자유"))
+                .willReturn(Optional.of(new CategoryResponseDto(3L, "자유", null, 3)));
 
         // when
         CategoryResponseDto result = categoryService.findByName("자유");
@@ -120,6 +118,23 @@ class CategoryServiceTest {
 
         // then
         verify(categoryRepository).save(any(Category.class));
+        verify(categoryRegistry).refresh();
+        verify(collectionVersions).increment(CollectionVersions.CATEGORIES);
+        verify(categoryChangeNotifier).publishChanged();
+    }
+
+    @Test
+    @DisplayName("카테고리 목록 검증자는 카테고리 목록 버전 카운터로 만든다")
+    void findAllVersion_usesCollectionVersion() {
+        // given
+        given(collectionVersions.current(CollectionVersions.CATEGORIES)).willReturn(new long[]{1700000000000L});
+
+        // when
+        ResourceVersion version = categoryService.findAllVersion();
+
+        // then
+        assertThat(version.tag()).isEqualTo("c-1700000000000");
+        verifyNoInteractions(categoryRegistry);
     }
 
     @Test
@@ -206,13 +221,15 @@ class CategoryServiceTest {
 
         // then
         verify(categoryRepository).delete(category);
+        verify(categoryRegistry).refresh();
+        verify(categoryChangeNotifier).publishChanged();
     }
 
     @Test
     @DisplayName("존재하지 않는 카테고리를 조회하면 예외가 발생한다")
     void findById_notFound() {
         // given
-        given(categoryRepository.findById(999L)).willReturn(Optional.empty());
+        given(categoryRegistry.findById(999L)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> categoryService.findById(999L))
@@ -0,0 +1,194 @@
+package com.kraft.service;
+
+import com.kraft.common.concurrent.SingleFlight;
+import com.kraft.domain.comment.Comment;
+import com.kraft.domain.comment.CommentRepository;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.user.User;
+import com.kraft.domain.user.UserRepository;
+import com.kraft.web.dto.common.PageResponse.TotalMode;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @Coalesced 조회의 동시 요청 합치기를 실제 서비스 프록시(AOP + @Transactional)와 Hibernate를 거쳐 검증
+ * - 키마다 처음 실행된 조회는 나머지 호출이 모두 합류할 때까지 첫 SQL 직전에서 대기
+ * - 동시 요청이 커밋된 데이터를 읽어야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "kraft.post-cache.enabled=false")
+class CoalescedQueryCountTest {
+
+    private static final int THREADS = 500;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private HoldingStatementInspector statementInspector;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.of("burstUser", "password", "burst@example.com"));
+        post = postRepository.save(Post.builder().title("Burst Post").content("content").author(author).build());
+        Comment parent = commentRepository.save(
+                Comment.builder().content("parent").post(post).author(author).build());
+        commentRepository.save(Comment.builder().content("reply").post(post).author(author).parent(parent).build());
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statementInspector.release();
+        jdbcTemplate.update("DELETE FROM comments WHERE post_id = ?", post.getId());
+        jdbcTemplate.update("DELETE FROM posts WHERE id = ?", post.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", author.getId());
+    }
+
+    @Test
+    @DisplayName("500개 가상 스레드가 게시글 상세/첫 페이지/댓글 트리를 동시에 조회해도 키당 SQL은 한 번의 실행분만 나간다")
+    void burstRunsOneQueryPerKey() throws Exception {
+        // given: 키별 단독 실행 시 SQL 수와 결과
+        Map<String, Callable<Object>> calls = new LinkedHashMap<>();
+        calls.put("post", () -> postService.findById(post.getId()));
+        calls.put("page", () -> postService.findAllWithPagination(0, 10, "id", "DESC", TotalMode.NONE));
+        calls.put("comments", () -> commentService.findCommentTree(post.getId()));
+        List<String> keys = List.copyOf(calls.keySet());
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        long statementsPerRound = 0;
+        for (String key : keys) {
+            long before = statistics.getPrepareStatementCount();
+            expected.put(key, calls.get(key).call());
+            long statements = statistics.getPrepareStatementCount() - before;
+            assertThat(statements).as("%s 단독 실행 SQL 수", key).isPositive();
+            statementsPerRound += statements;
+        }
+
+        long joinedBefore = singleFlight.joinedCalls();
+        long statementsBefore = statistics.getPrepareStatementCount();
+        statementInspector.holdUntil(() -> singleFlight.joinedCalls() - joinedBefore >= THREADS - keys.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < THREADS; i++) {
+                Callable<Object> call = calls.get(keys.get(i % keys.size()));
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+
+            // then
+            for (int i = 0; i < THREADS; i++) {
+                assertThat(results.get(i).get(30, TimeUnit.SECONDS)).isEqualTo(expected.get(keys.get(i % keys.size())));
+            }
+        }
+        assertThat(statistics.getPrepareStatementCount() - statementsBefore).isEqualTo(statementsPerRound);
+        assertThat(singleFlight.joinedCalls() - joinedBefore).isEqualTo(THREADS - keys.size());
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    /**
+     * 조건이 채워질 때까지 SQL 실행을 붙잡아 두는 StatementInspector (최대 10초)
+     */
+    static class HoldingStatementInspector implements StatementInspector {
+
+        private volatile BooleanSupplier releaseWhen = () -> true;
+
+        void holdUntil(BooleanSupplier condition) {
+            this.releaseWhen = condition;
+        }
+
+        void release() {
+            this.releaseWhen = () -> true;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!releaseWhen.getAsBoolean() && System.nanoTime() < deadline) {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            return sql;
+        }
+    }
+
+    @TestConfiguration
+    static class StatementHoldConfig {
+
+        @Bean
+        HoldingStatementInspector holdingStatementInspector() {
+            return new HoldingStatementInspector();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer holdingStatementInspectorCustomizer(HoldingStatementInspector inspector) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.kraft.service;
+
+import com.kraft.domain.comment.Comment;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.user.User;
+import com.kraft.web.dto.comment.CommentResponseDto;
+import com.kraft.web.dto.common.PageResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 트리 조회의 요청당 SQL 실행 횟수 검증
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class CommentServiceQueryCountTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Statistics statistics;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        User author = User.of("treeUser", "password", "tree@example.com");
+        em.persist(author);
+
+        post = Post.builder()
+                .title("Tree Post")
+                .content("Tree Content")
+                .author(author)
+                .build();
+        em.persist(post);
+
+        // 부모 댓글 3개, 각 부모마다 답글 2개
+        for (int i = 0; i < 3; i++) {
+            Comment parent = comment("parent-" + i, author, null);
+            for (int j = 0; j < 2; j++) {
+                comment("reply-" + i + "-" + j, author, parent);
+            }
+        }
+
+        em.flush();
+        em.clear();
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("전체 댓글 트리는 게시글 확인 1회와 댓글 조회 1회로 조립된다")
+    void findCommentTree_twoStatements() {
+        // when
+        List<CommentResponseDto> tree = commentService.findCommentTree(post.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(tree).hasSize(3);
+        assertThat(tree).allSatisfy(parent -> {
+            assertThat(parent.replyCount()).isEqualTo(2);
+            assertThat(parent.replies()).hasSize(2);
+            assertThat(parent.replies()).allSatisfy(reply -> assertThat(reply.parentId()).isEqualTo(parent.id()));
+        });
+        assertThat(tree.get(0).content()).isEqualTo("parent-0");
+        assertThat(tree.get(0).replies().get(1).content()).isEqualTo("reply-0-1");
+    }
+
+    @Test
+    @DisplayName("부모 댓글 페이지 트리는 답글 깊이만큼의 IN 조회만 추가된다")
+    void findCommentTreePage_statementsBoundedByDepth() {
+        // when
+        PageResponse<CommentResponseDto> page = commentService.findCommentTreePage(post.getId(), 0, 2);
+
+        // then: 게시글 확인 + 부모 Slice + 답글 1단계 + 빈 2단계 확인
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(page.content()).extracting(CommentResponseDto::content)
+                .containsExactly("parent-0", "parent-1");
+        assertThat(page.content()).allSatisfy(parent -> assertThat(parent.replies()).hasSize(2));
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    private Comment comment(String content, User author, Comment parent) {
+        Comment comment = Comment.builder()
+                .content(content)
+                .post(post)
+                .author(author)
+                .parent(parent)
+                .build();
+        em.persist(comment);
+        return comment;
+    }
+}
@@ -8,6 +8,8 @@ import com.kraft.domain.post.PostRepository;
 import com.kraft.domain.user.Role;
 import com.kraft.domain.user.User;
 import com.kraft.domain.user.UserRepository;
+import com.kraft.service.pagination.PageCountCache;
+import com.kraft.service.version.CollectionVersions;
 import com.kraft.web.dto.comment.CommentResponseDto;
 import com.kraft.web.dto.comment.CommentSaveRequestDto;
 import com.kraft.web.dto.comment.CommentUpdateRequestDto;
@@ -28,7 +30,9 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +47,12 @@ class CommentServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PageCountCache pageCountCache;
+
+    @Mock
+    private CollectionVersions collectionVersions;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -77,6 +87,40 @@ class CommentServiceTest {
 
         // then
         verify(commentRepository).save(any(Comment.class));
+        verify(postRepository).adjustCommentCount(1L, 1);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글의 댓글에는 답글을 달 수 없다")
+    void saveReply_deletedPost() {
+        // given
+        User author = User.of("author", "encoded", "author@example.com");
+        Post post = Post.builder()
+                .title("Test Post")
+                .content("Test Content")
+                .author(author)
+                .build();
+        ReflectionTestUtils.setField(post, "id", 1L);
+        Comment parent = Comment.builder()
+                .content("Parent")
+                .post(post)
+                .author(author)
+                .build();
+
+        SessionUser sessionUser = new SessionUser(author);
+        CommentSaveRequestDto requestDto = CommentSaveRequestDto.builder()
+                .content("Reply")
+                .build();
+
+        given(commentRepository.findById(2L)).willReturn(Optional.of(parent));
+        given(userRepository.findById(sessionUser.id())).willReturn(Optional.of(author));
+        given(postRepository.existsById(1L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> commentService.saveReply(1L, 2L, requestDto, sessionUser))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(commentRepository, never()).save(any(Comment.class));
+        verify(postRepository, never()).adjustCommentCount(anyLong(), anyLong());
     }
 
     @Test
@@ -180,12 +224,29 @@ class CommentServiceTest {
         SessionUser sessionUser = new SessionUser(1L, "author", "author@example.com", Role.USER);
 
         given(commentRepository.findById(1L)).willReturn(Optional.of(comment));
+        given(commentRepository.findIdsByParentIdIn(List.of(1L))).willReturn(List.of(2L, 3L));
+        given(commentRepository.findIdsByParentIdIn(List.of(2L, 3L))).willReturn(List.of());
 
         // when
         commentService.delete(1L, sessionUser);
 
-        // then
+        // then: 하위 답글 2건까지 포함해 댓글 수 차감
         verify(commentRepository).delete(comment);
+        verify(postRepository).adjustCommentCount(null, -3L);
+    }
+
+    @Test
+    @DisplayName("게시글의 댓글 수는 비정규화 컬럼에서 조회한다")
+    void countByPostId_readsDenormalizedColumn() {
+        // given
+        given(postRepository.findCommentCountById(1L)).willReturn(Optional.of(7L));
+
+        // when
+        long count = commentService.countByPostId(1L);
+
+        // then
+        assertThat(count).isEqualTo(7L);
+        verify(commentRepository, never()).countByPostId(any());
     }
 
     @Test
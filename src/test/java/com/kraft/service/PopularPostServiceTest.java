@@ -0,0 +1,139 @@
+package com.kraft.service;
+
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
+import com.kraft.service.pagination.PageCountCache;
+import com.kraft.service.ranking.PostRanking;
+import com.kraft.service.ranking.RankingType;
+import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.PageResponse.TotalMode;
+import com.kraft.web.dto.post.PostsListResponseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PopularPostServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostService postService;
+
+    @Mock
+    private PostRanking postRanking;
+
+    @Mock
+    private PageCountCache pageCountCache;
+
+    @InjectMocks
+    private PopularPostService popularPostService;
+
+    @Test
+    @DisplayName("순위표 범위 안의 페이지는 순위표 ID로 해당 게시글만 조회한다")
+    void findPopularPosts_fromRanking() {
+        // given
+        given(postRanking.size(RankingType.ALL_TIME, null)).willReturn(100);
+        given(postRanking.top(RankingType.ALL_TIME, null, 4)).willReturn(List.of(9L, 4L, 7L, 2L));
+        given(postRepository.findSummariesByIdIn(List.of(7L, 2L)))
+                .willReturn(List.of(summary(2L, 30L), summary(7L, 40L)));
+
+        // when
+        PageResponse<PostsListResponseDto> result = popularPostService.findPopularPosts(null, 1, 2, TotalMode.NONE);
+
+        // then
+        assertThat(result.content()).extracting(PostsListResponseDto::id).containsExactly(7L, 2L);
+        assertThat(result.hasNext()).isTrue();
+        verify(postService, never()).findPopularPosts(1, 2, TotalMode.NONE);
+    }
+
+    @Test
+    @DisplayName("순위표 페이지의 EXACT 전체 건수는 건수 캐시가 아닌 COUNT 쿼리로 센다")
+    void findPopularPosts_exactTotalFromCount() {
+        // given
+        given(postRanking.size(RankingType.ALL_TIME, 3L)).willReturn(100);
+        given(postRanking.top(RankingType.ALL_TIME, 3L, 2)).willReturn(List.of(9L, 4L));
+        given(postRepository.findSummariesByIdIn(List.of(9L, 4L)))
+                .willReturn(List.of(summary(4L, 30L), summary(9L, 40L)));
+        given(postRepository.countByCategoryId(3L)).willReturn(5L);
+
+        // when
+        PageResponse<PostsListResponseDto> result = popularPostService.findPopularPosts(3L, 0, 2, TotalMode.EXACT);
+
+        // then
+        assertThat(result.totalElements()).isEqualTo(5);
+        assertThat(result.totalPages()).isEqualTo(3);
+        assertThat(result.totalMode()).isEqualTo(TotalMode.EXACT);
+        verify(pageCountCache, never()).get(any(), any());
+    }
+
+    @Test
+    @DisplayName("순위표 페이지의 CACHED 전체 건수는 COUNT 쿼리 없이 건수 캐시에서 가져온다")
+    void findPopularPosts_cachedTotalFromPageCountCache() {
+        // given
+        given(postRanking.size(RankingType.ALL_TIME, 3L)).willReturn(100);
+        given(postRanking.top(RankingType.ALL_TIME, 3L, 2)).willReturn(List.of(9L, 4L));
+        given(postRepository.findSummariesByIdIn(List.of(9L, 4L)))
+                .willReturn(List.of(summary(4L, 30L), summary(9L, 40L)));
+        given(pageCountCache.get(eq(PageCountCache.postsByCategory(3L)), any())).willReturn(5L);
+
+        // when
+        PageResponse<PostsListResponseDto> result = popularPostService.findPopularPosts(3L, 0, 2, TotalMode.CACHED);
+
+        // then
+        assertThat(result.totalElements()).isEqualTo(5);
+        assertThat(result.totalMode()).isEqualTo(TotalMode.CACHED);
+        verify(postRepository, never()).countByCategoryId(3L);
+    }
+
+    @Test
+    @DisplayName("순위표 범위를 넘는 페이지는 SQL 조회로 처리한다")
+    void findPopularPosts_fallback() {
+        // given
+        given(postRanking.size(RankingType.ALL_TIME, null)).willReturn(3);
+        PageResponse<PostsListResponseDto> fallback = PageResponse.ofSlice(List.of(), 1, 2, false);
+        given(postService.findPopularPosts(1, 2, TotalMode.NONE)).willReturn(fallback);
+
+        // when
+        PageResponse<PostsListResponseDto> result = popularPostService.findPopularPosts(null, 1, 2, TotalMode.NONE);
+
+        // then
+        assertThat(result).isSameAs(fallback);
+    }
+
+    @Test
+    @DisplayName("트렌딩 게시글은 순위표 크기를 전체 건수로 사용한다")
+    void findTrendingPosts() {
+        // given
+        given(postRanking.size(RankingType.TRENDING, 3L)).willReturn(3);
+        given(postRanking.top(RankingType.TRENDING, 3L, 2)).willReturn(List.of(5L, 1L));
+        given(postRepository.findSummariesByIdIn(List.of(5L, 1L)))
+                .willReturn(List.of(summary(1L, 3L), summary(5L, 1L)));
+
+        // when
+        PageResponse<PostsListResponseDto> result = popularPostService.findTrendingPosts(3L, 0, 2);
+
+        // then
+        assertThat(result.content()).extracting(PostsListResponseDto::id).containsExactly(5L, 1L);
+        assertThat(result.totalElements()).isEqualTo(3);
+        assertThat(result.totalPages()).isEqualTo(2);
+    }
+
+    private PostSummary summary(Long id, Long viewCount) {
+        return new PostSummary(id, "Title " + id, "author", viewCount, 0L, LocalDateTime.now());
+    }
+}
@@ -2,27 +2,47 @@ package com.kraft.service;
 
 import com.kraft.domain.post.Post;
 import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
 import com.kraft.domain.user.User;
+import com.kraft.service.pagination.PageCountCache;
+import com.kraft.service.postcache.LocalPostDetailL2;
+import com.kraft.service.postcache.PostDetailCache;
+import com.kraft.service.ranking.PostRanking;
+import com.kraft.service.search.PostSearchIndex;
+import com.kraft.service.search.SearchOperator;
+import com.kraft.service.search.SearchResult;
+import com.kraft.service.suggest.PostSuggestIndex;
+import com.kraft.service.version.CollectionVersions;
+import com.kraft.service.viewcount.ViewCountBuffer;
+import com.kraft.web.dto.common.Cursor;
+import com.kraft.web.dto.common.CursorPageResponse;
 import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.PageResponse.TotalMode;
 import com.kraft.web.dto.post.PostResponseDto;
 import com.kraft.web.dto.post.PostsListResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class PostServicePaginationTest {
@@ -30,6 +50,28 @@ class PostServicePaginationTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private PageCountCache pageCountCache;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private PostSuggestIndex postSuggestIndex;
+
+    @Mock
+    private PostRanking postRanking;
+
+    @Spy
+    private PostDetailCache postDetailCache =
+            new PostDetailCache(new LocalPostDetailL2(), new SimpleMeterRegistry(), true, 1_000_000, 30_000);
+
+    @Mock
+    private CollectionVersions collectionVersions;
+
     @InjectMocks
     private PostService postService;
 
@@ -37,27 +79,16 @@ class PostServicePaginationTest {
     @DisplayName("페이지네이션으로 게시글 목록을 조회할 수 있다")
     void findAllWithPagination_success() {
         // given
-        User author = User.of("author", "encoded", "author@example.com");
-
-        Post post1 = Post.builder()
-                .title("Title 1")
-                .content("Content 1")
-                .author(author)
-                .build();
+        PostSummary post1 = summary(1L, "Title 1", 0L);
+        PostSummary post2 = summary(2L, "Title 2", 0L);
 
-        Post post2 = Post.builder()
-                .title("Title 2")
-                .content("Content 2")
-                .author(author)
-                .build();
-
-        Page<Post> postPage = new PageImpl<>(
+        Page<PostSummary> postPage = new PageImpl<>(
                 Arrays.asList(post2, post1),
                 PageRequest.of(0, 10),
                 2
         );
 
-        given(postRepository.findAllWithAuthor(any(Pageable.class))).willReturn(postPage);
+        given(postRepository.findAllSummaries(any(Pageable.class))).willReturn(postPage);
 
         // when
         PageResponse<PostsListResponseDto> result =
@@ -79,21 +110,15 @@ class PostServicePaginationTest {
     @DisplayName("두 번째 페이지를 조회할 수 있다")
     void findAllWithPagination_secondPage() {
         // given
-        User author = User.of("author", "encoded", "author@example.com");
-
-        Post post3 = Post.builder()
-                .title("Title 3")
-                .content("Content 3")
-                .author(author)
-                .build();
+        PostSummary post3 = summary(3L, "Title 3", 0L);
 
-        Page<Post> postPage = new PageImpl<>(
+        Page<PostSummary> postPage = new PageImpl<>(
                 Arrays.asList(post3),
                 PageRequest.of(1, 10),
                 21 // 총 21개
         );
 
-        given(postRepository.findAllWithAuthor(any(Pageable.class))).willReturn(postPage);
+        given(postRepository.findAllSummaries(any(Pageable.class))).willReturn(postPage);
 
         // when
         PageResponse<PostsListResponseDto> result =
@@ -112,21 +137,10 @@ class PostServicePaginationTest {
     @DisplayName("특정 사용자의 게시글 목록을 조회할 수 있다")
     void findByAuthorId_success() {
         // given
-        User author = User.of("author", "encoded", "author@example.com");
-
-        Post post1 = Post.builder()
-                .title("Title 1")
-                .content("Content 1")
-                .author(author)
-                .build();
-
-        Post post2 = Post.builder()
-                .title("Title 2")
-                .content("Content 2")
-                .author(author)
-                .build();
+        PostSummary post1 = summary(1L, "Title 1", 0L);
+        PostSummary post2 = summary(2L, "Title 2", 0L);
 
-        given(postRepository.findByAuthorId(1L)).willReturn(Arrays.asList(post2, post1));
+        given(postRepository.findSummariesByAuthorId(1L)).willReturn(Arrays.asList(post2, post1));
 
         // when
         List<PostsListResponseDto> result = postService.findByAuthorId(1L);
@@ -146,46 +160,33 @@ class PostServicePaginationTest {
                 .author(author)
                 .build();
 
-        given(postRepository.findById(1L)).willReturn(java.util.Optional.of(post));
+        given(postRepository.findByIdWithAuthor(1L)).willReturn(java.util.Optional.of(post));
+        given(viewCountBuffer.increment(1L)).willReturn(1L);
 
         // when
         PostResponseDto result = postService.findByIdAndIncrementView(1L);
 
         // then
         assertThat(result.viewCount()).isEqualTo(1L);
-        assertThat(post.getViewCount()).isEqualTo(1L);
+        assertThat(post.getViewCount()).isEqualTo(0L); // 엔티티는 변경하지 않고 버퍼에만 기록
+        verify(viewCountBuffer).increment(1L);
+        verify(postRanking).recordView(1L, null, 1L);
     }
 
     @Test
     @DisplayName("인기 게시글을 조회할 수 있다")
     void findPopularPosts_success() {
         // given
-        User author = User.of("author", "encoded", "author@example.com");
+        PostSummary post1 = summary(1L, "Popular Post", 3L);
+        PostSummary post2 = summary(2L, "Normal Post", 0L);
 
-        Post post1 = Post.builder()
-                .title("Popular Post")
-                .content("Content")
-                .author(author)
-                .build();
-
-        // 조회수 증가 시뮬레이션
-        post1.incrementViewCount();
-        post1.incrementViewCount();
-        post1.incrementViewCount();
-
-        Post post2 = Post.builder()
-                .title("Normal Post")
-                .content("Content")
-                .author(author)
-                .build();
-
-        Page<Post> postPage = new PageImpl<>(
+        Page<PostSummary> postPage = new PageImpl<>(
                 Arrays.asList(post1, post2),
                 PageRequest.of(0, 10),
                 2
         );
 
-        given(postRepository.findPopularPosts(any(Pageable.class))).willReturn(postPage);
+        given(postRepository.findPopularSummaries(any(Pageable.class))).willReturn(postPage);
 
         // when
         PageResponse<PostsListResponseDto> result = postService.findPopularPosts(0, 10);
@@ -194,4 +195,98 @@ class PostServicePaginationTest {
         assertThat(result.content()).hasSize(2);
         assertThat(result.content().get(0).viewCount()).isEqualTo(3L);
     }
+
+    @Test
+    @DisplayName("커서 조회 시 size + 1건이 있으면 다음 커서를 반환한다")
+    void findAllWithCursor_hasNext() {
+        // given
+        given(postRepository.findNextPageDesc(eq(Long.MAX_VALUE), any(Pageable.class)))
+                .willReturn(Arrays.asList(summary(3L, "Title 3", 0L), summary(2L, "Title 2", 0L), summary(1L, "Title 1", 0L)));
+
+        // when
+        CursorPageResponse<PostsListResponseDto> result = postService.findAllWithCursor(null, 2, "DESC");
+
+        // then
+        assertThat(result.content()).extracting(PostsListResponseDto::id).containsExactly(3L, 2L);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(Cursor.decode(result.nextCursor()).id()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("커서의 마지막 ID 이후부터 조회하고 마지막 페이지면 다음 커서가 없다")
+    void findAllWithCursor_lastPage() {
+        // given
+        given(postRepository.findNextPageDesc(eq(2L), any(Pageable.class)))
+                .willReturn(List.of(summary(1L, "Title 1", 0L)));
+
+        // when
+        CursorPageResponse<PostsListResponseDto> result =
+                postService.findAllWithCursor(Cursor.of(2L, 2L).encode(), 2, "DESC");
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("count=none이면 COUNT 쿼리 없이 Slice로 조회한다")
+    void findAllWithPagination_slice() {
+        // given
+        given(postRepository.findSummarySlice(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(summary(1L, "Title", 0L)), PageRequest.of(0, 1), true));
+
+        // when
+        PageResponse<PostsListResponseDto> result =
+                postService.findAllWithPagination(0, 1, "id", "DESC", TotalMode.NONE);
+
+        // then
+        assertThat(result.totalMode()).isEqualTo(TotalMode.NONE);
+        assertThat(result.totalElements()).isEqualTo(-1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.last()).isFalse();
+    }
+
+    @Test
+    @DisplayName("count=cached이면 캐시된 전체 건수를 사용한다")
+    void findAllWithPagination_cached() {
+        // given
+        given(postRepository.findSummarySlice(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(summary(1L, "Title", 0L)), PageRequest.of(0, 10), false));
+        given(pageCountCache.get(eq(PageCountCache.POSTS), any())).willReturn(42L);
+
+        // when
+        PageResponse<PostsListResponseDto> result =
+                postService.findAllWithPagination(0, 10, "id", "DESC", TotalMode.CACHED);
+
+        // then
+        assertThat(result.totalMode()).isEqualTo(TotalMode.CACHED);
+        assertThat(result.totalElements()).isEqualTo(42L);
+        assertThat(result.totalPages()).isEqualTo(5);
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("검색 색인이 준비되어 있으면 색인 순위대로 게시글을 조회한다")
+    void searchPosts_withIndex() {
+        // given
+        given(postSearchIndex.canServe("스프링")).willReturn(true);
+        given(postSearchIndex.search("스프링", SearchOperator.AND, 2))
+                .willReturn(new SearchResult(new long[]{7L, 3L}, 5));
+        given(postRepository.findSummariesByIdIn(List.of(7L, 3L)))
+                .willReturn(List.of(summary(3L, "스프링 입문", 0L), summary(7L, "스프링 부트", 0L)));
+
+        // when
+        PageResponse<PostsListResponseDto> result = postService.searchPosts("스프링", 0, 2);
+
+        // then
+        assertThat(result.content()).extracting(PostsListResponseDto::id).containsExactly(7L, 3L);
+        assertThat(result.totalElements()).isEqualTo(5);
+        assertThat(result.totalPages()).isEqualTo(3);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    private PostSummary summary(Long id, String title, Long viewCount) {
+        return new PostSummary(id, title, "author", viewCount, 0L, LocalDateTime.now());
+    }
 }
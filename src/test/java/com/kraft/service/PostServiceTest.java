@@ -1,31 +1,57 @@
 package com.kraft.service;
 
 import com.kraft.config.auth.dto.SessionUser;
+import com.kraft.config.datasource.ReadYourWrites;
+import com.kraft.domain.category.Category;
+import com.kraft.domain.category.CategoryRepository;
 import com.kraft.domain.post.Post;
 import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.post.PostSummary;
 import com.kraft.domain.user.User;
 import com.kraft.domain.user.UserRepository;
+import com.kraft.service.pagination.PageCountCache;
+import com.kraft.service.postcache.LocalPostDetailL2;
+import com.kraft.service.postcache.PostDetailCache;
+import com.kraft.service.ranking.PostRanking;
+import com.kraft.service.search.PostSearchIndex;
+import com.kraft.service.search.SearchOperator;
+import com.kraft.service.search.SearchResult;
+import com.kraft.service.suggest.PostSuggestIndex;
+import com.kraft.service.version.CollectionVersions;
+import com.kraft.service.viewcount.ViewCountBuffer;
+import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.PageResponse.TotalMode;
+import com.kraft.web.dto.common.ResourceVersion;
 import com.kraft.web.dto.post.PostResponseDto;
 import com.kraft.web.dto.post.PostSaveRequestDto;
 import com.kraft.web.dto.post.PostUpdateRequestDto;
 import com.kraft.web.dto.post.PostsListResponseDto;
 import com.kraft.common.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Arrays;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class PostServiceTest {
@@ -36,6 +62,31 @@ class PostServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private PageCountCache pageCountCache;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private PostSuggestIndex postSuggestIndex;
+
+    @Mock
+    private PostRanking postRanking;
+
+    @Spy
+    private PostDetailCache postDetailCache =
+            new PostDetailCache(new LocalPostDetailL2(), new SimpleMeterRegistry(), true, 1_000_000, 30_000);
+
+    @Mock
+    private CollectionVersions collectionVersions;
+
     @InjectMocks
     private PostService postService;
 
@@ -116,6 +167,61 @@ class PostServiceTest {
         assertThat(post.getContent()).isEqualTo("Updated Content");
     }
 
+    @Test
+    @DisplayName("게시글 카테고리를 바꾸면 이전 카테고리 건수는 줄고 새 카테고리 건수는 는다")
+    void update_changesCategory() {
+        // given
+        User author = User.of("author", "encoded", "author@example.com");
+        Category previous = category(3L, "질문");
+        Category next = category(5L, "자유");
+        Post post = Post.builder()
+                .title("Original Title")
+                .content("Original Content")
+                .author(author)
+                .category(previous)
+                .build();
+        ReflectionTestUtils.setField(post, "id", 1L);
+
+        PostUpdateRequestDto requestDto = PostUpdateRequestDto.builder()
+                .title("Updated Title")
+                .content("Updated Content")
+                .categoryId(5L)
+                .build();
+
+        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+        given(categoryRepository.findById(5L)).willReturn(Optional.of(next));
+
+        // when
+        postService.update(1L, requestDto);
+
+        // then
+        assertThat(post.getCategory()).isSameAs(next);
+        verify(pageCountCache).adjust(PageCountCache.postsByCategory(3L), -1);
+        verify(pageCountCache).adjust(PageCountCache.postsByCategory(5L), 1);
+        verify(pageCountCache, never()).adjust(PageCountCache.POSTS, -1);
+        verify(postRanking).remove(1L, 3L);
+        verify(collectionVersions).bump(CollectionVersions.postsByCategory(3L));
+        verify(collectionVersions).bump(CollectionVersions.POSTS, CollectionVersions.postsByCategory(5L));
+    }
+
+    @Test
+    @DisplayName("색인 검색에서 CACHED로 요청하면 색인 건수를 CACHED로 표시한다")
+    void searchPosts_indexReportsRequestedMode() {
+        // given
+        given(postSearchIndex.canServe("검색어")).willReturn(true);
+        given(postSearchIndex.search("검색어", SearchOperator.AND, 2))
+                .willReturn(new SearchResult(new long[]{9L, 4L}, 7L));
+        given(postRepository.findSummariesByIdIn(List.of(9L, 4L))).willReturn(List.of());
+
+        // when
+        PageResponse<PostsListResponseDto> result = postService.searchPosts("검색어", 0, 2, TotalMode.CACHED);
+
+        // then
+        assertThat(result.totalMode()).isEqualTo(TotalMode.CACHED);
+        assertThat(result.totalElements()).isEqualTo(7);
+        assertThat(result.hasNext()).isTrue();
+    }
+
     @Test
     @DisplayName("게시글 삭제에 성공한다")
     void delete_success() {
@@ -132,8 +238,10 @@ class PostServiceTest {
         // when
         postService.delete(1L);
 
-        // then
-        verify(postRepository).delete(post);
+        // then: 삭제 시각만 기록하고 행 삭제는 PurgeJob에 위임
+        assertThat(post.getDeletedAt()).isNotNull();
+        verify(postRepository, never()).delete(any(Post.class));
+        verify(collectionVersions).bump(CollectionVersions.POSTS);
     }
 
     @Test
@@ -147,7 +255,7 @@ class PostServiceTest {
                 .author(author)
                 .build();
 
-        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+        given(postRepository.findByIdWithAuthor(1L)).willReturn(Optional.of(post));
 
         // when
         PostResponseDto result = postService.findById(1L);
@@ -159,34 +267,146 @@ class PostServiceTest {
     }
 
     @Test
-    @DisplayName("게시글 목록 조회에 성공한다")
-    void findAllDesc_success() {
+    @DisplayName("상세 캐시 미스 적재는 replica가 아닌 primary에서 읽는다")
+    void findById_loadsOnPrimary() {
         // given
         User author = User.of("author", "encoded", "author@example.com");
-        Post post1 = Post.builder().title("Title 1").content("Content 1").author(author).build();
-        Post post2 = Post.builder().title("Title 2").content("Content 2").author(author).build();
+        Post post = Post.builder()
+                .title("Title")
+                .content("Content")
+                .author(author)
+                .build();
+        AtomicBoolean pinned = new AtomicBoolean();
 
-        given(postRepository.findAllDesc()).willReturn(Arrays.asList(post2, post1));
+        given(postRepository.findByIdWithAuthor(1L)).willAnswer(invocation -> {
+            pinned.set(ReadYourWrites.isPinnedToPrimary());
+            return Optional.of(post);
+        });
 
         // when
-        List<PostsListResponseDto> result = postService.findAllDesc();
+        postService.findById(1L);
 
         // then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).title()).isEqualTo("Title 2");
-        assertThat(result.get(1).title()).isEqualTo("Title 1");
+        assertThat(pinned).isTrue();
+        assertThat(ReadYourWrites.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("게시글 검증자는 캐시 미스면 수정 시각만 조회하고, 캐시 적중이면 DB를 조회하지 않는다")
+    void findVersion_readsUpdateAtOnMiss() {
+        // given
+        User author = User.of("author", "encoded", "author@example.com");
+        Post post = Post.builder()
+                .title("Title")
+                .content("Content")
+                .author(author)
+                .build();
+        LocalDateTime updateAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+        ReflectionTestUtils.setField(post, "updateAt", updateAt);
+
+        given(postRepository.findUpdateAtById(1L)).willReturn(Optional.of(updateAt));
+        given(postRepository.findByIdWithAuthor(1L)).willReturn(Optional.of(post));
+
+        // when
+        ResourceVersion version = postService.findVersion(1L);
+        postService.findById(1L);
+
+        // then
+        assertThat(postService.findVersion(1L)).isEqualTo(version);
+        assertThat(version.weakEtag()).startsWith("W/\"p1-");
+        verify(postRepository, times(1)).findUpdateAtById(1L);
+        verify(postRepository, times(1)).findByIdWithAuthor(1L);
+    }
+
+    @Test
+    @DisplayName("없는 게시글의 검증자를 요청하면 예외가 발생한다")
+    void findVersion_notFound() {
+        // given
+        given(postRepository.findUpdateAtById(999L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> postService.findVersion(999L))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("목록 검증자는 목록/통계 버전과 페이지 값으로 만들어 페이지마다 따로 검증된다")
+    void findListVersion_foldsPageParameters() {
+        // given
+        given(collectionVersions.current(CollectionVersions.postsByCategory(3L), CollectionVersions.POST_STATS))
+                .willReturn(new long[]{1700000000000L, 1700000000005L});
+
+        // when
+        ResourceVersion first = postService.findListVersion(3L, 0, 10);
+        ResourceVersion second = postService.findListVersion(3L, 1, 10);
+
+        // then
+        assertThat(first.tag()).isEqualTo("posts:category:3-1700000000000-1700000000005-0-10");
+        assertThat(second.tag()).isNotEqualTo(first.tag());
+        assertThat(first.lastModifiedMillis()).isEqualTo(-1);
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("조회수 순서 목록 검증자는 순위 에포크가 바뀌면 함께 바뀐다")
+    void findRankingListVersion_foldsRankingEpoch() {
+        // given
+        given(collectionVersions.current(
+                CollectionVersions.POSTS, CollectionVersions.POST_STATS, CollectionVersions.POST_RANKING))
+                .willReturn(new long[]{1700000000000L, 1700000000005L, 1700000000009L},
+                        new long[]{1700000000000L, 1700000000005L, 1700000000010L});
+
+        // when
+        ResourceVersion first = postService.findRankingListVersion(null, "popular", 0, 10);
+        ResourceVersion second = postService.findRankingListVersion(null, "popular", 0, 10);
+
+        // then
+        assertThat(first.tag()).isEqualTo("posts-1700000000000-1700000000005-r-1700000000009-popular-0-10");
+        assertThat(second.tag()).isNotEqualTo(first.tag());
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("게시글 목록을 스트리밍하면 키셋 페이지를 이어 읽으며 한 건씩 전달한다")
+    void streamAllDesc_success() {
+        // given
+        int chunk = PostRepository.STREAM_FETCH_SIZE;
+        List<PostSummary> firstPage = new ArrayList<>();
+        for (long id = chunk + 2; id > 2; id--) {
+            firstPage.add(new PostSummary(id, "Title " + id, "author", 0L, 0L, LocalDateTime.now()));
+        }
+        List<PostSummary> lastPage = List.of(
+                new PostSummary(2L, "Title 2", "author", 0L, 0L, LocalDateTime.now()),
+                new PostSummary(1L, "Title 1", "author", 0L, 0L, LocalDateTime.now()));
+        given(postRepository.findNextPageDesc(Long.MAX_VALUE, PageRequest.ofSize(chunk))).willReturn(firstPage);
+        given(postRepository.findNextPageDesc(3L, PageRequest.ofSize(chunk))).willReturn(lastPage);
+        List<PostsListResponseDto> received = new ArrayList<>();
+
+        // when
+        long count = postService.streamAllDesc(received::add);
+
+        // then
+        assertThat(count).isEqualTo(chunk + 2);
+        assertThat(received).hasSize(chunk + 2);
+        assertThat(received.get(0).id()).isEqualTo(chunk + 2L);
+        assertThat(received.get(received.size() - 1).id()).isEqualTo(1L);
     }
 
     @Test
     @DisplayName("존재하지 않는 게시글 조회하면 예외가 발생한다")
     void findById_notFound() {
         // given
-        given(postRepository.findById(999L)).willReturn(Optional.empty());
+        given(postRepository.findByIdWithAuthor(999L)).willReturn(Optional.empty());
 
         // expect
         assertThatThrownBy(() -> postService.findById(999L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("게시글");
     }
-}
 
+    private static Category category(Long id, String name) {
+        Category category = Category.builder().name(name).displayOrder(0).build();
+        ReflectionTestUtils.setField(category, "id", id);
+        return category;
+    }
+}
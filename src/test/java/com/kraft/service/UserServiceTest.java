@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -154,8 +155,9 @@ class UserServiceTest {
         // when
         userService.delete(1L);
 
-        // then
-        verify(userRepository).delete(user);
+        // then: 탈퇴 시각만 기록하고 게시글/댓글 숨김과 행 삭제는 PurgeJob에 위임
+        assertThat(user.isDeleted()).isTrue();
+        verify(userRepository, never()).delete(any(User.class));
     }
 }
 
@@ -0,0 +1,196 @@
+package com.kraft.service;
+
+import com.kraft.config.auth.dto.SessionUser;
+import com.kraft.domain.comment.Comment;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.user.User;
+import com.kraft.web.dto.comment.CommentSaveRequestDto;
+import com.kraft.web.dto.post.PostSaveRequestDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글/답글 작성 비용이 기존 게시글·답글 수와 무관한지 검증
+ * - 작성자 1명에게 게시글 10,000건, 부모 댓글 1개에 답글 10,000건을 미리 적재
+ * - 빈 작성자/빈 스레드와 비교해 SQL 실행 횟수가 같고 컬렉션 초기화가 없어야 함
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class WritePathScalingTest {
+
+    private static final int SEEDED = 10_000;
+    // JDBC로 적재하는 행은 ID 생성기와 겹치지 않는 구간의 ID를 직접 지정
+    private static final long SEED_ID_BASE = 1_000_000_000L;
+    private static final Duration LATENCY_BOUND = Duration.ofMillis(500);
+    // 시퀀스 블록 소진 같은 간헐적인 추가 조회가 비교를 흔들지 않도록 여러 번 측정해 최솟값 사용
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("게시글 작성은 작성자의 기존 게시글 수와 무관하게 같은 SQL만 실행한다")
+    void savePost_costIndependentOfExistingPosts() {
+        // given
+        User newcomer = persistUser("newcomer");
+        User prolific = persistUser("prolific");
+        em.flush();
+        seedPosts(prolific.getId(), SEEDED);
+
+        PostSaveRequestDto request = PostSaveRequestDto.builder()
+                .title("title")
+                .content("content")
+                .build();
+
+        // when
+        WriteCost empty = measure(() -> postService.save(request, sessionUser(newcomer)));
+        WriteCost seeded = measure(() -> postService.save(request, sessionUser(prolific)));
+
+        // then
+        assertThat(seeded.collectionFetches()).isZero();
+        assertThat(seeded.statements()).isEqualTo(empty.statements());
+        assertThat(seeded.entityLoads()).isEqualTo(empty.entityLoads());
+        assertThat(seeded.elapsed()).isLessThan(LATENCY_BOUND);
+    }
+
+    @Test
+    @DisplayName("답글 작성은 부모 댓글의 기존 답글 수와 무관하게 같은 SQL만 실행한다")
+    void saveReply_costIndependentOfExistingReplies() {
+        // given
+        User author = persistUser("replier");
+        Post post = Post.builder().title("thread").content("content").author(author).build();
+        em.persist(post);
+        Comment quiet = persistComment(post, author);
+        Comment busy = persistComment(post, author);
+        em.flush();
+        seedReplies(post.getId(), busy.getId(), author.getId(), SEEDED);
+
+        CommentSaveRequestDto request = CommentSaveRequestDto.builder()
+                .content("reply")
+                .build();
+
+        // when
+        WriteCost empty = measure(() ->
+                commentService.saveReply(post.getId(), quiet.getId(), request, sessionUser(author)));
+        WriteCost seeded = measure(() ->
+                commentService.saveReply(post.getId(), busy.getId(), request, sessionUser(author)));
+
+        // then
+        assertThat(seeded.collectionFetches()).isZero();
+        assertThat(seeded.statements()).isEqualTo(empty.statements());
+        assertThat(seeded.entityLoads()).isEqualTo(empty.entityLoads());
+        assertThat(seeded.elapsed()).isLessThan(LATENCY_BOUND);
+    }
+
+    private WriteCost measure(Runnable write) {
+        WriteCost result = null;
+        for (int i = 0; i < ROUNDS; i++) {
+            em.flush();
+            em.clear();
+            statistics.clear();
+
+            long start = System.nanoTime();
+            write.run();
+            em.flush();
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            WriteCost round = new WriteCost(
+                    statistics.getPrepareStatementCount(),
+                    statistics.getCollectionFetchCount(),
+                    statistics.getEntityLoadCount(),
+                    elapsed
+            );
+            result = result == null ? round : result.merge(round);
+        }
+        return result;
+    }
+
+    private User persistUser(String name) {
+        User user = User.of(name, "password", name + "@example.com");
+        em.persist(user);
+        return user;
+    }
+
+    private Comment persistComment(Post post, User author) {
+        Comment comment = Comment.builder().content("parent").post(post).author(author).build();
+        em.persist(comment);
+        return comment;
+    }
+
+    private void seedPosts(Long authorId, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{SEED_ID_BASE + i, "seed-" + i, "content", authorId, now, now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO posts (id, title, content, author_id, view_count, comment_count, create_at, update_at) " +
+                        "VALUES (?, ?, ?, ?, 0, 0, ?, ?)", rows);
+    }
+
+    private void seedReplies(Long postId, Long parentId, Long authorId, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{SEED_ID_BASE + i, "seed-" + i, postId, authorId, parentId, now, now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO comments (id, content, post_id, author_id, parent_id, reply_count, create_at, update_at) " +
+                        "VALUES (?, ?, ?, ?, ?, 0, ?, ?)", rows);
+    }
+
+    private static SessionUser sessionUser(User user) {
+        return new SessionUser(user);
+    }
+
+    private record WriteCost(long statements, long collectionFetches, long entityLoads, Duration elapsed) {
+
+        WriteCost merge(WriteCost other) {
+            return new WriteCost(
+                    Math.min(statements, other.statements),
+                    collectionFetches + other.collectionFetches,
+                    Math.min(entityLoads, other.entityLoads),
+                    elapsed.compareTo(other.elapsed) >= 0 ? elapsed : other.elapsed
+            );
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.kraft.service.category;
+
+import com.kraft.domain.category.Category;
+import com.kraft.domain.category.CategoryRepository;
+import com.kraft.web.dto.category.CategoryResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryRegistryTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CategoryRegistry categoryRegistry;
+
+    @BeforeEach
+    void setUp() {
+        categoryRegistry = new CategoryRegistry(categoryRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 한 번 읽은 뒤에는 DB 없이 ID/이름/정렬 순서로 조회한다")
+    void loadsOnceAndServesFromMemory() {
+        // given
+        given(categoryRepository.findAllOrderByDisplayOrder())
+                .willReturn(List.of(category(2L, "공지사항", 0), category(1L, "일반", 1)));
+
+        // when
+        List<CategoryResponseDto> all = categoryRegistry.findAll();
+
+        // then
+        assertThat(all).extracting(CategoryResponseDto::name).containsExactly("공지사항", "일반");
+        assertThat(categoryRegistry.findById(1L)).map(CategoryResponseDto::name).hasValue("일반");
+        assertThat(categoryRegistry.findByName("공지사항")).map(CategoryResponseDto::id).hasValue(2L);
+        assertThat(categoryRegistry.findById(99L)).isEmpty();
+        assertThatThrownBy(() -> all.add(all.get(0))).isInstanceOf(UnsupportedOperationException.class);
+        verify(categoryRepository, times(1)).findAllOrderByDisplayOrder();
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    @DisplayName("refresh하면 새 스냅샷으로 통째로 교체된다")
+    void refreshSwapsSnapshot() {
+        // given
+        given(categoryRepository.findAllOrderByDisplayOrder())
+                .willReturn(List.of(category(1L, "일반", 0)))
+                .willReturn(List.of(category(1L, "자유", 0), category(3L, "질문", 1)));
+        List<CategoryResponseDto> before = categoryRegistry.findAll();
+
+        // when
+        categoryRegistry.refresh();
+
+        // then
+        assertThat(before).extracting(CategoryResponseDto::name).containsExactly("일반");
+        assertThat(categoryRegistry.findAll()).extracting(CategoryResponseDto::name).containsExactly("자유", "질문");
+        assertThat(categoryRegistry.findByName("일반")).isEmpty();
+    }
+
+    private static Category category(Long id, String name, int displayOrder) {
+        Category category = Category.builder().name(name).displayOrder(displayOrder).build();
+        ReflectionTestUtils.setField(category, "id", id);
+        return category;
+    }
+}
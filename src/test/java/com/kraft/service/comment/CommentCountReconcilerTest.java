@@ -0,0 +1,127 @@
+package com.kraft.service.comment;
+
+import com.kraft.domain.comment.Comment;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.user.User;
+import com.kraft.service.version.CollectionVersions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class CommentCountReconcilerTest {
+
+    @Autowired
+    private CommentCountReconciler reconciler;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Test
+    @DisplayName("어긋난 댓글 수와 답글 수를 실제 건수로 보정한다")
+    void reconcile_repairsDrift() {
+        // given: 부모 댓글 1개 + 답글 2개, 카운터는 0으로 방치 (드리프트)
+        User author = User.of("reconcileUser", "password", "reconcile@example.com");
+        em.persist(author);
+        Post post = Post.builder().title("Post").content("Content").author(author).build();
+        em.persist(post);
+        Comment parent = Comment.builder().content("parent").post(post).author(author).build();
+        em.persist(parent);
+        em.persist(Comment.builder().content("reply-1").post(post).author(author).parent(parent).build());
+        em.persist(Comment.builder().content("reply-2").post(post).author(author).parent(parent).build());
+        em.flush();
+
+        // when
+        reconciler.reconcile();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT comment_count FROM posts WHERE id = ?", Long.class, post.getId())).isEqualTo(3L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT reply_count FROM comments WHERE id = ?", Integer.class, parent.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ID 값 간격과 무관하게 실제 행을 chunk-size개씩 끊어 모든 청크를 보정한다")
+    void reconcile_walksSparseIdsByKeyset() {
+        // given: Snowflake ID라 게시글 ID 사이 간격이 chunk-size보다 훨씬 큼
+        User author = User.of("sparseUser", "password", "sparse@example.com");
+        em.persist(author);
+        Post first = Post.builder().title("First").content("Content").author(author).build();
+        Post second = Post.builder().title("Second").content("Content").author(author).build();
+        em.persist(first);
+        em.persist(second);
+        em.persist(Comment.builder().content("c1").post(first).author(author).build());
+        em.persist(Comment.builder().content("c2").post(second).author(author).build());
+        em.persist(Comment.builder().content("c3").post(second).author(author).build());
+        em.flush();
+        CommentCountReconciler oneRowChunks = new CommentCountReconciler(
+                jdbcTemplate, transactionTemplate, collectionVersions, new SimpleMeterRegistry(), 1, 100);
+
+        // when
+        oneRowChunks.reconcile();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT comment_count FROM posts WHERE id = ?", Long.class, first.getId())).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT comment_count FROM posts WHERE id = ?", Long.class, second.getId())).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("한 주기에 max-chunks-per-run개 청크만 보정하고 다음 주기에 이어서 진행한다")
+    void reconcile_resumesFromCursor() {
+        // given
+        User author = User.of("resumeUser", "password", "resume@example.com");
+        em.persist(author);
+        Post first = Post.builder().title("First").content("Content").author(author).build();
+        Post second = Post.builder().title("Second").content("Content").author(author).build();
+        em.persist(first);
+        em.persist(second);
+        em.persist(Comment.builder().content("c1").post(first).author(author).build());
+        em.persist(Comment.builder().content("c2").post(second).author(author).build());
+        em.flush();
+        CommentCountReconciler oneChunkPerRun = new CommentCountReconciler(
+                jdbcTemplate, transactionTemplate, collectionVersions, new SimpleMeterRegistry(), 1, 1);
+        long postCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts", Long.class);
+
+        // when: 한 주기에 게시글 한 행씩만 보정하므로 first가 보정된 주기에는 second가 남아 있음
+        for (long run = 0; run < postCount && commentCount(first) == 0; run++) {
+            oneChunkPerRun.reconcile();
+        }
+
+        // then
+        assertThat(commentCount(first)).isEqualTo(1L);
+        assertThat(commentCount(second)).isZero();
+
+        // when
+        oneChunkPerRun.reconcile();
+
+        // then
+        assertThat(commentCount(second)).isEqualTo(1L);
+    }
+
+    private long commentCount(Post post) {
+        return jdbcTemplate.queryForObject("SELECT comment_count FROM posts WHERE id = ?", Long.class, post.getId());
+    }
+}
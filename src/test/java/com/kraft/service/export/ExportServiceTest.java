@@ -0,0 +1,185 @@
+package com.kraft.service.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kraft.common.exception.ResourceNotFoundException;
+import com.kraft.domain.comment.Comment;
+import com.kraft.domain.comment.CommentRepository;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.user.User;
+import com.kraft.domain.user.UserRepository;
+import com.kraft.web.dto.export.ExportFileDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 파티션 스레드가 별도 커넥션으로 읽으므로 테스트 데이터는 커밋 후 직접 정리
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "kraft.export.chunk-size=2",
+        "kraft.export.parallelism=3"
+})
+class ExportServiceTest {
+
+    @TempDir
+    static Path exportDir;
+
+    @DynamicPropertySource
+    static void exportProperties(DynamicPropertyRegistry registry) {
+        registry.add("kraft.export.dir", () -> exportDir.toString());
+    }
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User author;
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.of("exporter", "password", "exporter@example.com"));
+        for (int i = 0; i < 7; i++) {
+            posts.add(postRepository.save(Post.builder().title("title " + i).content("content " + i)
+                    .author(author).build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments WHERE author_id = ?", author.getId());
+        jdbcTemplate.update("DELETE FROM posts WHERE author_id = ?", author.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", author.getId());
+    }
+
+    @Test
+    @DisplayName("백그라운드 내보내기가 진행 중이면 동시에 들어온 요청은 시작하지 않고, 끝나면 다시 시작할 수 있다")
+    void exportAsync_startsOnlyOneRun() throws InterruptedException {
+        // given: 첫 실행이 테이블 목록을 읽는 동안 멈춰 있도록 함
+        CountDownLatch release = new CountDownLatch(1);
+        List<ExportTable> blocking = new AbstractList<>() {
+            @Override
+            public ExportTable get(int index) {
+                throw new IndexOutOfBoundsException(index);
+            }
+
+            @Override
+            public int size() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return 0;
+            }
+        };
+
+        // when & then
+        assertThat(exportService.exportAsync(blocking, ExportFormat.NDJSON)).isTrue();
+        assertThat(exportService.exportAsync(List.of(ExportTable.POSTS), ExportFormat.NDJSON)).isFalse();
+
+        release.countDown();
+        boolean restarted = false;
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!restarted && System.currentTimeMillis() < deadline) {
+            restarted = exportService.exportAsync(List.of(), ExportFormat.NDJSON);
+            if (!restarted) {
+                Thread.sleep(10);
+            }
+        }
+        assertThat(restarted).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 파티션으로 나눠 쓴 NDJSON gzip 파일은 모든 게시글을 ID 순으로 담는다")
+    void exportPosts_ndjsonAcrossPartitions() throws IOException {
+        // when
+        ExportFileDto file = exportService.export(ExportTable.POSTS, ExportFormat.NDJSON);
+
+        // then
+        assertThat(file.name()).matches("posts-\\d{8}-\\d{6}\\.ndjson\\.gz");
+        List<Long> exportedIds = new ArrayList<>();
+        for (String line : readGzipLines(exportDir.resolve(file.name()))) {
+            JsonNode row = objectMapper.readTree(line);
+            exportedIds.add(row.get("id").asLong());
+            assertThat(row.has("comment_count")).isTrue();
+        }
+        assertThat(exportedIds).isEqualTo(
+                jdbcTemplate.queryForList("SELECT id FROM posts WHERE deleted_at IS NULL ORDER BY id", Long.class));
+        assertThat(exportedIds).containsAll(posts.stream().map(Post::getId).toList());
+        assertThat(exportService.findAll()).extracting(ExportFileDto::name).contains(file.name());
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기는 헤더를 한 번만 쓰고 쉼표/따옴표가 있는 값을 따옴표로 감싼다")
+    void exportComments_csv() throws IOException {
+        // given
+        commentRepository.save(Comment.builder().content("a, \"quoted\" comment")
+                .post(posts.get(0)).author(author).build());
+
+        // when
+        ExportFileDto file = exportService.export(ExportTable.COMMENTS, ExportFormat.CSV);
+
+        // then
+        List<String> lines = readGzipLines(exportDir.resolve(file.name()));
+        assertThat(lines.get(0)).isEqualTo("id,post_id,parent_id,author_id,content,reply_count,create_at,update_at");
+        assertThat(lines).filteredOn(line -> line.startsWith("id,")).hasSize(1);
+        assertThat(lines).anyMatch(line -> line.contains(",\"a, \"\"quoted\"\" comment\","));
+    }
+
+    @Test
+    @DisplayName("형식에 맞지 않는 파일 이름은 찾을 수 없는 파일로 처리한다")
+    void resolve_rejectsUnknownName() {
+        assertThatThrownBy(() -> exportService.resolve("../application.yml"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> exportService.resolve("posts-20000101-000000.ndjson.gz"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private static List<String> readGzipLines(Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+}
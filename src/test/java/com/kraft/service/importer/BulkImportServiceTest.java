@@ -0,0 +1,233 @@
+package com.kraft.service.importer;
+
+import com.kraft.domain.category.Category;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.user.User;
+import com.kraft.service.category.CategoryRegistry;
+import com.kraft.service.pagination.PageCountCache;
+import com.kraft.service.suggest.PostSuggestIndex;
+import com.kraft.web.dto.category.CategoryResponseDto;
+import com.kraft.web.dto.importer.ImportProgressDto;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.transaction.AfterTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"kraft.import.chunk-size=2", "kraft.import.max-refs=2"})
+@Transactional
+class BulkImportServiceTest {
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private CategoryRegistry categoryRegistry;
+
+    @Autowired
+    private PageCountCache pageCountCache;
+
+    @Autowired
+    private PostSuggestIndex postSuggestIndex;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<ImportProgressDto> progress = new ArrayList<>();
+    private Path errorFile;
+
+    @BeforeEach
+    void setUp() {
+        em.persist(User.of("importer", "password", "importer@example.com"));
+        em.persist(Category.builder().name("자유").build());
+        em.flush();
+        categoryRegistry.refresh(); // 테스트 트랜잭션 안에서 읽어 커밋 전 카테고리도 포함
+    }
+
+    @AfterTransaction
+    void restoreCategories() {
+        categoryRegistry.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (errorFile != null) {
+            Files.deleteIfExists(errorFile);
+        }
+    }
+
+    @Test
+    @DisplayName("ref로 연결된 게시글/댓글/답글을 청크 단위로 저장하고 댓글 수를 함께 반영한다")
+    void importPostsAndComments() throws IOException {
+        // given: 청크 크기 2 → 5줄이 3개 청크로 나뉘어 커밋
+        String body = """
+                {"type":"post","ref":"p1","title":"첫 글","content":"본문","author":"importer","category":"자유"}
+                {"type":"post","ref":"p2","title":"둘째 글","content":"본문","author":"importer","createdAt":"2020-01-02T03:04:05"}
+                {"type":"comment","ref":"c1","postRef":"p1","content":"댓글","author":"importer"}
+                {"type":"comment","postRef":"p1","parentRef":"c1","content":"답글","author":"importer"}
+                {"type":"comment","postRef":"p2","content":"댓글","author":"importer"}
+                """;
+
+        // when
+        ImportProgressDto result = importNdjson(body);
+
+        // then
+        assertThat(result.done()).isTrue();
+        assertThat(result.lines()).isEqualTo(5);
+        assertThat(result.posts()).isEqualTo(2);
+        assertThat(result.comments()).isEqualTo(3);
+        assertThat(result.failed()).isZero();
+        assertThat(result.errorFile()).isNull();
+        assertThat(progress).hasSize(4);
+
+        Long firstPostId = jdbcTemplate.queryForObject("SELECT id FROM posts WHERE title = '첫 글'", Long.class);
+        assertThat(count("SELECT comment_count FROM posts WHERE id = ?", firstPostId)).isEqualTo(2);
+        assertThat(count("SELECT reply_count FROM comments WHERE post_id = ? AND parent_id IS NULL", firstPostId))
+                .isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM posts WHERE id = ? AND category_id IS NOT NULL", firstPostId))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT YEAR(create_at) FROM posts WHERE title = '둘째 글'",
+                Integer.class)).isEqualTo(2020);
+    }
+
+    @Test
+    @DisplayName("잘못된 줄은 중단하지 않고 줄 번호와 사유를 오류 파일에 기록한다")
+    void invalidLines_reportedInErrorFile() throws IOException {
+        // given
+        Post existing = Post.builder().title("기존 글").content("본문")
+                .author(em.createQuery("select u from User u where u.name = 'importer'", User.class).getSingleResult())
+                .build();
+        em.persist(existing);
+        em.flush();
+
+        String body = """
+                {"type":"post","ref":"p1","title":"","content":"본문","author":"importer"}
+                not json
+                {"type":"post","ref":"p2","title":"제목","content":"본문","author":"nobody"}
+                {"type":"comment","postRef":"p1","content":"댓글","author":"importer"}
+
+                {"type":"comment","postId":%d,"content":"기존 글 댓글","author":"importer"}
+                {"type":"comment","postId":-1,"content":"댓글","author":"importer"}
+                """.formatted(existing.getId());
+
+        // when
+        ImportProgressDto result = importNdjson(body);
+
+        // then
+        assertThat(result.lines()).isEqualTo(7);
+        assertThat(result.comments()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(5);
+        assertThat(count("SELECT comment_count FROM posts WHERE id = ?", existing.getId())).isEqualTo(1);
+
+        errorFile = Path.of(result.errorFile());
+        List<String> errors = Files.readAllLines(errorFile, StandardCharsets.UTF_8);
+        assertThat(errors).hasSize(5);
+        assertThat(errors.get(0)).contains("\"line\":1", "제목은 필수입니다");
+        assertThat(errors.get(1)).contains("\"line\":2", "JSON");
+        assertThat(errors.get(2)).contains("\"line\":3", "존재하지 않는 회원입니다");
+        assertThat(errors.get(3)).contains("\"line\":4", "존재하지 않는 postRef입니다");
+        assertThat(errors.get(4)).contains("\"line\":7", "존재하지 않는 게시글입니다");
+    }
+
+    @Test
+    @DisplayName("가져온 글의 ID는 원본 시각과 무관하게 파일 순서로 기존 글 뒤에 발급되고, 원본 시각은 create_at 정렬로 유지된다")
+    void importedIdsFollowImportOrder() throws IOException {
+        // given
+        Post existing = Post.builder().title("기존 글").content("본문")
+                .author(em.createQuery("select u from User u where u.name = 'importer'", User.class).getSingleResult())
+                .build();
+        em.persist(existing);
+        em.flush();
+        String body = """
+                {"type":"post","title":"2020년 글","content":"본문","author":"importer","createdAt":"2020-01-01T00:00:00"}
+                {"type":"post","title":"2019년 글","content":"본문","author":"importer","createdAt":"2019-01-01T00:00:00"}
+                """;
+
+        // when
+        importNdjson(body);
+
+        // then
+        Long authorId = existing.getAuthor().getId();
+        assertThat(titles("SELECT title FROM posts WHERE author_id = ? ORDER BY id DESC", authorId))
+                .containsExactly("2019년 글", "2020년 글", "기존 글");
+        assertThat(titles("SELECT title FROM posts WHERE author_id = ? ORDER BY create_at DESC", authorId))
+                .containsExactly("기존 글", "2020년 글", "2019년 글");
+    }
+
+    @Test
+    @DisplayName("ref 맵은 최근 max-refs개만 보관하고, 밀려난 ref를 가리키는 줄은 오류로 기록한다")
+    void refsOutsideWindow_rejected() throws IOException {
+        // given: max-refs=2 → p3 등록 시 p1이 밀려남
+        String body = """
+                {"type":"post","ref":"p1","title":"첫 글","content":"본문","author":"importer"}
+                {"type":"post","ref":"p2","title":"둘째 글","content":"본문","author":"importer"}
+                {"type":"post","ref":"p3","title":"셋째 글","content":"본문","author":"importer"}
+                {"type":"comment","postRef":"p3","content":"댓글","author":"importer"}
+                {"type":"comment","postRef":"p1","content":"댓글","author":"importer"}
+                """;
+
+        // when
+        ImportProgressDto result = importNdjson(body);
+
+        // then
+        assertThat(result.posts()).isEqualTo(3);
+        assertThat(result.comments()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        errorFile = Path.of(result.errorFile());
+        assertThat(Files.readAllLines(errorFile, StandardCharsets.UTF_8))
+                .singleElement().asString().contains("\"line\":5", "최근 2개 ref만 참조 가능");
+    }
+
+    @Test
+    @DisplayName("청크가 커밋되기 전에는 건수 캐시와 자동완성 색인에 반영하지 않는다")
+    void sideEffectsWaitForCommit() throws IOException {
+        // given: 테스트 트랜잭션이 청크 트랜잭션을 감싸므로 커밋되지 않음
+        Long categoryId = categoryRegistry.findByName("자유").map(CategoryResponseDto::id).orElseThrow();
+        String countKey = PageCountCache.postsByCategory(categoryId);
+        assertThat(pageCountCache.get(countKey, () -> 0L)).isZero();
+        String body = """
+                {"type":"post","title":"커밋대기글","content":"본문","author":"importer","category":"자유"}
+                """;
+
+        // when
+        ImportProgressDto result = importNdjson(body);
+
+        // then
+        assertThat(result.posts()).isEqualTo(1);
+        assertThat(pageCountCache.get(countKey, () -> -1L)).isZero();
+        assertThat(postSuggestIndex.suggest("커밋대기글", 10)).isEmpty();
+    }
+
+    private ImportProgressDto importNdjson(String body) throws IOException {
+        return bulkImportService.importNdjson(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), progress::add);
+    }
+
+    private List<String> titles(String sql, Long authorId) {
+        return jdbcTemplate.queryForList(sql, String.class, authorId);
+    }
+
+    private long count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+}
@@ -0,0 +1,62 @@
+package com.kraft.service.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageCountCacheTest {
+
+    @Test
+    @DisplayName("TTL 안에서는 COUNT 쿼리를 다시 실행하지 않는다")
+    void get_cachesWithinTtl() {
+        // given
+        PageCountCache cache = new PageCountCache(60_000, 100);
+        AtomicInteger queries = new AtomicInteger();
+
+        // when
+        cache.get(PageCountCache.POSTS, () -> {
+            queries.incrementAndGet();
+            return 10L;
+        });
+        long count = cache.get(PageCountCache.POSTS, () -> {
+            queries.incrementAndGet();
+            return 99L;
+        });
+
+        // then
+        assertThat(count).isEqualTo(10L);
+        assertThat(queries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("등록/삭제 증감이 캐시된 건수에 반영된다")
+    void adjust_updatesCachedCount() {
+        // given
+        PageCountCache cache = new PageCountCache(60_000, 100);
+        cache.get(PageCountCache.POSTS, () -> 10L);
+
+        // when
+        cache.adjust(PageCountCache.POSTS, 1);
+        cache.adjust(PageCountCache.POSTS, -3);
+
+        // then
+        assertThat(cache.get(PageCountCache.POSTS, () -> 0L)).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("만료된 항목은 COUNT 쿼리로 다시 계산한다")
+    void get_reloadsAfterTtl() {
+        // given
+        PageCountCache cache = new PageCountCache(0, 100);
+        cache.get(PageCountCache.POSTS, () -> 10L);
+
+        // when
+        long count = cache.get(PageCountCache.POSTS, () -> 20L);
+
+        // then
+        assertThat(count).isEqualTo(20L);
+    }
+}
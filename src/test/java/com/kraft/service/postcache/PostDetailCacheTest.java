@@ -0,0 +1,207 @@
+package com.kraft.service.postcache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostDetailCacheTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 11, 16, 9, 30, 15, 123_456_000);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger dbLoads = new AtomicInteger();
+
+    private final Function<Long, CachedPost> dbLoader = id -> {
+        dbLoads.incrementAndGet();
+        return new CachedPost(id, "제목 " + id, "본문", "author", 7L, 10L, UPDATED_AT);
+    };
+
+    @Test
+    @DisplayName("L1에 적재된 게시글은 DB를 다시 조회하지 않는다")
+    void l1HitSkipsDb() {
+        PostDetailCache cache = cache(new LocalPostDetailL2(), true);
+
+        cache.get(1L, dbLoader);
+        CachedPost second = cache.get(1L, dbLoader);
+
+        assertThat(second.title()).isEqualTo("제목 1");
+        assertThat(dbLoads).hasValue(1);
+        assertThat(meterRegistry.get("kraft.post-cache.load").tag("tier", "db").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 다음 조회에서 DB를 다시 읽고 L2와 다른 노드에도 전파한다")
+    void invalidateReloads() {
+        FakeL2 l2 = new FakeL2();
+        PostDetailCache cache = cache(l2, true);
+        cache.get(1L, dbLoader);
+
+        cache.invalidate(1L);
+        cache.get(1L, dbLoader);
+
+        assertThat(l2.invalidated).containsExactly(1L);
+        assertThat(dbLoads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("L1 미스는 L2에서 읽고, L2 미스일 때만 DB를 읽어 L2에 저장한다")
+    void l2ReadThrough() {
+        FakeL2 l2 = new FakeL2();
+        l2.entries.put(2L, new CachedPost(2L, "공유", "본문", "author", null, 3L, UPDATED_AT));
+
+        CachedPost shared = cache(l2, true).get(2L, dbLoader);
+        cache(l2, true).get(3L, dbLoader);
+
+        assertThat(shared.title()).isEqualTo("공유");
+        assertThat(dbLoads).hasValue(1);
+        assertThat(l2.entries).containsKey(3L);
+        assertThat(meterRegistry.get("kraft.post-cache.l2.requests").tag("result", "hit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("DB 적재 중에 다른 노드가 무효화하면 읽은 값을 L2에 저장하지 않는다")
+    void invalidatedDuringLoadIsNotStoredInL2() {
+        FakeL2 l2 = new FakeL2();
+        PostDetailCache cache = cache(l2, true);
+
+        // 적재 쿼리와 다른 노드의 커밋 + 무효화가 겹친 상황
+        cache.get(1L, id -> {
+            CachedPost stale = dbLoader.apply(id);
+            l2.invalidate(id);
+            return stale;
+        });
+        cache(l2, true).get(1L, dbLoader);
+
+        assertThat(l2.invalidated).containsExactly(1L);
+        assertThat(dbLoads).hasValue(2);
+        assertThat(l2.entries).containsKey(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화를 받으면 L1에서 제거한다")
+    void remoteInvalidationEvictsL1() {
+        FakeL2 l2 = new FakeL2();
+        PostDetailCache cache = cache(l2, true);
+        cache.get(1L, dbLoader);
+
+        l2.listener.accept(1L);
+        cache.get(1L, dbLoader);
+
+        assertThat(dbLoads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("DB에 반영된 조회수는 캐시된 기준값에 합산된다")
+    void addFlushedViews() {
+        FakeL2 l2 = new FakeL2();
+        PostDetailCache cache = cache(l2, true);
+        cache.get(1L, dbLoader);
+
+        cache.addFlushedViews(Map.of(1L, 5L, 2L, 1L));
+
+        assertThat(cache.get(1L, dbLoader).viewCount()).isEqualTo(15L);
+        assertThat(cache.get(1L, dbLoader).toResponse(2L).viewCount()).isEqualTo(17L);
+        assertThat(l2.addedViews).containsEntry(1L, 5L).containsEntry(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("DB 조회 실패는 캐시하지 않는다")
+    void failedLoadIsNotCached() {
+        PostDetailCache cache = cache(new LocalPostDetailL2(), true);
+
+        assertThatThrownBy(() -> cache.get(1L, id -> {
+            throw new IllegalStateException("not found");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get(1L, dbLoader).title()).isEqualTo("제목 1");
+    }
+
+    @Test
+    @DisplayName("비활성화하면 매번 DB를 조회한다")
+    void disabledPassesThrough() {
+        PostDetailCache cache = cache(new LocalPostDetailL2(), false);
+
+        cache.get(1L, dbLoader);
+        cache.get(1L, dbLoader);
+
+        assertThat(dbLoads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("L2 직렬화는 null 필드, 여러 바이트 문자와 수정 시각을 보존한다")
+    void codecRoundTrip() {
+        CachedPost post = new CachedPost(42L, "한글 제목 🚀", null, "작성자", null, 0L, UPDATED_AT);
+        CachedPost withoutTime = new CachedPost(43L, "제목", "본문", null, 7L, 0L, null);
+
+        CachedPost decoded = CachedPostCodec.decode(CachedPostCodec.encode(post), 99L);
+
+        assertThat(decoded).isEqualTo(new CachedPost(42L, "한글 제목 🚀", null, "작성자", null, 99L, UPDATED_AT));
+        assertThat(CachedPostCodec.decode(CachedPostCodec.encode(withoutTime), 0L)).isEqualTo(withoutTime);
+    }
+
+    private PostDetailCache cache(PostDetailL2 l2, boolean enabled) {
+        return new PostDetailCache(l2, meterRegistry, enabled, 1_000_000, 30_000);
+    }
+
+    private static class FakeL2 implements PostDetailL2 {
+
+        private final Map<Long, CachedPost> entries = new HashMap<>();
+        private final Map<Long, Long> generations = new HashMap<>();
+        private final Map<Long, Long> addedViews = new HashMap<>();
+        private final List<Long> invalidated = new ArrayList<>();
+        private Consumer<Long> listener;
+
+        @Override
+        public Optional<CachedPost> get(Long postId) {
+            return Optional.ofNullable(entries.get(postId));
+        }
+
+        @Override
+        public long generation(Long postId) {
+            return generations.getOrDefault(postId, 0L);
+        }
+
+        @Override
+        public void put(CachedPost post, long generation) {
+            if (generation(post.id()) == generation) {
+                entries.put(post.id(), post);
+            }
+        }
+
+        @Override
+        public void invalidate(Long postId) {
+            entries.remove(postId);
+            generations.merge(postId, 1L, Long::sum);
+            invalidated.add(postId);
+        }
+
+        @Override
+        public void addViews(Map<Long, Long> deltas) {
+            addedViews.putAll(deltas);
+        }
+
+        @Override
+        public void onRemoteInvalidation(Consumer<Long> listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+    }
+}
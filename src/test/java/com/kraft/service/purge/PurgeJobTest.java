@@ -0,0 +1,177 @@
+package com.kraft.service.purge;
+
+import com.kraft.domain.comment.Comment;
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.user.User;
+import com.kraft.service.CommentService;
+import com.kraft.service.PostService;
+import com.kraft.service.UserService;
+import com.kraft.web.dto.comment.CommentResponseDto;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "kraft.purge.chunk-size=2",
+        "kraft.purge.max-batches-per-run=100",
+        "kraft.purge.throttle-ms=0"
+})
+@Transactional
+class PurgeJobTest {
+
+    @Autowired
+    private PurgeJob purgeJob;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User leaving;
+    private User staying;
+
+    @BeforeEach
+    void setUp() {
+        leaving = persistUser("leaving");
+        staying = persistUser("staying");
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 즉시 조회에서 제외되고 purge 후 댓글과 함께 행이 삭제된다")
+    void deletedPost_hiddenThenPurged() {
+        // given
+        Post post = persistPost(staying);
+        Comment parent = persistComment(post, staying, null);
+        persistComment(post, leaving, parent);
+        persistComment(post, staying, null);
+        em.flush();
+
+        // when
+        postService.delete(post.getId());
+        em.flush();
+        em.clear();
+
+        // then: 행은 남아 있지만 조회에서는 제외
+        assertThat(postRepository.findById(post.getId())).isEmpty();
+        assertThat(count("SELECT COUNT(*) FROM posts WHERE id = ?", post.getId())).isEqualTo(1);
+
+        // when
+        purgeJob.purge();
+
+        // then
+        assertThat(count("SELECT COUNT(*) FROM comments WHERE post_id = ?", post.getId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM posts WHERE id = ?", post.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("탈퇴 회원의 게시글과 댓글을 청크 단위로 정리하고 다른 게시글의 댓글 수를 보정한다")
+    void deletedUser_purgedInChunks() {
+        // given: 탈퇴 회원의 게시글 3개(각 댓글 1개) + 다른 회원 게시글에 남긴 댓글 2개
+        for (int i = 0; i < 3; i++) {
+            Post own = persistPost(leaving);
+            persistComment(own, staying, null);
+        }
+        Post other = persistPost(staying);
+        Comment kept = persistComment(other, staying, null);
+        persistComment(other, leaving, kept);
+        persistComment(other, leaving, null);
+        em.flush();
+        jdbcTemplate.update("UPDATE posts SET comment_count = 3 WHERE id = ?", other.getId());
+        jdbcTemplate.update("UPDATE comments SET reply_count = 1 WHERE id = ?", kept.getId());
+
+        // when
+        userService.delete(leaving.getId());
+        em.flush();
+        em.clear();
+        purgeJob.purge();
+
+        // then
+        assertThat(count("SELECT COUNT(*) FROM users WHERE id = ?", leaving.getId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM posts WHERE author_id = ?", leaving.getId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM comments WHERE author_id = ?", leaving.getId())).isZero();
+        assertThat(count("SELECT comment_count FROM posts WHERE id = ?", other.getId())).isEqualTo(1);
+        assertThat(count("SELECT reply_count FROM comments WHERE id = ?", kept.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("회원 탈퇴는 탈퇴 시각만 기록하고, 게시글과 댓글(하위 답글 포함)은 purge가 숨기고 정리한다")
+    void deletedUser_hiddenByPurgeJob() {
+        // given: 탈퇴 회원의 게시글 1개 + 다른 게시글에 남긴 댓글(다른 회원의 답글이 달림)과 답글
+        Post own = persistPost(leaving);
+        Post other = persistPost(staying);
+        Comment kept = persistComment(other, staying, null);
+        persistComment(other, leaving, kept);
+        Comment leavingParent = persistComment(other, leaving, null);
+        persistComment(other, staying, leavingParent);
+        em.flush();
+        jdbcTemplate.update("UPDATE posts SET comment_count = 4 WHERE id = ?", other.getId());
+        jdbcTemplate.update("UPDATE comments SET reply_count = 1 WHERE id IN (?, ?)", kept.getId(), leavingParent.getId());
+
+        // when: PurgeJob 실행 없이 탈퇴만
+        userService.delete(leaving.getId());
+        em.flush();
+        em.clear();
+
+        // then: 탈퇴 요청은 게시글/댓글을 건드리지 않음
+        assertThat(postRepository.findById(own.getId())).isPresent();
+        assertThat(count("SELECT COUNT(*) FROM comments WHERE post_id = ? AND deleted_at IS NULL", other.getId()))
+                .isEqualTo(4);
+
+        // when
+        purgeJob.purge();
+        em.clear();
+
+        // then: 하위 답글까지 조회에서 제외되고 댓글 수가 보정됨
+        assertThat(postRepository.findById(own.getId())).isEmpty();
+        assertThat(commentService.findByPostId(other.getId()))
+                .extracting(CommentResponseDto::id)
+                .containsExactly(kept.getId());
+        assertThat(count("SELECT comment_count FROM posts WHERE id = ?", other.getId())).isEqualTo(1);
+        assertThat(count("SELECT reply_count FROM comments WHERE id = ?", kept.getId())).isZero();
+    }
+
+    private long count(String sql, Long id) {
+        return jdbcTemplate.queryForObject(sql, Long.class, id);
+    }
+
+    private User persistUser(String name) {
+        User user = User.of(name, "password", name + "@example.com");
+        em.persist(user);
+        return user;
+    }
+
+    private Post persistPost(User author) {
+        Post post = Post.builder().title("title").content("content").author(author).build();
+        em.persist(post);
+        return post;
+    }
+
+    private Comment persistComment(Post post, User author, Comment parent) {
+        Comment comment = Comment.builder().content("comment").post(post).author(author).parent(parent).build();
+        em.persist(comment);
+        return comment;
+    }
+}
@@ -0,0 +1,77 @@
+package com.kraft.service.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class InMemoryPostRankingTest {
+
+    private final InMemoryPostRanking ranking = new InMemoryPostRanking(3, 86_400_000L, 600_000L);
+
+    @Test
+    @DisplayName("누적 조회수 순위표는 용량만큼 상위 게시글만 유지한다")
+    void allTimeKeepsTopK() {
+        ranking.recordView(1L, null, 10);
+        ranking.recordView(2L, null, 30);
+        ranking.recordView(3L, null, 20);
+        ranking.recordView(4L, null, 5);
+        ranking.recordView(5L, null, 25);
+
+        assertThat(ranking.top(RankingType.ALL_TIME, null, 10)).containsExactly(2L, 5L, 3L);
+        assertThat(ranking.size(RankingType.ALL_TIME, null)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재적재는 조회로 갱신된 더 큰 조회수를 낮추지 않는다")
+    void seedKeepsHigherScore() {
+        ranking.recordView(1L, null, 50);
+
+        Map<Long, Long> viewCounts = new LinkedHashMap<>();
+        viewCounts.put(2L, 40L);
+        viewCounts.put(1L, 45L);
+        ranking.seedAllTime(null, viewCounts);
+
+        assertThat(ranking.top(RankingType.ALL_TIME, null, 2)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("카테고리별 순위표와 전체 순위표를 함께 갱신하고 삭제 시 모두에서 제거한다")
+    void categoryLeaderboards() {
+        ranking.recordView(1L, 7L, 10);
+        ranking.recordView(2L, 8L, 20);
+
+        assertThat(ranking.top(RankingType.ALL_TIME, 7L, 10)).containsExactly(1L);
+        assertThat(ranking.top(RankingType.TRENDING, null, 10)).containsExactlyInAnyOrder(1L, 2L);
+
+        ranking.remove(1L, 7L);
+
+        assertThat(ranking.top(RankingType.ALL_TIME, 7L, 10)).isEmpty();
+        assertThat(ranking.top(RankingType.ALL_TIME, null, 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("트렌딩 점수는 조회 수를 합산하고 반감기가 지난 조회는 절반 가중치를 갖는다")
+    void trendingDecay() {
+        double halfLife = 1_000;
+        double now = DecayedScore.logWeight(DecayedScore.EPOCH_MILLIS + 10_000, halfLife);
+        double halfLifeAgo = DecayedScore.logWeight(DecayedScore.EPOCH_MILLIS + 9_000, halfLife);
+
+        double twoOldViews = DecayedScore.logAdd(halfLifeAgo, halfLifeAgo);
+
+        assertThat(twoOldViews).isCloseTo(now, within(1e-9));
+        assertThat(DecayedScore.logAdd(now, now)).isGreaterThan(twoOldViews);
+    }
+
+    @Test
+    @DisplayName("재적재 예약은 주기마다 한 번만 성공한다")
+    void tryAcquireSeed() {
+        assertThat(ranking.tryAcquireSeed(null)).isTrue();
+        assertThat(ranking.tryAcquireSeed(null)).isFalse();
+        assertThat(ranking.tryAcquireSeed(7L)).isTrue();
+    }
+}
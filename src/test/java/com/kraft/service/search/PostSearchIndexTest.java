@@ -0,0 +1,106 @@
+package com.kraft.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostSearchIndex(true);
+        index.beginBuild();
+        index.addFromBuild(1L, "스프링 부트 입문", "스프링 부트로 게시판을 만듭니다");
+        index.addFromBuild(2L, "자바 기초", "자바와 스프링을 함께 공부합니다");
+        index.addFromBuild(3L, "Redis 캐시", "세션 저장소로 Redis를 사용합니다");
+        index.completeBuild();
+    }
+
+    @Test
+    @DisplayName("한글을 바이그램으로 분할한다")
+    void tokenize() {
+        assertThat(BigramTokenizer.terms("게시판 만들기")).containsExactly("게시", "시판", "만들", "들기");
+        assertThat(BigramTokenizer.terms("가")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("AND 검색은 모든 바이그램을 포함한 게시글을 제목 가중치 순으로 반환한다")
+    void searchAnd() {
+        SearchResult result = index.search("스프링", SearchOperator.AND, 10);
+
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.rankedIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("AND 검색은 바이그램이 모두 있어도 검색어를 그대로 포함하지 않은 게시글은 제외한다")
+    void searchAndMatchesSubstring() {
+        index.index(4L, "스프 프링", "바이그램만 겹치는 글");
+
+        SearchResult result = index.search("스프링", SearchOperator.AND, 10);
+
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.rankedIds()).containsExactly(1L, 2L);
+        assertThat(index.search("REDIS를", SearchOperator.AND, 10).rankedIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("색인이 꺼져 있으면 증분 반영을 쌓지 않는다")
+    void disabledIgnoresUpdates() {
+        PostSearchIndex disabled = new PostSearchIndex(false);
+        disabled.index(1L, "스프링", "스프링 부트");
+
+        assertThat(disabled.documentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("OR 검색은 하나 이상의 바이그램을 포함한 게시글을 반환한다")
+    void searchOr() {
+        SearchResult result = index.search("자바 redis", SearchOperator.OR, 10);
+
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.rankedIds()).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("상위 K건만 반환하고 전체 일치 건수는 유지한다")
+    void searchTopK() {
+        SearchResult result = index.search("스프링", SearchOperator.AND, 1);
+
+        assertThat(result.rankedIds()).containsExactly(1L);
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.pageIds(1, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정과 삭제가 색인에 증분 반영된다")
+    void incrementalUpdate() {
+        index.index(2L, "자바 기초", "컬렉션 프레임워크");
+        index.remove(1L);
+
+        assertThat(index.search("스프링", SearchOperator.AND, 10).totalHits()).isZero();
+        assertThat(index.search("컬렉션", SearchOperator.AND, 10).rankedIds()).containsExactly(2L);
+        assertThat(index.documentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("구축 중 증분 반영된 게시글은 구축 스캔 값으로 덮어쓰지 않는다")
+    void buildDoesNotOverwriteNewerChanges() {
+        PostSearchIndex building = new PostSearchIndex(true);
+        building.beginBuild();
+        building.index(1L, "갱신된 제목", "갱신된 본문");
+        building.remove(2L);
+        building.addFromBuild(1L, "예전 제목", "예전 본문");
+        building.addFromBuild(2L, "삭제된 글", "삭제된 내용");
+        building.completeBuild();
+
+        assertThat(building.search("갱신", SearchOperator.AND, 10).rankedIds()).containsExactly(1L);
+        assertThat(building.search("예전", SearchOperator.AND, 10).totalHits()).isZero();
+        assertThat(building.search("삭제", SearchOperator.AND, 10).totalHits()).isZero();
+        assertThat(building.canServe("새")).isFalse();
+    }
+}
@@ -0,0 +1,127 @@
+package com.kraft.service.suggest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSuggestIndexTest {
+
+    private PostSuggestIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostSuggestIndex(true, 0);
+        index.beginReload();
+        index.completeReload(List.of(
+                new Suggestion(1L, "스프링 부트 입문", 10),
+                new Suggestion(2L, "스프링 시큐리티 설정", 50),
+                new Suggestion(3L, "스위프트 기초", 30),
+                new Suggestion(4L, "Redis 세션 저장소", 5)
+        ));
+    }
+
+    @Test
+    @DisplayName("한글 음절을 자모로 분해한다")
+    void decompose() {
+        assertThat(HangulJamo.decompose("한글")).isEqualTo("ㅎㅏㄴㄱㅡㄹ");
+        assertThat(HangulJamo.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulJamo.decompose("값")).isEqualTo("ㄱㅏㅂㅅ");
+        assertThat(HangulJamo.decompose("Redis")).isEqualTo("redis");
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절로도 조회수 순 자동완성 후보를 반환한다")
+    void suggestPartialSyllable() {
+        assertThat(index.suggest("슾", 10)).extracting(Suggestion::id).containsExactly(2L, 1L);
+        assertThat(index.suggest("스", 10)).extracting(Suggestion::id).containsExactly(2L, 3L, 1L);
+        assertThat(index.suggest("ㅅ", 2)).extracting(Suggestion::id).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("제목 중간 단어의 시작으로도 조회된다")
+    void suggestWordStart() {
+        assertThat(index.suggest("부트", 10)).extracting(Suggestion::id).containsExactly(1L);
+        assertThat(index.suggest("re", 10)).extracting(Suggestion::id).containsExactly(4L);
+        assertThat(index.suggest("없는제목", 10)).isEmpty();
+        assertThat(index.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("등록·수정·삭제는 스냅샷 교체 전에도 즉시 반영되고 교체 후에도 유지된다")
+    void incrementalUpdate() {
+        index.remove(2L);
+        index.put(3L, "코틀린 기초", 30);
+        index.put(5L, "스프링 배치", 100);
+
+        assertThat(index.suggest("스", 10)).extracting(Suggestion::id).containsExactly(5L, 1L);
+        assertThat(index.suggest("코틀", 10)).extracting(Suggestion::id).containsExactly(3L);
+
+        index.rebuildIfDirty();
+
+        assertThat(index.suggest("스", 10)).extracting(Suggestion::id).containsExactly(5L, 1L);
+        assertThat(index.suggest("코틀", 10)).extracting(Suggestion::id).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("자동완성이 꺼져 있으면 등록을 쌓지 않는다")
+    void disabledIgnoresUpdates() {
+        PostSuggestIndex disabled = new PostSuggestIndex(false, 0);
+        disabled.put(1L, "스프링 배치", 100);
+
+        assertThat(disabled.size()).isZero();
+        assertThat(disabled.suggest("스", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재적재 중 반영된 변경은 재적재 결과로 덮어쓰지 않는다")
+    void reloadKeepsNewerChanges() {
+        index.beginReload();
+        index.put(1L, "스프링 데이터 JPA", 10);
+        index.remove(4L);
+        index.completeReload(List.of(
+                new Suggestion(1L, "스프링 부트 입문", 10),
+                new Suggestion(4L, "Redis 세션 저장소", 5)
+        ));
+
+        assertThat(index.suggest("데이터", 10)).extracting(Suggestion::id).containsExactly(1L);
+        assertThat(index.suggest("부트", 10)).isEmpty();
+        assertThat(index.suggest("redis", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스냅샷 교체가 동시에 겹쳐도 오래된 트라이가 최신 트라이를 덮어써 후보를 잃지 않는다")
+    void concurrentRebuildsKeepEveryPost() throws Exception {
+        int writers = 8;
+        int postsPerWriter = 200;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                long base = 1000L + (long) w * postsPerWriter;
+                tasks.add(executor.submit(() -> {
+                    for (long id = base; id < base + postsPerWriter; id++) {
+                        index.put(id, String.format("t%05d", id), 1);
+                        index.rebuildIfDirty();
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        for (long id = 1000L; id < 1000L + (long) writers * postsPerWriter; id++) {
+            assertThat(index.suggest(String.format("t%05d", id), 10)).extracting(Suggestion::id).containsExactly(id);
+        }
+    }
+}
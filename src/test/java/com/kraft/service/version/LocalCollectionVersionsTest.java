@@ -0,0 +1,50 @@
+package com.kraft.service.version;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalCollectionVersionsTest {
+
+    private final LocalCollectionVersions versions = new LocalCollectionVersions();
+
+    @Test
+    @DisplayName("버전은 현재 시각에서 시작해 증가한 컬렉션만 커진다")
+    void incrementsOnlyGivenCollections() {
+        // given
+        long startedAt = System.currentTimeMillis();
+        long[] before = versions.current(CollectionVersions.POSTS, CollectionVersions.postsByCategory(1L));
+
+        // when
+        versions.increment(CollectionVersions.POSTS);
+        versions.increment(CollectionVersions.POSTS);
+
+        // then
+        long[] after = versions.current(CollectionVersions.POSTS, CollectionVersions.postsByCategory(1L));
+        assertThat(before[0]).isGreaterThanOrEqualTo(startedAt);
+        assertThat(after[0]).isEqualTo(before[0] + 2);
+        assertThat(after[1]).isEqualTo(before[1]);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 요청한 증가는 커밋 후에 반영된다")
+    void bumpWaitsForCommit() {
+        // given
+        long before = versions.current(CollectionVersions.POST_STATS)[0];
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            versions.bump(CollectionVersions.POST_STATS);
+
+            // then
+            assertThat(versions.current(CollectionVersions.POST_STATS)[0]).isEqualTo(before);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertThat(versions.current(CollectionVersions.POST_STATS)[0]).isEqualTo(before + 1);
+    }
+}
@@ -0,0 +1,102 @@
+package com.kraft.service.viewcount;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryViewCountBufferTest {
+
+    private InMemoryViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new InMemoryViewCountBuffer(new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("증가분은 flush 전까지 pending으로 조회된다")
+    void increment_accumulatesPending() {
+        // when
+        buffer.increment(1L);
+        long pending = buffer.increment(1L);
+
+        // then
+        assertThat(pending).isEqualTo(2L);
+        assertThat(buffer.pending(1L)).isEqualTo(2L);
+        assertThat(buffer.pending(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("drain한 증가분은 acknowledge 전까지 pending에 포함된다")
+    void drain_keepsInFlightUntilAcknowledged() {
+        // given
+        buffer.increment(1L);
+        buffer.increment(2L);
+
+        // when
+        Map<Long, Long> drained = buffer.drain();
+
+        // then
+        assertThat(drained).containsEntry(1L, 1L).containsEntry(2L, 1L);
+        assertThat(buffer.pending(1L)).isEqualTo(1L);
+        assertThat(buffer.pendingPosts()).isZero();
+
+        buffer.acknowledge();
+        assertThat(buffer.pending(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("restore하면 in-flight 증가분이 다음 drain에 다시 포함된다")
+    void restore_returnsInFlightToPending() {
+        // given
+        buffer.increment(1L);
+        buffer.drain();
+        buffer.increment(1L);
+
+        // when
+        buffer.restore();
+
+        // then
+        assertThat(buffer.drain()).containsEntry(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("동시 증가와 drain이 섞여도 증가분이 유실되지 않는다")
+    void concurrentIncrementAndDrain_noLostUpdates() throws InterruptedException {
+        // given
+        int threads = 8;
+        int incrementsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        long[] flushed = {0L};
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    buffer.increment(1L);
+                }
+                done.countDown();
+            });
+        }
+        while (done.getCount() > 0) {
+            flushed[0] += buffer.drain().getOrDefault(1L, 0L);
+            buffer.acknowledge();
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        flushed[0] += buffer.drain().getOrDefault(1L, 0L);
+
+        // then
+        assertThat(flushed[0]).isEqualTo((long) threads * incrementsPerThread);
+    }
+}
@@ -0,0 +1,105 @@
+package com.kraft.service.viewcount;
+
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.user.User;
+import com.kraft.domain.user.UserRepository;
+import com.kraft.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조회수 반영과 목록 조건부 조회의 관계 검증
+ * - 반영은 별도 트랜잭션에서 커밋되므로 테스트 트랜잭션 없이 실행하고 직접 정리
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "kraft.view-count.ranking-epoch-ms=0")
+@AutoConfigureMockMvc(addFilters = false)
+class ViewCountFlusherTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ViewCountFlusher viewCountFlusher;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User author;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User.of("flushUser", "password", "flush@example.com"));
+        post = postRepository.save(Post.builder().title("title").content("content").author(author).build());
+        viewCountFlusher.flush();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM posts WHERE id = ?", post.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", author.getId());
+    }
+
+    @Test
+    @DisplayName("조회수 반영 후에도 바뀌지 않은 목록 페이지는 304로 응답한다")
+    void listStillNotModifiedAfterFlush() throws Exception {
+        // given
+        String etag = mockMvc.perform(get("/api/v1/posts"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        // when
+        postService.incrementView(post.getId());
+        viewCountFlusher.flush();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT view_count FROM posts WHERE id = ?", Long.class, post.getId())).isEqualTo(1L);
+        mockMvc.perform(get("/api/v1/posts").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("조회수 반영 후 인기 게시글 목록은 순위 에포크가 바뀌어 다시 내려준다")
+    void popularListRevalidatesAfterFlush() throws Exception {
+        // given
+        String etag = mockMvc.perform(get("/api/v1/posts/popular"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        // when
+        postService.incrementView(post.getId());
+        viewCountFlusher.flush();
+
+        // then
+        mockMvc.perform(get("/api/v1/posts/popular").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(result -> assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag));
+    }
+}
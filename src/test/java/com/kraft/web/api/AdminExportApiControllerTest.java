@@ -0,0 +1,111 @@
+package com.kraft.web.api;
+
+import com.kraft.service.export.ExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 관리자 내보내기 API 컨트롤러 테스트
+ */
+@ActiveProfiles("test")
+@WebMvcTest(controllers = AdminExportApiController.class,
+    excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+        classes = {org.springframework.security.config.annotation.web.configuration.WebSecurityConfiguration.class}))
+@AutoConfigureMockMvc(addFilters = false)
+class AdminExportApiControllerTest {
+
+    private static final String NAME = "posts-20260101-030000.ndjson.gz";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ExportService exportService;
+
+    @TempDir
+    Path dir;
+
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        content = new byte[100];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Path file = dir.resolve(NAME);
+        Files.write(file, content);
+        given(exportService.resolve(NAME)).willReturn(file);
+    }
+
+    @Test
+    @DisplayName("Range 헤더가 없으면 파일 전체를 내려준다")
+    void download_full() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/exports/" + NAME))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 100))
+                .andExpect(content().bytes(content));
+    }
+
+    @Test
+    @DisplayName("단일 바이트 범위 요청에는 206과 해당 구간만 내려준다")
+    void download_range() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/exports/" + NAME).header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-19/100"))
+                .andExpect(content().bytes(Arrays.copyOfRange(content, 10, 20)));
+
+        mockMvc.perform(get("/api/v1/admin/exports/" + NAME).header(HttpHeaders.RANGE, "bytes=-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 95-99/100"))
+                .andExpect(content().bytes(Arrays.copyOfRange(content, 95, 100)));
+    }
+
+    @Test
+    @DisplayName("파일 크기를 넘는 범위 요청에는 416을 응답한다")
+    void download_unsatisfiableRange() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/exports/" + NAME).header(HttpHeaders.RANGE, "bytes=200-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */100"));
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 바이트 위치도 500 없이 처리한다")
+    void download_overflowingRange() throws Exception {
+        String huge = "99999999999999999999";
+
+        mockMvc.perform(get("/api/v1/admin/exports/" + NAME).header(HttpHeaders.RANGE, "bytes=" + huge + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */100"));
+
+        mockMvc.perform(get("/api/v1/admin/exports/" + NAME).header(HttpHeaders.RANGE, "bytes=90-" + huge))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 90-99/100"))
+                .andExpect(content().bytes(Arrays.copyOfRange(content, 90, 100)));
+
+        mockMvc.perform(get("/api/v1/admin/exports/" + NAME).header(HttpHeaders.RANGE, "bytes=-" + huge))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-99/100"))
+                .andExpect(content().bytes(content));
+    }
+}
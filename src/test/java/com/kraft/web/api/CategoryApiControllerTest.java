@@ -7,6 +7,8 @@ import com.kraft.web.dto.category.CategoryResponseDto;
 import com.kraft.web.dto.category.CategorySaveRequestDto;
 import com.kraft.web.dto.category.CategoryUpdateRequestDto;
 import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.PageResponse.TotalMode;
+import com.kraft.web.dto.common.ResourceVersion;
 import com.kraft.web.dto.post.PostsListResponseDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +30,8 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -41,6 +45,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc(addFilters = false)
 class CategoryApiControllerTest {
 
+    private static final ResourceVersion CATEGORIES_VERSION = ResourceVersion.of(null, "c", 2, "1a2b3c");
+    private static final ResourceVersion POSTS_VERSION =
+            ResourceVersion.of(null, "posts:category:1", 1700000000000L, 1700000000005L, 0, 10, TotalMode.EXACT);
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -60,15 +68,31 @@ class CategoryApiControllerTest {
         CategoryResponseDto category1 = new CategoryResponseDto(1L, "공지사항", "공지사항", 0);
         CategoryResponseDto category2 = new CategoryResponseDto(2L, "일반", "일반 게시글", 1);
 
+        given(categoryService.findAllVersion()).willReturn(CATEGORIES_VERSION);
         given(categoryService.findAll()).willReturn(Arrays.asList(category1, category2));
 
         // expect
         mockMvc.perform(get("/api/v1/categories"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", CATEGORIES_VERSION.strongEtag()))
                 .andExpect(jsonPath("$[0].name").value("공지사항"))
                 .andExpect(jsonPath("$[1].name").value("일반"));
     }
 
+    @Test
+    @DisplayName("카테고리 목록이 바뀌지 않았으면 본문 없이 304로 응답한다")
+    void getAllCategories_notModified() throws Exception {
+        // given
+        given(categoryService.findAllVersion()).willReturn(CATEGORIES_VERSION);
+
+        // expect
+        mockMvc.perform(get("/api/v1/categories").header("If-None-Match", CATEGORIES_VERSION.strongEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(categoryService, never()).findAll();
+    }
+
     @Test
     @DisplayName("카테고리 단건 조회에 성공한다 - 인증 없이")
     void getCategory() throws Exception {
@@ -137,22 +161,41 @@ class CategoryApiControllerTest {
     void getPostsByCategory() throws Exception {
         // given
         PostsListResponseDto post = new PostsListResponseDto(
-                1L, "Test Post", "author", 10L, LocalDateTime.now()
+                1L, "Test Post", "author", 10L, 3L, LocalDateTime.now()
         );
 
         PageResponse<PostsListResponseDto> pageResponse = PageResponse.of(
                 List.of(post), 0, 10, 1, 1
         );
 
-        given(postService.findByCategoryId(1L, 0, 10)).willReturn(pageResponse);
+        given(postService.findListVersion(1L, 0, 10, TotalMode.EXACT)).willReturn(POSTS_VERSION);
+        given(postService.findByCategoryId(1L, 0, 10, TotalMode.EXACT)).willReturn(pageResponse);
 
         // expect
         mockMvc.perform(get("/api/v1/categories/1/posts")
                         .param("page", "0")
                         .param("size", "10"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", POSTS_VERSION.weakEtag()))
                 .andExpect(jsonPath("$.content[0].title").value("Test Post"))
+                .andExpect(jsonPath("$.content[0].commentCount").value(3))
                 .andExpect(jsonPath("$.totalElements").value(1));
     }
-}
 
+    @Test
+    @DisplayName("카테고리별 게시글 목록 버전이 같으면 해당 페이지는 본문 없이 304로 응답한다")
+    void getPostsByCategory_notModified() throws Exception {
+        // given
+        given(postService.findListVersion(1L, 0, 10, TotalMode.EXACT)).willReturn(POSTS_VERSION);
+
+        // expect
+        mockMvc.perform(get("/api/v1/categories/1/posts")
+                        .param("page", "0")
+                        .param("size", "10")
+                        .header("If-None-Match", POSTS_VERSION.weakEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(postService, never()).findByCategoryId(1L, 0, 10, TotalMode.EXACT);
+    }
+}
@@ -8,7 +8,10 @@ import com.kraft.service.CommentService;
 import com.kraft.web.dto.comment.CommentResponseDto;
 import com.kraft.web.dto.comment.CommentSaveRequestDto;
 import com.kraft.web.dto.comment.CommentUpdateRequestDto;
+import com.kraft.web.dto.common.CursorPageResponse;
 import com.kraft.web.dto.common.PageResponse;
+import com.kraft.web.dto.common.PageResponse.TotalMode;
+import com.kraft.web.dto.common.ResourceVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,8 +30,12 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -53,11 +60,15 @@ class CommentApiControllerTest {
 
     private SessionUser sessionUser;
 
+    private final ResourceVersion threadVersion =
+            ResourceVersion.of(LocalDateTime.of(2025, 11, 16, 9, 0), "c1", 2L, LocalDateTime.of(2025, 11, 16, 9, 0));
+
     @BeforeEach
     void setUp() throws Exception {
         sessionUser = new SessionUser(1L, "testUser", "test@example.com", Role.USER);
         given(loginUserArgumentResolver.supportsParameter(any())).willReturn(true);
         given(loginUserArgumentResolver.resolveArgument(any(), any(), any(), any())).willReturn(sessionUser);
+        given(commentService.findThreadVersion(anyLong())).willReturn(threadVersion);
     }
 
     @Test
@@ -143,11 +154,39 @@ class CommentApiControllerTest {
         // expect
         mockMvc.perform(get("/api/v1/posts/1/comments"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", threadVersion.strongEtag()))
+                .andExpect(header().exists("Last-Modified"))
                 .andExpect(jsonPath("$[0].id").value(1))
                 .andExpect(jsonPath("$[0].content").value("Comment 1"))
                 .andExpect(jsonPath("$[1].id").value(2));
     }
 
+    @Test
+    @DisplayName("댓글 스레드가 바뀌지 않았으면 댓글을 조회하지 않고 304로 응답한다")
+    void getComments_notModified() throws Exception {
+        // expect
+        mockMvc.perform(get("/api/v1/posts/1/comments/tree")
+                        .header("If-None-Match", threadVersion.strongEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(commentService, never()).findCommentTree(anyLong());
+    }
+
+    @Test
+    @DisplayName("댓글 트리 페이지의 size가 1 미만이거나 최대 크기를 넘으면 400으로 응답한다")
+    void getCommentTreePage_invalidSize() throws Exception {
+        // expect
+        mockMvc.perform(get("/api/v1/posts/1/comments/tree/page").param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.size").exists());
+        mockMvc.perform(get("/api/v1/posts/1/comments/tree/page")
+                        .param("size", String.valueOf(CursorPageResponse.MAX_SIZE + 1)))
+                .andExpect(status().isBadRequest());
+
+        verify(commentService, never()).findCommentTreePage(anyLong(), anyInt(), anyInt());
+    }
+
     @Test
     @DisplayName("부모 댓글만 조회에 성공한다")
     void getParentComments() throws Exception {
@@ -178,7 +217,7 @@ class CommentApiControllerTest {
                 List.of(comment), 0, 10, 1, 1
         );
 
-        given(commentService.findParentCommentsWithPagination(1L, 0, 10))
+        given(commentService.findParentCommentsWithPagination(1L, 0, 10, TotalMode.EXACT))
                 .willReturn(pageResponse);
 
         // expect
@@ -187,7 +226,8 @@ class CommentApiControllerTest {
                         .param("size", "10"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.pageNumber").value(0))
-                .andExpect(jsonPath("$.totalElements").value(1));
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.totalMode").value("EXACT"));
     }
 
     @Test
@@ -207,6 +247,29 @@ class CommentApiControllerTest {
                 .andExpect(jsonPath("$[0].parentId").value(1));
     }
 
+    @Test
+    @DisplayName("댓글 트리 조회에 성공한다")
+    void getCommentTree() throws Exception {
+        // given
+        CommentResponseDto reply = new CommentResponseDto(
+                2L, "Reply", "author", 1L, 1L, 0, List.of(),
+                LocalDateTime.now(), LocalDateTime.now()
+        );
+        CommentResponseDto parent = new CommentResponseDto(
+                1L, "Parent", "author", 1L, null, 1, List.of(reply),
+                LocalDateTime.now(), LocalDateTime.now()
+        );
+
+        given(commentService.findCommentTree(1L)).willReturn(List.of(parent));
+
+        // expect
+        mockMvc.perform(get("/api/v1/posts/1/comments/tree"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].replyCount").value(1))
+                .andExpect(jsonPath("$[0].replies[0].id").value(2))
+                .andExpect(jsonPath("$[0].replies[0].parentId").value(1));
+    }
+
     @Test
     @DisplayName("댓글 수 조회에 성공한다")
     void getCommentCount() throws Exception {
@@ -0,0 +1,267 @@
+package com.kraft.web.api;
+
+import com.kraft.domain.post.Post;
+import com.kraft.domain.post.PostRepository;
+import com.kraft.domain.user.User;
+import com.kraft.domain.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 조회/댓글 작성 엔드포인트 부하 벤치마크 (실제 Tomcat + HTTP)
+ * - 하위 클래스가 실행 모드(플랫폼 스레드 풀 / 가상 스레드)만 바꾸고 같은 조건으로 측정
+ * - H2에는 네트워크 왕복이 없으므로 커넥션 획득마다 DB_LATENCY_MS만큼 지연시켜 원격 DB 호출을 흉내
+ * - 처리량과 p50/p99 지연 시간을 출력하고, 오류율만 검증
+ * <p>
+ * 일반 테스트에서는 제외되며 {@code ./gradlew benchmarkTest}로 실행한다.
+ */
+abstract class EndpointLoadBenchmarkSupport {
+
+    static final String DB_POOL_PROPERTY = "spring.datasource.hikari.maximum-pool-size=20";
+    static final String SQL_LOG_PROPERTY = "logging.level.org.hibernate.SQL=warn";
+    static final String APP_LOG_PROPERTY = "logging.level.com.kraft=warn";
+
+    private static final String USER_NAME = "loadBench";
+    private static final String PASSWORD = "password123";
+    private static final long DB_LATENCY_MS = 5;
+    private static final int CONCURRENCY = 400;
+    private static final int POST_COUNT = 50;
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    abstract String mode();
+
+    @Test
+    void postReadAndCommentWrite() throws Exception {
+        User author = userRepository.save(User.of(USER_NAME, passwordEncoder.encode(PASSWORD),
+                USER_NAME + "@example.com"));
+        List<Long> postIds = new ArrayList<>(POST_COUNT);
+        for (int i = 0; i < POST_COUNT; i++) {
+            postIds.add(postRepository.save(Post.builder().title("load " + i).content("content " + i)
+                    .author(author).build()).getId());
+        }
+        HttpClient client = login();
+
+        Result read = measure(client, () -> HttpRequest.newBuilder(uri("/api/v1/posts/" + randomId(postIds)))
+                .GET()
+                .build());
+        Result write = measure(client, () -> HttpRequest.newBuilder(
+                        uri("/api/v1/posts/" + randomId(postIds) + "/comments"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"content\":\"load test comment\"}"))
+                .build());
+
+        read.print(mode(), "GET /api/v1/posts/{id}");
+        write.print(mode(), "POST /api/v1/posts/{id}/comments");
+        assertThat(read.errorRate()).isLessThan(0.01);
+        assertThat(write.errorRate()).isLessThan(0.01);
+    }
+
+    /**
+     * 폼 로그인으로 인증 세션을 만들고, 같은 세션에 API 로그인으로 작성자 정보를 저장
+     */
+    private HttpClient login() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager(null, CookiePolicy.ACCEPT_ALL))
+                .build();
+
+        String form = "username=" + URLEncoder.encode(USER_NAME, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8);
+        HttpResponse<Void> formLogin = client.send(HttpRequest.newBuilder(uri("/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        assertThat(formLogin.headers().firstValue("Location")).hasValueSatisfying(
+                location -> assertThat(location).doesNotContain("error"));
+
+        HttpResponse<Void> apiLogin = client.send(HttpRequest.newBuilder(uri("/api/users/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"name\":\"" + USER_NAME + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        assertThat(apiLogin.statusCode()).isEqualTo(200);
+        return client;
+    }
+
+    private Result measure(HttpClient client, Supplier<HttpRequest> request) throws Exception {
+        drive(client, request, WARMUP);
+        return drive(client, request, MEASUREMENT);
+    }
+
+    /**
+     * CONCURRENCY개의 클라이언트가 응답을 받는 즉시 다음 요청을 보내는 closed-loop 부하
+     */
+    private Result drive(HttpClient client, Supplier<HttpRequest> request, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Latencies>> futures = new ArrayList<>(CONCURRENCY);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(clients.submit(() -> {
+                    Latencies latencies = new Latencies();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        boolean ok;
+                        try {
+                            ok = client.send(request.get(), HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+                        } catch (IOException e) {
+                            ok = false;
+                        }
+                        latencies.add(System.nanoTime() - start, ok);
+                    }
+                    return latencies;
+                }));
+            }
+        }
+
+        Latencies merged = new Latencies();
+        for (Future<Latencies> future : futures) {
+            merged.addAll(future.get());
+        }
+        return merged.toResult(duration);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static Long randomId(List<Long> ids) {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    record Result(long requests, long errors, double throughput, double p50Millis, double p99Millis) {
+
+        double errorRate() {
+            return requests == 0 ? 1 : (double) errors / requests;
+        }
+
+        void print(String mode, String endpoint) {
+            System.out.printf("[benchmark] mode=%s endpoint=%s concurrency=%d requests=%,d errors=%d " +
+                            "throughput=%,.0f req/s p50=%.1fms p99=%.1fms%n",
+                    mode, endpoint, CONCURRENCY, requests, errors, throughput, p50Millis, p99Millis);
+        }
+    }
+
+    private static final class Latencies {
+
+        private long[] nanos = new long[1024];
+        private int size;
+        private long errors;
+
+        void add(long latencyNanos, boolean ok) {
+            if (size == nanos.length) {
+                nanos = Arrays.copyOf(nanos, size * 2);
+            }
+            nanos[size++] = latencyNanos;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void addAll(Latencies other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.nanos[i], true);
+            }
+            errors += other.errors;
+        }
+
+        Result toResult(Duration duration) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            return new Result(size, errors, size / (duration.toNanos() / 1e9),
+                    percentile(sorted, 0.50), percentile(sorted, 0.99));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    /**
+     * 폼 로그인용 사용자와 DB 지연 시뮬레이션
+     */
+    @TestConfiguration
+    static class BenchmarkConfig {
+
+        @Bean
+        UserDetailsService loadBenchmarkUserDetailsService(PasswordEncoder passwordEncoder) {
+            return new InMemoryUserDetailsManager(org.springframework.security.core.userdetails.User
+                    .withUsername(USER_NAME)
+                    .password(passwordEncoder.encode(PASSWORD))
+                    .roles("USER")
+                    .build());
+        }
+
+        @Bean
+        static BeanPostProcessor simulatedDbLatencyPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            try {
+                                Thread.sleep(DB_LATENCY_MS);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                throw new SQLException(e);
+                            }
+                            return super.getConnection();
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.kraft.web.api;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 기본 실행 모드(Tomcat 플랫폼 스레드 풀) 부하 벤치마크
+ */
+@Tag("benchmark")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load-platform",
+        EndpointLoadBenchmarkSupport.DB_POOL_PROPERTY,
+        EndpointLoadBenchmarkSupport.SQL_LOG_PROPERTY,
+        EndpointLoadBenchmarkSupport.APP_LOG_PROPERTY
+})
+@Import(EndpointLoadBenchmarkSupport.BenchmarkConfig.class)
+class PlatformThreadEndpointLoadBenchmarkTest extends EndpointLoadBenchmarkSupport {
+
+    @Override
+    String mode() {
+        return "platform-threads";
+    }
+}
@@ -4,8 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kraft.config.auth.dto.SessionUser;
 import com.kraft.domain.user.User;
 import com.kraft.service.PostService;
+import com.kraft.web.dto.common.CursorPageResponse;
+import com.kraft.web.dto.common.PageResponse.TotalMode;
+import com.kraft.web.dto.common.ResourceVersion;
 import com.kraft.web.dto.post.PostResponseDto;
 import com.kraft.web.dto.post.PostSaveRequestDto;
+import com.kraft.web.dto.post.PostSuggestResponseDto;
 import com.kraft.web.dto.post.PostUpdateRequestDto;
 import com.kraft.web.dto.post.PostsListResponseDto;
 import org.junit.jupiter.api.DisplayName;
@@ -17,12 +21,18 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
-import java.util.Arrays;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,6 +41,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @AutoConfigureMockMvc(addFilters = false)
 class PostApiControllerTest {
 
+    private static final ResourceVersion POST_VERSION =
+            ResourceVersion.of(LocalDateTime.of(2025, 11, 16, 9, 0), "p1", LocalDateTime.of(2025, 11, 16, 9, 0));
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -106,11 +119,14 @@ class PostApiControllerTest {
                 1L
         );
 
+        given(postService.findVersion(1L)).willReturn(POST_VERSION);
         given(postService.findByIdAndIncrementView(1L)).willReturn(responseDto);
 
         // expect
         mockMvc.perform(get("/api/v1/posts/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", POST_VERSION.weakEtag()))
+                .andExpect(header().exists("Last-Modified"))
                 .andExpect(jsonPath("$.id").value(1L))
                 .andExpect(jsonPath("$.title").value("Test Title"))
                 .andExpect(jsonPath("$.content").value("Test Content"))
@@ -118,33 +134,114 @@ class PostApiControllerTest {
     }
 
     @Test
-    @DisplayName("게시글 목록 조회에 성공한다")
-    void getPostList_success() throws Exception {
+    @DisplayName("게시글이 바뀌지 않았으면 본문 없이 304로 응답하고 조회수는 증가시킨다")
+    void getPost_notModified() throws Exception {
         // given
-        PostsListResponseDto dto1 = new PostsListResponseDto(
-                2L,
-                "Second Post",
-                "author",
-                0L,
-                null
-        );
-        PostsListResponseDto dto2 = new PostsListResponseDto(
-                1L,
-                "First Post",
-                "author",
-                0L,
-                null
-        );
+        given(postService.findVersion(1L)).willReturn(POST_VERSION);
 
-        given(postService.findAllDesc()).willReturn(Arrays.asList(dto1, dto2));
+        // expect
+        mockMvc.perform(get("/api/v1/posts/1").header("If-None-Match", POST_VERSION.weakEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(postService).incrementView(1L);
+        verify(postService, never()).findByIdAndIncrementView(anyLong());
+    }
+
+    @Test
+    @DisplayName("게시글 목록 버전이 같으면 해당 페이지는 본문 없이 304로 응답한다")
+    void getPostsWithPagination_notModified() throws Exception {
+        // given
+        ResourceVersion listVersion =
+                ResourceVersion.of(null, "posts", 1700000000000L, 1700000000005L, 2, 10, "id", "DESC", TotalMode.EXACT);
+        given(postService.findListVersion(null, 2, 10, "id", "DESC", TotalMode.EXACT)).willReturn(listVersion);
 
         // expect
-        mockMvc.perform(get("/api/v1/posts/list"))
+        mockMvc.perform(get("/api/v1/posts").param("page", "2").header("If-None-Match", listVersion.weakEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(postService, never()).findAllWithPagination(anyInt(), anyInt(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("커서 조회의 size가 1 미만이거나 최대 크기를 넘으면 400으로 응답한다")
+    void getPostsWithCursor_invalidSize() throws Exception {
+        // expect
+        mockMvc.perform(get("/api/v1/posts/cursor").param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.size").exists());
+        mockMvc.perform(get("/api/v1/posts/cursor").param("size", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/posts/search/cursor").param("keyword", "spring")
+                        .param("size", String.valueOf(CursorPageResponse.MAX_SIZE + 1)))
+                .andExpect(status().isBadRequest());
+
+        verify(postService, never()).findAllWithCursor(any(), anyInt(), anyString());
+        verify(postService, never()).searchPostsWithCursor(anyString(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("게시글 목록은 stream 파라미터 없이도 버퍼링하지 않고 스트리밍한다")
+    void getPostList_streamsByDefault() throws Exception {
+        // given
+        given(postService.streamAllDesc(any())).willAnswer(invocation -> {
+            Consumer<PostsListResponseDto> consumer = invocation.getArgument(0);
+            consumer.accept(new PostsListResponseDto(2L, "Second Post", "author", 0L, 0L, null));
+            consumer.accept(new PostsListResponseDto(1L, "First Post", "author", 0L, 0L, null));
+            return 2L;
+        });
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/v1/posts/list"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(2L))
                 .andExpect(jsonPath("$[0].title").value("Second Post"))
                 .andExpect(jsonPath("$[1].id").value(1L))
                 .andExpect(jsonPath("$[1].title").value("First Post"));
     }
-}
 
+    @Test
+    @DisplayName("게시글 목록을 스트리밍으로 조회할 수 있다")
+    void streamPostList_success() throws Exception {
+        // given
+        given(postService.streamAllDesc(any())).willAnswer(invocation -> {
+            Consumer<PostsListResponseDto> consumer = invocation.getArgument(0);
+            consumer.accept(new PostsListResponseDto(2L, "Second Post", "author", 0L, 0L, null));
+            consumer.accept(new PostsListResponseDto(1L, "First Post", "author", 0L, 0L, null));
+            return 2L;
+        });
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/v1/posts/list").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(2L))
+                .andExpect(jsonPath("$[1].title").value("First Post"));
+    }
+
+    @Test
+    @DisplayName("게시글 제목 자동완성 후보를 조회할 수 있다")
+    void suggestTitles_success() throws Exception {
+        // given
+        given(postService.suggestTitles("스프", 10))
+                .willReturn(List.of(new PostSuggestResponseDto(2L, "스프링 시큐리티", 50L)));
+
+        // expect
+        mockMvc.perform(get("/api/v1/posts/suggest").param("q", "스프"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2L))
+                .andExpect(jsonPath("$[0].title").value("스프링 시큐리티"));
+    }
+}
@@ -0,0 +1,26 @@
+package com.kraft.web.api;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * virtual-threads 프로필(가상 스레드 + DB 동시 접근 한도) 부하 벤치마크
+ */
+@Tag("benchmark")
+@ActiveProfiles({"test", "virtual-threads"})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load-virtual",
+        EndpointLoadBenchmarkSupport.DB_POOL_PROPERTY,
+        EndpointLoadBenchmarkSupport.SQL_LOG_PROPERTY,
+        EndpointLoadBenchmarkSupport.APP_LOG_PROPERTY
+})
+@Import(EndpointLoadBenchmarkSupport.BenchmarkConfig.class)
+class VirtualThreadEndpointLoadBenchmarkTest extends EndpointLoadBenchmarkSupport {
+
+    @Override
+    String mode() {
+        return "virtual-threads";
+    }
+}